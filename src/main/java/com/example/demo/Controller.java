@@ -1,7 +1,13 @@
 package com.example.demo;
 
+import com.example.demo.benchmark.RenderBenchmark;
 import com.example.demo.manager.*;
+import com.example.demo.level.LevelPreparer;
+import com.example.demo.screen.LoadingScreen;
+import com.example.demo.soak.Autopilot;
+import com.example.demo.soak.SoakMonitor;
 import com.example.demo.util.GameConstant;
+import javafx.application.Platform;
 import javafx.scene.Group;
 import javafx.scene.Scene;
 import javafx.stage.Stage;
@@ -13,15 +19,19 @@ import javafx.stage.Stage;
  * @see <a href="https://github.com/swyannnn/CW2024/blob/master/src/main/java/com/example/demo/Controller.java">Github Source Code</a>
  */
 public class Controller {
+    private final Stage stage;
     private final Group rootGroup;
     private final Scene scene;
 
     private final AudioManager audioManager;
-    private final ActorManager actorManager;
-    private final CollisionManager collisionManager;
+    private final GameSession session;
     private final GameLoopManager gameLoopManager;
     private final StateManager stateManager;
     private final InputManager inputManager;
+    private final AssetLoader assetLoader;
+    private final RenderScaleManager renderScaleManager;
+    private Autopilot autopilot;
+    private RenderBenchmark benchmark;
 
     /**
      * Controller class responsible for initializing and managing the main components of the game.
@@ -30,6 +40,18 @@ public class Controller {
      * @param stage The primary stage for this application.
      */
     public Controller(Stage stage) {
+        this(stage, false);
+    }
+
+    /**
+     * Controller class responsible for initializing and managing the main components of the game,
+     * optionally without sound, as when the game is benchmarked.
+     *
+     * @param stage The primary stage for this application.
+     * @param muted true if the game should not play any music or sound effects.
+     */
+    public Controller(Stage stage, boolean muted) {
+        this.stage = stage;
         this.rootGroup = new Group();
         this.scene = new Scene(rootGroup, GameConstant.GameSettings.SCREEN_WIDTH, GameConstant.GameSettings.SCREEN_HEIGHT);
         stage.setScene(scene);
@@ -37,18 +59,16 @@ public class Controller {
         stage.show();
 
         // Initialize Managers
-        this.audioManager = AudioManager.getInstance();
-        this.actorManager = ActorManager.getInstance(rootGroup);
-        this.collisionManager = CollisionManager.getInstance();
-        this.gameLoopManager = GameLoopManager.getInstance();
+        this.audioManager = new AudioManager(muted);
+        this.session = new GameSession(rootGroup, audioManager);
+        this.gameLoopManager = session.getGameLoopManager();
+        this.assetLoader = new AssetLoader(audioManager);
+        this.renderScaleManager = new RenderScaleManager(stage, gameLoopManager.getQualityGovernor());
 
         // Initialize StateManager
         this.stateManager = new StateManager(
             stage,
-            actorManager,
-            collisionManager,
-            gameLoopManager,
-            audioManager,
+            session,
             1 // Initial number of players
         );
 
@@ -58,6 +78,13 @@ public class Controller {
                 if (stateManager.getCurrentState() != null) {
                     stateManager.getCurrentState().update(now);
                 }
+                if (autopilot != null) {
+                    autopilot.update(now);
+                }
+                if (benchmark != null) {
+                    benchmark.update(now);
+                }
+                renderScaleManager.update();
             }
         );
 
@@ -72,18 +99,51 @@ public class Controller {
             }
         );
 
+        // Start the metrics endpoint if it was requested
+        MetricsManager.getInstance().startServer();
+
         // Start the game loop
         this.gameLoopManager.startLoop();
     }
 
 
     /**
-     * Initializes the game by transitioning to the main menu.
-     * This method sets the initial state of the game by invoking the state manager
-     * to navigate to the main menu screen.
+     * Initializes the game by loading the assets and transitioning to the main menu.
+     * A loading screen is shown while the assets are decoded in parallel by the AssetLoader.
+     * The main menu is shown as soon as its own assets are ready, while the remaining
+     * game assets continue loading in the background.
      */
     public void initializeGame() {
-        stateManager.goToMainMenu(); // Transition to the main menu
+        LoadingScreen loadingScreen = new LoadingScreen();
+        stage.setScene(loadingScreen.getScene());
+
+        assetLoader.start(progress -> Platform.runLater(() -> loadingScreen.setProgress(progress)));
+        assetLoader.getMenuAssetsReady().thenRun(
+            () -> Platform.runLater(stateManager::goToMainMenu) // Transition to the main menu
+        );
+    }
+
+
+    /**
+     * Starts the Autopilot, which plays the game on its own and checks for leaks on each return to the main menu.
+     *
+     * @see Autopilot
+     */
+    public void startAutopilot() {
+        autopilot = new Autopilot(stateManager, session, stage, new SoakMonitor());
+    }
+
+
+    /**
+     * Starts the RenderBenchmark, which measures the pulses of each level under a scripted load.
+     * The benchmark goes to the levels itself, so the game does not need to be initialized first.
+     *
+     * @return the started benchmark
+     * @see RenderBenchmark
+     */
+    public RenderBenchmark startBenchmark() {
+        benchmark = new RenderBenchmark(stateManager, session);
+        return benchmark;
     }
 
 
@@ -99,8 +159,12 @@ public class Controller {
      *   <li>Game loop manager</li>
      *   <li>State manager</li>
      *   <li>Audio manager</li>
-     *   <li>Actor manager</li>
+     *   <li>Game session, removing its actors</li>
      *   <li>Image manager</li>
+     *   <li>Recording manager, writing any running flight recording to disk</li>
+     *   <li>Metrics manager, stopping the metrics endpoint</li>
+     *   <li>Asset loader, stopping any loading still in progress</li>
+     *   <li>Level preparer, discarding any level prepared in the background</li>
      * </ul>
      */
     public void cleanup() {
@@ -116,13 +180,22 @@ public class Controller {
 
         // Cleanup AudioManager
         if (audioManager != null) {
-            audioManager.stopMusic();
+            audioManager.cleanup();
         }
 
-        if (actorManager != null) {
-            actorManager.cleanup();
+        if (session != null) {
+            session.cleanup();
         }
 
         ImageManager.cleanup();
+
+        RecordingManager.getInstance().stopRecording();
+        MetricsManager.getInstance().stopServer();
+
+        if (assetLoader != null) {
+            assetLoader.shutdown();
+        }
+
+        LevelPreparer.getInstance().shutdown();
     }
 }
@@ -0,0 +1,202 @@
+package com.example.demo;
+
+import com.example.demo.event.EventBus;
+import com.example.demo.manager.ActorManager;
+import com.example.demo.manager.AudioManager;
+import com.example.demo.manager.CollisionManager;
+import com.example.demo.manager.GameLoopManager;
+import com.example.demo.util.BalanceTuning;
+import com.example.demo.util.GameClock;
+import com.example.demo.util.GameConstant;
+import com.example.demo.util.GameRandom;
+
+import javafx.scene.Group;
+
+/**
+ * The GameSession class owns everything one running game simulation needs: its actors,
+ * collision system, game loop and clock, random number generator, event bus and audio.
+ * Several sessions can run in the same JVM without sharing any mutable state, for example
+ * to run tests in parallel, to sweep game balance, or to show a spectator view.
+ *
+ * <p>The session is passed to the StateManager, which hands it to the StateFactory and,
+ * through the LevelConfig, to every level. Actors reach the session's clock, random number
+ * generator and audio through their ActorSpawner, which is the session's ActorManager.</p>
+ *
+ * <p>Only immutable assets are shared between sessions. Images are kept in the thread-safe
+ * cache of the ImageManager.</p>
+ *
+ * <p>A session created by {@link #headless(long, BalanceTuning)} has no scene and muted audio,
+ * and does not report metrics. Such sessions are stepped by a LevelSimulation instead of the
+ * game loop, so balance simulations can run on many threads at once.</p>
+ *
+ * @see <a href="https://github.com/swyannnn/CW2024/blob/master/src/main/java/com/example/demo/GameSession.java">Github Source Code</a>
+ * @see Controller
+ * @see com.example.demo.level.LevelConfig
+ * @see com.example.demo.state.StateFactory
+ * @see com.example.demo.simulation.LevelSimulation
+ */
+public class GameSession {
+    private final AudioManager audioManager;
+    private final GameRandom random;
+    private final EventBus eventBus;
+    private final GameLoopManager gameLoopManager;
+    private final ActorManager actorManager;
+    private final CollisionManager collisionManager;
+    private final BalanceTuning tuning;
+    private final boolean headless;
+
+    /**
+     * Constructs a GameSession seeded from the {@code game.seed} system property,
+     * or from the system clock if the property is not set.
+     *
+     * @param root the root group the session's actors are added to first
+     * @param audioManager the AudioManager the session plays its music and sound effects with
+     */
+    public GameSession(Group root, AudioManager audioManager) {
+        this(root, audioManager, defaultSeed());
+    }
+
+    /**
+     * Constructs a GameSession with the given seed.
+     *
+     * @param root the root group the session's actors are added to first
+     * @param audioManager the AudioManager the session plays its music and sound effects with
+     * @param seed the seed of the session's random number generator
+     */
+    public GameSession(Group root, AudioManager audioManager, long seed) {
+        this(root, audioManager, seed, BalanceTuning.DEFAULT, false);
+    }
+
+    /**
+     * Constructs a GameSession with the given seed and balance tuning.
+     *
+     * @param root the root group the session's actors are added to first
+     * @param audioManager the AudioManager the session plays its music and sound effects with
+     * @param seed the seed of the session's random number generator
+     * @param tuning the balance tuning the session is played with
+     * @param headless true if the session runs without a scene
+     */
+    private GameSession(Group root, AudioManager audioManager, long seed, BalanceTuning tuning, boolean headless) {
+        this.audioManager = audioManager;
+        this.random = new GameRandom(seed);
+        this.tuning = tuning;
+        this.headless = headless;
+        this.eventBus = new EventBus(!headless);
+        this.gameLoopManager = new GameLoopManager(eventBus, audioManager);
+        this.actorManager = new ActorManager(root, gameLoopManager.getClock(), gameLoopManager.getTweenEngine(),
+            gameLoopManager.getParticleSystem(), gameLoopManager.getQualityGovernor(), random, audioManager, tuning, headless);
+        this.collisionManager = new CollisionManager(audioManager);
+    }
+
+    /**
+     * Creates a session that runs without a scene and with muted audio.
+     * Headless sessions can be created and stepped on any thread.
+     *
+     * @param seed the seed of the session's random number generator
+     * @param tuning the balance tuning the session is played with
+     * @return the headless GameSession
+     */
+    public static GameSession headless(long seed, BalanceTuning tuning) {
+        return new GameSession(new Group(), new AudioManager(true), seed, tuning, true);
+    }
+
+    /**
+     * Returns the seed set by the {@code game.seed} system property, or the current
+     * value of the system clock if it is not set.
+     *
+     * @return the default seed of a session
+     */
+    public static long defaultSeed() {
+        return Long.getLong(GameConstant.Snapshot.SEED_PROPERTY, System.nanoTime());
+    }
+
+    /**
+     * Retrieves the balance tuning the session is played with.
+     *
+     * @return the BalanceTuning
+     */
+    public BalanceTuning getTuning() {
+        return tuning;
+    }
+
+    /**
+     * Checks if the session runs without a scene.
+     *
+     * @return true if the session is headless, false otherwise
+     */
+    public boolean isHeadless() {
+        return headless;
+    }
+
+    /**
+     * Retrieves the AudioManager of the session.
+     *
+     * @return the AudioManager
+     */
+    public AudioManager getAudioManager() {
+        return audioManager;
+    }
+
+    /**
+     * Retrieves the random number generator of the session.
+     *
+     * @return the GameRandom
+     */
+    public GameRandom getRandom() {
+        return random;
+    }
+
+    /**
+     * Retrieves the event bus of the session.
+     *
+     * @return the EventBus
+     */
+    public EventBus getEventBus() {
+        return eventBus;
+    }
+
+    /**
+     * Retrieves the game loop of the session.
+     *
+     * @return the GameLoopManager
+     */
+    public GameLoopManager getGameLoopManager() {
+        return gameLoopManager;
+    }
+
+    /**
+     * Retrieves the clock that drives the session's simulation.
+     *
+     * @return the GameClock
+     */
+    public GameClock getClock() {
+        return gameLoopManager.getClock();
+    }
+
+    /**
+     * Retrieves the actor registry of the session.
+     *
+     * @return the ActorManager
+     */
+    public ActorManager getActorManager() {
+        return actorManager;
+    }
+
+    /**
+     * Retrieves the collision system of the session.
+     *
+     * @return the CollisionManager
+     */
+    public CollisionManager getCollisionManager() {
+        return collisionManager;
+    }
+
+    /**
+     * Stops the session's game loop and removes all of its actors.
+     * The AudioManager is not cleaned up, as it may be shared with other sessions.
+     */
+    public void cleanup() {
+        gameLoopManager.stopLoop();
+        actorManager.cleanup();
+    }
+}
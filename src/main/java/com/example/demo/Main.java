@@ -1,8 +1,18 @@
 package com.example.demo;
 
+import com.example.demo.benchmark.RenderBenchmark;
+import com.example.demo.manager.RecordingManager;
+import com.example.demo.soak.Autopilot;
+import com.example.demo.util.GameConstant;
+
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
 
 /**
  * The Main class extends the JavaFX Application class and serves as the entry point for the application.
@@ -15,6 +25,10 @@ public class Main extends Application {
 
     /**
      * Starts the JavaFX application by initializing the controller and setting up the game.
+     * A flight recording is started first if it was requested on the command line,
+     * and the Autopilot is started if a soak test was requested.
+     * If a benchmark was requested, the RenderBenchmark is run without sound instead of the game,
+     * and the application exits once the report is written.
      *
      * @param stage the primary stage for this application, onto which the application scene can be set
      * 
@@ -22,8 +36,35 @@ public class Main extends Application {
      */
     @Override
     public void start(Stage stage) {
+        RecordingManager.getInstance().startIfRequested(getParameters().getRaw());
+        if (RenderBenchmark.isRequested(getParameters().getRaw())) {
+            controller = new Controller(stage, true);
+            RenderBenchmark benchmark = controller.startBenchmark();
+            benchmark.getFinished().thenRun(() -> Platform.runLater(() -> finishBenchmark(benchmark)));
+            return;
+        }
         controller = new Controller(stage);
         controller.initializeGame();
+        if (Autopilot.isRequested(getParameters().getRaw())) {
+            controller.startAutopilot();
+        }
+    }
+
+    /**
+     * Writes the report of a finished benchmark and exits the application.
+     *
+     * @param benchmark the finished benchmark
+     */
+    private void finishBenchmark(RenderBenchmark benchmark) {
+        Path report = Paths.get(System.getProperty(GameConstant.Benchmark.OUTPUT_PROPERTY, GameConstant.Benchmark.DEFAULT_OUTPUT_FILE));
+        try {
+            benchmark.writeReport(report);
+            System.out.println("Benchmark report written to " + report.toAbsolutePath());
+            Platform.exit();
+        } catch (IOException e) {
+            System.err.println("Failed to write benchmark report: " + e.getMessage());
+            System.exit(GameConstant.Benchmark.EXIT_CODE);
+        }
     }
 
     /**
@@ -43,9 +84,13 @@ public class Main extends Application {
      * The main entry point for the application.
      * This method is called when the application is started.
      *
+     * Passing {@code --record} starts a flight recording of the game.
+     * Passing {@code --soak} lets the Autopilot play the game in a loop until a leak is found.
+     * Passing {@code --benchmark} measures the pulses of each level with the RenderBenchmark.
+     *
      * @param args The command line arguments passed to the application.
      */
     public static void main(String[] args) {
-        launch();
+        launch(args);
     }
 }
@@ -2,16 +2,24 @@
 package com.example.demo.actor;
 
 import com.example.demo.manager.ImageManager;
+import com.example.demo.snapshot.Snapshotable;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 
 /**
  * The ActiveActor class represents an actor in a game or simulation that can move and be destroyed.
  * It extends the ImageView class to display an image and provides methods for movement and state management.
  * This class is abstract and requires subclasses to implement the update and takeDamage methods.
+ * The position of the actor is saved in level snapshots, and subclasses add their own state.
  * 
  * @see <a href="https://github.com/swyannnn/CW2024/blob/master/src/main/java/com/example/demo/actor/ActiveActor.java">Github Source Code</a>
  */
-public abstract class ActiveActor extends ImageView{
+public abstract class ActiveActor extends ImageView implements Snapshotable {
     private boolean isDestroyed;
     private int imageHeight;
     
@@ -63,6 +71,49 @@ public abstract class ActiveActor extends ImageView{
         return this.imageHeight;
     }
 
+    /**
+     * Returns the displayed width of the image associated with this actor.
+     * The width is derived from the fit height and the image's aspect ratio, so it matches
+     * the width of {@code getBoundsInParent()} without allocating a new Bounds object.
+     *
+     * @return the width of the displayed image in pixels, or 0 if no image is loaded
+     */
+    public double getImageWidth() {
+        Image image = getImage();
+        if (image == null || image.getHeight() == 0) {
+            return 0;
+        }
+        return image.getWidth() * getFitHeight() / image.getHeight();
+    }
+
+    /**
+     * Returns the current X position of the actor, including its translation.
+     *
+     * @return the layout X plus the translate X of the actor
+     */
+    public double getCurrentX() {
+        return getLayoutX() + getTranslateX();
+    }
+
+    /**
+     * Returns the current Y position of the actor, including its translation.
+     *
+     * @return the layout Y plus the translate Y of the actor
+     */
+    public double getCurrentY() {
+        return getLayoutY() + getTranslateY();
+    }
+
+    /**
+     * Returns the name of the type this actor was created from, used when profiling.
+     * Subclasses return the name of their PlaneType or ProjectileType.
+     *
+     * @return the type name of this actor
+     */
+    public String getTypeName() {
+        return getClass().getSimpleName();
+    }
+
     /**
      * Updates the actor.
      *
@@ -95,4 +146,35 @@ public abstract class ActiveActor extends ImageView{
     public boolean isDestroyed() {
         return isDestroyed;
     }
+
+    /**
+     * Writes the position of the actor to a snapshot.
+     * Subclasses that have more state override this method and call it first.
+     *
+     * @param out the output to write the state to
+     * @param now the simulation time of the snapshot in nanoseconds
+     * @throws IOException if the state cannot be written
+     */
+    @Override
+    public void writeState(DataOutput out, long now) throws IOException {
+        out.writeDouble(getLayoutX());
+        out.writeDouble(getLayoutY());
+        out.writeDouble(getTranslateX());
+        out.writeDouble(getTranslateY());
+    }
+
+    /**
+     * Reads the position of the actor from a snapshot.
+     *
+     * @param in the input to read the state from
+     * @param now the simulation time at which the snapshot is restored, in nanoseconds
+     * @throws IOException if the state cannot be read
+     */
+    @Override
+    public void readState(DataInput in, long now) throws IOException {
+        setLayoutX(in.readDouble());
+        setLayoutY(in.readDouble());
+        setTranslateX(in.readDouble());
+        setTranslateY(in.readDouble());
+    }
 }
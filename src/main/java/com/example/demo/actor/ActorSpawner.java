@@ -3,6 +3,13 @@ package com.example.demo.actor;
 import java.util.List;
 
 import com.example.demo.actor.plane.UserPlane;
+import com.example.demo.effect.ParticleSystem;
+import com.example.demo.effect.TweenEngine;
+import com.example.demo.manager.AudioManager;
+import com.example.demo.util.BalanceTuning;
+import com.example.demo.util.GameClock;
+import com.example.demo.util.GameRandom;
+import com.example.demo.util.QualityGovernor;
 
 import javafx.scene.Group;
 import javafx.scene.Node;
@@ -12,6 +19,7 @@ import javafx.scene.Node;
  * The ActorSpawner interface provides methods for spawning and managing actors in the game world.
  * It includes methods for spawning active actors, updating the root group, adding UI elements,
  * and retrieving lists of players, enemy units, and boss units.
+ * It also gives actors access to the clock, effect tweens and particles, random number generator, audio and balance tuning of their GameSession.
  * 
  * @see <a href="https://github.com/swyannnn/CW2024/blob/master/src/main/java/com/example/demo/actor/ActorSpawner.java">Github Source Code</a>
  */
@@ -23,6 +31,16 @@ public interface ActorSpawner {
      */
     void addActor(ActiveActor actor);
 
+    /**
+     * Checks if an actor of the given category may be spawned within the actor budget.
+     * Low-priority actors, such as enemy planes and projectiles, should only be created
+     * when this returns true.
+     *
+     * @param category the category of the actor to spawn
+     * @return true if the actor may be spawned, false if the spawn should be skipped
+     */
+    boolean requestSpawn(SpawnCategory category);
+
     /**
      * Updates the given root group with new actors or changes.
      *
@@ -37,6 +55,22 @@ public interface ActorSpawner {
      */
     void addUIElement(Node node);
 
+    /**
+     * Adds a UI element that belongs to an actor, such as the shield of a boss.
+     * The owner must remove the element when it is destroyed; elements left behind are reported as leaks.
+     *
+     * @param node the UI element to be added
+     * @param owner the actor the element belongs to
+     */
+    void addUIElement(Node node, ActiveActor owner);
+
+    /**
+     * Removes a UI element from the scene.
+     *
+     * @param node the UI element to be removed
+     */
+    void removeUIElement(Node node);
+
     /**
      * Retrieves a list of UserPlane objects representing the players.
      *
@@ -51,6 +85,13 @@ public interface ActorSpawner {
      */
     List<ActiveActor> getEnemyUnits();
 
+    /**
+     * Retrieves a list of active enemy projectiles.
+     *
+     * @return a list of {@link ActiveActor} representing the enemy projectiles.
+     */
+    List<ActiveActor> getEnemyProjectiles();
+
     /**
      * Retrieves a list of boss units.
      *
@@ -58,4 +99,61 @@ public interface ActorSpawner {
      */
     List<ActiveActor> getBossUnits();
 
+    /**
+     * Retrieves the clock of the session the actors belong to.
+     *
+     * @return the GameClock of the session
+     */
+    GameClock getClock();
+
+    /**
+     * Retrieves the engine running the effect tweens of the session the actors belong to.
+     *
+     * @return the TweenEngine of the session
+     */
+    TweenEngine getTweenEngine();
+
+    /**
+     * Retrieves the particle system of the session the actors belong to.
+     *
+     * @return the ParticleSystem of the session
+     */
+    ParticleSystem getParticleSystem();
+
+    /**
+     * Retrieves the governor holding the current quality level of the session.
+     *
+     * @return the QualityGovernor of the session
+     */
+    QualityGovernor getQualityGovernor();
+
+    /**
+     * Retrieves the random number generator of the session the actors belong to.
+     *
+     * @return the GameRandom of the session
+     */
+    GameRandom getRandom();
+
+    /**
+     * Retrieves the AudioManager the actors play their sound effects with.
+     *
+     * @return the AudioManager of the session
+     */
+    AudioManager getAudioManager();
+
+    /**
+     * Retrieves the balance tuning of the session the actors belong to.
+     *
+     * @return the BalanceTuning of the session
+     */
+    BalanceTuning getTuning();
+
+    /**
+     * Checks if the session runs without a scene, as the balance simulations do.
+     * Headless sessions skip everything that needs the JavaFX Application Thread,
+     * such as heart displays, labels and visual effects.
+     *
+     * @return true if the session is headless, false otherwise
+     */
+    boolean isHeadless();
 }
@@ -0,0 +1,86 @@
+package com.example.demo.actor;
+
+import com.example.demo.actor.plane.BossPlane;
+import com.example.demo.actor.plane.FighterPlane;
+import com.example.demo.actor.plane.MultiPhaseBossPlane;
+import com.example.demo.actor.plane.PlaneType;
+import com.example.demo.actor.plane.UserPlane;
+import com.example.demo.actor.projectile.BossProjectile;
+import com.example.demo.actor.projectile.EnemyProjectile;
+import com.example.demo.actor.projectile.UserProjectile;
+
+/**
+ * The SpawnCategory enum sorts actors into the categories the actor budget is kept for.
+ * Each actor belongs to exactly one category.
+ *
+ * <p>Players, their projectiles and bosses are never throttled, since refusing them would
+ * change the game itself. Enemy planes, the minions summoned by bosses and the projectiles
+ * of enemies and bosses are throttled once their cap is reached. Projectiles are also
+ * evictable: when their cap is reached, the oldest one that is off-screen is removed to make
+ * room for the new one.</p>
+ *
+ * @see <a href="https://github.com/swyannnn/CW2024/blob/master/src/main/java/com/example/demo/actor/SpawnCategory.java">Github Source Code</a>
+ * @see ActorSpawner#requestSpawn(SpawnCategory)
+ * @see com.example.demo.manager.ActorBudget
+ */
+public enum SpawnCategory {
+    PLAYER(false, false),
+    USER_PROJECTILE(false, false),
+    BOSS_UNIT(false, false),
+    ENEMY_UNIT(true, false),
+    MINION(true, false),
+    ENEMY_PROJECTILE(true, true),
+    BOSS_PROJECTILE(true, true);
+
+    private final boolean throttled;
+    private final boolean evictable;
+
+    SpawnCategory(boolean throttled, boolean evictable) {
+        this.throttled = throttled;
+        this.evictable = evictable;
+    }
+
+    /**
+     * Checks if spawn requests of the category are refused once its cap is reached.
+     *
+     * @return true if the category is throttled, false if it is never refused
+     */
+    public boolean isThrottled() {
+        return throttled;
+    }
+
+    /**
+     * Checks if the oldest off-screen actor of the category may be removed to make room for a new one.
+     *
+     * @return true if actors of the category can be evicted, false otherwise
+     */
+    public boolean isEvictable() {
+        return evictable;
+    }
+
+    /**
+     * Finds the category of an actor.
+     * Both kinds of boss count as bosses, and enemy planes of type ENEMY_PLANE4 are only
+     * summoned by bosses, so they count as minions.
+     *
+     * @param actor the actor to categorize
+     * @return the category of the actor
+     * @throws IllegalArgumentException if the actor is of a kind no category is kept for
+     */
+    public static SpawnCategory of(ActiveActor actor) {
+        if (actor instanceof UserPlane) {
+            return PLAYER;
+        } else if (actor instanceof BossPlane || actor instanceof MultiPhaseBossPlane) {
+            return BOSS_UNIT;
+        } else if (actor instanceof FighterPlane) {
+            return ((FighterPlane) actor).getPlaneType() == PlaneType.ENEMY_PLANE4 ? MINION : ENEMY_UNIT;
+        } else if (actor instanceof EnemyProjectile) {
+            return ENEMY_PROJECTILE;
+        } else if (actor instanceof BossProjectile) {
+            return BOSS_PROJECTILE;
+        } else if (actor instanceof UserProjectile) {
+            return USER_PROJECTILE;
+        }
+        throw new IllegalArgumentException("Actor has no spawn category: " + actor.getTypeName());
+    }
+}
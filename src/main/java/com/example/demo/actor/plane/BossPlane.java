@@ -4,6 +4,10 @@ import com.example.demo.actor.ActorSpawner;
 import com.example.demo.actor.plane.component.Shield;
 import com.example.demo.util.GameConstant;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
 /**
  * The BossPlane class represents a specialized type of FighterPlane with an additional shield capability.
  * It extends the FighterPlane class and adds functionality for initializing and managing a shield.
@@ -19,6 +23,7 @@ import com.example.demo.util.GameConstant;
  */
 public class BossPlane extends FighterPlane {
     private Shield shield;
+    private final ActorSpawner actorSpawner;
     private static final double bossShieldProbability = GameConstant.BossShield.BOSS_SHIELD_PROBABILITY;
 
     /**
@@ -29,6 +34,7 @@ public class BossPlane extends FighterPlane {
      */
     public BossPlane(PlaneConfig config, ActorSpawner actorSpawner) {
         super(config);
+        this.actorSpawner = actorSpawner;
         initializeShield(actorSpawner);
     }
 
@@ -38,8 +44,8 @@ public class BossPlane extends FighterPlane {
      * @param actorSpawner the actor spawner used to initialize the shield
      */
     private void initializeShield(ActorSpawner actorSpawner) {
-        shield = new Shield(bossShieldProbability);
-        actorSpawner.addUIElement(shield);
+        shield = new Shield(bossShieldProbability, actorSpawner.getRandom());
+        actorSpawner.addUIElement(shield, this);
     }
 
     /**
@@ -73,4 +79,40 @@ public class BossPlane extends FighterPlane {
         }
         return super.takeDamage(); // Delegate to base class
     }
+
+    /**
+     * Marks the BossPlane as destroyed and removes its shield from the scene.
+     */
+    @Override
+    public void destroy() {
+        super.destroy();
+        shield.deactivateShield();
+        actorSpawner.removeUIElement(shield);
+    }
+
+    /**
+     * Writes the state of the plane and its shield to a snapshot.
+     *
+     * @param out the output to write the state to
+     * @param now the simulation time of the snapshot in nanoseconds
+     * @throws IOException if the state cannot be written
+     */
+    @Override
+    public void writeState(DataOutput out, long now) throws IOException {
+        super.writeState(out, now);
+        shield.writeState(out, now);
+    }
+
+    /**
+     * Reads the state of the plane and its shield from a snapshot.
+     *
+     * @param in the input to read the state from
+     * @param now the simulation time at which the snapshot is restored, in nanoseconds
+     * @throws IOException if the state cannot be read
+     */
+    @Override
+    public void readState(DataInput in, long now) throws IOException {
+        super.readState(in, now);
+        shield.readState(in, now);
+    }
 }
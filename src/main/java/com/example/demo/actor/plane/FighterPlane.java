@@ -1,9 +1,14 @@
 package com.example.demo.actor.plane;
 
 import com.example.demo.actor.ActiveActor;
+import com.example.demo.snapshot.Snapshotable;
 import com.example.demo.strategy.firing.FiringStrategy;
 import com.example.demo.strategy.movement.MovementStrategy;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
 /**
  * The FighterPlane class represents an abstract type of plane that can engage in combat.
  * It extends the ActiveActor class and includes properties and behaviors specific to a fighter plane.
@@ -39,6 +44,7 @@ public abstract class FighterPlane extends ActiveActor {
     private long lastFireTime = 0;
     private final long fireIntervalNanoseconds;
     private FiringStrategy firingStrategy;
+    private final PlaneType planeType;
 
     /**
      * Constructs a new FighterPlane with the specified configuration.
@@ -55,6 +61,7 @@ public abstract class FighterPlane extends ActiveActor {
         this.fireRate = config.fireRate;
         this.firingStrategy = config.firingStrategy;
         this.movementStrategy = config.movementStrategy;
+        this.planeType = config.planeType;
     }
 
     /**
@@ -132,6 +139,25 @@ public abstract class FighterPlane extends ActiveActor {
         this.health = health;
     }
 
+    /**
+     * Retrieves the type this fighter plane was created from.
+     *
+     * @return the PlaneType of the fighter plane, or null if it was not created by the PlaneFactory
+     */
+    public PlaneType getPlaneType() {
+        return planeType;
+    }
+
+    /**
+     * Returns the name of the PlaneType of this fighter plane.
+     *
+     * @return the plane type name, or the class name if the plane type is unknown
+     */
+    @Override
+    public String getTypeName() {
+        return planeType != null ? planeType.name() : super.getTypeName();
+    }
+
 
     /**
      * Updates the state of the FighterPlane.
@@ -168,4 +194,46 @@ public abstract class FighterPlane extends ActiveActor {
     protected void performAdditionalUpdates(long now) {
         // Default implementation does nothing.
     }
+
+    /**
+     * Writes the position, health and firing time of the plane to a snapshot,
+     * followed by the state of its movement and firing strategies if they have any.
+     *
+     * @param out the output to write the state to
+     * @param now the simulation time of the snapshot in nanoseconds
+     * @throws IOException if the state cannot be written
+     */
+    @Override
+    public void writeState(DataOutput out, long now) throws IOException {
+        super.writeState(out, now);
+        out.writeInt(health);
+        out.writeLong(lastFireTime - now);
+        if (movementStrategy instanceof Snapshotable) {
+            ((Snapshotable) movementStrategy).writeState(out, now);
+        }
+        if (firingStrategy instanceof Snapshotable) {
+            ((Snapshotable) firingStrategy).writeState(out, now);
+        }
+    }
+
+    /**
+     * Reads the position, health and firing time of the plane from a snapshot,
+     * followed by the state of its movement and firing strategies if they have any.
+     *
+     * @param in the input to read the state from
+     * @param now the simulation time at which the snapshot is restored, in nanoseconds
+     * @throws IOException if the state cannot be read
+     */
+    @Override
+    public void readState(DataInput in, long now) throws IOException {
+        super.readState(in, now);
+        health = in.readInt();
+        lastFireTime = now + in.readLong();
+        if (movementStrategy instanceof Snapshotable) {
+            ((Snapshotable) movementStrategy).readState(in, now);
+        }
+        if (firingStrategy instanceof Snapshotable) {
+            ((Snapshotable) firingStrategy).readState(in, now);
+        }
+    }
 }
@@ -1,9 +1,14 @@
 package com.example.demo.actor.plane;
 
-import com.example.demo.actor.ActiveActor;
 import com.example.demo.actor.ActorSpawner;
+import com.example.demo.actor.SpawnCategory;
 import com.example.demo.strategy.movement.MultiPhaseBossMovementStrategy;
 import com.example.demo.util.GameConstant;
+import com.example.demo.util.GameConstant.ParticleStyle;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 
 /**
  * The MultiPhaseBossPlane class represents a boss plane with multiple phases in a game.
@@ -37,15 +42,17 @@ public class MultiPhaseBossPlane extends FighterPlane {
     private PlaneFactory planeFactory;
     private long lastSummonTime;
     private int currentPhase;
-    private int remainingHealthPhase2 = GameConstant.MultiPhaseBossPlane.REMAINING_HEALTH_PHASE2;
-    private int remainingHealthPhase3 = GameConstant.MultiPhaseBossPlane.REMAINING_HEALTH_PHASE3;
+    private int remainingHealthPhase2;
+    private int remainingHealthPhase3;
 
     public MultiPhaseBossPlane(PlaneConfig config, ActorSpawner actorSpawner) {
         super(config);
         this.planeFactory = new PlaneFactory(actorSpawner);
         this.actorSpawner = actorSpawner;
         this.currentPhase = 1;
-        this.lastSummonTime = System.nanoTime();
+        this.remainingHealthPhase2 = actorSpawner.getTuning().scalePhaseThreshold(GameConstant.MultiPhaseBossPlane.REMAINING_HEALTH_PHASE2);
+        this.remainingHealthPhase3 = actorSpawner.getTuning().scalePhaseThreshold(GameConstant.MultiPhaseBossPlane.REMAINING_HEALTH_PHASE3);
+        this.lastSummonTime = actorSpawner.getClock().getSimulationTime();
     }
 
     /**
@@ -75,17 +82,18 @@ public class MultiPhaseBossPlane extends FighterPlane {
     /**
      * Summons two minion planes if the cooldown period has passed since the last summon.
      * The minions are created using the plane factory and then spawned using the actor spawner.
+     * Minions the actor budget has no room for are not summoned.
      * The last summon time is updated to the current time after summoning the minions.
      *
      * @param now The current time in milliseconds.
      */
     private void summonMinions(long now) {
         if ((now - lastSummonTime) >= SUMMON_COOLDOWN) {
-            ActiveActor minion1 = planeFactory.createPlane(PlaneType.ENEMY_PLANE4);
-            ActiveActor minion2 = planeFactory.createPlane(PlaneType.ENEMY_PLANE4);
-
-            actorSpawner.addActor(minion1);
-            actorSpawner.addActor(minion2);
+            for (int i = 0; i < 2; i++) {
+                if (actorSpawner.requestSpawn(SpawnCategory.MINION)) {
+                    actorSpawner.addActor(planeFactory.createPlane(PlaneType.ENEMY_PLANE4));
+                }
+            }
 
             lastSummonTime = now;
         }
@@ -109,12 +117,14 @@ public class MultiPhaseBossPlane extends FighterPlane {
                 if (currentHealth <= remainingHealthPhase2) {
                     currentPhase = 2;
                     transitionToPhase2(now);
+                    emitPhaseBurst();
                 }
                 break;
             case 2:
                 if (currentHealth <= remainingHealthPhase3) {
                     currentPhase = 3;
                     transitionToPhase3(now);
+                    emitPhaseBurst();
                 }
                 break;
             case 3:
@@ -125,6 +135,16 @@ public class MultiPhaseBossPlane extends FighterPlane {
     }
 
 
+    /**
+     * Emits a burst of particles from the center of the boss to mark a change of phase.
+     */
+    private void emitPhaseBurst() {
+        if (!actorSpawner.isHeadless()) {
+            actorSpawner.getParticleSystem().emit(ParticleStyle.PHASE_BURST,
+                getCurrentX() + getImageWidth() / 2, getCurrentY() + getImageHeight() / 2.0);
+        }
+    }
+
     /**
      * Transitions the boss plane to Phase 2.
      * This method prints a message indicating the transition and updates the movement strategy to Phase 2
@@ -149,6 +169,15 @@ public class MultiPhaseBossPlane extends FighterPlane {
         }
     }
 
+    /**
+     * Retrieves the current phase of the boss plane.
+     *
+     * @return the current phase, from 1 to 3
+     */
+    public int getCurrentPhase() {
+        return currentPhase;
+    }
+
     /**
      * Handles the damage inflicted on the plane by reducing its health and checking for phase transitions.
      *
@@ -156,6 +185,36 @@ public class MultiPhaseBossPlane extends FighterPlane {
      */
     public void onDamage(int damage) {
         setHealth(getHealth() - damage);
-        checkPhaseTransition(System.nanoTime());
+        checkPhaseTransition(actorSpawner.getClock().getSimulationTime());
+    }
+
+    /**
+     * Writes the state of the plane, its phase and its summon time to a snapshot.
+     *
+     * @param out the output to write the state to
+     * @param now the simulation time of the snapshot in nanoseconds
+     * @throws IOException if the state cannot be written
+     */
+    @Override
+    public void writeState(DataOutput out, long now) throws IOException {
+        super.writeState(out, now);
+        out.writeInt(currentPhase);
+        out.writeLong(lastSummonTime - now);
+    }
+
+    /**
+     * Reads the state of the plane, its phase and its summon time from a snapshot.
+     * The phase is restored directly, without applying the phase transition again,
+     * because the movement strategy restores its own phase state.
+     *
+     * @param in the input to read the state from
+     * @param now the simulation time at which the snapshot is restored, in nanoseconds
+     * @throws IOException if the state cannot be read
+     */
+    @Override
+    public void readState(DataInput in, long now) throws IOException {
+        super.readState(in, now);
+        currentPhase = in.readInt();
+        lastSummonTime = now + in.readLong();
     }
 }
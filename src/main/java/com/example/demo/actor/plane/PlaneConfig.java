@@ -1,7 +1,9 @@
 package com.example.demo.actor.plane;
 
+import com.example.demo.effect.TweenEngine;
 import com.example.demo.strategy.firing.FiringStrategy;
 import com.example.demo.strategy.movement.MovementStrategy;
+import com.example.demo.util.QualityGovernor;
 
 /**
  * The PlaneConfig class represents the configuration settings for a plane in the game.
@@ -9,6 +11,7 @@ import com.example.demo.strategy.movement.MovementStrategy;
  * @see <a href="https://github.com/swyannnn/CW2024/blob/master/src/main/java/com/example/demo/actor/plane/PlaneConfig.java">Github Source Code</a>
  */
 public class PlaneConfig {
+    public PlaneType planeType;
     public String imageName;
     public int imageHeight;
     public double initialXPos;
@@ -21,4 +24,6 @@ public class PlaneConfig {
     public int speed;
     public MovementStrategy movementStrategy;
     public FiringStrategy firingStrategy;
+    public TweenEngine tweenEngine; // runs the plane's effects; planes without one show none
+    public QualityGovernor qualityGovernor; // decides whether the plane's effects are shown
 }
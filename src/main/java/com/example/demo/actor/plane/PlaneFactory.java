@@ -35,6 +35,7 @@ public class PlaneFactory {
      */
     public FighterPlane createPlane(PlaneType type) {
         PlaneConfig config = new PlaneConfig();
+        config.planeType = type;
         config.imageName = type.getImageName();
         config.imageHeight = type.getImageHeight();
         config.initialXPos = type.getInitialXPos();
@@ -47,7 +48,7 @@ public class PlaneFactory {
         }
 
         config.health = type.getHealth();
-        config.fireRate = type.getFireRate();
+        config.fireRate = actorSpawner.getTuning().scaleFireRate(type.getFireRate());
         config.fireIntervalNanoseconds = type.getFireIntervalNanoseconds();
         config.projectileOffsetX = type.getProjectileOffsetX();
         config.projectileOffsetY = type.getProjectileOffsetY();
@@ -102,6 +103,7 @@ public class PlaneFactory {
      */
     private UserPlane createUserPlane(int playerId) {
         PlaneConfig config = new PlaneConfig();
+        config.planeType = PlaneType.USER_PLANE;
         config.imageName = getPlayerImageName(playerId);
         config.imageHeight = GameConstant.UserPlane.IMAGE_HEIGHT;
         config.initialXPos = GameConstant.UserPlane.INITIAL_X_POSITION;
@@ -109,6 +111,8 @@ public class PlaneFactory {
         config.health = GameConstant.UserPlane.INITIAL_HEALTH;
         config.fireIntervalNanoseconds = GameConstant.UserProjectile.FIRE_INTERVAL_NANOSECONDS;
         config.speed = GameConstant.UserPlane.VELOCITY; // Set speed from constants
+        config.tweenEngine = actorSpawner.getTweenEngine();
+        config.qualityGovernor = actorSpawner.getQualityGovernor();
 
         config.firingStrategy = new UserFiringStrategy(actorSpawner, GameConstant.UserProjectile.FIRE_INTERVAL_NANOSECONDS, config.projectileOffsetX, config.projectileOffsetY);
         return new UserPlane(config, playerId);
@@ -155,7 +159,7 @@ public class PlaneFactory {
      * @return a random Y position between the upper and lower bounds
      */
     private double calculateInitialYPos(double yUpperBound, double yLowerBound) {
-        return Math.random() * (yLowerBound - yUpperBound) + yUpperBound;
+        return actorSpawner.getRandom().nextDouble() * (yLowerBound - yUpperBound) + yUpperBound;
     }
 
     /**
@@ -111,7 +111,7 @@ public enum PlaneType {
         GameConstant.BossPlane.PROJECTILE_X_POSITION_OFFSET,
         GameConstant.BossPlane.PROJECTILE_Y_POSITION_OFFSET,
         GameConstant.BossPlane.VERTICAL_VELOCITY,
-        (factory, config) -> new BossMovementStrategy(config.speed),
+        (factory, config) -> new BossMovementStrategy(config.speed, factory.getActorSpawner().getRandom()),
         (factory, config) -> new BossFiringStrategy(factory.getActorSpawner(), config.fireRate, config.projectileOffsetX, config.projectileOffsetY)
     ),
 
@@ -127,7 +127,7 @@ public enum PlaneType {
         GameConstant.MultiPhaseBossPlane.PROJECTILE_X_POSITION_OFFSET,
         GameConstant.MultiPhaseBossPlane.PROJECTILE_Y_POSITION_OFFSET,
         0, // Speed is handled by movement strategy
-        (factory, config) -> new MultiPhaseBossMovementStrategy(config.speed),
+        (factory, config) -> new MultiPhaseBossMovementStrategy(config.speed, factory.getActorSpawner().getClock()),
         (factory, config) -> new MultiPhaseBossFiringStrategy(factory.getActorSpawner(), config.fireRate, config.projectileOffsetX, config.projectileOffsetY)
     ),
     
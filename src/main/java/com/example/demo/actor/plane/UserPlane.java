@@ -3,10 +3,13 @@ package com.example.demo.actor.plane;
 import com.example.demo.effect.FlickerEffect;
 import com.example.demo.handler.HealthChangeHandler;
 import com.example.demo.util.GameConstant;
+import com.example.demo.util.QualityGovernor;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
-import javafx.application.Platform;
 
 /**
  * The UserPlane class represents a fighter plane controlled by a user in the game.
@@ -32,6 +35,8 @@ public class UserPlane extends FighterPlane {
     private int numberOfKills = GameConstant.UserPlane.NUMBER_OF_KILLS;
     private int flickerCount = GameConstant.UserPlane.DAMAGE_FLICKER_COUNT;;
     private FlickerEffect flickerEffect;
+    private QualityGovernor qualityGovernor;
+    private final int playerId;
 
 
     /**
@@ -43,7 +48,11 @@ public class UserPlane extends FighterPlane {
     public UserPlane(PlaneConfig config,int playerId) {
         super(config);
         this.health = config.health;
-        this.flickerEffect = new FlickerEffect(this, flickerCount, 100); // 100 ms per fade
+        this.playerId = playerId;
+        if (config.tweenEngine != null) {
+            this.flickerEffect = new FlickerEffect(config.tweenEngine, this, flickerCount, 100); // 100 ms per fade
+        }
+        this.qualityGovernor = config.qualityGovernor;
     }
 
     /**
@@ -100,8 +109,9 @@ public class UserPlane extends FighterPlane {
         health--;
         notifyHealthChange();
 
-        if (!isDestroyed()) {
-            Platform.runLater(() -> flickerEffect.trigger());
+        // A plane that is not in a scene, such as in a headless simulation, has nothing to flicker
+        if (!isDestroyed() && flickerEffect != null && getScene() != null && isFlickerEnabled()) {
+            flickerEffect.trigger();
         }
 
         if (healthAtZero()) {
@@ -111,6 +121,15 @@ public class UserPlane extends FighterPlane {
         return true; // Damage applied
     }
 
+    /**
+     * Checks if the current quality level shows the damage flicker.
+     *
+     * @return true if there is no QualityGovernor or its level keeps the flicker, false otherwise
+     */
+    private boolean isFlickerEnabled() {
+        return qualityGovernor == null || qualityGovernor.getLevel().isFlickerEnabled();
+    }
+
     /**
      * Checks if the user plane is destroyed.
      *
@@ -120,6 +139,15 @@ public class UserPlane extends FighterPlane {
         return health <= 0;
     }
 
+    /**
+     * Retrieves the ID of the player controlling the plane.
+     *
+     * @return the player ID
+     */
+    public int getPlayerId() {
+        return playerId;
+    }
+
     /**
      * Retrieves the number of kills made by the user plane.
      *
@@ -135,4 +163,32 @@ public class UserPlane extends FighterPlane {
     public void incrementKillCount() {
         numberOfKills++;
     }
+
+    /**
+     * Writes the state of the plane and the number of kills to a snapshot.
+     *
+     * @param out the output to write the state to
+     * @param now the simulation time of the snapshot in nanoseconds
+     * @throws IOException if the state cannot be written
+     */
+    @Override
+    public void writeState(DataOutput out, long now) throws IOException {
+        super.writeState(out, now);
+        out.writeInt(numberOfKills);
+    }
+
+    /**
+     * Reads the state of the plane and the number of kills from a snapshot,
+     * and notifies the health change handlers of the restored health.
+     *
+     * @param in the input to read the state from
+     * @param now the simulation time at which the snapshot is restored, in nanoseconds
+     * @throws IOException if the state cannot be read
+     */
+    @Override
+    public void readState(DataInput in, long now) throws IOException {
+        super.readState(in, now);
+        numberOfKills = in.readInt();
+        notifyHealthChange();
+    }
 }
@@ -3,17 +3,24 @@ package com.example.demo.actor.plane.component;
 import com.example.demo.manager.ImageManager;
 import com.example.demo.util.GameConstant;
 
-import javafx.application.Platform;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.HBox;
 
+import java.util.ArrayList;
+import java.util.List;
+
 
 /**
  * The HeartDisplay class represents a graphical component that displays a player's hearts
  * in a game. It uses an HBox container to arrange the hearts and the player's plane icon.
  * The number of hearts displayed can be dynamically updated.
  * 
+ * <p>The hearts are retained: their ImageViews are created once, with the heart image decoded
+ * at its display height, and a change in health only toggles their visibility. Setting the
+ * number of hearts that is already shown does nothing, so the display is only redrawn when
+ * the health actually changes.</p>
+ * 
  * <p>This class provides methods to initialize the heart display, set the number of hearts,
  * and retrieve the container for the heart display.</p>
  * 
@@ -26,6 +33,8 @@ public class HeartDisplay {
     private static final String HEART_IMAGE_NAME = GameConstant.Heart.IMAGE_NAME;
     private static final int HEART_HEIGHT = GameConstant.Heart.IMAGE_HEIGHT;
     private HBox container;
+    private final List<ImageView> hearts = new ArrayList<>();
+    private int heartsShown = -1;
     private int playerIndex;
     private double containerXPosition;
     private double containerYPosition;
@@ -43,6 +52,7 @@ public class HeartDisplay {
         this.containerYPosition = yPosition;
         this.playerIndex = playerIndex;
         initializeContainer();
+        allocateHearts(Math.max(initialHearts, GameConstant.UserPlane.INITIAL_HEALTH));
         setHearts(initialHearts); // Set initial hearts dynamically
     }
 
@@ -64,6 +74,21 @@ public class HeartDisplay {
         container.getChildren().add(planeIcon);
     }
 
+    /**
+     * Creates hidden heart icons until the container holds the given number of hearts.
+     *
+     * @param count the number of hearts the container should hold
+     */
+    private void allocateHearts(int count) {
+        Image heartImage = ImageManager.getImage(HEART_IMAGE_NAME, HEART_HEIGHT);
+        while (hearts.size() < count) {
+            ImageView heart = new ImageView(heartImage);
+            heart.setVisible(false);
+            hearts.add(heart);
+            container.getChildren().add(heart);
+        }
+    }
+
     /**
      * Returns the image name corresponding to the given player index.
      *
@@ -83,25 +108,29 @@ public class HeartDisplay {
 
     /**
      * Updates the heart display to match the number of hearts remaining.
+     * Only the hearts whose visibility changes are touched; nothing happens if the number is unchanged.
      *
      * @param heartsRemaining The number of hearts to display.
      */
     public void setHearts(int heartsRemaining) {
-        Platform.runLater(() -> {
-            // Remove all heart icons, keep the plane icon
-            while (container.getChildren().size() > 1) {
-                container.getChildren().remove(1);
-            }
+        int count = Math.max(0, heartsRemaining);
+        if (count == heartsShown) {
+            return;
+        }
+        allocateHearts(count);
+        for (int i = 0; i < hearts.size(); i++) {
+            hearts.get(i).setVisible(i < count);
+        }
+        heartsShown = count;
+    }
 
-            // Add heart icons
-            for (int i = 0; i < heartsRemaining; i++) {
-                Image heartImage = ImageManager.getImage(HEART_IMAGE_NAME);
-                ImageView heart = new ImageView(heartImage);
-                heart.setFitHeight(HEART_HEIGHT);
-                heart.setPreserveRatio(true);
-                container.getChildren().add(heart);
-            }
-        });
+    /**
+     * Returns the number of hearts currently shown.
+     *
+     * @return the number of visible hearts
+     */
+    public int getHeartsShown() {
+        return heartsShown;
     }
 
     /**
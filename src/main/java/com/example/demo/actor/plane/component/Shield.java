@@ -1,10 +1,16 @@
 package com.example.demo.actor.plane.component;
 
 import com.example.demo.manager.ImageManager;
+import com.example.demo.snapshot.Snapshotable;
 import com.example.demo.util.GameConstant;
+import com.example.demo.util.GameRandom;
 
 import javafx.scene.image.ImageView;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
 
 /**
  * The Shield class represents a visual shield that can be activated and deactivated
@@ -17,7 +23,7 @@ import javafx.scene.image.ImageView;
  * 
  * @see <a href="https://github.com/swyannnn/CW2024/blob/master/src/main/java/com/example/demo/actor/plane/component/Shield.java">Github Source Code</a>
  */
-public class Shield extends ImageView {
+public class Shield extends ImageView implements Snapshotable {
     // Constants
     private static final String IMAGE_PATH = "shield.png"; // Path to shield image
     private static final int SHIELD_SIZE = 150;
@@ -28,6 +34,7 @@ public class Shield extends ImageView {
 
     // Shield activation parameters
     private final double shieldActivationProbability;
+    private final GameRandom random;
     private static final int maxFramesWithShield = GameConstant.BossShield.MAX_FRAMES_WITH_SHIELD;
     private static final int maxFramesWithoutShield = GameConstant.BossShield.MAX_FRAMES_WITHOUT_SHIELD;
 
@@ -41,14 +48,16 @@ public class Shield extends ImageView {
      * Initializes the shield image, visibility, size, and activation state.
      *
      * @param shieldActivationProbability the probability of the shield being activated
+     * @param random the random number generator deciding when the shield is activated
      */
-    public Shield(double shieldActivationProbability) {
+    public Shield(double shieldActivationProbability, GameRandom random) {
         super();
         this.setImage(ImageManager.getImage(IMAGE_PATH));
         this.setVisible(false);
         this.setFitHeight(SHIELD_SIZE);
         this.setFitWidth(SHIELD_SIZE);
         this.shieldActivationProbability = shieldActivationProbability;
+        this.random = random;
 
         this.isShielded = false;
         this.framesWithShieldActivated = 0;
@@ -96,7 +105,7 @@ public class Shield extends ImageView {
      * @return {@code true} if the shield should be activated; {@code false} otherwise.
      */
     private boolean shouldActivateShield() {
-        return Math.random() < shieldActivationProbability && framesSinceLastShield >= maxFramesWithoutShield;
+        return random.nextDouble() < shieldActivationProbability && framesSinceLastShield >= maxFramesWithoutShield;
     }
 
     /**
@@ -150,4 +159,37 @@ public class Shield extends ImageView {
     public boolean isShielded() {
         return isShielded;
     }
+
+    /**
+     * Writes the activation state of the shield to a snapshot.
+     *
+     * @param out the output to write the state to
+     * @param now the simulation time of the snapshot in nanoseconds
+     * @throws IOException if the state cannot be written
+     */
+    @Override
+    public void writeState(DataOutput out, long now) throws IOException {
+        out.writeBoolean(isShielded);
+        out.writeInt(framesWithShieldActivated);
+        out.writeInt(framesSinceLastShield);
+        out.writeDouble(getLayoutX());
+        out.writeDouble(getLayoutY());
+    }
+
+    /**
+     * Reads the activation state of the shield from a snapshot and shows or hides it accordingly.
+     *
+     * @param in the input to read the state from
+     * @param now the simulation time at which the snapshot is restored, in nanoseconds
+     * @throws IOException if the state cannot be read
+     */
+    @Override
+    public void readState(DataInput in, long now) throws IOException {
+        isShielded = in.readBoolean();
+        framesWithShieldActivated = in.readInt();
+        framesSinceLastShield = in.readInt();
+        setLayoutX(in.readDouble());
+        setLayoutY(in.readDouble());
+        setVisible(isShielded);
+    }
 }
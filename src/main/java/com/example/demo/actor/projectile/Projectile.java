@@ -13,6 +13,7 @@ public abstract class Projectile extends ActiveActor {
     protected double horizontalVelocity;
     protected double xUpperBound = GameConstant.Projectile.X_UPPER_BOUND;
     protected double xLowerBound = GameConstant.Projectile.X_LOWER_BOUND;
+    private final ProjectileType projectileType;
 
     /**
      * Constructor for Projectile.
@@ -23,6 +24,26 @@ public abstract class Projectile extends ActiveActor {
         super(config.getType().getImageName(), config.getType().getImageHeight(),
               config.getInitialXPos(), config.getInitialYPos());
         this.horizontalVelocity = config.getType().getHorizontalVelocity();
+        this.projectileType = config.getType();
+    }
+
+    /**
+     * Retrieves the type this projectile was created from.
+     *
+     * @return the ProjectileType of the projectile
+     */
+    public ProjectileType getProjectileType() {
+        return projectileType;
+    }
+
+    /**
+     * Returns the name of the ProjectileType of this projectile.
+     *
+     * @return the projectile type name
+     */
+    @Override
+    public String getTypeName() {
+        return projectileType.name();
     }
 
     /**
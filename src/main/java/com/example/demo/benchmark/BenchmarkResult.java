@@ -0,0 +1,110 @@
+package com.example.demo.benchmark;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * The BenchmarkResult class holds the pulse durations measured by the RenderBenchmark in one level,
+ * and the statistics reported for them.
+ *
+ * <p>The durations are sorted once when the result is created, so the percentiles are read
+ * directly. A level that ended before all frames were measured, for example because the
+ * level was won, is marked as incomplete, and its statistics cover the frames that were measured.</p>
+ *
+ * @see <a href="https://github.com/swyannnn/CW2024/blob/master/src/main/java/com/example/demo/benchmark/BenchmarkResult.java">Github Source Code</a>
+ * @see RenderBenchmark
+ */
+public class BenchmarkResult {
+    private final int level;
+    private final long[] sortedPulseNanos;
+    private final long totalNanos;
+    private final int peakActors;
+    private final String qualityLevel;
+    private final boolean complete;
+
+    /**
+     * Constructs a BenchmarkResult.
+     *
+     * @param level the number of the level
+     * @param pulseNanos the durations of the measured pulses in nanoseconds; only the first frameCount are used
+     * @param frameCount the number of measured pulses
+     * @param peakActors the largest number of live actors seen while measuring
+     * @param qualityLevel the name of the quality level at the end of the measurement
+     * @param complete true if every requested frame was measured, false if the level ended first
+     */
+    public BenchmarkResult(int level, long[] pulseNanos, int frameCount, int peakActors, String qualityLevel, boolean complete) {
+        this.level = level;
+        this.sortedPulseNanos = Arrays.copyOf(pulseNanos, frameCount);
+        Arrays.sort(sortedPulseNanos);
+        long total = 0;
+        for (long pulse : sortedPulseNanos) {
+            total += pulse;
+        }
+        this.totalNanos = total;
+        this.peakActors = peakActors;
+        this.qualityLevel = qualityLevel;
+        this.complete = complete;
+    }
+
+    /**
+     * Retrieves a percentile of the pulse durations, using the nearest rank.
+     *
+     * @param percentile the percentile, between 0 and 100
+     * @return the pulse duration in milliseconds, or 0 if no pulse was measured
+     */
+    public double getPercentileMillis(double percentile) {
+        if (sortedPulseNanos.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * sortedPulseNanos.length);
+        return sortedPulseNanos[Math.max(0, Math.min(rank, sortedPulseNanos.length) - 1)] / 1e6;
+    }
+
+    /**
+     * Retrieves the mean pulse duration.
+     *
+     * @return the mean pulse duration in milliseconds, or 0 if no pulse was measured
+     */
+    public double getMeanMillis() {
+        return sortedPulseNanos.length == 0 ? 0 : totalNanos / 1e6 / sortedPulseNanos.length;
+    }
+
+    /**
+     * Retrieves the number of pulses the level sustained per second while it was measured.
+     *
+     * @return the frames per second, or 0 if no pulse was measured
+     */
+    public double getFramesPerSecond() {
+        return totalNanos == 0 ? 0 : sortedPulseNanos.length * 1e9 / totalNanos;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public int getFrameCount() {
+        return sortedPulseNanos.length;
+    }
+
+    public int getPeakActors() {
+        return peakActors;
+    }
+
+    public boolean isComplete() {
+        return complete;
+    }
+
+    /**
+     * Formats the result as a JSON object.
+     *
+     * @return the JSON object, on a single line
+     */
+    public String toJson() {
+        return String.format(Locale.ROOT,
+            "{\"level\":%d,\"frames\":%d,\"complete\":%b,\"seconds\":%.3f,\"fps\":%.2f,\"mean_ms\":%.3f,"
+                + "\"p50_ms\":%.3f,\"p95_ms\":%.3f,\"p99_ms\":%.3f,\"max_ms\":%.3f,\"peak_actors\":%d,\"quality\":\"%s\"}",
+            level, getFrameCount(), complete, totalNanos / 1e9, getFramesPerSecond(), getMeanMillis(),
+            getPercentileMillis(50), getPercentileMillis(95), getPercentileMillis(99), getPercentileMillis(100),
+            peakActors, qualityLevel);
+    }
+}
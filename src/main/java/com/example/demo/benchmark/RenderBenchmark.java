@@ -0,0 +1,281 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.GameSession;
+import com.example.demo.actor.plane.PlaneFactory;
+import com.example.demo.actor.plane.PlaneType;
+import com.example.demo.actor.plane.UserPlane;
+import com.example.demo.actor.projectile.ProjectileFactory;
+import com.example.demo.actor.projectile.ProjectileType;
+import com.example.demo.level.StressScenario;
+import com.example.demo.manager.ActorManager;
+import com.example.demo.manager.StateManager;
+import com.example.demo.state.GameState;
+import com.example.demo.state.LevelState;
+import com.example.demo.util.GameConstant;
+import com.example.demo.util.GameRandom;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * The RenderBenchmark class measures how long the JavaFX pulses of each level take under a
+ * scripted load, so the rendering cost can be compared between commits on machines without a display.
+ *
+ * <p>The benchmark goes to each requested level with {@link StateManager#goToLevel(int)} and keeps
+ * the requested number of enemy planes and enemy projectiles alive on top of what the level spawns
+ * itself. The players are kept alive by restoring their health every frame, so a level is only
+ * left early if it is won. After the warm-up frames, the time between consecutive pulses is recorded
+ * for the requested number of frames. With {@code -Djavafx.animation.fullspeed=true} JavaFX starts
+ * each pulse as soon as the previous one has been rendered, so this is the duration of a pulse:
+ * the game loop, CSS, layout and the rendering of the scene.</p>
+ *
+ * <p>The quality of the QualityGovernor is held at its current level, so every run renders the same
+ * effects however slow the machine is; {@code game.benchmark.adaptive=true} lets it adapt as usual.
+ * The results are written as a single JSON object, with the settings of the run and one entry per level.</p>
+ *
+ * <p>The benchmark is started with {@code --benchmark} or {@code -Dgame.benchmark=true}, and
+ * configured with the system properties below. On a machine without a display it runs on the
+ * Monocle headless platform with the software pipeline, as set up by the {@code render-benchmark}
+ * Maven profile.</p>
+ * <pre>
+ * -Dgame.benchmark.levels=1,2,3,4  -Dgame.benchmark.enemies=20  -Dgame.benchmark.projectiles=100
+ * -Dgame.benchmark.warmup=120  -Dgame.benchmark.frames=600  -Dgame.benchmark.out=render-benchmark.json
+ * </pre>
+ *
+ * @see <a href="https://github.com/swyannnn/CW2024/blob/master/src/main/java/com/example/demo/benchmark/RenderBenchmark.java">Github Source Code</a>
+ * @see BenchmarkResult
+ */
+public class RenderBenchmark {
+    private final StateManager stateManager;
+    private final GameSession session;
+    private final int[] levels;
+    private final int enemies;
+    private final int projectiles;
+    private final int warmupFrames;
+    private final int frames;
+    private final PlaneFactory planeFactory;
+    private final ProjectileFactory projectileFactory = new ProjectileFactory();
+    private final GameRandom random = new GameRandom(GameConstant.Benchmark.LOAD_SEED);
+    private final long[] pulseNanos;
+    private final List<BenchmarkResult> results = new ArrayList<>();
+    private final CompletableFuture<List<BenchmarkResult>> finished = new CompletableFuture<>();
+    private int levelIndex = -1;
+    private GameState levelState;
+    private int frame;
+    private int measuredFrames;
+    private long lastPulseAt;
+    private int peakActors;
+
+    /**
+     * Constructs a RenderBenchmark configured by the {@code game.benchmark} system properties.
+     *
+     * @param stateManager the StateManager used to go to each level
+     * @param session the GameSession holding the actors of the levels
+     * @throws IllegalArgumentException if a property has an invalid value
+     */
+    public RenderBenchmark(StateManager stateManager, GameSession session) {
+        this(stateManager, session,
+            parseLevels(System.getProperty(GameConstant.Benchmark.LEVELS_PROPERTY, GameConstant.Benchmark.DEFAULT_LEVELS)),
+            Integer.getInteger(GameConstant.Benchmark.ENEMIES_PROPERTY, GameConstant.Benchmark.DEFAULT_ENEMIES),
+            Integer.getInteger(GameConstant.Benchmark.PROJECTILES_PROPERTY, GameConstant.Benchmark.DEFAULT_PROJECTILES),
+            Integer.getInteger(GameConstant.Benchmark.WARMUP_FRAMES_PROPERTY, GameConstant.Benchmark.DEFAULT_WARMUP_FRAMES),
+            Integer.getInteger(GameConstant.Benchmark.FRAMES_PROPERTY, GameConstant.Benchmark.DEFAULT_FRAMES));
+        session.getGameLoopManager().getQualityGovernor().setAdaptive(Boolean.getBoolean(GameConstant.Benchmark.ADAPTIVE_PROPERTY));
+    }
+
+    /**
+     * Constructs a RenderBenchmark.
+     * The stress levels are registered, so they can be measured like the regular levels.
+     *
+     * @param stateManager the StateManager used to go to each level
+     * @param session the GameSession holding the actors of the levels
+     * @param levels the numbers of the levels to measure, in order
+     * @param enemies the number of enemy planes kept alive
+     * @param projectiles the number of enemy projectiles kept alive
+     * @param warmupFrames the number of frames played in each level before measuring
+     * @param frames the number of frames measured in each level
+     * @throws IllegalArgumentException if a count is negative or no frames are measured
+     */
+    public RenderBenchmark(StateManager stateManager, GameSession session, int[] levels,
+                           int enemies, int projectiles, int warmupFrames, int frames) {
+        if (levels.length == 0 || enemies < 0 || projectiles < 0 || warmupFrames < 0 || frames <= 0) {
+            throw new IllegalArgumentException("Benchmark needs levels, non-negative loads and a positive number of frames.");
+        }
+        this.stateManager = stateManager;
+        this.session = session;
+        this.levels = levels.clone();
+        this.enemies = enemies;
+        this.projectiles = projectiles;
+        this.warmupFrames = warmupFrames;
+        this.frames = frames;
+        this.planeFactory = new PlaneFactory(session.getActorManager());
+        this.pulseNanos = new long[frames];
+        StressScenario.registerAll();
+    }
+
+    /**
+     * Checks if the benchmark was requested on the command line or through the system property.
+     *
+     * @param args the raw launch arguments of the application
+     * @return true if the benchmark should be run, false otherwise
+     */
+    public static boolean isRequested(List<String> args) {
+        return args.contains(GameConstant.Benchmark.BENCHMARK_FLAG) || Boolean.getBoolean(GameConstant.Benchmark.BENCHMARK_PROPERTY);
+    }
+
+    /**
+     * Parses a comma separated list of level numbers.
+     *
+     * @param value the list
+     * @return the level numbers
+     * @throws IllegalArgumentException if a level number is not an integer
+     */
+    static int[] parseLevels(String value) {
+        String[] parts = value.split(",");
+        int[] parsed = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            parsed[i] = Integer.parseInt(parts[i].trim());
+        }
+        return parsed;
+    }
+
+    /**
+     * Runs one frame of the benchmark. Called by the game loop after the state was updated.
+     *
+     * @param now the timestamp of the current pulse in nanoseconds
+     */
+    public void update(long now) {
+        if (finished.isDone()) {
+            return;
+        }
+        if (levelIndex < 0) {
+            startLevel(0);
+            return;
+        }
+        if (stateManager.getCurrentState() != levelState) {
+            finishLevel(false); // The level was won
+            return;
+        }
+
+        applyLoad();
+        peakActors = Math.max(peakActors, session.getActorManager().getActorCount());
+        if (frame++ < warmupFrames) {
+            lastPulseAt = now;
+            return;
+        }
+        pulseNanos[measuredFrames++] = now - lastPulseAt;
+        lastPulseAt = now;
+        if (measuredFrames == frames) {
+            finishLevel(true);
+        }
+    }
+
+    /**
+     * Goes to a level of the benchmark, or finishes the benchmark after the last one.
+     *
+     * @param index the index of the level in the list of levels
+     */
+    private void startLevel(int index) {
+        levelIndex = index;
+        frame = 0;
+        measuredFrames = 0;
+        peakActors = 0;
+        if (index >= levels.length) {
+            finished.complete(Collections.unmodifiableList(results));
+            return;
+        }
+        stateManager.goToLevel(levels[index]);
+        levelState = stateManager.getCurrentState();
+        if (!(levelState instanceof LevelState)) {
+            System.err.println("Benchmark level " + levels[index] + " does not exist.");
+        }
+    }
+
+    /**
+     * Records the result of the current level and goes to the next one.
+     *
+     * @param complete true if every requested frame was measured
+     */
+    private void finishLevel(boolean complete) {
+        BenchmarkResult result = new BenchmarkResult(levels[levelIndex], pulseNanos, measuredFrames, peakActors,
+            session.getGameLoopManager().getQualityGovernor().getLevel().name(), complete);
+        results.add(result);
+        System.out.println("Benchmark: " + result.toJson());
+        startLevel(levelIndex + 1);
+    }
+
+    /**
+     * Tops up the scripted enemy planes and projectiles and restores the health of the players.
+     */
+    private void applyLoad() {
+        ActorManager actorManager = session.getActorManager();
+        for (int i = actorManager.getEnemyUnits().size(); i < enemies; i++) {
+            actorManager.addActor(planeFactory.createPlane(PlaneType.ENEMY_PLANE));
+        }
+        double width = GameConstant.GameSettings.SCREEN_WIDTH;
+        for (int i = actorManager.getEnemyProjectiles().size(); i < projectiles; i++) {
+            actorManager.addActor(projectileFactory.createProjectile(ProjectileType.ENEMY,
+                width / 2 + random.nextDouble() * width / 2, random.nextDouble() * GameConstant.GameSettings.SCREEN_HEIGHT));
+        }
+        for (UserPlane player : actorManager.getPlayers()) {
+            player.setHealth(GameConstant.UserPlane.INITIAL_HEALTH);
+        }
+    }
+
+    /**
+     * Retrieves the future completed with the results of all levels once the benchmark is finished.
+     *
+     * @return the future results
+     */
+    public CompletableFuture<List<BenchmarkResult>> getFinished() {
+        return finished;
+    }
+
+    /**
+     * Writes the settings of the run and the results of all levels to a JSON file.
+     *
+     * @param file the file to write
+     * @throws IOException if the file cannot be written
+     */
+    public void writeReport(Path file) throws IOException {
+        if (file.toAbsolutePath().getParent() != null) {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+        }
+        try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+            writer.write("{");
+            writer.newLine();
+            writer.write("  \"java\": \"" + System.getProperty("java.version") + "\",");
+            writer.newLine();
+            writer.write("  \"javafx\": \"" + System.getProperty("javafx.runtime.version", "unknown") + "\",");
+            writer.newLine();
+            writer.write("  \"glass\": \"" + System.getProperty("glass.platform", "default") + "\",");
+            writer.newLine();
+            writer.write("  \"prism\": \"" + System.getProperty("prism.order", "default") + "\",");
+            writer.newLine();
+            writer.write("  \"enemies\": " + enemies + ",");
+            writer.newLine();
+            writer.write("  \"projectiles\": " + projectiles + ",");
+            writer.newLine();
+            writer.write("  \"warmup_frames\": " + warmupFrames + ",");
+            writer.newLine();
+            writer.write("  \"frames\": " + frames + ",");
+            writer.newLine();
+            writer.write("  \"levels\": [");
+            writer.newLine();
+            for (int i = 0; i < results.size(); i++) {
+                writer.write("    " + results.get(i).toJson() + (i < results.size() - 1 ? "," : ""));
+                writer.newLine();
+            }
+            writer.write("  ]");
+            writer.newLine();
+            writer.write("}");
+            writer.newLine();
+        }
+    }
+}
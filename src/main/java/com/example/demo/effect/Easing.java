@@ -0,0 +1,42 @@
+package com.example.demo.effect;
+
+/**
+ * The Easing enum defines how a tween's progress is shaped over its duration.
+ * Each easing maps the linear progress of a tween, from 0 to 1, to the eased progress.
+ *
+ * @see <a href="https://github.com/swyannnn/CW2024/blob/master/src/main/java/com/example/demo/effect/Easing.java">Github Source Code</a>
+ * @see Tween
+ */
+public enum Easing {
+    /** Constant speed. */
+    LINEAR,
+    /** Starts slowly and speeds up. */
+    EASE_IN,
+    /** Starts quickly and slows down. */
+    EASE_OUT,
+    /** Starts and ends slowly. */
+    EASE_IN_OUT,
+    /** Jumps between whole values, for frame-by-frame animations. */
+    STEP;
+
+    /**
+     * Applies the easing to a linear progress.
+     *
+     * @param t the linear progress, from 0 to 1
+     * @return the eased progress, from 0 to 1
+     */
+    public double apply(double t) {
+        switch (this) {
+            case EASE_IN:
+                return t * t;
+            case EASE_OUT:
+                return 1 - (1 - t) * (1 - t);
+            case EASE_IN_OUT:
+                return t < 0.5 ? 2 * t * t : 1 - 2 * (1 - t) * (1 - t);
+            case STEP:
+                return t >= 1 ? 1 : 0;
+            default:
+                return t;
+        }
+    }
+}
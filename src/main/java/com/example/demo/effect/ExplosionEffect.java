@@ -1,35 +1,38 @@
 package com.example.demo.effect;
 
 import com.example.demo.manager.ImageManager;
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
-import javafx.event.ActionEvent;
-import javafx.event.EventHandler;
+import javafx.scene.Node;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
-import javafx.util.Duration;
 
 
 /**
  * The ExplosionEffect class represents an explosion animation effect.
- * It initializes an ImageView for the explosion and creates a Timeline
- * to animate the explosion frames.
+ * It initializes an ImageView for the explosion and steps through the explosion
+ * frames with a tween on the session's TweenEngine, so the explosion pauses with the game.
  * 
  * @see <a href="https://github.com/swyannnn/CW2024/blob/master/src/main/java/com/example/demo/effect/ExplosionEffect.java">Github Source Code</a>
+ * @see TweenEngine
  */
-public class ExplosionEffect {
+public class ExplosionEffect implements TweenTarget {
+    private static final int FRAME_COUNT = 7;
+    private static final long FRAME_DURATION_NANOS = 100_000_000L; // 100 ms per frame
+    private final TweenEngine tweenEngine;
+    private final Image[] explosionImages;
     private final ImageView explosionView;
-    private final Timeline timeline;
+    private TweenListener onFinished;
 
     /**
      * Constructs an ExplosionEffect at the specified coordinates.
      *
+     * @param tweenEngine The TweenEngine that runs the animation.
      * @param x The X position of the explosion.
      * @param y The Y position of the explosion.
      */
-    public ExplosionEffect(double x, double y) {
+    public ExplosionEffect(TweenEngine tweenEngine, double x, double y) {
+        this.tweenEngine = tweenEngine;
+        this.explosionImages = ImageManager.getImageSequence("explosion", FRAME_COUNT);
         this.explosionView = initializeExplosionView(x, y);
-        this.timeline = createExplosionAnimation();
     }
 
     /**
@@ -40,8 +43,6 @@ public class ExplosionEffect {
      * @return The initialized ImageView.
      */
     private ImageView initializeExplosionView(double x, double y) {
-        Image[] explosionImages = ImageManager.getImageSequence("explosion", 7);
-
         // Initialize the ImageView with the first explosion frame
         ImageView imageView = new ImageView(explosionImages[0]);
         imageView.setTranslateX(x);
@@ -53,46 +54,34 @@ public class ExplosionEffect {
     }
 
     /**
-     * Creates the explosion animation timeline.
+     * Shows the explosion frame for the current value of the tween.
      *
-     * @return The configured Timeline for the explosion animation.
+     * @param node The explosion view.
+     * @param value The index of the frame, with the fraction ignored.
      */
-    private Timeline createExplosionAnimation() {
-        // Retrieve the explosion image sequence
-        Image[] explosionImages = ImageManager.getImageSequence("explosion", 7);
-
-        Timeline explosionTimeline = new Timeline();
-
-        // Add KeyFrames to the timeline for each explosion image
-        for (int i = 0; i < explosionImages.length; i++) {
-            final int frameIndex = i;
-            KeyFrame keyFrame = new KeyFrame(
-                Duration.millis(100 * i), // 100 ms per frame
-                event -> explosionView.setImage(explosionImages[frameIndex])
-            );
-            explosionTimeline.getKeyFrames().add(keyFrame);
-        }
-
-        // Ensure the timeline plays only once
-        explosionTimeline.setCycleCount(1);
-
-        return explosionTimeline;
+    @Override
+    public void apply(Node node, double value) {
+        int frame = Math.min((int) value, explosionImages.length - 1);
+        explosionView.setImage(explosionImages[frame]);
     }
 
     /**
      * Starts the explosion animation.
+     * Each frame is shown for 100 ms of game time, and the animation finishes as the last frame is reached.
      */
     public void play() {
-        timeline.play();
+        tweenEngine.start(explosionView, this, 0, explosionImages.length - 1, FRAME_DURATION_NANOS * (explosionImages.length - 1))
+            .setOnFinished(onFinished);
     }
 
     /**
-     * Sets a callback to be executed when the explosion animation finishes.
+     * Sets the listener to be notified when the explosion animation finishes.
+     * Must be set before the animation is played.
      *
-     * @param handler The event handler to execute on animation completion.
+     * @param listener The listener to notify on animation completion; it receives the explosion view.
      */
-    public void setOnFinished(EventHandler<ActionEvent> handler) {
-        timeline.setOnFinished(handler);
+    public void setOnFinished(TweenListener listener) {
+        this.onFinished = listener;
     }
 
     /**
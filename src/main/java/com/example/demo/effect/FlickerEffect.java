@@ -1,33 +1,37 @@
 package com.example.demo.effect;
 
-import javafx.animation.FadeTransition;
-import javafx.animation.SequentialTransition;
 import javafx.scene.Node;
-import javafx.util.Duration;
 
 /**
  * The FlickerEffect class provides a reusable flicker animation for JavaFX Nodes.
  * It handles the visual flickering by alternating the opacity of the target node.
  * 
+ * <p>The flicker is a single yoyo tween on the session's TweenEngine: each cycle fades the
+ * node out or back in, so the flicker pauses with the game and triggering it allocates nothing.</p>
+ * 
  * @see <a href="https://github.com/swyannnn/CW2024/blob/master/src/main/java/com/example/demo/effect/FlickerEffect.java">Github Source Code</a>
+ * @see TweenEngine
  */
-public class FlickerEffect {
+public class FlickerEffect implements TweenListener {
+    private final TweenEngine tweenEngine;
     private final Node target;
     private final int flickerCount;
-    private final double fadeDurationMillis;
+    private final long fadeDurationNanos;
     private boolean isFlickering = false;
 
     /**
      * Constructs a FlickerEffect with the specified parameters.
      *
+     * @param tweenEngine        the TweenEngine that runs the flicker
      * @param target             the JavaFX Node to apply the flicker effect to
      * @param flickerCount       the number of times the node should flicker
      * @param fadeDurationMillis the duration of each fade in/out in milliseconds
      */
-    public FlickerEffect(Node target, int flickerCount, double fadeDurationMillis) {
+    public FlickerEffect(TweenEngine tweenEngine, Node target, int flickerCount, double fadeDurationMillis) {
+        this.tweenEngine = tweenEngine;
         this.target = target;
         this.flickerCount = flickerCount;
-        this.fadeDurationMillis = fadeDurationMillis;
+        this.fadeDurationNanos = (long) (fadeDurationMillis * 1_000_000);
     }
 
     /**
@@ -35,32 +39,26 @@ public class FlickerEffect {
      * If the node is already flickering, subsequent calls are ignored until the current flicker completes.
      */
     public void trigger() {
-        if (isFlickering) {
+        if (isFlickering || flickerCount <= 0) {
             return; // Prevent multiple concurrent flickers
         }
 
         isFlickering = true;
+        // Fade out and back in, once per flicker
+        tweenEngine.start(target, TweenProperty.OPACITY, 1.0, 0.0, fadeDurationNanos)
+            .setCycles(flickerCount * 2)
+            .setYoyo(true)
+            .setOnFinished(this);
+    }
 
-        SequentialTransition flickerTransition = new SequentialTransition();
-
-        for (int i = 0; i < flickerCount; i++) {
-            // Fade out
-            FadeTransition fadeOut = new FadeTransition(Duration.millis(fadeDurationMillis), target);
-            fadeOut.setFromValue(1.0);
-            fadeOut.setToValue(0.0);
-
-            // Fade in
-            FadeTransition fadeIn = new FadeTransition(Duration.millis(fadeDurationMillis), target);
-            fadeIn.setFromValue(0.0);
-            fadeIn.setToValue(1.0);
-
-            // Add both fade transitions to the sequential transition
-            flickerTransition.getChildren().addAll(fadeOut, fadeIn);
-        }
-
-        // Reset the flicker flag once the animation completes
-        flickerTransition.setOnFinished(event -> isFlickering = false);
-        flickerTransition.play();
+    /**
+     * Resets the flicker flag once the flicker completes.
+     *
+     * @param node the node that flickered
+     */
+    @Override
+    public void onTweenFinished(Node node) {
+        isFlickering = false;
     }
 
     /**
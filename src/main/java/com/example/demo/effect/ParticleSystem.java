@@ -0,0 +1,283 @@
+package com.example.demo.effect;
+
+import com.example.demo.util.GameConstant;
+import com.example.demo.util.GameConstant.ParticleStyle;
+
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+
+import java.util.SplittableRandom;
+
+/**
+ * The ParticleSystem class simulates and draws the small particles of the game's effects,
+ * such as engine exhaust, sparks from hits, debris from destroyed planes and the burst of a
+ * boss changing phase.
+ *
+ * <p>Particles are not scene graph nodes. Their state is kept in parallel primitive arrays
+ * (position, velocity, remaining and total life, size and style), which are updated in a
+ * single tight loop; dead particles are replaced by the last live one, so the live particles
+ * always fill the front of the arrays. All particles are drawn onto one Canvas layer, with the
+ * fill colors taken from a palette built once per style and fade level, so neither updating
+ * nor drawing allocates. The arrays are allocated on the first emission, so sessions that never
+ * show effects, such as headless simulations, do not pay for them.</p>
+ *
+ * <p>The GameLoopManager updates the system once per simulation tick, so particles pause and
+ * scale with the game clock, and draws it once per frame. The randomness of particles is
+ * their own and never touches the session's GameRandom, so effects cannot change the course
+ * of a game. A ParticleSystem is not thread-safe and is used from the thread that runs the game loop.</p>
+ *
+ * @see <a href="https://github.com/swyannnn/CW2024/blob/master/src/main/java/com/example/demo/effect/ParticleSystem.java">Github Source Code</a>
+ * @see ParticleStyle
+ * @see com.example.demo.manager.GameLoopManager
+ */
+public class ParticleSystem {
+    private static final ParticleStyle[] STYLES = ParticleStyle.values();
+    private static final int ALPHA_LEVELS = GameConstant.Particles.ALPHA_LEVELS;
+    private static final double WIDTH = GameConstant.GameSettings.SCREEN_WIDTH;
+    private static final double HEIGHT = GameConstant.GameSettings.SCREEN_HEIGHT;
+    private static final Color[] PALETTE = createPalette();
+
+    private final int capacity;
+    private final SplittableRandom random = new SplittableRandom(0);
+    private float[] x;
+    private float[] y;
+    private float[] velocityX;
+    private float[] velocityY;
+    private float[] life;
+    private float[] maxLife;
+    private byte[] style;
+    private int count;
+    private double density = 1.0;
+    private Canvas canvas;
+    private boolean canvasDirty;
+
+    /**
+     * Constructs a ParticleSystem with the capacity from GameConstant.Particles.
+     */
+    public ParticleSystem() {
+        this(GameConstant.Particles.CAPACITY);
+    }
+
+    /**
+     * Constructs a ParticleSystem holding up to the given number of particles.
+     *
+     * @param capacity the number of particles that can be alive at once
+     * @throws IllegalArgumentException if the capacity is not positive
+     */
+    public ParticleSystem(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+    }
+
+    /**
+     * Creates the fill color of every style at every fade level.
+     *
+     * @return the palette, indexed by style ordinal times the number of fade levels plus the level
+     */
+    private static Color[] createPalette() {
+        Color[] palette = new Color[STYLES.length * ALPHA_LEVELS];
+        for (int s = 0; s < STYLES.length; s++) {
+            int argb = STYLES[s].getArgb();
+            double alpha = (argb >>> 24) / 255.0;
+            for (int level = 0; level < ALPHA_LEVELS; level++) {
+                palette[s * ALPHA_LEVELS + level] = Color.rgb((argb >> 16) & 0xFF, (argb >> 8) & 0xFF, argb & 0xFF,
+                    alpha * (level + 1) / ALPHA_LEVELS);
+            }
+        }
+        return palette;
+    }
+
+    /**
+     * Emits the usual number of particles of a style, scaled by the density.
+     *
+     * @param particleStyle the style of the particles
+     * @param originX the X position to emit from
+     * @param originY the Y position to emit from
+     */
+    public void emit(ParticleStyle particleStyle, double originX, double originY) {
+        emit(particleStyle, originX, originY, (int) Math.round(particleStyle.getCount() * density));
+    }
+
+    /**
+     * Sets the share of the usual number of particles emitted by {@link #emit(ParticleStyle, double, double)}.
+     * Lowered by the QualityGovernor on slow machines.
+     *
+     * @param density the share of particles to emit, from 0 to 1
+     * @throws IllegalArgumentException if the density is outside of 0 to 1
+     */
+    public void setDensity(double density) {
+        if (density < 0 || density > 1) {
+            throw new IllegalArgumentException("Density must be between 0 and 1: " + density);
+        }
+        this.density = density;
+    }
+
+    /**
+     * Emits particles of a style. Particles that do not fit within the capacity are dropped.
+     *
+     * @param particleStyle the style of the particles
+     * @param originX the X position to emit from
+     * @param originY the Y position to emit from
+     * @param amount the number of particles to emit
+     */
+    public void emit(ParticleStyle particleStyle, double originX, double originY, int amount) {
+        if (x == null) {
+            allocate();
+        }
+        int end = Math.min(capacity, count + amount);
+        double direction = Math.toRadians(particleStyle.getDirection());
+        double spread = Math.toRadians(particleStyle.getSpread());
+        byte ordinal = (byte) particleStyle.ordinal();
+        for (int i = count; i < end; i++) {
+            double angle = direction + (random.nextDouble() * 2 - 1) * spread;
+            double speed = particleStyle.getSpeed() * (0.4 + 0.6 * random.nextDouble());
+            float lifetime = particleStyle.getLifeSeconds() * (float) (0.6 + 0.4 * random.nextDouble());
+            x[i] = (float) originX;
+            y[i] = (float) originY;
+            velocityX[i] = (float) (Math.cos(angle) * speed);
+            velocityY[i] = (float) (Math.sin(angle) * speed);
+            life[i] = lifetime;
+            maxLife[i] = lifetime;
+            style[i] = ordinal;
+        }
+        count = end;
+    }
+
+    /**
+     * Allocates the particle arrays.
+     */
+    private void allocate() {
+        x = new float[capacity];
+        y = new float[capacity];
+        velocityX = new float[capacity];
+        velocityY = new float[capacity];
+        life = new float[capacity];
+        maxLife = new float[capacity];
+        style = new byte[capacity];
+    }
+
+    /**
+     * Advances every particle by a step of game time, removing the particles whose life ran out.
+     *
+     * @param deltaSeconds the step of game time, in seconds
+     */
+    public void update(double deltaSeconds) {
+        float dt = (float) deltaSeconds;
+        int i = 0;
+        while (i < count) {
+            float remaining = life[i] - dt;
+            if (remaining <= 0) {
+                moveLastTo(i);
+                continue;
+            }
+            life[i] = remaining;
+            velocityY[i] += STYLES[style[i]].getGravity() * dt;
+            x[i] += velocityX[i] * dt;
+            y[i] += velocityY[i] * dt;
+            i++;
+        }
+    }
+
+    /**
+     * Replaces a dead particle by the last live particle.
+     *
+     * @param index the index of the dead particle
+     */
+    private void moveLastTo(int index) {
+        int last = --count;
+        x[index] = x[last];
+        y[index] = y[last];
+        velocityX[index] = velocityX[last];
+        velocityY[index] = velocityY[last];
+        life[index] = life[last];
+        maxLife[index] = maxLife[last];
+        style[index] = style[last];
+    }
+
+    /**
+     * Draws the particles onto the canvas, fading each one out over its life.
+     * Does nothing if the canvas has not been created.
+     */
+    public void render() {
+        if (canvas == null || (count == 0 && !canvasDirty)) {
+            return;
+        }
+        GraphicsContext graphics = canvas.getGraphicsContext2D();
+        // Clearing the whole canvas also discards the drawing commands of the previous frame
+        graphics.clearRect(0, 0, WIDTH, HEIGHT);
+        int currentFill = -1;
+        for (int i = 0; i < count; i++) {
+            int level = Math.min(ALPHA_LEVELS - 1, (int) (life[i] / maxLife[i] * ALPHA_LEVELS));
+            int fill = style[i] * ALPHA_LEVELS + level;
+            if (fill != currentFill) {
+                graphics.setFill(PALETTE[fill]);
+                currentFill = fill;
+            }
+            float size = STYLES[style[i]].getSize();
+            graphics.fillRect(x[i] - size / 2, y[i] - size / 2, size, size);
+        }
+        canvasDirty = count > 0;
+    }
+
+    /**
+     * Retrieves the canvas the particles are drawn on, creating it on first use.
+     * The canvas covers the screen and lets mouse events through to the nodes below it.
+     *
+     * @return the canvas layer of the particles
+     */
+    public Canvas getCanvas() {
+        if (canvas == null) {
+            canvas = new Canvas(WIDTH, HEIGHT);
+            canvas.setMouseTransparent(true);
+        }
+        return canvas;
+    }
+
+    /**
+     * Removes every particle. The canvas is cleared on the next render.
+     */
+    public void clear() {
+        count = 0;
+    }
+
+    /**
+     * Retrieves the number of live particles.
+     *
+     * @return the number of particles
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Retrieves the number of particles that can be alive at once.
+     *
+     * @return the capacity
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Retrieves the X position of a live particle.
+     *
+     * @param index the index of the particle, below {@link #getCount()}
+     * @return the X position
+     */
+    public float getX(int index) {
+        return x[index];
+    }
+
+    /**
+     * Retrieves the Y position of a live particle.
+     *
+     * @param index the index of the particle, below {@link #getCount()}
+     * @return the Y position
+     */
+    public float getY(int index) {
+        return y[index];
+    }
+}
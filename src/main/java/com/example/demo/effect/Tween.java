@@ -0,0 +1,157 @@
+package com.example.demo.effect;
+
+import javafx.scene.Node;
+
+/**
+ * The Tween class animates one property of a node from one value to another over a duration
+ * of game time. Tweens are started and recycled by a TweenEngine.
+ *
+ * <p>A tween may run for several cycles, and with yoyo enabled every other cycle runs
+ * backwards, which turns a fade out into a flicker. The setters return the tween so it can
+ * be configured right after it is started. Because tweens are pooled, a Tween must not be
+ * kept after it finished or was cancelled.</p>
+ *
+ * @see <a href="https://github.com/swyannnn/CW2024/blob/master/src/main/java/com/example/demo/effect/Tween.java">Github Source Code</a>
+ * @see TweenEngine
+ */
+public class Tween {
+    private Node node;
+    private TweenTarget target;
+    private double from;
+    private double to;
+    private long startTime;
+    private long durationNanos;
+    private int cycles;
+    private boolean yoyo;
+    private Easing easing;
+    private TweenListener listener;
+
+    /**
+     * Constructs an unused Tween. Tweens are created by the TweenEngine.
+     */
+    Tween() {
+    }
+
+    /**
+     * Resets the tween for a new animation.
+     *
+     * @param node the node to animate
+     * @param target the property to animate
+     * @param from the value at the start of a cycle
+     * @param to the value at the end of a cycle
+     * @param startTime the game time the tween starts at, in nanoseconds
+     * @param durationNanos the duration of one cycle, in nanoseconds
+     */
+    void reset(Node node, TweenTarget target, double from, double to, long startTime, long durationNanos) {
+        this.node = node;
+        this.target = target;
+        this.from = from;
+        this.to = to;
+        this.startTime = startTime;
+        this.durationNanos = Math.max(1, durationNanos);
+        this.cycles = 1;
+        this.yoyo = false;
+        this.easing = Easing.LINEAR;
+        this.listener = null;
+    }
+
+    /**
+     * Releases the references of the tween before it is returned to the pool.
+     */
+    void release() {
+        node = null;
+        target = null;
+        listener = null;
+    }
+
+    /**
+     * Applies the value of the tween at the given game time.
+     *
+     * @param now the current game time, in nanoseconds
+     * @return true if the tween has finished, false otherwise
+     */
+    boolean apply(long now) {
+        long elapsed = Math.max(0, now - startTime);
+        long cycle = elapsed / durationNanos;
+        boolean finished = cycle >= cycles;
+        double t;
+        if (finished) {
+            cycle = cycles - 1;
+            t = 1;
+        } else {
+            t = (elapsed - cycle * durationNanos) / (double) durationNanos;
+        }
+        double progress = easing.apply(t);
+        if (yoyo && cycle % 2 == 1) {
+            progress = 1 - progress;
+        }
+        target.apply(node, from + (to - from) * progress);
+        return finished;
+    }
+
+    /**
+     * Sets the easing of the tween.
+     *
+     * @param easing the easing
+     * @return this tween
+     */
+    public Tween setEasing(Easing easing) {
+        this.easing = easing;
+        return this;
+    }
+
+    /**
+     * Sets the number of cycles the tween runs for.
+     *
+     * @param cycles the number of cycles, at least 1
+     * @return this tween
+     * @throws IllegalArgumentException if the number of cycles is less than 1
+     */
+    public Tween setCycles(int cycles) {
+        if (cycles < 1) {
+            throw new IllegalArgumentException("Cycles must be at least 1: " + cycles);
+        }
+        this.cycles = cycles;
+        return this;
+    }
+
+    /**
+     * Sets whether every other cycle runs backwards.
+     *
+     * @param yoyo true to run every other cycle backwards
+     * @return this tween
+     */
+    public Tween setYoyo(boolean yoyo) {
+        this.yoyo = yoyo;
+        return this;
+    }
+
+    /**
+     * Sets the listener notified when the tween finishes. It is not notified if the tween is cancelled.
+     *
+     * @param listener the listener, or null
+     * @return this tween
+     */
+    public Tween setOnFinished(TweenListener listener) {
+        this.listener = listener;
+        return this;
+    }
+
+    /**
+     * Retrieves the node animated by the tween.
+     *
+     * @return the node
+     */
+    public Node getNode() {
+        return node;
+    }
+
+    /**
+     * Retrieves the listener notified when the tween finishes.
+     *
+     * @return the listener, or null
+     */
+    TweenListener getListener() {
+        return listener;
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.demo.effect;
+
+import javafx.scene.Node;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * The TweenEngine class runs every tween of a game session, such as flickers and explosions,
+ * on the session's game clock instead of on separate JavaFX animations.
+ *
+ * <p>The GameLoopManager updates the engine once per simulation tick with the simulation time,
+ * so all effects stop while the game is paused, follow the clock's time scale, and replay
+ * the same way for the same ticks. Tween records are pooled: once the pool has warmed up,
+ * starting and finishing a tween allocates nothing.</p>
+ *
+ * <p>A TweenEngine is not thread-safe and is used from the thread that runs the game loop.</p>
+ *
+ * @see <a href="https://github.com/swyannnn/CW2024/blob/master/src/main/java/com/example/demo/effect/TweenEngine.java">Github Source Code</a>
+ * @see Tween
+ * @see com.example.demo.manager.GameLoopManager
+ */
+public class TweenEngine {
+    private final List<Tween> active = new ArrayList<>();
+    private final Deque<Tween> pool = new ArrayDeque<>();
+    private final List<Tween> finished = new ArrayList<>();
+    private long currentTime;
+
+    /**
+     * Starts a tween at the current game time.
+     *
+     * @param node the node to animate
+     * @param target the property to animate
+     * @param from the value at the start of a cycle
+     * @param to the value at the end of a cycle
+     * @param durationNanos the duration of one cycle, in nanoseconds of game time
+     * @return the started tween, to be configured right away and not kept after it finishes
+     */
+    public Tween start(Node node, TweenTarget target, double from, double to, long durationNanos) {
+        Tween tween = pool.isEmpty() ? new Tween() : pool.pop();
+        tween.reset(node, target, from, to, currentTime, durationNanos);
+        target.apply(node, from);
+        active.add(tween);
+        return tween;
+    }
+
+    /**
+     * Advances every tween to the given game time and notifies the listeners of those that finished.
+     * Listeners are notified once all tweens were advanced, so they may start or cancel tweens;
+     * tweens they start are first advanced on the next update.
+     *
+     * @param now the current game time, in nanoseconds
+     */
+    public void update(long now) {
+        currentTime = now;
+        int kept = 0;
+        for (int i = 0; i < active.size(); i++) {
+            Tween tween = active.get(i);
+            if (tween.apply(now)) {
+                finished.add(tween);
+            } else {
+                active.set(kept++, tween);
+            }
+        }
+        truncate(kept);
+
+        for (int i = 0; i < finished.size(); i++) {
+            Tween tween = finished.get(i);
+            TweenListener listener = tween.getListener();
+            Node node = tween.getNode();
+            recycle(tween);
+            if (listener != null) {
+                listener.onTweenFinished(node);
+            }
+        }
+        finished.clear();
+    }
+
+    /**
+     * Cancels every tween of a node, leaving its properties at their current values.
+     * The listeners of the cancelled tweens are not notified.
+     *
+     * @param node the node whose tweens are cancelled
+     */
+    public void cancel(Node node) {
+        int kept = 0;
+        for (int i = 0; i < active.size(); i++) {
+            Tween tween = active.get(i);
+            if (tween.getNode() == node) {
+                recycle(tween);
+            } else {
+                active.set(kept++, tween);
+            }
+        }
+        truncate(kept);
+    }
+
+    /**
+     * Finishes every tween at its end value and notifies the listeners, so effects such as explosions
+     * remove their views, then releases the nodes the tweens reference.
+     * Tweens started by the listeners are cancelled without being notified.
+     */
+    public void clear() {
+        for (int i = 0; i < active.size(); i++) {
+            Tween tween = active.get(i);
+            tween.apply(Long.MAX_VALUE);
+            finished.add(tween);
+        }
+        active.clear();
+
+        for (int i = 0; i < finished.size(); i++) {
+            Tween tween = finished.get(i);
+            TweenListener listener = tween.getListener();
+            Node node = tween.getNode();
+            recycle(tween);
+            if (listener != null) {
+                listener.onTweenFinished(node);
+            }
+        }
+        finished.clear();
+
+        for (int i = 0; i < active.size(); i++) {
+            recycle(active.get(i));
+        }
+        active.clear();
+    }
+
+    /**
+     * Retrieves the number of tweens running.
+     *
+     * @return the number of active tweens
+     */
+    public int getActiveCount() {
+        return active.size();
+    }
+
+    /**
+     * Retrieves the number of finished tweens kept for reuse.
+     *
+     * @return the number of pooled tweens
+     */
+    public int getPooledCount() {
+        return pool.size();
+    }
+
+    /**
+     * Releases a tween and returns it to the pool.
+     *
+     * @param tween the tween to recycle
+     */
+    private void recycle(Tween tween) {
+        tween.release();
+        pool.push(tween);
+    }
+
+    /**
+     * Removes the tweens after the given index.
+     *
+     * @param size the number of tweens to keep
+     */
+    private void truncate(int size) {
+        for (int i = active.size() - 1; i >= size; i--) {
+            active.remove(i);
+        }
+    }
+}
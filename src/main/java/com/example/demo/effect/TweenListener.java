@@ -0,0 +1,20 @@
+package com.example.demo.effect;
+
+import javafx.scene.Node;
+
+/**
+ * The TweenListener interface is notified when a tween finishes.
+ * The node of the tween is passed along, so a single listener can serve every tween
+ * it starts without a callback object per tween.
+ *
+ * @see <a href="https://github.com/swyannnn/CW2024/blob/master/src/main/java/com/example/demo/effect/TweenListener.java">Github Source Code</a>
+ * @see Tween
+ */
+public interface TweenListener {
+    /**
+     * Handles the end of a tween. Called after the final value was applied.
+     *
+     * @param node the node that was tweened
+     */
+    void onTweenFinished(Node node);
+}
@@ -0,0 +1,45 @@
+package com.example.demo.effect;
+
+import javafx.scene.Node;
+
+/**
+ * The TweenProperty enum lists the node properties tweens commonly animate.
+ *
+ * @see <a href="https://github.com/swyannnn/CW2024/blob/master/src/main/java/com/example/demo/effect/TweenProperty.java">Github Source Code</a>
+ * @see TweenTarget
+ */
+public enum TweenProperty implements TweenTarget {
+    OPACITY,
+    TRANSLATE_X,
+    TRANSLATE_Y,
+    SCALE,
+    ROTATE;
+
+    /**
+     * Writes the value to the property of the node.
+     *
+     * @param node the node being tweened
+     * @param value the current value of the tween
+     */
+    @Override
+    public void apply(Node node, double value) {
+        switch (this) {
+            case OPACITY:
+                node.setOpacity(value);
+                break;
+            case TRANSLATE_X:
+                node.setTranslateX(value);
+                break;
+            case TRANSLATE_Y:
+                node.setTranslateY(value);
+                break;
+            case SCALE:
+                node.setScaleX(value);
+                node.setScaleY(value);
+                break;
+            case ROTATE:
+                node.setRotate(value);
+                break;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.demo.effect;
+
+import javafx.scene.Node;
+
+/**
+ * The TweenTarget interface writes the value of a tween to a property of a node.
+ * Common properties are provided by TweenProperty; effects with their own properties,
+ * such as the frames of an explosion, implement this interface once and share the instance.
+ *
+ * @see <a href="https://github.com/swyannnn/CW2024/blob/master/src/main/java/com/example/demo/effect/TweenTarget.java">Github Source Code</a>
+ * @see TweenProperty
+ * @see Tween
+ */
+@FunctionalInterface
+public interface TweenTarget {
+    /**
+     * Writes a value of the tween to the node.
+     *
+     * @param node the node being tweened
+     * @param value the current value of the tween
+     */
+    void apply(Node node, double value);
+}
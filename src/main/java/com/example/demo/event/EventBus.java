@@ -0,0 +1,178 @@
+package com.example.demo.event;
+
+import com.example.demo.handler.GameEventHandler;
+import com.example.demo.manager.MetricsManager;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The EventBus class delivers typed events from the component that publishes them to the
+ * handlers subscribed to their type. It replaces string-keyed property change events, so
+ * an event carries its own fields instead of boxed old and new values.
+ *
+ * <p>Handlers are kept in one array per event type. Subscribing and cancelling copy the array,
+ * which only happens when states change, while publishing reads the current array and calls
+ * each handler in order, without iterators, boxing or event wrappers. A handler that
+ * subscribes or cancels during a publish takes effect from the next publish.</p>
+ *
+ * <p>Subscriptions are usually made through an {@link EventScope}, which cancels all of them
+ * at once when the owner of the scope is cleaned up. Each GameSession owns its own bus, which
+ * reports the number of handlers for each event type as a gauge named
+ * {@code event_subscribers_<type>}, so a leaked subscription shows up as a growing count.</p>
+ *
+ * @see <a href="https://github.com/swyannnn/CW2024/blob/master/src/main/java/com/example/demo/event/EventBus.java">Github Source Code</a>
+ * @see EventScope
+ * @see GameEventHandler
+ */
+public class EventBus {
+    private static final GameEventHandler<?>[] NO_HANDLERS = new GameEventHandler<?>[0];
+    private static final String METRICS_PREFIX = "event_subscribers_";
+    private final Map<Class<?>, GameEventHandler<?>[]> handlers = new ConcurrentHashMap<>();
+    private final boolean reportMetrics;
+
+    /**
+     * Constructs an EventBus that does not report metrics.
+     */
+    public EventBus() {
+        this(false);
+    }
+
+    /**
+     * Constructs an EventBus.
+     *
+     * @param reportMetrics whether to register a subscriber count gauge for each event type
+     */
+    public EventBus(boolean reportMetrics) {
+        this.reportMetrics = reportMetrics;
+    }
+
+    /**
+     * Subscribes a handler to the events of a type.
+     *
+     * @param type the class of the events to handle
+     * @param handler the handler to call for each event
+     * @param <T> the type of the events
+     * @return the Subscription, used to remove the handler
+     */
+    public synchronized <T> Subscription subscribe(Class<T> type, GameEventHandler<? super T> handler) {
+        GameEventHandler<?>[] current = handlers.get(type);
+        if (current == null) {
+            current = NO_HANDLERS;
+            if (reportMetrics) {
+                registerGauge(type);
+            }
+        }
+        GameEventHandler<?>[] updated = Arrays.copyOf(current, current.length + 1);
+        updated[current.length] = handler;
+        handlers.put(type, updated);
+        return new Subscription() {
+            private boolean cancelled;
+
+            @Override
+            public void cancel() {
+                if (!cancelled) {
+                    cancelled = true;
+                    unsubscribe(type, handler);
+                }
+            }
+        };
+    }
+
+    /**
+     * Removes one subscription of a handler from the events of a type.
+     *
+     * @param type the class of the events
+     * @param handler the handler to remove
+     */
+    private synchronized void unsubscribe(Class<?> type, GameEventHandler<?> handler) {
+        GameEventHandler<?>[] current = handlers.getOrDefault(type, NO_HANDLERS);
+        for (int i = 0; i < current.length; i++) {
+            if (current[i] == handler) {
+                GameEventHandler<?>[] updated = new GameEventHandler<?>[current.length - 1];
+                System.arraycopy(current, 0, updated, 0, i);
+                System.arraycopy(current, i + 1, updated, i, current.length - i - 1);
+                handlers.put(type, updated);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Publishes an event to every handler subscribed to its exact class.
+     *
+     * @param event the event to publish
+     * @param <T> the type of the event
+     */
+    @SuppressWarnings("unchecked")
+    public <T> void publish(T event) {
+        GameEventHandler<?>[] current = handlers.get(event.getClass());
+        if (current == null) {
+            return;
+        }
+        for (int i = 0; i < current.length; i++) {
+            ((GameEventHandler<T>) current[i]).onEvent(event);
+        }
+    }
+
+    /**
+     * Retrieves the number of handlers subscribed to the events of a type.
+     *
+     * @param type the class of the events
+     * @return the number of subscribed handlers
+     */
+    public int getSubscriberCount(Class<?> type) {
+        return handlers.getOrDefault(type, NO_HANDLERS).length;
+    }
+
+    /**
+     * Retrieves the number of handlers subscribed to each event type that has ever had one,
+     * sorted by the simple name of the type.
+     *
+     * @return a map from the simple name of each event type to its number of handlers
+     */
+    public Map<String, Integer> getSubscriberCounts() {
+        Map<String, Integer> counts = new TreeMap<>();
+        for (Map.Entry<Class<?>, GameEventHandler<?>[]> entry : handlers.entrySet()) {
+            counts.put(entry.getKey().getSimpleName(), entry.getValue().length);
+        }
+        return counts;
+    }
+
+    /**
+     * Registers a gauge reporting the number of handlers for an event type.
+     *
+     * @param type the class of the events
+     */
+    private void registerGauge(Class<?> type) {
+        String name = METRICS_PREFIX + toMetricName(type.getSimpleName());
+        MetricsManager.getInstance().registerGauge(name,
+            "Handlers subscribed to " + type.getSimpleName() + ".", () -> getSubscriberCount(type));
+    }
+
+    /**
+     * Converts the simple name of an event class to a metric name,
+     * for example PauseChangedEvent to pause_changed.
+     *
+     * @param simpleName the simple name of the event class
+     * @return the metric name
+     */
+    static String toMetricName(String simpleName) {
+        String name = simpleName.endsWith("Event") ? simpleName.substring(0, simpleName.length() - 5) : simpleName;
+        StringBuilder sb = new StringBuilder(name.length() + 4);
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (Character.isUpperCase(c)) {
+                if (i > 0) {
+                    sb.append('_');
+                }
+                sb.append(Character.toLowerCase(c));
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.demo.event;
+
+import com.example.demo.handler.GameEventHandler;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The EventScope class groups the subscriptions made by one owner, such as a game state,
+ * so they can all be cancelled together when the owner is cleaned up.
+ * A closed scope can be used again, for example by a state that is initialized a second time.
+ * 
+ * @see <a href="https://github.com/swyannnn/CW2024/blob/master/src/main/java/com/example/demo/event/EventScope.java">Github Source Code</a>
+ * @see EventBus
+ */
+public class EventScope {
+    private final EventBus eventBus;
+    private final List<Subscription> subscriptions = new ArrayList<>();
+
+    /**
+     * Constructs an EventScope for the given EventBus.
+     *
+     * @param eventBus the EventBus to subscribe to
+     */
+    public EventScope(EventBus eventBus) {
+        this.eventBus = eventBus;
+    }
+
+    /**
+     * Subscribes a handler to the events of a type for the lifetime of this scope.
+     *
+     * @param type the class of the events to handle
+     * @param handler the handler to call for each event
+     * @param <T> the type of the events
+     */
+    public <T> void subscribe(Class<T> type, GameEventHandler<? super T> handler) {
+        subscriptions.add(eventBus.subscribe(type, handler));
+    }
+
+    /**
+     * Publishes an event on the EventBus of this scope.
+     *
+     * @param event the event to publish
+     * @param <T> the type of the event
+     */
+    public <T> void publish(T event) {
+        eventBus.publish(event);
+    }
+
+    /**
+     * Retrieves the number of subscriptions currently held by this scope.
+     *
+     * @return the number of subscriptions
+     */
+    public int size() {
+        return subscriptions.size();
+    }
+
+    /**
+     * Cancels every subscription made through this scope.
+     */
+    public void close() {
+        for (int i = 0; i < subscriptions.size(); i++) {
+            subscriptions.get(i).cancel();
+        }
+        subscriptions.clear();
+    }
+}
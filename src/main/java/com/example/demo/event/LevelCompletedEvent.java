@@ -0,0 +1,41 @@
+package com.example.demo.event;
+
+/**
+ * The LevelCompletedEvent class is published by the LevelState when the players reach the target of a level.
+ * 
+ * @see <a href="https://github.com/swyannnn/CW2024/blob/master/src/main/java/com/example/demo/event/LevelCompletedEvent.java">Github Source Code</a>
+ * @see com.example.demo.state.LevelState
+ */
+public final class LevelCompletedEvent {
+    private final int levelNumber;
+    private final int nextLevelNumber;
+
+    /**
+     * Constructs a LevelCompletedEvent.
+     *
+     * @param levelNumber the number of the completed level
+     * @param nextLevelNumber the number of the level to go to next
+     */
+    public LevelCompletedEvent(int levelNumber, int nextLevelNumber) {
+        this.levelNumber = levelNumber;
+        this.nextLevelNumber = nextLevelNumber;
+    }
+
+    /**
+     * Retrieves the number of the completed level.
+     *
+     * @return the level number
+     */
+    public int getLevelNumber() {
+        return levelNumber;
+    }
+
+    /**
+     * Retrieves the number of the level to go to next.
+     *
+     * @return the next level number
+     */
+    public int getNextLevelNumber() {
+        return nextLevelNumber;
+    }
+}
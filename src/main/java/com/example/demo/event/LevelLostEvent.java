@@ -0,0 +1,29 @@
+package com.example.demo.event;
+
+/**
+ * The LevelLostEvent class is published by the LevelState when all players have been destroyed.
+ * 
+ * @see <a href="https://github.com/swyannnn/CW2024/blob/master/src/main/java/com/example/demo/event/LevelLostEvent.java">Github Source Code</a>
+ * @see com.example.demo.state.LevelState
+ */
+public final class LevelLostEvent {
+    private final int levelNumber;
+
+    /**
+     * Constructs a LevelLostEvent.
+     *
+     * @param levelNumber the number of the level that was lost
+     */
+    public LevelLostEvent(int levelNumber) {
+        this.levelNumber = levelNumber;
+    }
+
+    /**
+     * Retrieves the number of the level that was lost.
+     *
+     * @return the level number
+     */
+    public int getLevelNumber() {
+        return levelNumber;
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.demo.event;
+
+/**
+ * The PauseChangedEvent class is published by the GameLoopManager when the game is paused or resumed.
+ * There are only two possible events, so both are shared constants and publishing one allocates nothing.
+ * 
+ * @see <a href="https://github.com/swyannnn/CW2024/blob/master/src/main/java/com/example/demo/event/PauseChangedEvent.java">Github Source Code</a>
+ * @see com.example.demo.manager.GameLoopManager
+ */
+public final class PauseChangedEvent {
+    /** The event published when the game is paused. */
+    public static final PauseChangedEvent PAUSED = new PauseChangedEvent(true);
+    /** The event published when the game is resumed. */
+    public static final PauseChangedEvent RESUMED = new PauseChangedEvent(false);
+
+    private final boolean paused;
+
+    /**
+     * Constructs a PauseChangedEvent.
+     *
+     * @param paused whether the game is now paused
+     */
+    private PauseChangedEvent(boolean paused) {
+        this.paused = paused;
+    }
+
+    /**
+     * Returns the event for the given paused state.
+     *
+     * @param paused whether the game is now paused
+     * @return {@link #PAUSED} or {@link #RESUMED}
+     */
+    public static PauseChangedEvent of(boolean paused) {
+        return paused ? PAUSED : RESUMED;
+    }
+
+    /**
+     * Checks if the game is now paused.
+     *
+     * @return true if the game was paused, false if it was resumed
+     */
+    public boolean isPaused() {
+        return paused;
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.demo.event;
+
+/**
+ * The Subscription interface represents the registration of a handler on the EventBus.
+ * Cancelling it removes the handler, so it no longer receives events.
+ * 
+ * @see <a href="https://github.com/swyannnn/CW2024/blob/master/src/main/java/com/example/demo/event/Subscription.java">Github Source Code</a>
+ * @see EventBus
+ * @see EventScope
+ */
+public interface Subscription {
+    /**
+     * Removes the handler from the EventBus. Cancelling a subscription more than once has no effect.
+     */
+    void cancel();
+}
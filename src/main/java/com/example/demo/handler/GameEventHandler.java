@@ -0,0 +1,18 @@
+package com.example.demo.handler;
+
+/**
+ * Interface for receiving events of one type from the EventBus.
+ *
+ * @param <T> the type of event handled
+ * 
+ * @see <a href="https://github.com/swyannnn/CW2024/blob/master/src/main/java/com/example/demo/handler/GameEventHandler.java">Github Source Code</a>
+ * @see com.example.demo.event.EventBus
+ */
+public interface GameEventHandler<T> {
+    /**
+     * Called when an event of the subscribed type is published.
+     *
+     * @param event The published event.
+     */
+    void onEvent(T event);
+}
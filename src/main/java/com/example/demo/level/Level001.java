@@ -2,11 +2,15 @@ package com.example.demo.level;
 
 import com.example.demo.actor.ActiveActor;
 import com.example.demo.actor.ActorSpawner;
+import com.example.demo.actor.SpawnCategory;
 import com.example.demo.actor.plane.PlaneFactory;
 import com.example.demo.actor.plane.PlaneType;
+import com.example.demo.actor.plane.UserPlane;
 import com.example.demo.manager.AudioManager;
 import com.example.demo.util.GameConstant;
 
+import java.util.List;
+
 /**
  * Level001 is a subclass of LevelParent that represents the first level of the game.
  * It initializes the level with specific settings and handles the spawning of enemy units
@@ -53,12 +57,30 @@ public class Level001 extends LevelParent{
      */
     @Override
     public boolean userHasReachedTarget() {
-        int totalKills = actorSpawner.getPlayers().stream()
-                .mapToInt(player -> player.getNumberOfKills())
-                .sum();
+        List<UserPlane> players = actorSpawner.getPlayers();
+        int totalKills = 0;
+        for (int i = 0; i < players.size(); i++) {
+            totalKills += players.get(i).getNumberOfKills();
+        }
         return totalKills >= killsToAdvance;
     }
 
+    /**
+     * Estimates the completion progress as the total number of kills by all players
+     * divided by the number of kills required to advance.
+     *
+     * @return the completion progress of the level, from 0 to 1
+     */
+    @Override
+    public double getCompletionProgress() {
+        List<UserPlane> players = actorSpawner.getPlayers();
+        int totalKills = 0;
+        for (int i = 0; i < players.size(); i++) {
+            totalKills += players.get(i).getNumberOfKills();
+        }
+        return Math.min(1.0, (double) totalKills / killsToAdvance);
+    }
+
     /**
      * Spawns enemy units until the total number of enemy units reaches the specified limit.
      * The spawning of each enemy unit is determined by a random probability.
@@ -69,12 +91,15 @@ public class Level001 extends LevelParent{
      * 
      * The probability of spawning a new enemy unit is determined by the enemySpawnProbability.
      * If a new enemy unit is to be spawned, it is created using the planeFactory and then
-     * added to the game using the actorSpawn.
+     * added to the game using the actorSpawn, as long as the actor budget has room for it.
      */
     @Override
     public void spawnEnemyUnits() {
         while (actorSpawner.getEnemyUnits().size() < totalEnemies) {
-            if (Math.random() < enemySpawnProbability) {
+            if (actorSpawn.getRandom().nextDouble() < actorSpawn.getTuning().scaleSpawnProbability(enemySpawnProbability)) {
+                if (!actorSpawn.requestSpawn(SpawnCategory.ENEMY_UNIT)) {
+                    return; // The budget is full, try again on the next tick
+                }
                 ActiveActor newEnemy = planeFactory.createPlane(PlaneType.ENEMY_PLANE);
                 actorSpawn.addActor(newEnemy);
             }
@@ -2,10 +2,15 @@ package com.example.demo.level;
 
 import com.example.demo.actor.ActiveActor;
 import com.example.demo.actor.ActorSpawner;
+import com.example.demo.actor.plane.BossPlane;
 import com.example.demo.actor.plane.PlaneFactory;
 import com.example.demo.actor.plane.PlaneType;
 import com.example.demo.manager.AudioManager;
 
+import java.io.DataInput;
+import java.io.IOException;
+import java.util.List;
+
 /**
  * Level002 is a subclass of LevelParent that represents the second level of the game.
  * It initializes the level with specific settings and handles the spawning of enemy units
@@ -52,6 +57,45 @@ public class Level002 extends LevelParent {
     }
 
 
+    /**
+     * Estimates the completion progress from the health the boss plane has lost.
+     *
+     * @return the completion progress of the level, from 0 to 1
+     */
+    @Override
+    public double getCompletionProgress() {
+        return bossHealthProgress(bossPlane);
+    }
+
+    /**
+     * Reports a checkpoint once the boss has lost half of its health.
+     *
+     * @return 1 once the boss is at half health or below, 0 before that
+     */
+    @Override
+    public int getCheckpoint() {
+        return getCompletionProgress() >= 0.5 ? 1 : 0;
+    }
+
+    /**
+     * Links the restored boss plane after a snapshot of the level has been restored.
+     *
+     * @param in the input to read the state from
+     * @param now the simulation time at which the snapshot is restored, in nanoseconds
+     * @throws IOException if the state cannot be read
+     */
+    @Override
+    public void readState(DataInput in, long now) throws IOException {
+        super.readState(in, now);
+        List<ActiveActor> units = actorSpawn.getBossUnits();
+        bossPlane = null;
+        for (int i = 0; i < units.size(); i++) {
+            if (units.get(i) instanceof BossPlane) {
+                bossPlane = units.get(i);
+            }
+        }
+    }
+
     /**
      * Spawns enemy units in the game level. If there are no boss units currently spawned,
      * this method will create and spawn a boss plane using the plane factory and assign it
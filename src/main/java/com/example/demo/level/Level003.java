@@ -1,21 +1,18 @@
 package com.example.demo.level;
 
-import java.util.Timer;
-import java.util.TimerTask;
-
-import com.example.demo.actor.ActiveActor;
 import com.example.demo.actor.ActorSpawner;
+import com.example.demo.actor.SpawnCategory;
 import com.example.demo.actor.plane.PlaneFactory;
 import com.example.demo.actor.plane.PlaneType;
 import com.example.demo.manager.AudioManager;
 import com.example.demo.manager.GameLoopManager;
 import com.example.demo.util.GameConstant;
 
-import javafx.application.Platform;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
 import javafx.scene.Group;
-import javafx.scene.control.Label;
-import javafx.scene.paint.Color;
-import javafx.scene.text.Font;
 
 
 
@@ -28,11 +25,14 @@ import javafx.scene.text.Font;
  * <ul>
  *   <li>Initializing friendly units.</li>
  *   <li>Displaying the remaining survival time.</li>
- *   <li>Spawning enemy units at fixed intervals with increasing difficulty.</li>
- *   <li>Updating the remaining time display every second.</li>
+ *   <li>Spawning enemy units every frame with increasing difficulty.</li>
+ *   <li>Updating the remaining time display whenever a whole second has passed.</li>
  *   <li>Checking if the user has survived the required duration to complete the level.</li>
  * </ul>
  *
+ * <p>All timing is driven by the game loop and measured in game time, so the level
+ * stops counting down while the game is paused and no background threads are needed.
+ *
  * @see <a href="https://github.com/swyannnn/CW2024/blob/master/src/main/java/com/example/demo/level/Level003.java">Github Source Code</a>
  * @see LevelParent
  * @see ActorSpawner
@@ -41,18 +41,14 @@ import javafx.scene.text.Font;
  */
 public class Level003 extends LevelParent {
     private static final int survivalTime = GameConstant.Level003.SURVIVAL_TIME; // in seconds
-    private static final int enemySpawnInterval = GameConstant.Level003.ENEMY_SPAWN_INTERVAL; // in milliseconds
 
     private PlaneFactory planeFactory;
     private final ActorSpawner actorSpawn;
     private final GameLoopManager gameLoopManager;
-    private Timer enemySpawnTimer;
-    private Timer levelTimer;
-    private Timer timeUpdateTimer;
     private Group root;
-    private double startTime; 
+    private long startTime = -1; // game time of the first frame, in nanoseconds
+    private int displayedRemainingTime = survivalTime;
     private boolean levelCompleted;
-    private Label timeLabel;
 
     /**
      * Constructs a new Level003 instance.
@@ -69,169 +65,141 @@ public class Level003 extends LevelParent {
         this.planeFactory = new PlaneFactory(actorSpawner);
         this.levelCompleted = false;
         this.root = super.getRoot();
-        initializeTimeLabel();
-        startLevelTimers();
+        if (!actorSpawner.isHeadless()) {
+            levelScreen.showTimeLeft(survivalTime);
+        }
     }
 
     /**
-     * Initializes the time label and sets its properties.
-     * This method runs on the JavaFX Application Thread using Platform.runLater.
-     * The label is positioned at the top-right corner of the screen with some padding.
-     * The text of the label displays the remaining survival time in seconds.
-     * The label is styled with white text, Arial font of size 24, and bold font weight.
+     * Returns the elapsed simulation time since the level started, in seconds.
+     * The start time is recorded on the first frame the level is updated, and
+     * the simulation time excludes any time spent paused.
+     *
+     * @return the elapsed game time in seconds.
      */
-    private void initializeTimeLabel() {
-        Platform.runLater(() -> {
-            timeLabel = new Label();
-            timeLabel.setTextFill(Color.WHITE);
-            timeLabel.setFont(new Font("Arial", 24));
-            timeLabel.setStyle("-fx-font-weight: bold;");
-            // Position the label at the top-right corner with some padding
-            timeLabel.setLayoutX(GameConstant.GameSettings.SCREEN_WIDTH - 180); // Adjust width as needed
-            timeLabel.setLayoutY(8); // 10 pixels from the top
-            timeLabel.setText("Time Left: " + survivalTime + "s");
-            root.getChildren().add(timeLabel);
-        });
+    private double getElapsedTime() {
+        long now = gameLoopManager.getClock().getSimulationTime();
+        if (startTime < 0) {
+            startTime = now;
+        }
+        return (now - startTime) / 1_000_000_000.0;
     }
 
     /**
-     * Starts the timers for the level, including:
-     * - Recording the start time of the level.
-     * - A timer for spawning enemy units at fixed intervals.
-     * - A timer for the overall level duration, which marks the level as completed when time is up.
-     * - A timer for updating the remaining time display every second.
-     * 
-     * The timers are daemon threads, meaning they will not prevent the JVM from exiting.
-     * The timers will only execute their tasks if the game is not paused.
+     * Updates the level progress for the current frame.
+     * Marks the level as completed once the survival time has elapsed and
+     * refreshes the remaining time display when the whole number of seconds changes.
+     *
+     * @param elapsedTime the elapsed game time in seconds
      */
-    private void startLevelTimers() {
-        this.startTime = System.currentTimeMillis(); // Record the start time
-
-        // Timer for spawning enemies
-        enemySpawnTimer = new Timer(true); // Daemon thread
-        enemySpawnTimer.scheduleAtFixedRate(new TimerTask() {
-            @Override
-            public void run() {
-                if (!gameLoopManager.isPaused() && !levelCompleted) {
-                    spawnEnemyUnits();
-                }
-            }
-        }, 0, enemySpawnInterval);
-
-        // Timer for level duration
-        levelTimer = new Timer(true); // Daemon thread
-        levelTimer.schedule(new TimerTask() {
-            @Override
-            public void run() {
-                if (!gameLoopManager.isPaused()) {
-                    levelCompleted = true;
-                    enemySpawnTimer.cancel(); // Stop spawning enemies
-                }
-            }
-        }, survivalTime * 1000);
-
-        // Timer for updating the remaining time display every second
-        timeUpdateTimer = new Timer(true); // Daemon thread
-        timeUpdateTimer.scheduleAtFixedRate(new TimerTask() {
-            @Override
-            public void run() {
-                if (!gameLoopManager.isPaused()) {
-                    updateRemainingTime();
-                }
+    private void updateRemainingTime(double elapsedTime) {
+        double remainingTime = Math.max(survivalTime - elapsedTime, 0); // Ensure it doesn't go below zero
+        if (remainingTime <= 0) {
+            levelCompleted = true;
+        }
+
+        int wholeSecondsLeft = (int) Math.ceil(remainingTime);
+        if (wholeSecondsLeft != displayedRemainingTime) {
+            displayedRemainingTime = wholeSecondsLeft;
+            if (!actorSpawn.isHeadless()) {
+                levelScreen.showTimeLeft(wholeSecondsLeft);
             }
-        }, 0, 1000);
+        }
     }
 
     /**
-     * Updates the remaining time label.
+     * Checks if the user has reached the target for the current level.
+     *
+     * @return true if the user has survived the required duration, false otherwise.
      */
-    private void updateRemainingTime() {
-        if (levelCompleted) {
-            Platform.runLater(() -> {
-                if (timeLabel != null) {
-                    timeLabel.setText("Time Left: 0s");
-                }
-            });
-            return;
-        }
+    @Override
+    public boolean userHasReachedTarget() {
+        return levelCompleted;
+    }
 
-        double elapsedTime = (System.currentTimeMillis() - startTime) / 1000.0; // in seconds
-        double remainingTime = survivalTime - elapsedTime;
-        remainingTime = Math.max(remainingTime, 0); // Ensure it doesn't go below zero
-    
-        final double finalRemainingTime = remainingTime; 
-    
-        Platform.runLater(() -> {
-            if (timeLabel != null) {
-                // Optionally, format to display as integer seconds
-                timeLabel.setText("Time Left: " + (int) finalRemainingTime + "s");
-            }
-        });
+    /**
+     * Estimates the completion progress as the part of the survival time that has passed.
+     *
+     * @return the completion progress of the level, from 0 to 1
+     */
+    @Override
+    public double getCompletionProgress() {
+        return Math.min(1.0, (survivalTime - displayedRemainingTime) / (double) survivalTime);
     }
 
     /**
-     * Checks if the user has reached the target for the current level.
-     * If the level is completed, it performs cleanup operations and returns true.
-     * Otherwise, it returns false.
+     * Writes the elapsed survival time and completion flag to a snapshot.
      *
-     * @return true if the level is completed and cleanup is performed, false otherwise.
+     * @param out the output to write the state to
+     * @param now the simulation time of the snapshot in nanoseconds
+     * @throws IOException if the state cannot be written
      */
     @Override
-    public boolean userHasReachedTarget() {
-        if (levelCompleted) {
-            cleanup();
-            return true;
-        }
-        return false;
+    public void writeState(DataOutput out, long now) throws IOException {
+        out.writeBoolean(startTime >= 0);
+        out.writeLong(startTime >= 0 ? now - startTime : 0);
+        out.writeBoolean(levelCompleted);
+    }
+
+    /**
+     * Reads the elapsed survival time and completion flag from a snapshot,
+     * and refreshes the remaining time display.
+     *
+     * @param in the input to read the state from
+     * @param now the simulation time at which the snapshot is restored, in nanoseconds
+     * @throws IOException if the state cannot be read
+     */
+    @Override
+    public void readState(DataInput in, long now) throws IOException {
+        boolean started = in.readBoolean();
+        long elapsed = in.readLong();
+        startTime = started ? now - elapsed : -1;
+        levelCompleted = in.readBoolean();
+        updateRemainingTime(elapsed / 1_000_000_000.0);
     }
 
     /**
      * Spawns enemy units based on the elapsed time and a random factor.
      * The spawn rate increases over time, normalized between 1 and 3.
+     * This method is called once per frame by the game loop, which also advances
+     * the remaining time; no enemies are spawned once the level is completed.
      * 
      * The method calculates a spawn factor based on the elapsed time and survival time.
      * It then generates a random value to determine which type of enemy plane to spawn.
      * 
-     * The enemy planes are spawned on the JavaFX application thread using Platform.runLater.
-     * 
      * The probabilities for spawning each type of enemy plane are as follows:
      * - ENEMY_PLANE1: 0.003 * spawnFactor
      * - ENEMY_PLANE2: 0.006 * spawnFactor
      * - ENEMY_PLANE3: 0.009 * spawnFactor
+     * The spawn factor is also scaled by the spawn rate scale of the session's BalanceTuning.
+     * No plane is spawned while the actor budget has no room for another enemy unit.
      */
     @Override
     public void spawnEnemyUnits() {
-        double elapsedTime = (System.currentTimeMillis() - startTime) / 1000; // in seconds
+        double elapsedTime = getElapsedTime();
+        updateRemainingTime(elapsedTime);
+        if (levelCompleted) {
+            return;
+        }
 
         // normalize the elapsed time to a value between 1 and 3
         // input = (input - min) / (max - min) * (new_range_max - new_range_min) + new_range_min
         double spawnFactor = elapsedTime / survivalTime * (3 - 1) + 1;
-        double randomValue = Math.random(); // Generates a number between 0.0 and 1.0
-    
-        Platform.runLater(() -> {
-            if (randomValue < 0.0035 * spawnFactor) {
-                ActiveActor newEnemy = planeFactory.createPlane(PlaneType.ENEMY_PLANE1);
-                actorSpawn.addActor(newEnemy);
-            } else if (randomValue < 0.0065 * spawnFactor) {
-                ActiveActor newEnemy = planeFactory.createPlane(PlaneType.ENEMY_PLANE2);
-                actorSpawn.addActor(newEnemy);
-            } else if (randomValue < 0.0095 * spawnFactor) {
-                ActiveActor newEnemy = planeFactory.createPlane(PlaneType.ENEMY_PLANE3);
-                actorSpawn.addActor(newEnemy);
-            }
-        });
-    }    
+        double randomValue = actorSpawn.getRandom().nextDouble(); // Generates a number between 0.0 and 1.0
 
-    /**
-     * Cleans up resources by canceling the enemy spawn timer and level timer if they are not null.
-     * This method ensures that any ongoing timers are properly terminated to prevent resource leaks.
-     */
-    public void cleanup() {
-        if (enemySpawnTimer != null) {
-            enemySpawnTimer.cancel();
+        spawnFactor *= actorSpawn.getTuning().getSpawnRateScale();
+
+        PlaneType type = null;
+        if (randomValue < 0.0035 * spawnFactor) {
+            type = PlaneType.ENEMY_PLANE1;
+        } else if (randomValue < 0.0065 * spawnFactor) {
+            type = PlaneType.ENEMY_PLANE2;
+        } else if (randomValue < 0.0095 * spawnFactor) {
+            type = PlaneType.ENEMY_PLANE3;
         }
-        if (levelTimer != null) {
-            levelTimer.cancel();
+        // A spawn refused by the actor budget is skipped; the waves keep trying every tick
+        if (type != null && actorSpawn.requestSpawn(SpawnCategory.ENEMY_UNIT)) {
+            actorSpawn.addActor(planeFactory.createPlane(type));
         }
     }
 }
@@ -2,10 +2,15 @@ package com.example.demo.level;
 
 import com.example.demo.actor.ActiveActor;
 import com.example.demo.actor.ActorSpawner;
+import com.example.demo.actor.plane.MultiPhaseBossPlane;
 import com.example.demo.actor.plane.PlaneFactory;
 import com.example.demo.actor.plane.PlaneType;
 import com.example.demo.manager.AudioManager;
 
+import java.io.DataInput;
+import java.io.IOException;
+import java.util.List;
+
 
 /**
  * Level004 is a subclass of LevelParent that represents the fourth level of the game.
@@ -55,6 +60,48 @@ public class Level004 extends LevelParent {
         return bossPlane.isDestroyed();
     }
 
+    /**
+     * Estimates the completion progress from the health the boss plane has lost.
+     *
+     * @return the completion progress of the level, from 0 to 1
+     */
+    @Override
+    public double getCompletionProgress() {
+        return bossHealthProgress(bossPlane);
+    }
+
+    /**
+     * Reports a checkpoint each time the multi-phase boss enters a new phase.
+     *
+     * @return the number of phases the boss has completed
+     */
+    @Override
+    public int getCheckpoint() {
+        if (bossPlane instanceof MultiPhaseBossPlane) {
+            return ((MultiPhaseBossPlane) bossPlane).getCurrentPhase() - 1;
+        }
+        return 0;
+    }
+
+    /**
+     * Links the restored boss plane after a snapshot of the level has been restored.
+     *
+     * @param in the input to read the state from
+     * @param now the simulation time at which the snapshot is restored, in nanoseconds
+     * @throws IOException if the state cannot be read
+     */
+    @Override
+    public void readState(DataInput in, long now) throws IOException {
+        super.readState(in, now);
+        List<ActiveActor> units = actorSpawn.getEnemyUnits();
+        bossPlane = null;
+        for (int i = 0; i < units.size(); i++) {
+            if (units.get(i) instanceof MultiPhaseBossPlane) {
+                bossPlane = units.get(i);
+            }
+        }
+    }
+
     /**
      * Spawns enemy units in the game level. If there are no enemy units currently spawned,
      * it creates and spawns a multi-phase boss plane using the plane factory and assigns it
@@ -1,5 +1,6 @@
 package com.example.demo.level;
 
+import com.example.demo.GameSession;
 import com.example.demo.actor.ActorSpawner;
 import com.example.demo.manager.AudioManager;
 import com.example.demo.manager.GameLoopManager;
@@ -7,7 +8,8 @@ import com.example.demo.manager.GameLoopManager;
 
 /**
  * The LevelConfig class encapsulates the configuration settings for a game level.
- * It includes the number of players, actor spawner, audio manager, and game loop manager.
+ * It includes the number of players and the GameSession the level runs in, which provides
+ * the actor spawner, audio manager, and game loop manager.
  * Flexible configurations can be set for different levels by adjusting these parameters.
  * When more customization is needed, the LevelConfig class can be extended to include additional settings.
  * 
@@ -15,23 +17,17 @@ import com.example.demo.manager.GameLoopManager;
  */
 public class LevelConfig {
     private final int numberOfPlayers;
-    private final ActorSpawner actorSpawner;
-    private final AudioManager audioManager;
-    private final GameLoopManager gameLoopManager;
+    private final GameSession session;
 
     /**
      * Constructs a new LevelConfig with the specified parameters.
      *
      * @param numberOfPlayers the number of players in the level
-     * @param actorSpawner the actor spawner responsible for spawning game actors
-     * @param audioManager the audio manager responsible for handling game audio
-     * @param gameLoopManager the game loop manager responsible for managing the game loop
+     * @param session the GameSession the level runs in
      */
-    public LevelConfig(int numberOfPlayers, ActorSpawner actorSpawner, AudioManager audioManager, GameLoopManager gameLoopManager) {
+    public LevelConfig(int numberOfPlayers, GameSession session) {
         this.numberOfPlayers = numberOfPlayers;
-        this.actorSpawner = actorSpawner;
-        this.audioManager = audioManager;
-        this.gameLoopManager = gameLoopManager;
+        this.session = session;
     }
 
     /**
@@ -43,13 +39,22 @@ public class LevelConfig {
         return numberOfPlayers;
     }
 
+    /**
+     * Retrieves the GameSession the level runs in.
+     *
+     * @return the GameSession associated with this LevelConfig.
+     */
+    public GameSession getSession() {
+        return session;
+    }
+
     /**
      * Retrieves the ActorSpawner instance.
      *
      * @return the ActorSpawner instance associated with this LevelConfig.
      */
     public ActorSpawner getActorSpawner() {
-        return actorSpawner;
+        return session.getActorManager();
     }
 
     /**
@@ -58,7 +63,7 @@ public class LevelConfig {
      * @return the current AudioManager instance.
      */
     public AudioManager getAudioManager() {
-        return audioManager;
+        return session.getAudioManager();
     }
 
     /**
@@ -67,6 +72,6 @@ public class LevelConfig {
      * @return the GameLoopManager instance associated with this level configuration.
      */
     public GameLoopManager getGameLoopManager() {
-        return gameLoopManager;
+        return session.getGameLoopManager();
     }
 }
@@ -50,6 +50,16 @@ public class LevelFactory {
         return constructor != null ? Optional.of(constructor.apply(config)) : Optional.empty();
     }
 
+    /**
+     * Checks if a level is registered for the given level number.
+     *
+     * @param levelNumber the number of the level
+     * @return true if the level exists, false otherwise
+     */
+    public static boolean hasLevel(int levelNumber) {
+        return levelMap.containsKey(levelNumber);
+    }
+
     /**
      * Registers a level with a specified level number and constructor function.
      *
@@ -1,20 +1,23 @@
 package com.example.demo.level;
 
-import java.util.List;
-
 import com.example.demo.Controller;
 import com.example.demo.actor.ActiveActor;
 import com.example.demo.actor.ActorSpawner;
+import com.example.demo.actor.plane.FighterPlane;
 import com.example.demo.actor.plane.PlaneFactory;
 import com.example.demo.actor.plane.UserPlane;
 import com.example.demo.actor.plane.PlaneType;
 import com.example.demo.manager.AudioManager;
 import com.example.demo.screen.LevelScreen;
+import com.example.demo.snapshot.Snapshotable;
 import com.example.demo.util.GameConstant;
 
 import javafx.scene.Group;
 import javafx.scene.Scene;
-import javafx.scene.image.ImageView;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 
 
 /**
@@ -27,13 +30,20 @@ import javafx.scene.image.ImageView;
  * userHasReachedTarget() and spawnEnemyUnits() to define specific level
  * behavior.
  * 
+ * The root group, scene and level view come from a LevelScaffold, which is
+ * built in the background by the LevelPreparer when the previous level is
+ * close to completion. In a headless session the scaffold is built without a
+ * scene, and the players get no heart displays.
+ * 
+ * A level can be saved in and restored from a LevelSnapshot. Subclasses with
+ * state of their own, such as timers, override writeState() and readState().
+ * 
  * @see <a href="https://github.com/swyannnn/CW2024/blob/master/src/main/java/com/example/demo/level/LevelParent.java">Github Source Code</a>
  * @see LevelScreen
  */
-public abstract class LevelParent {
+public abstract class LevelParent implements Snapshotable {
     protected final Group root;
     protected final Scene scene;
-    protected ImageView[] backgrounds;
 
     protected UserPlane user;
     protected LevelScreen levelScreen;
@@ -56,16 +66,24 @@ public abstract class LevelParent {
     public LevelParent(int currentLevelNumber, int numberOfPlayers, ActorSpawner actorSpawner, AudioManager audioManager) {
         this.currentLevelNumber = currentLevelNumber;
         this.numberOfPlayers = numberOfPlayers;
-        this.root = new Group();
-        this.scene = new Scene(root, GameConstant.GameSettings.SCREEN_WIDTH, GameConstant.GameSettings.SCREEN_HEIGHT);
+        // Use the scaffold prepared in the background, or build it now
+        LevelScaffold scaffold = actorSpawner.isHeadless()
+            ? LevelScaffold.build(currentLevelNumber)
+            : LevelPreparer.getInstance().take(currentLevelNumber);
+        this.root = scaffold.getRoot();
+        this.scene = scaffold.getScene();
         this.planeFactory = new PlaneFactory(actorSpawner);
         this.actorSpawn = actorSpawner;
         this.audioManager = audioManager;
 
         // Pass the root to ActorManager
         actorSpawner.updateRoot(this.root);
-        // Initialize LevelView
-        this.levelScreen = new LevelScreen(this.root, currentLevelNumber);
+        // The LevelView is part of the scaffold
+        this.levelScreen = scaffold.getLevelScreen();
+        // The particles are drawn above the level's scaffold; the canvas moves over from the previous level
+        if (!actorSpawner.isHeadless()) {
+            root.getChildren().add(actorSpawner.getParticleSystem().getCanvas());
+        }
         // Initialize Player
         registerPlayer();
         // Initialize background music
@@ -77,10 +95,17 @@ public abstract class LevelParent {
      * The background music is determined based on the current level number.
      * It retrieves the background music name using the GameConstant.LevelBGM class
      * and plays it using the audioManager.
+     * The music of the next level, if there is one, is pre-rolled so the transition has no gap.
      */
     private void initializeBackgroundMusic() {
         String backgroundMusicName = GameConstant.LevelBGM.getBGMForLevel(currentLevelNumber);
         audioManager.playMusic(backgroundMusicName);
+
+        for (GameConstant.LevelBGM bgm : GameConstant.LevelBGM.values()) {
+            if (bgm.getLevelNumber() == currentLevelNumber + 1) {
+                audioManager.prerollMusic(bgm.getBgm());
+            }
+        }
     }
     
     /**
@@ -103,38 +128,51 @@ public abstract class LevelParent {
     private void registerPlayer() {
         // Initialize player 1
         int playerId1 = 1;
-        ActiveActor player1 = planeFactory.createPlane(PlaneType.USER_PLANE, playerId1);
-        actorSpawn.addActor(player1);
-        ((UserPlane) player1).addHealthChangeHandler(this.levelScreen);
+        restorePlayer(playerId1);
     
         // If double-player mode, initialize player 2
         if (numberOfPlayers == 2) {
             int playerId2 = 2;
-            ActiveActor player2 = planeFactory.createPlane(PlaneType.USER_PLANE, playerId2);
-            actorSpawn.addActor(player2);
-            ((UserPlane) player2).addHealthChangeHandler(this.levelScreen);
+            restorePlayer(playerId2);
         }
     }
 
     /**
-     * Updates the level view by displaying the heart display for each player
-     * and updating the background.
-     * <p>
-     * This method retrieves the list of players from the actorSpawn object.
-     * Then, it iterates through the list of players and displays the heart display
-     * for each player using the levelView object. Finally, it updates the
-     * background of the level view.
+     * Creates and spawns the plane of a player, and registers the level view for its health changes.
+     * Used when the level starts and when a snapshot of the level is restored.
+     *
+     * @param playerId the ID of the player
+     * @return the spawned UserPlane
      */
-    public void updateLevelView() {
-        List<UserPlane> players = actorSpawn.getPlayers();
-
-        if (players.isEmpty()) {
-            return; 
+    public UserPlane restorePlayer(int playerId) {
+        UserPlane player = (UserPlane) planeFactory.createPlane(PlaneType.USER_PLANE, playerId);
+        actorSpawn.addActor(player);
+        if (!actorSpawn.isHeadless()) {
+            player.addHealthChangeHandler(this.levelScreen);
+            levelScreen.showHeartDisplay(player, playerId - 1);
         }
+        return player;
+    }
 
-        for (int i = 0; i < players.size(); i++) {
-            levelScreen.showHeartDisplay(players.get(i), i);
+    /**
+     * Prepares the level for a snapshot to be restored into it.
+     * The heart displays of the old player planes are removed, so the restored planes get new ones.
+     */
+    public void prepareForRestore() {
+        levelScreen.clearHeartDisplays();
+    }
+
+    /**
+     * Updates the level view by scrolling the background.
+     * The blended layers of the background are only shown while the quality level keeps them.
+     * The heart displays are not touched here; they are created when each player is spawned
+     * and only change when a player's health changes.
+     */
+    public void updateLevelView() {
+        if (actorSpawn.getPlayers().isEmpty()) {
+            return; 
         }
+        levelScreen.getBackground().setBlendedLayersVisible(actorSpawn.getQualityGovernor().getLevel().isBackgroundBlended());
         levelScreen.updateBackground();
     }
 
@@ -165,6 +203,73 @@ public abstract class LevelParent {
         return currentLevelNumber;
     }
 
+    /**
+     * Estimates how close the user is to completing the level, from 0 to 1.
+     * Once the progress passes GameConstant.LevelPreparation.PREPARE_AT_PROGRESS,
+     * the next level is prepared in the background.
+     * 
+     * The default implementation returns 0, so the next level is never prepared early.
+     *
+     * @return the completion progress of the level, from 0 to 1
+     */
+    public double getCompletionProgress() {
+        return 0;
+    }
+
+    /**
+     * Estimates the completion progress of a boss level from the health the boss has lost.
+     *
+     * @param boss the boss plane of the level, or null if it has not been spawned yet
+     * @return the part of its initial health the boss has lost, from 0 to 1, or 0 if there is no boss
+     */
+    protected double bossHealthProgress(ActiveActor boss) {
+        if (!(boss instanceof FighterPlane)) {
+            return 0;
+        }
+        FighterPlane plane = (FighterPlane) boss;
+        int maxHealth = plane.getPlaneType().getHealth();
+        return maxHealth > 0 ? Math.max(0.0, 1.0 - (double) plane.getHealth() / maxHealth) : 0;
+    }
+
+    /**
+     * Returns the number of the last checkpoint the level has reached.
+     * The LevelState takes a snapshot each time this number increases,
+     * and a retry after a loss restores the latest snapshot.
+     * 
+     * The default implementation returns 0, so the only checkpoint is the start of the level.
+     *
+     * @return the number of the last checkpoint reached
+     */
+    public int getCheckpoint() {
+        return 0;
+    }
+
+    /**
+     * Writes the state of the level itself to a snapshot.
+     * The default implementation writes nothing, as most levels keep their state in their actors.
+     *
+     * @param out the output to write the state to
+     * @param now the simulation time of the snapshot in nanoseconds
+     * @throws IOException if the state cannot be written
+     */
+    @Override
+    public void writeState(DataOutput out, long now) throws IOException {
+        // No level state by default
+    }
+
+    /**
+     * Reads the state of the level itself from a snapshot.
+     * This is called after the actors of the snapshot have been restored.
+     *
+     * @param in the input to read the state from
+     * @param now the simulation time at which the snapshot is restored, in nanoseconds
+     * @throws IOException if the state cannot be read
+     */
+    @Override
+    public void readState(DataInput in, long now) throws IOException {
+        // No level state by default
+    }
+
     /**
      * Determines if the user has reached the target to advance to the next level.
      * 
@@ -0,0 +1,140 @@
+package com.example.demo.level;
+
+import com.example.demo.util.GameConstant;
+
+import javafx.application.Platform;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * The LevelPreparer class builds the scaffold of the next level in the background while
+ * the current level is still being played. It follows the singleton pattern so the level
+ * that requests the preparation and the level that uses it share the same preparer.
+ *
+ * <p>When a level passes {@code GameConstant.LevelPreparation.PREPARE_AT_PROGRESS}, the LevelState
+ * calls {@link #prepare(int)} for the next level. The background images and instructions are
+ * built on a worker thread, and the scene is created on the JavaFX Application Thread in a
+ * later frame. When the next level is constructed, {@link #take(int)} hands over the prepared
+ * scaffold, so the switch only has to add the players and start the music.</p>
+ *
+ * <p>If the scaffold was never requested, or its preparation failed, {@link #take(int)} builds
+ * it on the calling thread, which is what every level did before preparation existed.</p>
+ *
+ * @see <a href="https://github.com/swyannnn/CW2024/blob/master/src/main/java/com/example/demo/level/LevelPreparer.java">Github Source Code</a>
+ * @see LevelScaffold
+ */
+public class LevelPreparer {
+    private static LevelPreparer instance;
+    private final ExecutorService worker;
+    private int preparedLevelNumber = -1;
+    private CompletableFuture<LevelScaffold> preparedScaffold;
+
+    /**
+     * Private constructor for the LevelPreparer class.
+     * Starts the single daemon worker thread used for preparation.
+     */
+    private LevelPreparer() {
+        worker = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, GameConstant.LevelPreparation.THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Returns the singleton instance of the LevelPreparer.
+     *
+     * @return the singleton instance of LevelPreparer
+     */
+    public static synchronized LevelPreparer getInstance() {
+        if (instance == null) {
+            instance = new LevelPreparer();
+        }
+        return instance;
+    }
+
+    /**
+     * Starts building the scaffold of a level in the background.
+     * Does nothing if the level is already being prepared or does not exist.
+     * Must be called on the JavaFX Application Thread.
+     *
+     * @param levelNumber the number of the level to prepare
+     */
+    public synchronized void prepare(int levelNumber) {
+        if (levelNumber == preparedLevelNumber || !LevelFactory.hasLevel(levelNumber)) {
+            return;
+        }
+        preparedLevelNumber = levelNumber;
+        preparedScaffold = CompletableFuture.supplyAsync(() -> LevelScaffold.build(levelNumber), worker);
+        preparedScaffold.whenCompleteAsync((scaffold, e) -> {
+            if (e != null) {
+                System.err.println("Failed to prepare level " + levelNumber + ": " + e.getMessage());
+            } else {
+                scaffold.createScene();
+            }
+        }, Platform::runLater);
+    }
+
+    /**
+     * Retrieves the scaffold of a level, using the prepared one if it was built for that level.
+     * If the preparation is still running, this waits for it to finish, as it has a head start
+     * over building the scaffold again. The scene is created if the prepared scaffold does not
+     * have one yet, and the scaffold is built on the calling thread if it was not prepared or
+     * its preparation failed.
+     * Must be called on the JavaFX Application Thread.
+     *
+     * @param levelNumber the number of the level
+     * @return the LevelScaffold of the level, with its scene created
+     */
+    public synchronized LevelScaffold take(int levelNumber) {
+        return takeScaffold(levelNumber).createScene();
+    }
+
+    /**
+     * Retrieves the scaffold of a level like {@link #take(int)}, without creating its scene.
+     *
+     * @param levelNumber the number of the level
+     * @return the LevelScaffold of the level, which has a scene only if its preparation created one
+     */
+    synchronized LevelScaffold takeScaffold(int levelNumber) {
+        CompletableFuture<LevelScaffold> prepared = getPrepared(levelNumber);
+        discard();
+        if (prepared != null) {
+            try {
+                return prepared.join();
+            } catch (CompletionException e) {
+                System.err.println("Building level " + levelNumber + " without preparation: " + e.getMessage());
+            }
+        }
+        return LevelScaffold.build(levelNumber);
+    }
+
+    /**
+     * Retrieves the preparation that is running or finished for a level.
+     *
+     * @param levelNumber the number of the level
+     * @return the future scaffold of the level, or null if the level is not being prepared
+     */
+    synchronized CompletableFuture<LevelScaffold> getPrepared(int levelNumber) {
+        return levelNumber == preparedLevelNumber ? preparedScaffold : null;
+    }
+
+    /**
+     * Discards the prepared scaffold, if any.
+     */
+    public synchronized void discard() {
+        preparedLevelNumber = -1;
+        preparedScaffold = null;
+    }
+
+    /**
+     * Discards the prepared scaffold and stops the worker thread.
+     */
+    public synchronized void shutdown() {
+        discard();
+        worker.shutdownNow();
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.demo.level;
+
+import com.example.demo.screen.LevelScreen;
+import com.example.demo.util.GameConstant;
+
+import javafx.scene.Group;
+import javafx.scene.Scene;
+
+/**
+ * The LevelScaffold class holds the static part of a level's scene graph: the root group,
+ * and the LevelScreen with its background images and instructions.
+ * It contains no actors and does not touch any manager, so it can be built ahead of time
+ * on a worker thread while the previous level is still being played.
+ *
+ * <p>The nodes are built by {@link #build(int)} on any thread. The Scene itself must be
+ * created on the JavaFX Application Thread, which is done by {@link #createScene()}.</p>
+ *
+ * @see <a href="https://github.com/swyannnn/CW2024/blob/master/src/main/java/com/example/demo/level/LevelScaffold.java">Github Source Code</a>
+ * @see LevelPreparer
+ * @see LevelParent
+ */
+public class LevelScaffold {
+    private final int levelNumber;
+    private final Group root;
+    private final LevelScreen levelScreen;
+    private Scene scene;
+
+    /**
+     * Constructs a LevelScaffold from nodes that have already been built.
+     *
+     * @param levelNumber the number of the level
+     * @param root the root group of the level
+     * @param levelScreen the level screen attached to the root
+     */
+    private LevelScaffold(int levelNumber, Group root, LevelScreen levelScreen) {
+        this.levelNumber = levelNumber;
+        this.root = root;
+        this.levelScreen = levelScreen;
+    }
+
+    /**
+     * Builds the root group and level screen of a level.
+     * This method can be called from any thread, as the nodes are not attached to a scene yet.
+     *
+     * @param levelNumber the number of the level
+     * @return the built LevelScaffold, without a scene
+     */
+    public static LevelScaffold build(int levelNumber) {
+        Group root = new Group();
+        LevelScreen levelScreen = new LevelScreen(root, levelNumber);
+        return new LevelScaffold(levelNumber, root, levelScreen);
+    }
+
+    /**
+     * Creates the scene for the root group if it has not been created yet.
+     * Must be called on the JavaFX Application Thread.
+     *
+     * @return this LevelScaffold
+     */
+    public LevelScaffold createScene() {
+        if (scene == null) {
+            scene = new Scene(root, GameConstant.GameSettings.SCREEN_WIDTH, GameConstant.GameSettings.SCREEN_HEIGHT);
+        }
+        return this;
+    }
+
+    /**
+     * Retrieves the number of the level this scaffold was built for.
+     *
+     * @return the level number
+     */
+    public int getLevelNumber() {
+        return levelNumber;
+    }
+
+    /**
+     * Retrieves the root group of the level.
+     *
+     * @return the root group
+     */
+    public Group getRoot() {
+        return root;
+    }
+
+    /**
+     * Retrieves the level screen attached to the root group.
+     *
+     * @return the level screen
+     */
+    public LevelScreen getLevelScreen() {
+        return levelScreen;
+    }
+
+    /**
+     * Retrieves the scene of the level.
+     *
+     * @return the scene, or null if {@link #createScene()} has not been called yet
+     */
+    public Scene getScene() {
+        return scene;
+    }
+}
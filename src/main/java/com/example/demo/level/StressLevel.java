@@ -0,0 +1,161 @@
+package com.example.demo.level;
+
+import com.example.demo.actor.ActiveActor;
+import com.example.demo.actor.ActorSpawner;
+import com.example.demo.actor.SpawnCategory;
+import com.example.demo.actor.plane.FighterPlane;
+import com.example.demo.actor.plane.PlaneType;
+import com.example.demo.actor.plane.UserPlane;
+import com.example.demo.actor.projectile.ProjectileFactory;
+import com.example.demo.actor.projectile.ProjectileType;
+import com.example.demo.manager.AudioManager;
+import com.example.demo.util.GameConstant;
+import com.example.demo.util.GameRandom;
+
+import java.util.List;
+
+/**
+ * StressLevel is a subclass of LevelParent that keeps the load of a StressScenario on the game
+ * for as long as it is played, so the cost of every phase of a tick can be measured together.
+ *
+ * <p>On every spawn the level tops its actors back up to the counts of the scenario. The actors are
+ * added directly rather than through the actor budget, as the scenarios exist to measure loads
+ * beyond it. The level has no target, and its players are kept alive by restoring their health,
+ * so the load stays the same until the level is left. In a headless session there are no hearts
+ * to show the health, so the players get enough of it to survive any number of hits in one tick.</p>
+ *
+ * <ul>
+ *   <li>BULLET_WALL keeps {@code GameConstant.Stress.BULLET_WALL_PROJECTILES} enemy projectiles alive.</li>
+ *   <li>BOSS_SWARM holds a multi-phase boss in its third phase and keeps
+ *       {@code GameConstant.Stress.BOSS_SWARM_MINIONS} minions alive.</li>
+ *   <li>BULLET_STORM has two players firing into {@code GameConstant.Stress.BULLET_STORM_ENEMIES}
+ *       enemy planes and {@code GameConstant.Stress.BULLET_STORM_PROJECTILES} enemy projectiles.</li>
+ * </ul>
+ *
+ * @see <a href="https://github.com/swyannnn/CW2024/blob/master/src/main/java/com/example/demo/level/StressLevel.java">Github Source Code</a>
+ * @see StressScenario
+ * @see LevelParent
+ */
+public class StressLevel extends LevelParent {
+    private static final int HEADLESS_PLAYER_HEALTH = Integer.MAX_VALUE / 2;
+
+    private final StressScenario scenario;
+    private final ProjectileFactory projectileFactory = new ProjectileFactory();
+    private final GameRandom random;
+    private final int bossPhase3Health;
+    private FighterPlane bossPlane;
+
+    /**
+     * Constructs a new StressLevel instance.
+     *
+     * @param scenario the scenario played by the level
+     * @param actorSpawner the actor spawner used to spawn actors in the level
+     * @param audioManager the audio manager used to manage audio in the level
+     */
+    public StressLevel(StressScenario scenario, ActorSpawner actorSpawner, AudioManager audioManager) {
+        super(scenario.getLevelNumber(), scenario.getNumberOfPlayers(), actorSpawner, audioManager);
+        this.scenario = scenario;
+        this.random = actorSpawner.getRandom();
+        this.bossPhase3Health = actorSpawner.getTuning().scalePhaseThreshold(GameConstant.MultiPhaseBossPlane.REMAINING_HEALTH_PHASE3);
+    }
+
+    /**
+     * A stress level has no target, so it is never completed.
+     *
+     * @return always false
+     */
+    @Override
+    public boolean userHasReachedTarget() {
+        return false;
+    }
+
+    /**
+     * Tops the actors of the scenario back up and restores the health of the players.
+     */
+    @Override
+    public void spawnEnemyUnits() {
+        keepPlayersAlive();
+        switch (scenario) {
+            case BULLET_WALL:
+                topUpProjectiles(GameConstant.Stress.BULLET_WALL_PROJECTILES);
+                break;
+            case BOSS_SWARM:
+                holdBossInPhase3();
+                topUpEnemies(PlaneType.ENEMY_PLANE4, SpawnCategory.MINION, GameConstant.Stress.BOSS_SWARM_MINIONS);
+                break;
+            case BULLET_STORM:
+                topUpEnemies(PlaneType.ENEMY_PLANE, SpawnCategory.ENEMY_UNIT, GameConstant.Stress.BULLET_STORM_ENEMIES);
+                topUpProjectiles(GameConstant.Stress.BULLET_STORM_PROJECTILES);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown stress scenario: " + scenario);
+        }
+    }
+
+    /**
+     * Restores the health of every player.
+     */
+    private void keepPlayersAlive() {
+        int health = actorSpawn.isHeadless() ? HEADLESS_PLAYER_HEALTH : GameConstant.UserPlane.INITIAL_HEALTH;
+        List<UserPlane> players = actorSpawn.getPlayers();
+        for (int i = 0; i < players.size(); i++) {
+            players.get(i).setHealth(health);
+        }
+    }
+
+    /**
+     * Spawns the multi-phase boss if there is none, and keeps its health at the threshold of its third phase.
+     * The boss passes through its second phase on its first update and reaches the third on the next.
+     */
+    private void holdBossInPhase3() {
+        if (bossPlane == null || bossPlane.isDestroyed()) {
+            bossPlane = planeFactory.createPlane(PlaneType.MULTI_PHASE_BOSS_PLANE);
+            actorSpawn.addActor(bossPlane);
+        }
+        if (bossPlane.getHealth() != bossPhase3Health) {
+            bossPlane.setHealth(bossPhase3Health);
+        }
+    }
+
+    /**
+     * Spawns enemy planes until the category holds the given number of them.
+     *
+     * @param type the type of plane to spawn
+     * @param category the category the planes of the type belong to
+     * @param count the number of planes to keep alive
+     */
+    private void topUpEnemies(PlaneType type, SpawnCategory category, int count) {
+        List<ActiveActor> units = actorSpawn.getEnemyUnits();
+        int alive = 0;
+        for (int i = 0; i < units.size(); i++) {
+            if (SpawnCategory.of(units.get(i)) == category) {
+                alive++;
+            }
+        }
+        for (; alive < count; alive++) {
+            actorSpawn.addActor(planeFactory.createPlane(type));
+        }
+    }
+
+    /**
+     * Spawns enemy projectiles at random positions on the right half of the screen until the given number are alive.
+     *
+     * @param count the number of enemy projectiles to keep alive
+     */
+    private void topUpProjectiles(int count) {
+        double width = GameConstant.GameSettings.SCREEN_WIDTH;
+        for (int alive = actorSpawn.getEnemyProjectiles().size(); alive < count; alive++) {
+            actorSpawn.addActor(projectileFactory.createProjectile(ProjectileType.ENEMY,
+                width / 2 + random.nextDouble() * width / 2, random.nextDouble() * GameConstant.GameSettings.SCREEN_HEIGHT));
+        }
+    }
+
+    /**
+     * Retrieves the scenario played by the level.
+     *
+     * @return the scenario
+     */
+    public StressScenario getScenario() {
+        return scenario;
+    }
+}
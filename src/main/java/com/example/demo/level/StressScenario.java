@@ -0,0 +1,65 @@
+package com.example.demo.level;
+
+/**
+ * The StressScenario enum lists the canned stress levels used to benchmark the game under
+ * loads far beyond those of the regular levels. Each scenario is played as a StressLevel with
+ * its own level number, so it can be started like any other level once it is registered.
+ *
+ * @see <a href="https://github.com/swyannnn/CW2024/blob/master/src/main/java/com/example/demo/level/StressScenario.java">Github Source Code</a>
+ * @see StressLevel
+ * @see com.example.demo.simulation.ScenarioRunner
+ */
+public enum StressScenario {
+    BULLET_WALL(101, "1 000 enemy bullets", 1),
+    BOSS_SWARM(102, "boss phase 3 + 50 minions", 1),
+    BULLET_STORM(103, "2-player bullet storm", 2);
+
+    private final int levelNumber;
+    private final String title;
+    private final int numberOfPlayers;
+
+    StressScenario(int levelNumber, String title, int numberOfPlayers) {
+        this.levelNumber = levelNumber;
+        this.title = title;
+        this.numberOfPlayers = numberOfPlayers;
+    }
+
+    public int getLevelNumber() {
+        return levelNumber;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public int getNumberOfPlayers() {
+        return numberOfPlayers;
+    }
+
+    /**
+     * Finds the scenario played as a level.
+     *
+     * @param levelNumber the number of the level
+     * @return the scenario of the level
+     * @throws IllegalArgumentException if no scenario has the level number
+     */
+    public static StressScenario forLevel(int levelNumber) {
+        for (StressScenario scenario : values()) {
+            if (scenario.levelNumber == levelNumber) {
+                return scenario;
+            }
+        }
+        throw new IllegalArgumentException("Invalid stress level number: " + levelNumber);
+    }
+
+    /**
+     * Registers every scenario with the LevelFactory under its level number.
+     * The scenarios always play with their own number of players.
+     */
+    public static void registerAll() {
+        for (StressScenario scenario : values()) {
+            LevelFactory.registerLevel(scenario.levelNumber,
+                config -> new StressLevel(scenario, config.getActorSpawner(), config.getAudioManager()));
+        }
+    }
+}
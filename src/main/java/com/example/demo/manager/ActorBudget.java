@@ -0,0 +1,93 @@
+package com.example.demo.manager;
+
+import com.example.demo.actor.SpawnCategory;
+import com.example.demo.util.GameConstant;
+
+/**
+ * The ActorBudget class holds the caps on the number of live actors an ActorManager enforces,
+ * so the worst case cost of a frame stays bounded however dense a level gets.
+ *
+ * <p>There is one cap per SpawnCategory and one on the total number of actors. The caps of
+ * categories that are never throttled are ignored, but their actors still count towards the
+ * total. The defaults are taken from GameConstant.ActorBudget and can be changed at any time,
+ * for example by a level that needs more room; the new caps apply to the next spawn request.</p>
+ *
+ * @see <a href="https://github.com/swyannnn/CW2024/blob/master/src/main/java/com/example/demo/manager/ActorBudget.java">Github Source Code</a>
+ * @see ActorManager#requestSpawn(SpawnCategory)
+ * @see SpawnCategory
+ */
+public class ActorBudget {
+    private final int[] caps = new int[SpawnCategory.values().length];
+    private int totalCap = GameConstant.ActorBudget.MAX_ACTORS;
+
+    /**
+     * Constructs an ActorBudget with the default caps.
+     */
+    public ActorBudget() {
+        for (SpawnCategory category : SpawnCategory.values()) {
+            caps[category.ordinal()] = Integer.MAX_VALUE;
+        }
+        caps[SpawnCategory.ENEMY_UNIT.ordinal()] = GameConstant.ActorBudget.MAX_ENEMY_UNITS;
+        caps[SpawnCategory.MINION.ordinal()] = GameConstant.ActorBudget.MAX_MINIONS;
+        caps[SpawnCategory.ENEMY_PROJECTILE.ordinal()] = GameConstant.ActorBudget.MAX_ENEMY_PROJECTILES;
+        caps[SpawnCategory.BOSS_PROJECTILE.ordinal()] = GameConstant.ActorBudget.MAX_BOSS_PROJECTILES;
+    }
+
+    /**
+     * Sets the cap of a category.
+     *
+     * @param category the category to cap
+     * @param cap the largest number of live actors of the category
+     * @return this ActorBudget
+     * @throws IllegalArgumentException if the cap is negative
+     */
+    public ActorBudget setCap(SpawnCategory category, int cap) {
+        caps[category.ordinal()] = requireCap(cap);
+        return this;
+    }
+
+    /**
+     * Sets the cap on the total number of live actors.
+     *
+     * @param cap the largest number of live actors
+     * @return this ActorBudget
+     * @throws IllegalArgumentException if the cap is negative
+     */
+    public ActorBudget setTotalCap(int cap) {
+        totalCap = requireCap(cap);
+        return this;
+    }
+
+    /**
+     * Checks that a cap is not negative.
+     *
+     * @param cap the cap to check
+     * @return the cap
+     * @throws IllegalArgumentException if the cap is negative
+     */
+    private static int requireCap(int cap) {
+        if (cap < 0) {
+            throw new IllegalArgumentException("Actor cap must not be negative: " + cap);
+        }
+        return cap;
+    }
+
+    /**
+     * Retrieves the cap of a category.
+     *
+     * @param category the category
+     * @return the largest number of live actors of the category
+     */
+    public int getCap(SpawnCategory category) {
+        return caps[category.ordinal()];
+    }
+
+    /**
+     * Retrieves the cap on the total number of live actors.
+     *
+     * @return the largest number of live actors
+     */
+    public int getTotalCap() {
+        return totalCap;
+    }
+}
@@ -2,54 +2,218 @@ package com.example.demo.manager;
 
 import com.example.demo.actor.ActiveActor;
 import com.example.demo.actor.ActorSpawner;
+import com.example.demo.actor.SpawnCategory;
 import com.example.demo.actor.plane.BossPlane;
 import com.example.demo.actor.plane.FighterPlane;
 import com.example.demo.actor.plane.UserPlane;
 import com.example.demo.actor.projectile.BossProjectile;
 import com.example.demo.actor.projectile.EnemyProjectile;
 import com.example.demo.actor.projectile.UserProjectile;
+import com.example.demo.effect.ParticleSystem;
+import com.example.demo.effect.TweenEngine;
+import com.example.demo.profiling.ActorDespawnEvent;
+import com.example.demo.profiling.ActorSpawnEvent;
+import com.example.demo.util.BalanceTuning;
+import com.example.demo.util.GameClock;
+import com.example.demo.util.GameConstant;
+import com.example.demo.util.GameConstant.ParticleStyle;
+import com.example.demo.util.GameRandom;
+import com.example.demo.util.QualityGovernor;
 
 import javafx.application.Platform;
 import javafx.scene.Group;
 import javafx.scene.Node;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 
 /**
  * The ActorManager class is responsible for managing and updating all active actors in the game.
- * It follows the singleton pattern to ensure only one instance of the manager exists.
+ * Each GameSession owns its own ActorManager, which also gives the session's actors access to
+ * its clock, random number generator and audio through the ActorSpawner interface.
  * The manager handles adding, removing, and updating actors, as well as managing UI elements.
  * 
+ * <p>Actors are also sorted into per-category lists when they are added, so that the
+ * lists used by collision detection and level checks every frame can be returned
+ * without copying. The lists returned by the getters are read-only views.</p>
+ *
+ * <p>The number of live actors is bounded by an {@link ActorBudget}. Low-priority actors, such as
+ * enemy planes and projectiles, are only created after {@link #requestSpawn(SpawnCategory)} grants
+ * them room; when a projectile cap is reached, the oldest off-screen projectile of the category is
+ * evicted, and otherwise the request is throttled.</p>
+ *
+ * <p>After every update, actors lying entirely outside of the screen are hidden so they are not
+ * drawn, and low-priority actors further than {@code GameConstant.Viewport.DESPAWN_MARGIN} away
+ * from it are destroyed. UI elements added on behalf of an actor are tracked, and any that are
+ * still shown once their owner is gone are reported as leaks and removed.</p>
+ *
+ * <p>A headless session draws nothing, so its actors are kept out of the scene graph. Adding a
+ * node to a group or removing it from one allocates change notifications, which would otherwise
+ * be paid for every projectile fired and every hit of a simulation.</p>
+ * 
  * @see <a href="https://github.com/swyannnn/CW2024/blob/master/src/main/java/com/example/demo/manager/ActorManager.java">Github Source Code</a>
  */
 public class ActorManager implements ActorSpawner {
-    private static ActorManager instance;
+    private static final double DESPAWN_MARGIN = GameConstant.Viewport.DESPAWN_MARGIN;
     private final List<ActiveActor> actors;
+    private final List<UserPlane> players = new ArrayList<>();
+    private final List<ActiveActor> userProjectiles = new ArrayList<>();
+    private final List<ActiveActor> enemyUnits = new ArrayList<>();
+    private final List<ActiveActor> enemyProjectiles = new ArrayList<>();
+    private final List<ActiveActor> bossUnits = new ArrayList<>();
+    private final List<ActiveActor> bossProjectiles = new ArrayList<>();
+    private final List<UserPlane> playersView = Collections.unmodifiableList(players);
+    private final List<ActiveActor> userProjectilesView = Collections.unmodifiableList(userProjectiles);
+    private final List<ActiveActor> enemyUnitsView = Collections.unmodifiableList(enemyUnits);
+    private final List<ActiveActor> enemyProjectilesView = Collections.unmodifiableList(enemyProjectiles);
+    private final List<ActiveActor> bossUnitsView = Collections.unmodifiableList(bossUnits);
+    private final List<ActiveActor> bossProjectilesView = Collections.unmodifiableList(bossProjectiles);
+    private final int[] categoryCounts = new int[SpawnCategory.values().length];
+    private final ActorBudget budget = new ActorBudget();
+    private long throttledCount;
+    private long evictedCount;
+    private final Map<ActiveActor, List<Node>> ownedUIElements = new HashMap<>();
+    private long leakedUIElementCount;
+    private final GameClock clock;
+    private final TweenEngine tweenEngine;
+    private final ParticleSystem particleSystem;
+    private final QualityGovernor qualityGovernor;
+    private boolean smoothSprites = true;
+    private final GameRandom random;
+    private final AudioManager audioManager;
+    private final BalanceTuning tuning;
+    private final boolean headless;
     private Group root;
 
     /**
      * Constructs an ActorManager with the specified root group.
      *
      * @param root the root group to which actors will be added
+     * @param clock the clock of the session the actors belong to
+     * @param tweenEngine the engine running the effect tweens of the session
+     * @param particleSystem the particle system of the session
+     * @param qualityGovernor the governor holding the quality level of the session
+     * @param random the random number generator of the session the actors belong to
+     * @param audioManager the AudioManager the actors play their sound effects with
+     * @param tuning the balance tuning of the session the actors belong to
+     * @param headless true if the session runs without a scene
      */
-    private ActorManager(Group root) {
+    public ActorManager(Group root, GameClock clock, TweenEngine tweenEngine, ParticleSystem particleSystem,
+                        QualityGovernor qualityGovernor, GameRandom random, AudioManager audioManager,
+                        BalanceTuning tuning, boolean headless) {
         this.root = root;
         this.actors = new ArrayList<>();
+        this.clock = clock;
+        this.tweenEngine = tweenEngine;
+        this.particleSystem = particleSystem;
+        this.qualityGovernor = qualityGovernor;
+        this.random = random;
+        this.audioManager = audioManager;
+        this.tuning = tuning;
+        this.headless = headless;
     }
 
     /**
-     * Retrieves the singleton instance of ActorManager.
+     * Retrieves the clock of the session the actors belong to.
      *
-     * @param root The root group to which actors are added.
-     * @return The singleton instance of ActorManager.
+     * @return the GameClock
      */
-    public static synchronized ActorManager getInstance(Group root) {
-        if (instance == null) {
-            instance = new ActorManager(root);
-        }
-        return instance;
+    @Override
+    public GameClock getClock() {
+        return clock;
+    }
+
+    /**
+     * Retrieves the engine running the effect tweens of the session the actors belong to.
+     *
+     * @return the TweenEngine
+     */
+    @Override
+    public TweenEngine getTweenEngine() {
+        return tweenEngine;
+    }
+
+    /**
+     * Retrieves the particle system of the session the actors belong to.
+     *
+     * @return the ParticleSystem
+     */
+    @Override
+    public ParticleSystem getParticleSystem() {
+        return particleSystem;
+    }
+
+    /**
+     * Retrieves the governor holding the current quality level of the session.
+     *
+     * @return the QualityGovernor
+     */
+    @Override
+    public QualityGovernor getQualityGovernor() {
+        return qualityGovernor;
+    }
+
+    /**
+     * Retrieves the random number generator of the session the actors belong to.
+     *
+     * @return the GameRandom
+     */
+    @Override
+    public GameRandom getRandom() {
+        return random;
+    }
+
+    /**
+     * Retrieves the AudioManager the actors play their sound effects with.
+     *
+     * @return the AudioManager
+     */
+    @Override
+    public AudioManager getAudioManager() {
+        return audioManager;
+    }
+
+    /**
+     * Retrieves the balance tuning of the session the actors belong to.
+     *
+     * @return the BalanceTuning
+     */
+    @Override
+    public BalanceTuning getTuning() {
+        return tuning;
+    }
+
+    /**
+     * Checks if the session runs without a scene.
+     *
+     * @return true if the session is headless, false otherwise
+     */
+    @Override
+    public boolean isHeadless() {
+        return headless;
+    }
+
+    /**
+     * Retrieves the number of actors currently managed.
+     *
+     * @return the number of actors
+     */
+    public int getActorCount() {
+        return actors.size();
+    }
+
+    /**
+     * Retrieves the root group actors are currently added to.
+     *
+     * @return the root group
+     */
+    public Group getRoot() {
+        return root;
     }
 
     /**
@@ -62,13 +226,104 @@ public class ActorManager implements ActorSpawner {
     }
 
     /**
-     * Adds an actor to the manager and the scene graph.
+     * Retrieves the caps on the number of live actors, which can be changed at any time.
+     *
+     * @return the ActorBudget of this manager
+     */
+    public ActorBudget getBudget() {
+        return budget;
+    }
+
+    /**
+     * Checks if an actor of the given category may be spawned within the budget.
+     * Categories that are never throttled are always granted. When the cap of an evictable
+     * category or the total cap is reached, the oldest off-screen actor of the category is
+     * destroyed to make room; if there is none, the request is refused.
+     *
+     * @param category the category of the actor to spawn
+     * @return true if the actor may be spawned, false if it should be skipped
+     */
+    @Override
+    public boolean requestSpawn(SpawnCategory category) {
+        if (!category.isThrottled()) {
+            return true;
+        }
+        if (categoryCounts[category.ordinal()] < budget.getCap(category) && actors.size() < budget.getTotalCap()) {
+            return true;
+        }
+        if (category.isEvictable() && evictOldestOffScreen(category == SpawnCategory.ENEMY_PROJECTILE ? enemyProjectiles : bossProjectiles)) {
+            evictedCount++;
+            return true;
+        }
+        throttledCount++;
+        return false;
+    }
+
+    /**
+     * Destroys the oldest actor of a category list that is entirely off-screen.
+     * Actors are appended as they are added, so the first match is the oldest.
+     *
+     * @param category the list of the category to evict from
+     * @return true if an actor was destroyed, false if every actor is at least partly on screen
+     */
+    private boolean evictOldestOffScreen(List<ActiveActor> category) {
+        for (int i = 0; i < category.size(); i++) {
+            ActiveActor actor = category.get(i);
+            if (!actor.isDestroyed() && isOutsideScreen(actor, 0)) {
+                actor.destroy();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks if an actor lies entirely outside of the screen grown by a margin on every side.
+     *
+     * @param actor the actor to check
+     * @param margin the distance the screen is grown by, in pixels
+     * @return true if no part of the actor is within the grown screen, false otherwise
+     */
+    private static boolean isOutsideScreen(ActiveActor actor, double margin) {
+        double x = actor.getCurrentX();
+        double y = actor.getCurrentY();
+        return x + actor.getImageWidth() < -margin || x > GameConstant.GameSettings.SCREEN_WIDTH + margin
+            || y + actor.getImageHeight() < -margin || y > GameConstant.GameSettings.SCREEN_HEIGHT + margin;
+    }
+
+    /**
+     * Retrieves the number of spawn requests refused by the budget.
+     *
+     * @return the number of throttled requests
+     */
+    public long getThrottledCount() {
+        return throttledCount;
+    }
+
+    /**
+     * Retrieves the number of off-screen actors destroyed to make room for new ones.
+     *
+     * @return the number of evicted actors
+     */
+    public long getEvictedCount() {
+        return evictedCount;
+    }
+
+    /**
+     * Adds an actor to the manager and, unless the session is headless, to the scene graph.
+     * The actor is always added; low-priority actors should be granted by
+     * {@link #requestSpawn(SpawnCategory)} before they are created.
      *
      * @param actor The actor to add.
      */
     public void addActor(ActiveActor actor) {
         actors.add(actor);
-        root.getChildren().add(actor);
+        addToCategory(actor);
+        actor.setSmooth(smoothSprites);
+        if (!headless) {
+            root.getChildren().add(actor);
+        }
+        ActorSpawnEvent.emit(actor);
     }
 
     /**
@@ -82,6 +337,50 @@ public class ActorManager implements ActorSpawner {
         }
     }
 
+    /**
+     * Adds a UI element that belongs to an actor, such as the shield of a boss.
+     * The owner is expected to remove the element when it is destroyed; an element that is
+     * still shown once its owner has been removed is reported as leaked and removed.
+     *
+     * @param element the UI element to be added
+     * @param owner the actor the element belongs to
+     */
+    @Override
+    public void addUIElement(Node element, ActiveActor owner) {
+        addUIElement(element);
+        ownedUIElements.computeIfAbsent(owner, key -> new ArrayList<>(1)).add(element);
+    }
+
+    /**
+     * Stops tracking the UI elements of an actor that is being removed,
+     * reporting and removing the ones that are still shown.
+     *
+     * @param owner the actor being removed
+     */
+    private void releaseUIElements(ActiveActor owner) {
+        List<Node> elements = ownedUIElements.remove(owner);
+        if (elements == null) {
+            return;
+        }
+        for (int i = 0; i < elements.size(); i++) {
+            Node element = elements.get(i);
+            if (root.getChildren().remove(element)) {
+                leakedUIElementCount++;
+                System.err.println("Leaked UI element " + element.getClass().getSimpleName()
+                    + " of removed actor " + owner.getTypeName());
+            }
+        }
+    }
+
+    /**
+     * Retrieves the number of UI elements that were still shown after their owner was removed.
+     *
+     * @return the number of leaked UI elements
+     */
+    public long getLeakedUIElementCount() {
+        return leakedUIElementCount;
+    }
+
     /**
      * Removes the specified UI element from the root node's children if it exists.
      *
@@ -96,12 +395,22 @@ public class ActorManager implements ActorSpawner {
     /**
      * Removes the specified actor from the list of active actors and from the UI.
      * This method ensures that the removal is performed on the JavaFX Application Thread.
+     * A headless session has no such thread, so the actor is destroyed instead and removed
+     * with the other destroyed actors on the next tick.
      *
      * @param actor the ActiveActor to be removed
      */
     public void removeActor(ActiveActor actor) {
+        if (headless) {
+            actor.destroy();
+            return;
+        }
         Platform.runLater(() -> {
-            actors.remove(actor);
+            if (actors.remove(actor)) {
+                removeFromCategory(actor);
+                releaseUIElements(actor);
+                ActorDespawnEvent.emit(actor, ActorDespawnEvent.REMOVED);
+            }
             root.getChildren().remove(actor);
         });
     }
@@ -109,137 +418,218 @@ public class ActorManager implements ActorSpawner {
     /**
      * Updates all active actors with the current time.
      * <p>
-     * This method creates a copy of the list of actors to avoid
+     * Only the actors present when the update starts are updated. Actors spawned during
+     * the update are appended to the end of the list and are first updated on the next frame.
+     * Actors are never removed synchronously during an update, so iterating by index is safe
+     * and no copy of the list is needed.
      * Each actor's {@code update} method is called with the provided timestamp.
      *
-     * @param now the current time in milliseconds
+     * @param now the current time in nanoseconds
      */
     public void updateAllActors(long now) {
-        // Create a copy to avoid ConcurrentModificationException
-        List<ActiveActor> actorsCopy = new ArrayList<>(actors);
-        for (ActiveActor actor : actorsCopy) {
-            actor.update(now);
+        int count = actors.size();
+        for (int i = 0; i < count; i++) {
+            actors.get(i).update(now);
+        }
+        cullActors();
+        if (!headless) {
+            emitEngineExhaust();
+            applySpriteSmoothing();
+        }
+    }
+
+    /**
+     * Hides the actors lying entirely outside of the screen, so they are not drawn, and destroys
+     * the low-priority actors that moved further than the despawn margin away from it.
+     * Players and bosses are never despawned. A headless session draws nothing, so it only despawns.
+     */
+    private void cullActors() {
+        for (int i = 0; i < actors.size(); i++) {
+            ActiveActor actor = actors.get(i);
+            if (SpawnCategory.of(actor).isThrottled() && isOutsideScreen(actor, DESPAWN_MARGIN)) {
+                actor.destroy();
+            } else if (!headless) {
+                actor.setVisible(!isOutsideScreen(actor, 0));
+            }
+        }
+    }
+
+    /**
+     * Turns the smoothing of every actor's sprite on or off when the quality level asks for it.
+     */
+    private void applySpriteSmoothing() {
+        boolean smooth = qualityGovernor.getLevel().isSpriteSmoothing();
+        if (smooth == smoothSprites) {
+            return;
+        }
+        smoothSprites = smooth;
+        for (int i = 0; i < actors.size(); i++) {
+            actors.get(i).setSmooth(smooth);
+        }
+    }
+
+    /**
+     * Emits the exhaust particles behind the engine of every player.
+     */
+    private void emitEngineExhaust() {
+        for (int i = 0; i < players.size(); i++) {
+            UserPlane player = players.get(i);
+            particleSystem.emit(ParticleStyle.ENGINE, player.getCurrentX(), player.getCurrentY() + player.getImageHeight() / 2.0);
         }
     }
 
     /**
      * Removes all destroyed actors from the list of actors and from the root's children.
      * An actor is considered destroyed if its `isDestroyed` method returns true.
-     * This method iterates through the list of actors and removes each actor that is destroyed.
+     * This method iterates backwards through the list of actors and removes each actor that is destroyed.
+     * Fighter planes that were shot down leave a burst of debris particles.
      */
     public void removeDestroyedActors() {
-        actors.removeIf(actor -> {
+        for (int i = actors.size() - 1; i >= 0; i--) {
+            ActiveActor actor = actors.get(i);
             if (actor.isDestroyed()) {
-                root.getChildren().remove(actor);
-                return true;
+                if (!headless && actor instanceof FighterPlane && ((FighterPlane) actor).healthAtZero()) {
+                    particleSystem.emit(ParticleStyle.DEBRIS, actor.getCurrentX() + actor.getImageWidth() / 2,
+                        actor.getCurrentY() + actor.getImageHeight() / 2.0);
+                }
+                actors.remove(i);
+                removeFromCategory(actor);
+                releaseUIElements(actor);
+                if (!headless) {
+                    root.getChildren().remove(actor);
+                }
+                ActorDespawnEvent.emit(actor, ActorDespawnEvent.DESTROYED);
             }
-            return false;
-        });
+        }
     }
 
     /**
      * Cleans up the active actors by destroying each actor, removing it from the root's children,
-     * and then removing it from the list of actors.
-     * This method iterates over a copy of the actors list to avoid 
-     * ConcurrentModificationException during the removal process.
+     * and then clearing the list of actors and every category list.
+     * The running effect tweens are finished first, so their listeners remove effect views such as explosions,
+     * and the particles are cleared, so neither holds on to the level's nodes.
      */
     public void cleanup() {
-        for (ActiveActor actor : new ArrayList<>(actors)) {
+        tweenEngine.clear();
+        particleSystem.clear();
+        for (int i = 0; i < actors.size(); i++) {
+            ActiveActor actor = actors.get(i);
             actor.destroy();
-            root.getChildren().remove(actor);
-            actors.remove(actor);
+            releaseUIElements(actor);
+            if (!headless) {
+                root.getChildren().remove(actor);
+            }
+            ActorDespawnEvent.emit(actor, ActorDespawnEvent.CLEANUP);
         }
+        ownedUIElements.clear();
+        actors.clear();
+        players.clear();
+        userProjectiles.clear();
+        enemyUnits.clear();
+        enemyProjectiles.clear();
+        bossUnits.clear();
+        bossProjectiles.clear();
+        Arrays.fill(categoryCounts, 0);
     }
 
     /**
-     * Retrieves a list of all actors that are instances of UserPlane.
+     * Adds the actor to every category list it belongs to.
      *
-     * @return a list of UserPlane objects representing the players.
+     * @param actor the actor to categorize
      */
-    public List<UserPlane> getPlayers() {
-        List<UserPlane> players = new ArrayList<>();
-        for (ActiveActor actor : actors) {
-            if (actor instanceof UserPlane) {
-                players.add((UserPlane) actor);
+    private void addToCategory(ActiveActor actor) {
+        categoryCounts[SpawnCategory.of(actor).ordinal()]++;
+        if (actor instanceof UserPlane) {
+            players.add((UserPlane) actor);
+        } else if (actor instanceof FighterPlane) {
+            enemyUnits.add(actor);
+            if (actor instanceof BossPlane) {
+                bossUnits.add(actor);
             }
+        } else if (actor instanceof UserProjectile) {
+            userProjectiles.add(actor);
+        } else if (actor instanceof EnemyProjectile) {
+            enemyProjectiles.add(actor);
+        } else if (actor instanceof BossProjectile) {
+            bossProjectiles.add(actor);
         }
-        return players;
     }
 
     /**
-     * Retrieves a list of user projectiles from the collection of actors.
+     * Removes the actor from every category list it belongs to.
      *
-     * @return a list of ActiveActor objects that are instances of UserProjectile.
+     * @param actor the actor to remove
      */
-    public List<ActiveActor> getUserProjectiles() {
-        List<ActiveActor> userProjectiles = new ArrayList<>();
-        for (ActiveActor actor : actors) {
-            if (actor instanceof UserProjectile) {
-                userProjectiles.add(actor);
+    private void removeFromCategory(ActiveActor actor) {
+        categoryCounts[SpawnCategory.of(actor).ordinal()]--;
+        if (actor instanceof UserPlane) {
+            players.remove(actor);
+        } else if (actor instanceof FighterPlane) {
+            enemyUnits.remove(actor);
+            if (actor instanceof BossPlane) {
+                bossUnits.remove(actor);
             }
+        } else if (actor instanceof UserProjectile) {
+            userProjectiles.remove(actor);
+        } else if (actor instanceof EnemyProjectile) {
+            enemyProjectiles.remove(actor);
+        } else if (actor instanceof BossProjectile) {
+            bossProjectiles.remove(actor);
         }
-        return userProjectiles;
+    }
+
+    /**
+     * Retrieves a list of all actors that are instances of UserPlane.
+     *
+     * @return a read-only list of UserPlane objects representing the players.
+     */
+    public List<UserPlane> getPlayers() {
+        return playersView;
+    }
+
+    /**
+     * Retrieves a list of user projectiles from the collection of actors.
+     *
+     * @return a read-only list of ActiveActor objects that are instances of UserProjectile.
+     */
+    public List<ActiveActor> getUserProjectiles() {
+        return userProjectilesView;
     }
 
     /**
      * Retrieves a list of enemy units from the collection of actors.
      * An enemy unit is defined as an instance of FighterPlane that is not an instance of UserPlane.
      *
-     * @return a list of ActiveActor objects representing enemy units.
+     * @return a read-only list of ActiveActor objects representing enemy units.
      */
     public List<ActiveActor> getEnemyUnits() {
-        List<ActiveActor> enemyUnits = new ArrayList<>();
-        for (ActiveActor actor : actors) {
-            if (actor instanceof FighterPlane && !(actor instanceof UserPlane)) {
-                enemyUnits.add(actor);
-            }
-        }
-        return enemyUnits;
+        return enemyUnitsView;
     }
 
-
     /**
      * Retrieves a list of enemy projectiles from the current actors.
      *
-     * @return a list of ActiveActor objects that are instances of EnemyProjectile.
+     * @return a read-only list of ActiveActor objects that are instances of EnemyProjectile.
      */
     public List<ActiveActor> getEnemyProjectiles() {
-        List<ActiveActor> enemyProjectiles = new ArrayList<>();
-        for (ActiveActor actor : actors) {
-            if (actor instanceof EnemyProjectile) {
-                enemyProjectiles.add(actor);
-            }
-        }
-        return enemyProjectiles;
+        return enemyProjectilesView;
     }
 
     /**
      * Retrieves a list of all boss units from the collection of actors.
      * 
-     * @return a list of {@link ActiveActor} objects that are instances of {@link BossPlane}.
+     * @return a read-only list of {@link ActiveActor} objects that are instances of {@link BossPlane}.
      */
     public List<ActiveActor> getBossUnits() {
-        List<ActiveActor> bossUnits = new ArrayList<>();
-        for (ActiveActor actor : actors) {
-            if (actor instanceof BossPlane) {
-                bossUnits.add(actor);
-            }
-        }
-        return bossUnits;
+        return bossUnitsView;
     }
 
     /**
      * Retrieves a list of all active boss projectiles.
      *
-     * @return a list of ActiveActor objects that are instances of BossProjectile.
+     * @return a read-only list of ActiveActor objects that are instances of BossProjectile.
      */
     public List<ActiveActor> getBossProjectiles() {
-        List<ActiveActor> bossProjectiles = new ArrayList<>();
-        for (ActiveActor actor : actors) {
-            if (actor instanceof BossProjectile) {
-                bossProjectiles.add(actor);
-            }
-        }
-        return bossProjectiles;
-        }
+        return bossProjectilesView;
     }
+}
@@ -0,0 +1,157 @@
+package com.example.demo.manager;
+
+import com.example.demo.util.GameConstant;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.DoubleConsumer;
+
+
+/**
+ * The AssetLoader class decodes every image and audio asset of the game in parallel at startup.
+ * Assets are declared up front in GameConstant.FilePaths and loaded on a pool of worker threads,
+ * so the JavaFX Application Thread never stalls on the first use of an image or sound.
+ *
+ * <p>The assets needed by the main menu are submitted first. {@link #getMenuAssetsReady()}
+ * completes as soon as they are loaded, so the menu can be shown while the remaining
+ * game assets keep loading in the background. {@link #getAllAssetsReady()} completes
+ * once every asset has been loaded.</p>
+ *
+ * @see <a href="https://github.com/swyannnn/CW2024/blob/master/src/main/java/com/example/demo/manager/AssetLoader.java">Github Source Code</a>
+ * @see ImageManager
+ * @see AudioManager
+ */
+public class AssetLoader {
+    private final AudioManager audioManager;
+    private final ExecutorService workers;
+    private final AtomicInteger loadedCount = new AtomicInteger();
+    private final List<Runnable> menuTasks = new ArrayList<>();
+    private final List<Runnable> gameTasks = new ArrayList<>();
+    private CompletableFuture<Void> menuAssetsReady;
+    private CompletableFuture<Void> allAssetsReady;
+
+    /**
+     * Constructs an AssetLoader that loads audio through the given AudioManager.
+     *
+     * @param audioManager the AudioManager that caches the loaded audio
+     */
+    public AssetLoader(AudioManager audioManager) {
+        this.audioManager = audioManager;
+        int threads = Math.max(2, Runtime.getRuntime().availableProcessors() - 1);
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "asset-loader-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        declareAssets();
+    }
+
+    /**
+     * Declares every asset of the game, split into the assets needed by the main menu
+     * and the assets that are only needed once a level starts.
+     */
+    private void declareAssets() {
+        Set<String> menuMusic = new LinkedHashSet<>(List.of(GameConstant.FilePaths.MENU_MUSIC));
+        for (String music : menuMusic) {
+            menuTasks.add(() -> audioManager.loadMusic(music));
+        }
+
+        for (GameConstant.FilePaths.SoundEffect soundEffect : GameConstant.FilePaths.SoundEffect.values()) {
+            int index = soundEffect.ordinal();
+            gameTasks.add(() -> audioManager.loadSoundEffect(index));
+        }
+        for (String image : GameConstant.FilePaths.IMAGES) {
+            gameTasks.add(() -> ImageManager.preloadImage(image));
+        }
+        for (GameConstant.FilePaths.BackgroundMusic backgroundMusic : GameConstant.FilePaths.BackgroundMusic.values()) {
+            String music = backgroundMusic.getFileName();
+            if (!menuMusic.contains(music)) {
+                gameTasks.add(() -> audioManager.loadMusic(music));
+            }
+        }
+    }
+
+    /**
+     * Starts loading all assets. The menu assets are submitted before the game assets.
+     * The progress listener is called from the worker threads with the fraction of
+     * assets loaded so far, between 0 and 1.
+     *
+     * @param progressListener the listener notified after each asset is loaded
+     */
+    public synchronized void start(DoubleConsumer progressListener) {
+        if (allAssetsReady != null) {
+            return;
+        }
+        int total = menuTasks.size() + gameTasks.size();
+        menuAssetsReady = submitAll(menuTasks, total, progressListener);
+        CompletableFuture<Void> gameAssetsReady = submitAll(gameTasks, total, progressListener);
+        allAssetsReady = CompletableFuture.allOf(menuAssetsReady, gameAssetsReady);
+        allAssetsReady.whenComplete((result, error) -> workers.shutdown());
+    }
+
+    /**
+     * Submits a group of loading tasks to the worker pool.
+     *
+     * @param tasks the tasks to submit
+     * @param total the total number of assets, used to compute the progress
+     * @param progressListener the listener notified after each asset is loaded
+     * @return a future that completes when every task in the group has finished
+     */
+    private CompletableFuture<Void> submitAll(List<Runnable> tasks, int total, DoubleConsumer progressListener) {
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[tasks.size()];
+        for (int i = 0; i < tasks.size(); i++) {
+            Runnable task = tasks.get(i);
+            futures[i] = CompletableFuture.runAsync(() -> {
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    System.err.println("Failed to load asset: " + e.getMessage());
+                } finally {
+                    progressListener.accept(loadedCount.incrementAndGet() / (double) total);
+                }
+            }, workers);
+        }
+        return CompletableFuture.allOf(futures);
+    }
+
+    /**
+     * Retrieves a future that completes when the main menu's assets are loaded.
+     *
+     * @return the future for the menu assets
+     * @throws IllegalStateException if loading has not been started
+     */
+    public synchronized CompletableFuture<Void> getMenuAssetsReady() {
+        if (menuAssetsReady == null) {
+            throw new IllegalStateException("Asset loading has not been started.");
+        }
+        return menuAssetsReady;
+    }
+
+    /**
+     * Retrieves a future that completes when every asset is loaded.
+     *
+     * @return the future for all assets
+     * @throws IllegalStateException if loading has not been started
+     */
+    public synchronized CompletableFuture<Void> getAllAssetsReady() {
+        if (allAssetsReady == null) {
+            throw new IllegalStateException("Asset loading has not been started.");
+        }
+        return allAssetsReady;
+    }
+
+    /**
+     * Stops the worker threads, abandoning any assets that have not been loaded yet.
+     * Assets that are not loaded are loaded on demand when they are first used.
+     */
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+}
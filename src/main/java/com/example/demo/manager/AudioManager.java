@@ -1,82 +1,142 @@
 package com.example.demo.manager;
 
+import com.example.demo.profiling.AudioTriggerEvent;
 import com.example.demo.util.GameConstant;
+import javafx.animation.KeyFrame;
+import javafx.animation.KeyValue;
+import javafx.animation.Timeline;
 import javafx.scene.media.AudioClip;
 import javafx.scene.media.Media;
 import javafx.scene.media.MediaPlayer;
+import javafx.util.Duration;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 
 /**
  * The AudioManager class is responsible for managing audio playback in the application.
- * It follows the Singleton design pattern to ensure only one instance of the manager exists.
- * The class handles preloading of audio files, playing background music, and sound effects.
+ * It is created by the Controller and shared by the GameSessions that play audio.
+ * The class handles loading of audio files, playing background music, and sound effects.
+ * 
+ * <p>Audio files are no longer decoded in the constructor. The AssetLoader loads them on
+ * worker threads at startup through {@link #loadSoundEffect(int)} and {@link #loadMusic(String)},
+ * which are safe to call from any thread. A sound effect that is played before it has been
+ * loaded is loaded on demand.</p>
+ * 
+ * <p>Background music is played through a small cache of MediaPlayers keyed by file name,
+ * built from the preloaded Media. Players are reused across level changes, the next level's
+ * player can be pre-rolled with {@link #prerollMusic(String)}, and tracks are crossfaded so
+ * there is no gap between them. Only a bounded number of players is kept alive.</p>
+ * 
+ * <p>Sound effects are not played immediately. Requests go through a {@link VoiceManager}
+ * that merges duplicates within a frame, enforces per-sound and global voice limits,
+ * and starts the clips on a dedicated audio thread.</p>
+ * 
+ * <p>A muted AudioManager, used by headless sessions, ignores every request to play music
+ * or sound effects and registers no metrics. Its audio thread is never started.</p>
  * 
  * @see <a href="https://github.com/swyannnn/CW2024/blob/master/src/main/java/com/example/demo/manager/ActorManager.java">Github Source Code</a>
+ * @see AssetLoader
  */
 public class AudioManager {
     private static final String AUDIO_LOCATION = GameConstant.FilePaths.AUDIO_LOCATION;
-    private static AudioManager instance;
+    private static final double MUSIC_VOLUME = GameConstant.Music.VOLUME;
+    private static final double MUSIC_CROSSFADE_MILLIS = GameConstant.Music.CROSSFADE_MILLIS;
+    private static final int MAX_MUSIC_PLAYERS = GameConstant.Music.MAX_CACHED_PLAYERS;
+    private static final GameConstant.SoundEffect[] SOUND_EFFECTS = GameConstant.SoundEffect.values();
     private MediaPlayer mediaPlayer;
-    private final List<AudioClip> soundEffects;
-    private final List<Media> preloadedMedia;
+    private String currentMusic;
+    private MediaPlayer fadingOutPlayer;
+    private Timeline crossfade;
+    private final Map<String, MediaPlayer> musicPlayers = new LinkedHashMap<>(16, 0.75f, true);
+    private final AtomicReferenceArray<AudioClip> soundEffects;
+    private final Map<String, Media> preloadedMedia;
+    private final ExecutorService audioExecutor;
+    private final VoiceManager voiceManager;
+    private final boolean muted;
 
     /**
-     * Private constructor for the AudioManager class.
-     * Initializes the soundEffects and preloadedMedia lists,
-     * and preloads all audio files.
+     * Constructs an AudioManager.
+     * Initializes the soundEffects and preloadedMedia caches without loading any audio,
+     * starts the audio thread and registers the voice counters with the MetricsManager.
      */
-    private AudioManager() {
-        soundEffects = new ArrayList<>();
-        preloadedMedia = new ArrayList<>();
-        preloadAllAudio();
+    public AudioManager() {
+        this(false);
     }
 
     /**
-     * Returns the singleton instance of the AudioManager.
-     * This method is synchronized to ensure thread safety.
-     * If the instance is null, it initializes a new AudioManager instance.
+     * Constructs an AudioManager that is either audible or muted.
+     * The audio thread is created lazily, so a muted AudioManager never starts it.
      *
-     * @return the singleton instance of AudioManager
-     */
-    public static synchronized AudioManager getInstance() {
-        if (instance == null) {
-            instance = new AudioManager();
-        }
-        return instance;
-    }
-
-    /**
-     * Preloads all audio files used in the game.
-     * 
-     * This method iterates through all sound effects and background music files defined in 
-     * the GameConstant.FilePaths enumeration, preloading each audio file and setting the 
-     * volume for specific sound effects.
-     * 
-     * Preloaded sound effects are added to the soundEffects list.
-     */
-    private void preloadAllAudio() {
-        for (GameConstant.FilePaths.SoundEffect soundEffect : GameConstant.FilePaths.SoundEffect.values()) {
-            String audioName = soundEffect.getFileName();
-            AudioClip clip = preloadAudioClip(audioName);
-            switch (audioName) {
-                case "player_shoot.mp3":
-                    clip.setVolume(0.1);
-                    break;
-                case "enemy_destroy.wav":
-                    clip.setVolume(0.35);
-                    break;
-                default:
-                    clip.setVolume(0.5); 
-                    break;
-            }
-            soundEffects.add(clip);
+     * @param muted true if the AudioManager should not play anything
+     */
+    public AudioManager(boolean muted) {
+        this.muted = muted;
+        soundEffects = new AtomicReferenceArray<>(GameConstant.FilePaths.SoundEffect.values().length);
+        preloadedMedia = new ConcurrentHashMap<>();
+        audioExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, GameConstant.SoundVoices.AUDIO_THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+        voiceManager = new VoiceManager(GameConstant.SoundVoices.MAX_VOICES, this::startVoice, audioExecutor);
+        if (muted) {
+            return;
         }
 
-        for (GameConstant.FilePaths.BackgroundMusic backgroundMusic : GameConstant.FilePaths.BackgroundMusic.values()) {            
-            preloadMedia(backgroundMusic.getFileName());
+        MetricsManager metricsManager = MetricsManager.getInstance();
+        metricsManager.registerCounter("sound_voices_played", "Sound effect voices played since start.", voiceManager::getPlayedCount);
+        metricsManager.registerCounter("sound_voices_coalesced", "Sound effect requests merged into another request in the same frame.", voiceManager::getCoalescedCount);
+        metricsManager.registerCounter("sound_voices_dropped", "Sound effect voices dropped by a voice limit.", voiceManager::getDroppedCount);
+    }
+
+    /**
+     * Loads the sound effect at the given index and sets its volume.
+     * The index matches the order of GameConstant.FilePaths.SoundEffect.
+     * This method can be called from any thread, and does nothing if the sound effect is already loaded.
+     *
+     * @param index The index of the sound effect to load.
+     * @return The loaded AudioClip, or null if the audio file was not found.
+     */
+    public AudioClip loadSoundEffect(int index) {
+        AudioClip loaded = soundEffects.get(index);
+        if (loaded != null) {
+            return loaded;
+        }
+        String audioName = GameConstant.FilePaths.SoundEffect.values()[index].getFileName();
+        AudioClip clip = preloadAudioClip(audioName);
+        if (clip == null) {
+            return null;
+        }
+        switch (audioName) {
+            case "player_shoot.mp3":
+                clip.setVolume(0.1);
+                break;
+            case "enemy_destroy.wav":
+                clip.setVolume(0.35);
+                break;
+            default:
+                clip.setVolume(0.5); 
+                break;
+        }
+        return soundEffects.compareAndSet(index, null, clip) ? clip : soundEffects.get(index);
+    }
+
+    /**
+     * Loads and caches the Media for a background music file.
+     * This method can be called from any thread, and does nothing if the media is already loaded.
+     *
+     * @param filename The name of the music file.
+     */
+    public void loadMusic(String filename) {
+        if (!preloadedMedia.containsKey(filename)) {
+            preloadMedia(filename);
         }
     }
 
@@ -105,7 +165,7 @@ public class AudioManager {
         try {
             String uri = getClass().getResource(AUDIO_LOCATION + filename).toExternalForm();
             Media media = new Media(uri);
-            preloadedMedia.add(media);
+            preloadedMedia.putIfAbsent(filename, media);
         } catch (NullPointerException e) {
             System.err.println("Media file not found: " + filename);
         }
@@ -113,62 +173,241 @@ public class AudioManager {
 
     /**
      * Plays background music from the specified file.
+     * The player for the track is taken from the player cache, or created from the preloaded
+     * Media if it is not cached. If other music is playing, the two tracks are crossfaded
+     * instead of stopping one before starting the other. A crossfade that is still running is
+     * settled first, so the new fade starts from the volumes the players actually have.
+     * Requesting the track that is already playing does nothing.
      *
      * @param filename The name of the music file.
      */
     public void playMusic(String filename) {
-        stopMusic();
-        Media media = loadMedia(filename);
-        if (media != null) {
-            mediaPlayer = new MediaPlayer(media);
-            mediaPlayer.setCycleCount(MediaPlayer.INDEFINITE);
-            mediaPlayer.setVolume(0.5);
-            mediaPlayer.play();
+        if (muted) {
+            return;
+        }
+        if (mediaPlayer != null && filename.equals(currentMusic)) {
+            return;
+        }
+        settleCrossfade();
+        MediaPlayer nextPlayer = getMusicPlayer(filename);
+        MediaPlayer previousPlayer = mediaPlayer;
+        mediaPlayer = nextPlayer;
+        currentMusic = nextPlayer != null ? filename : null;
+
+        if (nextPlayer != null) {
+            nextPlayer.setVolume(previousPlayer != null ? 0 : MUSIC_VOLUME);
+            nextPlayer.play();
+            AudioTriggerEvent.emit(filename, true);
+        }
+        if (previousPlayer != null) {
+            crossfade(previousPlayer, nextPlayer);
+        }
+    }
+
+    /**
+     * Prepares the player for a music file ahead of time, so a later call to
+     * {@link #playMusic(String)} can start the track without opening the file.
+     *
+     * @param filename The name of the music file.
+     */
+    public void prerollMusic(String filename) {
+        if (muted) {
+            return;
+        }
+        getMusicPlayer(filename);
+    }
+
+    /**
+     * Fades the outgoing player out and the incoming player in.
+     * The outgoing player is stopped and rewound once the fade finishes, so it can be reused.
+     *
+     * @param outgoing the player that is currently playing
+     * @param incoming the player that should take over, or null to fade to silence
+     */
+    private void crossfade(MediaPlayer outgoing, MediaPlayer incoming) {
+        fadingOutPlayer = outgoing;
+
+        Duration duration = Duration.millis(MUSIC_CROSSFADE_MILLIS);
+        crossfade = new Timeline(new KeyFrame(duration, new KeyValue(outgoing.volumeProperty(), 0)));
+        if (incoming != null) {
+            crossfade.getKeyFrames().add(new KeyFrame(duration, new KeyValue(incoming.volumeProperty(), MUSIC_VOLUME)));
+        }
+        crossfade.setOnFinished(event -> {
+            crossfade = null;
+            finishFadeOut();
+        });
+        crossfade.play();
+    }
+
+    /**
+     * Ends a running crossfade at once: the outgoing player is stopped and the current player
+     * is set to full volume. Does nothing if no crossfade is running.
+     */
+    private void settleCrossfade() {
+        if (crossfade == null) {
+            return;
+        }
+        crossfade.stop();
+        crossfade = null;
+        finishFadeOut();
+    }
+
+    /**
+     * Stops and rewinds the player that was faded out, unless it has become the current player again.
+     */
+    private void finishFadeOut() {
+        if (fadingOutPlayer != null && fadingOutPlayer != mediaPlayer) {
+            fadingOutPlayer.stop();
+        }
+        if (mediaPlayer != null) {
+            mediaPlayer.setVolume(MUSIC_VOLUME);
+        }
+        fadingOutPlayer = null;
+        evictMusicPlayers();
+    }
+
+    /**
+     * Returns the cached player for a music file, creating it from the preloaded Media if needed.
+     *
+     * @param filename The name of the music file.
+     * @return the MediaPlayer for the file, or null if the file was not found
+     */
+    private MediaPlayer getMusicPlayer(String filename) {
+        MediaPlayer player = musicPlayers.get(filename);
+        if (player != null) {
+            return player;
+        }
+        loadMusic(filename);
+        Media media = preloadedMedia.get(filename);
+        if (media == null) {
+            return null;
+        }
+        player = new MediaPlayer(media);
+        player.setCycleCount(MediaPlayer.INDEFINITE);
+        player.setVolume(0);
+        musicPlayers.put(filename, player);
+        evictMusicPlayers();
+        return player;
+    }
+
+    /**
+     * Disposes the least recently used players until no more than the maximum number of
+     * players are alive. The current player and a player that is fading out are never disposed.
+     */
+    private void evictMusicPlayers() {
+        Iterator<Map.Entry<String, MediaPlayer>> iterator = musicPlayers.entrySet().iterator();
+        while (musicPlayers.size() > MAX_MUSIC_PLAYERS && iterator.hasNext()) {
+            MediaPlayer player = iterator.next().getValue();
+            if (player != mediaPlayer && player != fadingOutPlayer) {
+                player.dispose();
+                iterator.remove();
+            }
         }
     }
 
     /**
-     * Stops the currently playing music if any, disposes of the media player, 
-     * and sets the media player reference to null.
-     * 
-     * This method checks if the media player is not null, stops the music, 
-     * disposes of the media player resources, and then sets the media player 
-     * reference to null to ensure it can be garbage collected.
+     * Stops the currently playing music if any.
+     * The player stays in the player cache so the track can be restarted without reloading it.
      */
     public void stopMusic() {
+        if (crossfade != null) {
+            crossfade.stop();
+            crossfade = null;
+        }
+        if (fadingOutPlayer != null) {
+            fadingOutPlayer.stop();
+            fadingOutPlayer = null;
+        }
         if (mediaPlayer != null) {
             mediaPlayer.stop();
-            mediaPlayer.dispose();
             mediaPlayer = null;
+            currentMusic = null;
         }
     }
 
     /**
-     * Loads and returns a Media object from the specified filename.
-     *
-     * @param filename The name of the media file.
-     * @return The Media object, or null if not found.
+     * Stops the music, discards pending sound effects and disposes every cached music player.
      */
-    private Media loadMedia(String filename) {
-        try {
-            String uri = getClass().getResource(AUDIO_LOCATION + filename).toExternalForm();
-            return new Media(uri);
-        } catch (NullPointerException e) {
-            System.err.println("Media file not found: " + filename);
-            return null;
+    public void cleanup() {
+        stopMusic();
+        voiceManager.clearPending();
+        for (MediaPlayer player : musicPlayers.values()) {
+            player.dispose();
         }
+        musicPlayers.clear();
     }
 
     /**
-     * Plays a sound effect from the preloaded sound effects.
+     * Requests a sound effect to be played.
+     * The request is handed to the VoiceManager, which merges all requests for the same sound
+     * made during a frame and applies the voice limits when the frame is flushed.
      *
      * @param index The index of the sound effect to play.
      */
     public void playSoundEffect(int index) {
-        if (index >= 0 && index < soundEffects.size() && soundEffects.get(index) != null) {
-            soundEffects.get(index).play();
-        } else {
+        if (muted) {
+            return;
+        }
+        if (index < 0 || index >= soundEffects.length()) {
             System.err.println("Invalid sound effect index: " + index);
+            return;
         }
+        voiceManager.request(index);
+        MetricsManager.getInstance().recordSoundTrigger();
+    }
+
+    /**
+     * Sets whether sound effect requests are merged over several frames instead of one.
+     * Used by the QualityGovernor to play fewer voices on slow machines.
+     *
+     * @param coalesced true to merge requests over GameConstant.Quality.SOUND_COALESCE_NANOS, false to merge them per frame
+     */
+    public void setSoundCoalescing(boolean coalesced) {
+        voiceManager.setFlushInterval(coalesced ? GameConstant.Quality.SOUND_COALESCE_NANOS : 0);
+    }
+
+    /**
+     * Plays the sound effects requested since the last flush.
+     * Called once per frame by the GameLoopManager.
+     *
+     * @param now the current time in nanoseconds
+     */
+    public void flushSoundEffects(long now) {
+        voiceManager.flush(now);
+    }
+
+    /**
+     * Starts a voice of a sound effect. Runs on the audio thread.
+     * The sound effect is loaded first if the AssetLoader has not loaded it yet.
+     *
+     * @param index The index of the sound effect to play.
+     */
+    private void startVoice(int index) {
+        AudioClip clip = loadSoundEffect(index);
+        if (clip == null) {
+            return;
+        }
+        clip.play();
+        if (AudioTriggerEvent.isTypeEnabled()) {
+            AudioTriggerEvent.emit(SOUND_EFFECTS[index].name(), false);
+        }
+    }
+
+    /**
+     * Checks if the AudioManager is muted.
+     *
+     * @return true if the AudioManager plays nothing, false otherwise
+     */
+    public boolean isMuted() {
+        return muted;
+    }
+
+    /**
+     * Retrieves the VoiceManager that schedules sound effect voices.
+     *
+     * @return the VoiceManager
+     */
+    public VoiceManager getVoiceManager() {
+        return voiceManager;
     }
 }
@@ -4,18 +4,20 @@ import com.example.demo.actor.ActiveActor;
 import com.example.demo.actor.plane.UserPlane;
 import com.example.demo.actor.projectile.UserProjectile;
 import com.example.demo.effect.ExplosionEffect;
+import com.example.demo.effect.TweenListener;
 import com.example.demo.handler.CollisionHandler;
+import com.example.demo.profiling.CollisionPassEvent;
 import com.example.demo.util.GameConstant;
+import com.example.demo.util.GameConstant.ParticleStyle;
 
-import javafx.geometry.BoundingBox;
-import javafx.geometry.Bounds;
+import javafx.scene.Node;
 
 import java.util.List;
 
 
 /**
  * The CollisionManager class is responsible for handling collisions between various actors in the game.
- * It follows the singleton pattern to ensure only one instance is created.
+ * Each GameSession owns its own CollisionManager.
  * The class manages collision detection and processing, including handling user projectiles, enemy projectiles,
  * and player collisions with enemies.
  * It also integrates with the AudioManager for sound effects and the ActorManager for managing game actors.
@@ -23,7 +25,8 @@ import java.util.List;
  * <p>Key responsibilities include:</p>
  * <ul>
  *   <li>Managing collision handlers and processing collisions between different types of actors.</li>
- *   <li>Calculating shrunken bounds for collision detection to provide a more accurate collision area.</li>
+ *   <li>Calculating shrunken bounds for collision detection to provide a more accurate collision area.
+ *       The bounds are computed from primitive coordinates so collision checks do not allocate.</li>
  *   <li>Handling the effects of collisions, such as applying damage, creating explosions, and playing sound effects.</li>
  * </ul>
  * 
@@ -34,33 +37,22 @@ import java.util.List;
  * @see ActiveActor
  */
 public class CollisionManager {
-    private static CollisionManager instance;
     private CollisionHandler collisionHandler;
     private AudioManager audioManager;
     private ActorManager actorManager;
     private final double shrinkPercentage = GameConstant.GameSettings.COLLISION_SHRINK_PERCENTAGE;
+    private int candidateCount;
+    private int hitCount;
+    private final TweenListener explosionFinished = this::onExplosionFinished;
+    private int explosionCount;
     
     /**
-     * Private constructor for the CollisionManager class.
-     * Initializes the CollisionManager instance and sets up the AudioManager.
-     * This constructor is private to enforce the singleton pattern.
-     */
-    private CollisionManager() {
-        this.audioManager = AudioManager.getInstance();
-    }
-
-    /**
-     * Returns the singleton instance of the CollisionManager.
-     * This method is synchronized to ensure thread safety.
-     * If the instance is null, it initializes a new CollisionManager.
+     * Constructs a CollisionManager.
      *
-     * @return the singleton instance of CollisionManager
+     * @param audioManager the AudioManager used to play the collision sound effects
      */
-    public static synchronized CollisionManager getInstance() {
-        if (instance == null) {
-            instance = new CollisionManager();
-        }
-        return instance;
+    public CollisionManager(AudioManager audioManager) {
+        this.audioManager = audioManager;
     }
 
     /**
@@ -81,10 +73,15 @@ public class CollisionManager {
      * 3. Boss projectiles hitting players.
      * 4. Players colliding with all enemies (including bosses).
      * 
+     * The number of actor pairs checked and the number of hits are recorded for profiling.
+     * 
      * @param actorManager The ActorManager instance containing all actors in the game.
      */
     public void handleAllCollisions(ActorManager actorManager) {
         this.actorManager = actorManager;
+        CollisionPassEvent event = CollisionPassEvent.start();
+        candidateCount = 0;
+        hitCount = 0;
     
         // Handle user projectiles hitting all enemies (including bosses)
         handleCollisions(actorManager.getUserProjectiles(), actorManager.getEnemyUnits());
@@ -97,25 +94,56 @@ public class CollisionManager {
     
         // Handle player collisions with all enemies (including bosses)
         handleCollisions(actorManager.getPlayers(), actorManager.getEnemyUnits());
+
+        CollisionPassEvent.finish(event, candidateCount, hitCount);
+        MetricsManager.getInstance().recordCollisionPass(candidateCount, hitCount);
     }
 
     /**
-     * Calculates and returns the shrunken bounds of the given actor.
-     * The bounds are shrunk by a percentage defined by the shrinkPercentage field.
+     * Retrieves the number of actor pairs checked in the last collision pass.
      *
-     * @param actor the ActiveActor whose bounds are to be shrunken
-     * @return a BoundingBox representing the shrunken bounds of the actor
+     * @return the number of collision candidates
      */
-    private Bounds getShrunkenBounds(ActiveActor actor) {
-        Bounds original = actor.getBoundsInParent();
-        
-        double width = original.getWidth() * shrinkPercentage;
-        double height = original.getHeight() * shrinkPercentage;
-        
-        double minX = original.getMinX() + (original.getWidth() - width) / 2;
-        double minY = original.getMinY() + (original.getHeight() - height) / 2;
-        
-        return new BoundingBox(minX, minY, width, height);
+    public int getCandidateCount() {
+        return candidateCount;
+    }
+
+    /**
+     * Retrieves the number of actor pairs that collided in the last collision pass.
+     *
+     * @return the number of collision hits
+     */
+    public int getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Checks if the shrunken bounds of two actors intersect.
+     * The bounds of each actor are shrunk around their centre by the shrinkPercentage field.
+     * The check is done on primitive coordinates instead of Bounds objects so that
+     * the per-frame collision pass does not allocate.
+     *
+     * @param source the first actor
+     * @param target the second actor
+     * @return true if the shrunken bounds of the actors intersect, false otherwise
+     */
+    private boolean intersects(ActiveActor source, ActiveActor target) {
+        double sourceWidth = source.getImageWidth();
+        double sourceHeight = source.getImageHeight();
+        double sourceMinX = source.getCurrentX() + sourceWidth * (1 - shrinkPercentage) / 2;
+        double sourceMinY = source.getCurrentY() + sourceHeight * (1 - shrinkPercentage) / 2;
+        double sourceMaxX = sourceMinX + sourceWidth * shrinkPercentage;
+        double sourceMaxY = sourceMinY + sourceHeight * shrinkPercentage;
+
+        double targetWidth = target.getImageWidth();
+        double targetHeight = target.getImageHeight();
+        double targetMinX = target.getCurrentX() + targetWidth * (1 - shrinkPercentage) / 2;
+        double targetMinY = target.getCurrentY() + targetHeight * (1 - shrinkPercentage) / 2;
+        double targetMaxX = targetMinX + targetWidth * shrinkPercentage;
+        double targetMaxY = targetMinY + targetHeight * shrinkPercentage;
+
+        return targetMaxX >= sourceMinX && targetMaxY >= sourceMinY
+            && targetMinX <= sourceMaxX && targetMinY <= sourceMaxY;
     }
     
     /**
@@ -132,31 +160,38 @@ public class CollisionManager {
         List<? extends ActiveActor> sourceActors, 
         List<? extends ActiveActor> targetActors) {
         
-        sourceActors.stream()
-            .flatMap(source -> targetActors.stream()
-                .filter(target -> {
-                    Bounds sourceBounds = getShrunkenBounds(source);
-                    Bounds targetBounds = getShrunkenBounds(target);
-                    return sourceBounds.intersects(targetBounds);
-                })
-                .map(target -> new CollisionPair(source, target)))
-            .forEach(this::processCollision);
+        candidateCount += sourceActors.size() * targetActors.size();
+        for (int i = 0; i < sourceActors.size(); i++) {
+            ActiveActor source = sourceActors.get(i);
+            for (int j = 0; j < targetActors.size(); j++) {
+                ActiveActor target = targetActors.get(j);
+                if (intersects(source, target)) {
+                    hitCount++;
+                    processCollision(source, target);
+                }
+            }
+        }
     }
 
     /**
      * Processes a collision between two active actors.
+     * Sparks fly from the point of impact, unless the session is headless.
      *
-     * @param pair The collision pair containing the source and target actors.
+     * @param source The actor that caused the collision.
+     * @param target The actor that was hit.
      */
-    private void processCollision(CollisionPair pair) {
-        ActiveActor source = pair.source;
-        ActiveActor target = pair.target;
-    
+    private void processCollision(ActiveActor source, ActiveActor target) {
         source.takeDamage();
         target.takeDamage();
         
+        if (!actorManager.isHeadless()) {
+            actorManager.getParticleSystem().emit(ParticleStyle.SPARK, source.getCurrentX() + source.getImageWidth() / 2,
+                source.getCurrentY() + source.getImageHeight() / 2.0);
+        }
         if (!(target instanceof UserPlane)){
-            createExplosionAt(target);
+            if (!actorManager.isHeadless()) {
+                createExplosionAt(target);
+            }
             if (source instanceof UserProjectile) {
                 UserProjectile projectile = (UserProjectile) source;
                 UserPlane userPlane = projectile.getOwner();
@@ -176,36 +211,36 @@ public class CollisionManager {
      * The explosion effect is added to the UI and a sound effect is played. 
      * 
      * The collision handler is notified when the explosion starts and finishes.
+     * When the quality level thins out explosions, only one hit in every explosion stride
+     * shows an explosion; the others only play its sound.
      * 
      * @param target the ActiveActor at whose location the explosion will be created
      */
     private void createExplosionAt(ActiveActor target) {
+        int stride = actorManager.getQualityGovernor().getLevel().getExplosionStride();
+        if (explosionCount++ % stride != 0) {
+            audioManager.playSoundEffect(GameConstant.SoundEffect.EXPLOSION.ordinal());
+            return;
+        }
         double explosionX = target.getLayoutX() + target.getTranslateX();
         double explosionY = target.getLayoutY() + target.getTranslateY() + target.getImageHeight() / 2;
-        ExplosionEffect explosion = new ExplosionEffect(explosionX, explosionY);
+        ExplosionEffect explosion = new ExplosionEffect(actorManager.getTweenEngine(), explosionX, explosionY);
         actorManager.addUIElement(explosion.getExplosionView());
         audioManager.playSoundEffect(GameConstant.SoundEffect.EXPLOSION.ordinal());
         // Notify that an explosion has started
         collisionHandler.onExplosionStarted();
-        // Set a callback to notify when the explosion has finished
-        explosion.setOnFinished(event -> {
-            actorManager.removeUIElement(explosion.getExplosionView());
-            collisionHandler.onExplosionFinished();
-        });
+        // Notify when the explosion has finished
+        explosion.setOnFinished(explosionFinished);
         explosion.play();
     }
 
     /**
-     * Represents a pair of colliding actors.
-     * This class is used to store the source and target actors involved in a collision.
+     * Removes a finished explosion and notifies the collision handler.
+     *
+     * @param explosionView the view of the finished explosion
      */
-    private static class CollisionPair {
-        final ActiveActor source;
-        final ActiveActor target;
-
-        CollisionPair(ActiveActor source, ActiveActor target) {
-            this.source = source;
-            this.target = target;
-        }
+    private void onExplosionFinished(Node explosionView) {
+        actorManager.removeUIElement(explosionView);
+        collisionHandler.onExplosionFinished();
     }
 }
@@ -1,74 +1,62 @@
 package com.example.demo.manager;
 
-import java.beans.PropertyChangeListener;
-import java.beans.PropertyChangeSupport;
-
+import com.example.demo.effect.ParticleSystem;
+import com.example.demo.effect.TweenEngine;
+import com.example.demo.event.EventBus;
+import com.example.demo.event.PauseChangedEvent;
 import com.example.demo.handler.GameLoopHandler;
+import com.example.demo.profiling.GameTickEvent;
+import com.example.demo.util.GameClock;
+import com.example.demo.util.GameConstant.QualityLevel;
+import com.example.demo.util.QualityGovernor;
 
 import javafx.animation.AnimationTimer;
 
 /**
- * The GameLoopManager class is responsible for managing the game loop using the singleton pattern.
+ * The GameLoopManager class is responsible for managing the game loop of a GameSession.
  * It provides methods to start, stop, pause, and resume the game loop, as well as to set the game loop updater.
- * The class also supports property change listeners to notify other components of changes in the game loop state.
+ * Changes of the paused state are published on the EventBus as a PauseChangedEvent.
  * 
  * <p>Animation Timer:</p>
- * <p>The game loop is implemented using JavaFX's AnimationTimer, which calls the updater's update method on each frame.</p>
+ * <p>The game loop is implemented using JavaFX's AnimationTimer. Each frame advances the {@link GameClock},
+ * and the updater's update method is called once for every fixed simulation tick the clock produces.
+ * The {@link TweenEngine} and {@link ParticleSystem} of the game's effects are advanced right after
+ * the updater on each tick, and the particles are drawn once after the last tick of the frame.
+ * The sound effects requested during the frame are flushed after the last tick.</p>
+ *
+ * <p>The time spent ticking and drawing each frame is reported to the {@link QualityGovernor},
+ * whose current level and number of transitions are exported through the MetricsManager.</p>
  *
  * @see <a href="https://github.com/swyannnn/CW2024/blob/master/src/main/java/com/example/demo/manager/GameLoopManager.java">Github Source Code</a>
- * @see java.beans.PropertyChangeSupport
+ * @see EventBus
+ * @see PauseChangedEvent
  * @see javafx.animation.AnimationTimer
+ * @see GameClock
+ * @see QualityGovernor
  */
 public class GameLoopManager{
-    private static volatile GameLoopManager instance;
-    private final PropertyChangeSupport pcs = new PropertyChangeSupport(this);
     private AnimationTimer gameLoop;
     private GameLoopHandler updater;
     private boolean paused;
+    private boolean running;
+    private final GameClock clock = new GameClock();
+    private final TweenEngine tweenEngine = new TweenEngine();
+    private final ParticleSystem particleSystem = new ParticleSystem();
+    private final QualityGovernor qualityGovernor = new QualityGovernor();
+    private final MetricsManager metricsManager = MetricsManager.getInstance();
+    private final EventBus eventBus;
+    private final AudioManager audioManager;
 
     /**
-     * Private constructor for the GameLoopManager class.
-     * Initializes the GameLoopManager instance and sets the paused state to false.
-     */
-    private GameLoopManager() {
-        this.paused = false;
-    }
-
-    /**
-     * Retrieves the singleton instance of GameLoopManager.
-     * Implements double-checked locking for thread safety and performance.
+     * Constructs a GameLoopManager that is not paused.
      *
-     * @return The singleton instance of GameLoopManager.
+     * @param eventBus the EventBus pause changes are published on
+     * @param audioManager the AudioManager whose sound effects are flushed after each frame
      */
-    public static GameLoopManager getInstance() {
-        if (instance == null) {
-            synchronized (GameLoopManager.class) {
-                if (instance == null) {
-                    instance = new GameLoopManager();
-                }
-            }
-        }
-        return instance;
-    }
-
-    /**
-     * Adds a PropertyChangeListener to the listener list.
-     * The listener is registered for all properties.
-     *
-     * @param listener the PropertyChangeListener to be added
-     */
-    public void addPropertyChangeListener(PropertyChangeListener listener) {
-        pcs.addPropertyChangeListener(listener);
-    }
-
-    /**
-     * Removes a PropertyChangeListener from the listener list.
-     * This method should be called to unregister a listener that was previously added.
-     *
-     * @param listener the PropertyChangeListener to be removed
-     */
-    public void removePropertyChangeListener(PropertyChangeListener listener) {
-        pcs.removePropertyChangeListener(listener);
+    public GameLoopManager(EventBus eventBus, AudioManager audioManager) {
+        this.eventBus = eventBus;
+        this.audioManager = audioManager;
+        this.paused = false;
     }
 
     /**
@@ -79,19 +67,56 @@ public class GameLoopManager{
     public void setUpdater(GameLoopHandler updater) {
         this.updater = updater;
         initializeGameLoop();
+        metricsManager.registerGauge("quality_level", "Current quality level, 0 being full quality.",
+            () -> qualityGovernor.getLevel().ordinal());
+        metricsManager.registerCounter("quality_transitions", "Quality level changes since start.",
+            qualityGovernor::getTransitionCount);
+        metricsManager.registerGauge("tweens_active", "Effect tweens running.", tweenEngine::getActiveCount);
+        metricsManager.registerGauge("tweens_pooled", "Finished effect tweens kept for reuse.", tweenEngine::getPooledCount);
+    }
+
+    /**
+     * Applies the reductions of the current quality level that belong to the loop's own effects:
+     * the density of the particles and the coalescing of sound effects.
+     * Other components read the level from the QualityGovernor when they need it.
+     */
+    private void applyQuality() {
+        QualityLevel level = qualityGovernor.getLevel();
+        particleSystem.setDensity(level.getParticleDensity());
+        audioManager.setSoundCoalescing(level.isSoundCoalesced());
     }
 
     /**
      * Initializes the game loop using an AnimationTimer.
-     * The game loop will call the updater's update method with the current time in nanoseconds
-     * if the game is not paused and the updater is not null.
+     * On each frame the game clock is advanced, and the updater's update method is called
+     * with the simulation time in nanoseconds once per simulation tick, as long as the
+     * game is not paused and the updater is not null.
      */
     private void initializeGameLoop() {
         this.gameLoop = new AnimationTimer() {
             @Override
             public void handle(long now) {
             if (!paused && updater != null) {
-                updater.update(now); // 'now' is in nanoseconds
+                metricsManager.recordFrame(now);
+                long frameStartedAt = System.nanoTime();
+                int steps = clock.advance(now);
+                for (int i = 0; i < steps; i++) {
+                    clock.tick();
+                    GameTickEvent event = GameTickEvent.start(clock.getTickCount(), clock.getSimulationTime());
+                    long tickStartedAt = System.nanoTime();
+                    updater.update(clock.getSimulationTime()); // simulation time is in nanoseconds
+                    tweenEngine.update(clock.getSimulationTime());
+                    particleSystem.update(GameClock.FIXED_STEP_SECONDS); // the clock already scales the number of ticks
+                    metricsManager.recordTick(System.nanoTime() - tickStartedAt);
+                    GameTickEvent.finish(event);
+                }
+                long renderStartedAt = System.nanoTime();
+                particleSystem.render();
+                long renderNanos = System.nanoTime() - renderStartedAt;
+                if (qualityGovernor.recordFrame(now, renderStartedAt - frameStartedAt, renderNanos)) {
+                    applyQuality();
+                }
+                audioManager.flushSoundEffects(now);
             }
             }
         };
@@ -99,52 +124,101 @@ public class GameLoopManager{
 
     /**
      * Starts the game loop if it has been initialized.
-     * If the game loop is not initialized, it logs a message indicating that.
+     * If the game is currently paused, the loop is only marked as running and
+     * the timer is started once the game resumes.
      */
     public void startLoop() {
         if (gameLoop != null) {
-            gameLoop.start();
-        } else {
+            running = true;
+            if (!paused) {
+                gameLoop.start();
+            }
         }
     }
 
     /**
      * Stops the game loop if it is currently running.
      * This method checks if the game loop is not null and then stops it.
-     * It also prints a message to the console indicating that the game loop has been stopped.
      */
     public void stopLoop() {
         if (gameLoop != null) {
+            running = false;
+            qualityGovernor.resetTiming();
             gameLoop.stop();
         }
     }
 
     /**
      * Pauses the game if it is not already paused.
-     * This method sets the paused state to true and fires a property change event
-     * to notify listeners about the change in the paused state.
+     * This method stops the AnimationTimer so no pulses are requested while paused,
+     * freezes the game clock, and publishes a PauseChangedEvent.
      */
     public void pauseGame() {
         if (!paused) {
-            boolean oldState = this.paused;
             paused = true;
-            pcs.firePropertyChange("paused", oldState, paused);
+            clock.pause();
+            qualityGovernor.resetTiming();
+            if (gameLoop != null) {
+                gameLoop.stop();
+            }
+            eventBus.publish(PauseChangedEvent.of(paused));
         }
     }
 
     /**
-     * Resumes the game if it is currently paused. This method changes the 
-     * paused state to false and fires a property change event to notify 
-     * listeners about the change in the paused state.
+     * Resumes the game if it is currently paused. This method resumes the game clock,
+     * restarts the AnimationTimer if the loop was running, and publishes a PauseChangedEvent.
      */
     public void resumeGame() {
         if (paused) {
-            boolean oldState = this.paused;
             paused = false;
-            pcs.firePropertyChange("paused", oldState, paused);
+            clock.resume();
+            if (gameLoop != null && running) {
+                gameLoop.start();
+            }
+            eventBus.publish(PauseChangedEvent.of(paused));
         }
     }
 
+    /**
+     * Retrieves the game clock that drives the simulation.
+     * All components should read simulation time from this clock so their timers stay consistent.
+     *
+     * @return the GameClock owned by this GameLoopManager.
+     */
+    public GameClock getClock() {
+        return clock;
+    }
+
+    /**
+     * Retrieves the engine running the tweens of the game's effects.
+     * It is updated after the updater on every simulation tick, so effects pause and scale with the game clock.
+     *
+     * @return the TweenEngine owned by this GameLoopManager.
+     */
+    public TweenEngine getTweenEngine() {
+        return tweenEngine;
+    }
+
+    /**
+     * Retrieves the particle system of the game's effects.
+     * It is updated on every simulation tick and drawn once per frame.
+     *
+     * @return the ParticleSystem owned by this GameLoopManager.
+     */
+    public ParticleSystem getParticleSystem() {
+        return particleSystem;
+    }
+
+    /**
+     * Retrieves the governor adapting the quality of the game to the measured frame times.
+     *
+     * @return the QualityGovernor owned by this GameLoopManager.
+     */
+    public QualityGovernor getQualityGovernor() {
+        return qualityGovernor;
+    }
+
     /**
      * Checks if the game loop is currently paused.
      *
@@ -2,20 +2,23 @@ package com.example.demo.manager;
 
 import com.example.demo.util.GameConstant;
 import javafx.scene.image.Image;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 
 /**
  * The ImageManager class provides utility methods for managing and retrieving images.
  * It uses a cache to store loaded images and avoid redundant loading from the file system.
+ * The cache is thread-safe so the AssetLoader can decode images on worker threads at startup,
+ * leaving the JavaFX Application Thread to only read already decoded images.
  * This class is designed to be used as a utility class with static methods and cannot be instantiated.
  * 
  * @see <a href="https://github.com/swyannnn/CW2024/blob/master/src/main/java/com/example/demo/manager/ImageManager.java">Github Source Code</a>
  */
 public class ImageManager {
     private static final String IMAGE_LOCATION = GameConstant.FilePaths.IMAGE_LOCATION;
-    private final static Map<String, Image> imageCache = new HashMap<>();
+    private final static Map<String, Image> imageCache = new ConcurrentHashMap<>();
 
     /**
      * Private constructor to prevent instantiation of the ImageManager class.
@@ -30,14 +33,109 @@ public class ImageManager {
      * @return the Image object corresponding to the specified filename, or null if the image file is not found
      */
     public static Image getImage(String filename) {
-        return imageCache.computeIfAbsent(filename, key -> {
+        if (filename == null) {
+            System.err.println("Image file not found: " + filename);
+            return null;
+        }
+        Image image = imageCache.get(filename);
+        if (image != null) {
+            return image;
+        }
+        return preloadImage(filename);
+    }
+
+    /**
+     * Loads an image into the cache if it is not already cached.
+     * This method can be called from any thread. The image is decoded outside of the cache's
+     * locks, so loading one image never blocks lookups of other images.
+     *
+     * @param filename the name of the image file to load
+     * @return the cached Image object, or null if the image file is not found
+     */
+    public static Image preloadImage(String filename) {
+        if (filename == null) {
+            System.err.println("Image file not found: " + filename);
+            return null;
+        }
+        Image cached = imageCache.get(filename);
+        if (cached != null) {
+            return cached;
+        }
         try {
-            return new Image(ImageManager.class.getResourceAsStream(IMAGE_LOCATION + key));
+            Image image = new Image(ImageManager.class.getResourceAsStream(IMAGE_LOCATION + filename));
+            Image previous = imageCache.putIfAbsent(filename, image);
+            return previous != null ? previous : image;
         } catch (NullPointerException e) {
-            System.err.println("Image file not found: " + key);
+            System.err.println("Image file not found: " + filename);
+            return null;
+        }
+    }
+
+    /**
+     * Retrieves an image decoded at the given height, keeping its aspect ratio.
+     * Used for small icons drawn from large files, so they are scaled once when decoded
+     * instead of every time they are rendered. The scaled image is cached separately from the original.
+     *
+     * @param filename the name of the image file to retrieve
+     * @param height the height to decode the image at, in pixels
+     * @return the scaled Image object, or null if the image file is not found
+     */
+    public static Image getImage(String filename, double height) {
+        if (filename == null) {
+            System.err.println("Image file not found: " + filename);
+            return null;
+        }
+        String key = filename + "@" + height;
+        Image cached = imageCache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        try {
+            Image image = new Image(ImageManager.class.getResourceAsStream(IMAGE_LOCATION + filename), 0, height, true, true);
+            Image previous = imageCache.putIfAbsent(key, image);
+            return previous != null ? previous : image;
+        } catch (NullPointerException e) {
+            System.err.println("Image file not found: " + filename);
+            return null;
+        }
+    }
+
+    /**
+     * Decodes an image file at the given size without caching it.
+     * Used for images derived from the file, such as pre-baked backgrounds, which are cached in its place.
+     *
+     * @param filename the name of the image file to decode
+     * @param width the width to decode the image at, in pixels
+     * @param height the height to decode the image at, in pixels
+     * @return the decoded Image object, or null if the image file is not found
+     */
+    public static Image decodeImage(String filename, double width, double height) {
+        if (filename == null || ImageManager.class.getResource(IMAGE_LOCATION + filename) == null) {
+            System.err.println("Image file not found: " + filename);
+            return null;
+        }
+        return new Image(ImageManager.class.getResourceAsStream(IMAGE_LOCATION + filename), width, height, false, true);
+    }
+
+    /**
+     * Retrieves an image derived from one or more image files, creating it if it is not already cached.
+     * The key must be distinct from every image file name.
+     *
+     * @param key the key the derived image is cached under
+     * @param factory creates the image if it is not cached; may return null
+     * @return the cached or created Image object, or null if it could not be created
+     */
+    public static Image getDerivedImage(String key, Supplier<Image> factory) {
+        Image cached = imageCache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        Image image = factory.get();
+        if (image == null) {
             return null;
         }
-        });
+        Image previous = imageCache.putIfAbsent(key, image);
+        return previous != null ? previous : image;
     }
 
     public static Image[] getImageSequence(String baseFilename, int count) {
@@ -0,0 +1,404 @@
+package com.example.demo.manager;
+
+import com.example.demo.util.GameConstant;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+
+/**
+ * The MetricsManager class collects live game telemetry and serves it in the Prometheus
+ * text format for scraping during soak runs.
+ * It follows the singleton pattern to ensure only one set of counters and one endpoint exist.
+ *
+ * <p>The endpoint is opt-in: it is only started when the {@code game.metrics.port} system
+ * property is set, and it is bound to the loopback address so it is never reachable from
+ * other machines. While metrics are disabled every record method returns immediately.</p>
+ *
+ * <p>Counters are written by the JavaFX Application Thread and read by the endpoint thread.
+ * They are plain atomics that are updated without locks or allocation, so recording
+ * metrics does not add garbage to the frame. The exported metrics are:</p>
+ * <ul>
+ *   <li>Frames per second and the total number of frames and ticks.</li>
+ *   <li>Tick duration percentiles over the most recent ticks.</li>
+ *   <li>Actor counts by category, taken from the ActorManager every tick.</li>
+ *   <li>Collision candidate and hit counts of the last collision pass.</li>
+ *   <li>The total number of sound effects triggered.</li>
+ *   <li>Heap usage and garbage collection counts and times.</li>
+ *   <li>Any gauges and counters registered by other components, such as pool occupancy.</li>
+ * </ul>
+ *
+ * @see <a href="https://github.com/swyannnn/CW2024/blob/master/src/main/java/com/example/demo/manager/MetricsManager.java">Github Source Code</a>
+ */
+public class MetricsManager {
+    private static final int TICK_SAMPLES = 1024;
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99};
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static MetricsManager instance;
+
+    private final boolean enabled;
+    private final int port;
+    private HttpServer server;
+    private ExecutorService executor;
+
+    private final AtomicLong frames = new AtomicLong();
+    private final AtomicLong ticks = new AtomicLong();
+    private final AtomicInteger framesPerSecond = new AtomicInteger();
+    private final AtomicLongArray tickDurations = new AtomicLongArray(TICK_SAMPLES);
+    private final AtomicLong tickDurationSum = new AtomicLong();
+    private final AtomicInteger players = new AtomicInteger();
+    private final AtomicInteger userProjectiles = new AtomicInteger();
+    private final AtomicInteger enemyUnits = new AtomicInteger();
+    private final AtomicInteger enemyProjectiles = new AtomicInteger();
+    private final AtomicInteger bossUnits = new AtomicInteger();
+    private final AtomicInteger bossProjectiles = new AtomicInteger();
+    private final AtomicInteger collisionCandidates = new AtomicInteger();
+    private final AtomicInteger collisionHits = new AtomicInteger();
+    private final AtomicLong soundTriggers = new AtomicLong();
+    private final Map<String, RegisteredMetric> registered = new ConcurrentHashMap<>();
+
+    private long secondStartedAt = -1;
+    private int framesThisSecond;
+
+    /**
+     * Private constructor to enforce the singleton pattern.
+     * Reads the metrics port from the {@code game.metrics.port} system property.
+     */
+    private MetricsManager() {
+        this(Integer.getInteger(GameConstant.Metrics.PORT_PROPERTY, -1));
+    }
+
+    /**
+     * Constructs a MetricsManager for the given port.
+     *
+     * @param port the port of the endpoint, 0 for any free port, or a negative value to disable metrics
+     */
+    MetricsManager(int port) {
+        this.port = port;
+        this.enabled = port >= 0;
+    }
+
+    /**
+     * Retrieves the singleton instance of MetricsManager.
+     *
+     * @return the singleton instance of MetricsManager
+     */
+    public static synchronized MetricsManager getInstance() {
+        if (instance == null) {
+            instance = new MetricsManager();
+        }
+        return instance;
+    }
+
+    /**
+     * Checks if metrics are collected.
+     *
+     * @return true if the metrics port was configured, false otherwise
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Starts the metrics endpoint on the loopback address if metrics are enabled.
+     * Calling this method more than once has no effect.
+     */
+    public synchronized void startServer() {
+        if (!enabled || server != null) {
+            return;
+        }
+        try {
+            server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+            executor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "metrics-endpoint");
+                thread.setDaemon(true);
+                return thread;
+            });
+            server.setExecutor(executor);
+            server.createContext(GameConstant.Metrics.PATH, this::handleScrape);
+            server.start();
+        } catch (IOException e) {
+            System.err.println("Failed to start metrics endpoint on port " + port + ": " + e.getMessage());
+            server = null;
+        }
+    }
+
+    /**
+     * Stops the metrics endpoint if it is running.
+     */
+    public synchronized void stopServer() {
+        if (server != null) {
+            server.stop(0);
+            executor.shutdownNow();
+            server = null;
+            executor = null;
+        }
+    }
+
+    /**
+     * Retrieves the port the endpoint is listening on.
+     *
+     * @return the bound port, or -1 if the endpoint is not running
+     */
+    public synchronized int getBoundPort() {
+        return server != null ? server.getAddress().getPort() : -1;
+    }
+
+    /**
+     * Records a rendered frame. Frames are counted per second to give the frame rate.
+     *
+     * @param now the frame timestamp in nanoseconds
+     */
+    public void recordFrame(long now) {
+        if (!enabled) {
+            return;
+        }
+        frames.incrementAndGet();
+        if (secondStartedAt < 0) {
+            secondStartedAt = now;
+        }
+        framesThisSecond++;
+        if (now - secondStartedAt >= NANOS_PER_SECOND) {
+            framesPerSecond.lazySet(framesThisSecond);
+            framesThisSecond = 0;
+            secondStartedAt = now;
+        }
+    }
+
+    /**
+     * Records how long one simulation tick took to run.
+     *
+     * @param durationNanos the duration of the tick in nanoseconds
+     */
+    public void recordTick(long durationNanos) {
+        if (!enabled) {
+            return;
+        }
+        long tick = ticks.getAndIncrement();
+        tickDurations.lazySet((int) (tick % TICK_SAMPLES), durationNanos);
+        tickDurationSum.addAndGet(durationNanos);
+    }
+
+    /**
+     * Records the number of actors in each category.
+     *
+     * @param actorManager the ActorManager to read the actor counts from
+     */
+    public void recordActorCounts(ActorManager actorManager) {
+        if (!enabled) {
+            return;
+        }
+        players.lazySet(actorManager.getPlayers().size());
+        userProjectiles.lazySet(actorManager.getUserProjectiles().size());
+        enemyUnits.lazySet(actorManager.getEnemyUnits().size());
+        enemyProjectiles.lazySet(actorManager.getEnemyProjectiles().size());
+        bossUnits.lazySet(actorManager.getBossUnits().size());
+        bossProjectiles.lazySet(actorManager.getBossProjectiles().size());
+    }
+
+    /**
+     * Records the result of a collision pass.
+     *
+     * @param candidates the number of actor pairs checked
+     * @param hits the number of actor pairs that collided
+     */
+    public void recordCollisionPass(int candidates, int hits) {
+        if (!enabled) {
+            return;
+        }
+        collisionCandidates.lazySet(candidates);
+        collisionHits.lazySet(hits);
+    }
+
+    /**
+     * Records that a sound effect was triggered.
+     */
+    public void recordSoundTrigger() {
+        if (!enabled) {
+            return;
+        }
+        soundTriggers.incrementAndGet();
+    }
+
+    /**
+     * Registers a gauge that is read every time the metrics are scraped.
+     * Registering a gauge with an existing name replaces the previous one.
+     *
+     * @param name the metric name, without the game prefix
+     * @param help a short description of the metric
+     * @param supplier supplies the current value, it must be safe to call from the endpoint thread
+     */
+    public void registerGauge(String name, String help, LongSupplier supplier) {
+        registered.put(name, new RegisteredMetric("gauge", help, supplier));
+    }
+
+    /**
+     * Removes a gauge registered with {@link #registerGauge(String, String, LongSupplier)}.
+     *
+     * @param name the metric name, without the game prefix
+     */
+    public void unregisterGauge(String name) {
+        registered.remove(name);
+    }
+
+    /**
+     * Registers a counter that is read every time the metrics are scraped.
+     * The counter is published with the "_total" suffix, like frames_total.
+     * Registering a counter with an existing name replaces the previous one.
+     *
+     * @param name the metric name, without the game prefix and the "_total" suffix
+     * @param help a short description of the metric
+     * @param supplier supplies the current count, which only grows; it must be safe to call from the endpoint thread
+     */
+    public void registerCounter(String name, String help, LongSupplier supplier) {
+        registered.put(name + "_total", new RegisteredMetric("counter", help, supplier));
+    }
+
+    /**
+     * Removes a counter registered with {@link #registerCounter(String, String, LongSupplier)}.
+     *
+     * @param name the metric name, without the game prefix and the "_total" suffix
+     */
+    public void unregisterCounter(String name) {
+        registered.remove(name + "_total");
+    }
+
+    /**
+     * Handles a scrape request by writing all metrics in the Prometheus text format.
+     *
+     * @param exchange the HTTP exchange of the request
+     * @throws IOException if the response cannot be written
+     */
+    private void handleScrape(HttpExchange exchange) throws IOException {
+        byte[] body = renderMetrics().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; version=0.0.4; charset=utf-8");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(body);
+        }
+    }
+
+    /**
+     * Renders all metrics in the Prometheus text exposition format.
+     *
+     * @return the metrics text
+     */
+    public String renderMetrics() {
+        StringBuilder sb = new StringBuilder(2048);
+        writeMetric(sb, "fps", "gauge", "Frames rendered in the last second.", framesPerSecond.get());
+        writeMetric(sb, "frames_total", "counter", "Frames rendered since start.", frames.get());
+        writeTickSummary(sb);
+
+        writeHeader(sb, "actors", "gauge", "Active actors by category.");
+        writeSample(sb, "actors", "category", "player", players.get());
+        writeSample(sb, "actors", "category", "user_projectile", userProjectiles.get());
+        writeSample(sb, "actors", "category", "enemy_unit", enemyUnits.get());
+        writeSample(sb, "actors", "category", "enemy_projectile", enemyProjectiles.get());
+        writeSample(sb, "actors", "category", "boss_unit", bossUnits.get());
+        writeSample(sb, "actors", "category", "boss_projectile", bossProjectiles.get());
+
+        writeMetric(sb, "collision_candidates", "gauge", "Actor pairs checked in the last collision pass.", collisionCandidates.get());
+        writeMetric(sb, "collision_hits", "gauge", "Actor pairs that collided in the last collision pass.", collisionHits.get());
+        writeMetric(sb, "sound_triggers_total", "counter", "Sound effects triggered since start.", soundTriggers.get());
+
+        MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+        writeHeader(sb, "heap_bytes", "gauge", "Heap memory usage.");
+        writeSample(sb, "heap_bytes", "area", "used", heap.getUsed());
+        writeSample(sb, "heap_bytes", "area", "committed", heap.getCommitted());
+        writeSample(sb, "heap_bytes", "area", "max", heap.getMax());
+
+        List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();
+        writeHeader(sb, "gc_collections_total", "counter", "Garbage collections by collector.");
+        for (GarbageCollectorMXBean collector : collectors) {
+            writeSample(sb, "gc_collections_total", "collector", collector.getName(), collector.getCollectionCount());
+        }
+        writeHeader(sb, "gc_time_seconds_total", "counter", "Time spent in garbage collection by collector.");
+        for (GarbageCollectorMXBean collector : collectors) {
+            sb.append(GameConstant.Metrics.PREFIX).append("gc_time_seconds_total{collector=\"")
+                .append(collector.getName()).append("\"} ")
+                .append(collector.getCollectionTime() / 1000.0).append('\n');
+        }
+
+        for (Map.Entry<String, RegisteredMetric> entry : registered.entrySet()) {
+            RegisteredMetric metric = entry.getValue();
+            writeMetric(sb, entry.getKey(), metric.type, metric.help, metric.supplier.getAsLong());
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Writes the tick duration summary, with quantiles taken from the most recent ticks.
+     *
+     * @param sb the builder to write to
+     */
+    private void writeTickSummary(StringBuilder sb) {
+        long count = ticks.get();
+        int samples = (int) Math.min(count, TICK_SAMPLES);
+        long[] durations = new long[samples];
+        for (int i = 0; i < samples; i++) {
+            durations[i] = tickDurations.get(i);
+        }
+        Arrays.sort(durations);
+
+        String name = "tick_duration_seconds";
+        writeHeader(sb, name, "summary", "Duration of simulation ticks over the most recent " + TICK_SAMPLES + " ticks.");
+        for (double quantile : QUANTILES) {
+            double value = samples == 0 ? 0 : durations[(int) Math.ceil(quantile * samples) - 1] / (double) NANOS_PER_SECOND;
+            sb.append(GameConstant.Metrics.PREFIX).append(name).append("{quantile=\"").append(quantile).append("\"} ")
+                .append(value).append('\n');
+        }
+        sb.append(GameConstant.Metrics.PREFIX).append(name).append("_sum ")
+            .append(tickDurationSum.get() / (double) NANOS_PER_SECOND).append('\n');
+        sb.append(GameConstant.Metrics.PREFIX).append(name).append("_count ").append(count).append('\n');
+    }
+
+    private static void writeMetric(StringBuilder sb, String name, String type, String help, long value) {
+        writeHeader(sb, name, type, help);
+        sb.append(GameConstant.Metrics.PREFIX).append(name).append(' ').append(value).append('\n');
+    }
+
+    private static void writeHeader(StringBuilder sb, String name, String type, String help) {
+        sb.append("# HELP ").append(GameConstant.Metrics.PREFIX).append(name).append(' ').append(help).append('\n');
+        sb.append("# TYPE ").append(GameConstant.Metrics.PREFIX).append(name).append(' ').append(type).append('\n');
+    }
+
+    private static void writeSample(StringBuilder sb, String name, String label, String labelValue, long value) {
+        sb.append(GameConstant.Metrics.PREFIX).append(name)
+            .append('{').append(label).append("=\"").append(labelValue).append("\"} ")
+            .append(value).append('\n');
+    }
+
+    /**
+     * Represents a gauge or counter registered by another component.
+     */
+    private static class RegisteredMetric {
+        final String type;
+        final String help;
+        final LongSupplier supplier;
+
+        RegisteredMetric(String type, String help, LongSupplier supplier) {
+            this.type = type;
+            this.help = help;
+            this.supplier = supplier;
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.demo.manager;
+
+import com.example.demo.profiling.ActorDespawnEvent;
+import com.example.demo.profiling.ActorSpawnEvent;
+import com.example.demo.profiling.AudioTriggerEvent;
+import com.example.demo.profiling.CollisionPassEvent;
+import com.example.demo.profiling.GameTickEvent;
+import com.example.demo.profiling.LevelPhaseEvent;
+import com.example.demo.profiling.StateTransitionEvent;
+import com.example.demo.util.GameConstant;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.ParseException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+
+/**
+ * The RecordingManager class controls JDK Flight Recorder recordings of the game.
+ * It follows the singleton pattern to ensure only one recording is active at a time.
+ *
+ * <p>A recording uses the JDK "profile" settings, so GC, JIT and thread events are captured
+ * next to the game's own events in the {@code com.example.demo.profiling} package.
+ * A recording can be started on launch with the {@code --record} argument or the
+ * {@code game.jfr} system property, and toggled in game with the F9 key. When a recording
+ * is stopped it is written to a {@code .jfr} file that can be opened in JDK Mission Control.</p>
+ *
+ * <p>The game events are only created while a recording is running, so the game
+ * runs with near-zero overhead when no recording is active.</p>
+ *
+ * @see <a href="https://github.com/swyannnn/CW2024/blob/master/src/main/java/com/example/demo/manager/RecordingManager.java">Github Source Code</a>
+ */
+public class RecordingManager {
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+    private static RecordingManager instance;
+    private Recording recording;
+
+    /**
+     * Private constructor to enforce the singleton pattern.
+     */
+    private RecordingManager() {
+    }
+
+    /**
+     * Retrieves the singleton instance of RecordingManager.
+     *
+     * @return the singleton instance of RecordingManager
+     */
+    public static synchronized RecordingManager getInstance() {
+        if (instance == null) {
+            instance = new RecordingManager();
+        }
+        return instance;
+    }
+
+    /**
+     * Starts a recording if it was requested by a launch argument or system property.
+     *
+     * @param args the raw launch arguments of the application
+     */
+    public void startIfRequested(List<String> args) {
+        if (args.contains(GameConstant.Profiling.RECORD_FLAG)
+                || Boolean.getBoolean(GameConstant.Profiling.RECORD_PROPERTY)) {
+            startRecording();
+        }
+    }
+
+    /**
+     * Starts a new recording if none is running.
+     */
+    public synchronized void startRecording() {
+        if (recording != null) {
+            return;
+        }
+        try {
+            Configuration configuration = Configuration.getConfiguration(GameConstant.Profiling.RECORDING_CONFIGURATION);
+            recording = new Recording(configuration);
+        } catch (IOException | ParseException e) {
+            System.err.println("Failed to load recording settings, using defaults: " + e.getMessage());
+            recording = new Recording();
+        }
+        recording.setName(GameConstant.GameSettings.TITLE);
+        recording.setToDisk(true);
+        recording.enable(GameTickEvent.class);
+        recording.enable(LevelPhaseEvent.class);
+        recording.enable(ActorSpawnEvent.class);
+        recording.enable(ActorDespawnEvent.class);
+        recording.enable(CollisionPassEvent.class);
+        recording.enable(StateTransitionEvent.class);
+        recording.enable(AudioTriggerEvent.class);
+        recording.start();
+    }
+
+    /**
+     * Stops the running recording and writes it to a file.
+     * The file is written to the directory given by the {@code game.jfr.dir} system property,
+     * or to the working directory if the property is not set.
+     *
+     * @return the path of the written recording, or null if no recording was running or writing failed
+     */
+    public synchronized Path stopRecording() {
+        if (recording == null) {
+            return null;
+        }
+        String directory = System.getProperty(GameConstant.Profiling.RECORDING_DIRECTORY_PROPERTY, ".");
+        Path file = Paths.get(directory,
+            GameConstant.Profiling.RECORDING_FILE_PREFIX + LocalDateTime.now().format(FILE_TIMESTAMP) + ".jfr");
+        try {
+            recording.stop();
+            recording.dump(file);
+            return file;
+        } catch (IOException e) {
+            System.err.println("Failed to write flight recording: " + e.getMessage());
+            return null;
+        } finally {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    /**
+     * Starts a recording if none is running, otherwise stops the running recording.
+     */
+    public void toggleRecording() {
+        if (isRecording()) {
+            stopRecording();
+        } else {
+            startRecording();
+        }
+    }
+
+    /**
+     * Checks if a recording is running.
+     *
+     * @return true if a recording is running, false otherwise
+     */
+    public synchronized boolean isRecording() {
+        return recording != null;
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.demo.manager;
+
+import com.example.demo.util.GameConstant;
+import com.example.demo.util.QualityGovernor;
+
+import javafx.stage.Window;
+
+/**
+ * The RenderScaleManager class renders the game at a lower internal resolution on machines
+ * where filling the full scene every frame is too slow, such as those without a GPU.
+ *
+ * <p>The scale is applied through the render scale of the window, so the scene is laid out and
+ * drawn into a smaller back buffer and the finished frame is stretched to the window when it is
+ * shown. The scene, and every coordinate of the simulation in GameConstant.GameSettings, keeps
+ * its size; only the number of pixels filled per frame goes down, by the square of the scale.</p>
+ *
+ * <p>By default the scale follows the quality level of the QualityGovernor, which steps down to
+ * the reduced resolutions once the other reductions did not bring the measured frame times back
+ * within budget. A fixed scale can be chosen instead with the {@code game.render.scale} system
+ * property, for example {@code -Dgame.render.scale=0.5}.</p>
+ *
+ * @see <a href="https://github.com/swyannnn/CW2024/blob/master/src/main/java/com/example/demo/manager/RenderScaleManager.java">Github Source Code</a>
+ * @see QualityGovernor
+ * @see GameConstant.QualityLevel#getRenderScale()
+ */
+public class RenderScaleManager {
+    private final Window window;
+    private final QualityGovernor qualityGovernor;
+    private final double fixedScale;
+
+    /**
+     * Constructs a RenderScaleManager with the scale chosen by the {@code game.render.scale} system property.
+     *
+     * @param window the window the game is shown in
+     * @param qualityGovernor the governor choosing the scale when it is automatic
+     */
+    public RenderScaleManager(Window window, QualityGovernor qualityGovernor) {
+        this(window, qualityGovernor, parseScale(System.getProperty(GameConstant.RenderScale.PROPERTY)));
+    }
+
+    /**
+     * Constructs a RenderScaleManager with the given scale.
+     *
+     * @param window the window the game is shown in
+     * @param qualityGovernor the governor choosing the scale when it is automatic
+     * @param fixedScale the render scale, or NaN to let the QualityGovernor choose it
+     */
+    public RenderScaleManager(Window window, QualityGovernor qualityGovernor, double fixedScale) {
+        this.window = window;
+        this.qualityGovernor = qualityGovernor;
+        this.fixedScale = fixedScale;
+    }
+
+    /**
+     * Parses the value of the render scale property.
+     * Invalid values are reported and treated as automatic.
+     *
+     * @param value the property value, or null if it is not set
+     * @return the fixed render scale, or NaN if the scale is automatic
+     */
+    static double parseScale(String value) {
+        if (value == null || value.isBlank() || value.trim().equalsIgnoreCase(GameConstant.RenderScale.AUTO)) {
+            return Double.NaN;
+        }
+        try {
+            double scale = Double.parseDouble(value.trim());
+            if (scale >= GameConstant.RenderScale.MIN_SCALE && scale <= 1.0) {
+                return scale;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below
+        }
+        System.err.println("Invalid render scale: " + value + ", using " + GameConstant.RenderScale.AUTO);
+        return Double.NaN;
+    }
+
+    /**
+     * Applies the current render scale to the window if it changed.
+     * The window resets its render scale whenever it moves to a screen with another output scale,
+     * so the scale is checked against the window on every call. Called once per simulation tick
+     * by the game loop's updater; the window is only touched when its render scale differs.
+     */
+    public void update() {
+        double scale = getScale();
+        double renderScaleX = window.getOutputScaleX() * scale;
+        double renderScaleY = window.getOutputScaleY() * scale;
+        if (window.getRenderScaleX() == renderScaleX && window.getRenderScaleY() == renderScaleY) {
+            return;
+        }
+        window.setRenderScaleX(renderScaleX);
+        window.setRenderScaleY(renderScaleY);
+    }
+
+    /**
+     * Retrieves the render scale that should be applied.
+     *
+     * @return the fixed scale if one was chosen, otherwise the scale of the current quality level
+     */
+    public double getScale() {
+        return Double.isNaN(fixedScale) ? qualityGovernor.getLevel().getRenderScale() : fixedScale;
+    }
+}
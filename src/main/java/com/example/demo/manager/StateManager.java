@@ -1,68 +1,71 @@
 package com.example.demo.manager;
 
+import com.example.demo.GameSession;
+import com.example.demo.event.EventScope;
+import com.example.demo.event.LevelCompletedEvent;
+import com.example.demo.event.LevelLostEvent;
+import com.example.demo.level.LevelParent;
+import com.example.demo.profiling.StateTransitionEvent;
+import com.example.demo.snapshot.LevelSnapshot;
 import com.example.demo.state.StateFactory;
 import com.example.demo.state.GameState;
 import com.example.demo.state.LevelState;
 import com.example.demo.state.StateTransitioner;
 
 import javafx.scene.Scene;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
 import javafx.stage.Stage;
 
-import java.beans.PropertyChangeEvent;
-import java.beans.PropertyChangeListener;
-
 /**
  * The StateManager class is responsible for managing the transitions between different game states.
- * It implements the StateTransitioner and PropertyChangeListener interfaces to handle state changes
- * and respond to property changes from LevelStates.
+ * It implements the StateTransitioner interface to handle state changes, and responds to the
+ * LevelLostEvents and LevelCompletedEvents published by LevelStates. The subscriptions are made
+ * through an EventScope for each state and cancelled when the state is cleaned up.
  * 
  * <p>This class initializes the game state factory and provides methods to transition to various
  * game states such as the main menu, specific levels, win state, and lose state. It also manages
  * the cleanup of the current state before transitioning to a new state and sets up input handlers
- * for the current state's scene.</p>
+ * for the current state's scene. The F9 key is handled for every state and toggles a flight recording.</p>
+ * 
+ * <p>When a level is lost, the StateManager keeps the level and its latest checkpoint
+ * snapshot, so the player can retry from the checkpoint instead of from the start.</p>
  * 
  * <p>Additionally, the StateManager class maintains the number of players and provides methods to
  * get and set the number of players.</p>
  * 
  * @see <a href="https://github.com/swyannnn/CW2024/blob/master/src/main/java/com/example/demo/manager/StateManager.java">Github Source Code</a>
  * @see StateTransitioner
- * @see PropertyChangeListener
+ * @see EventScope
  * @see GameState
  * @see StateFactory
  */
-public class StateManager implements StateTransitioner, PropertyChangeListener {
+public class StateManager implements StateTransitioner {
+    private static final KeyCode RECORDING_HOTKEY = KeyCode.F9;
     private GameState currentState;
+    private String previousStateName;
     private final StateFactory stateFactory;
+    private final EventScope stateEvents;
     private int numberOfPlayers;
+    private LevelParent lostLevel;
+    private LevelSnapshot lostCheckpoint;
 
     /**
      * Constructor for StateManager.
      *
      * @param stage             The primary stage of the application.
-     * @param actorManager      The ActorManager instance.
-     * @param collisionManager  The CollisionManager instance.
-     * @param gameLoopManager   The GameLoopManager instance for handling the game loop and pausing.
-     * @param audioManager      The AudioManager instance.
+     * @param session           The GameSession the states belong to.
      * @param numberOfPlayers   The initial number of players.
      */
-    public StateManager(
-        Stage stage,
-        ActorManager actorManager,
-        CollisionManager collisionManager,
-        GameLoopManager gameLoopManager,
-        AudioManager audioManager,
-        int numberOfPlayers
-    ) {
+    public StateManager(Stage stage, GameSession session, int numberOfPlayers) {
         this.numberOfPlayers = numberOfPlayers;
+        this.stateEvents = new EventScope(session.getEventBus());
 
         // Initialize GameStateFactory
         this.stateFactory = new StateFactory(
             stage,
-            actorManager,
-            collisionManager,
-            gameLoopManager, 
-            this,            // StateTransitioner
-            audioManager
+            session,
+            this            // StateTransitioner
         );
     }
 
@@ -71,6 +74,7 @@ public class StateManager implements StateTransitioner, PropertyChangeListener {
      */
     @Override
     public void goToMainMenu() {
+        forgetLostLevel();
         cleanup();
         setState(stateFactory.createMainMenuState());
     }
@@ -82,10 +86,31 @@ public class StateManager implements StateTransitioner, PropertyChangeListener {
      */
     @Override
     public void goToLevel(int levelNumber) {
+        forgetLostLevel();
         cleanup();
         setState(stateFactory.createLevelState(levelNumber));
     }
 
+    /**
+     * Restarts the last lost level from its latest checkpoint.
+     * Starts the level from the beginning if it has no checkpoint,
+     * and goes to the first level if no level has been lost.
+     */
+    @Override
+    public void retryLevel() {
+        LevelParent level = lostLevel;
+        LevelSnapshot snapshot = lostCheckpoint;
+        forgetLostLevel();
+        if (level == null) {
+            goToLevel(1);
+        } else if (snapshot == null) {
+            goToLevel(level.getCurrentLevelNumber());
+        } else {
+            cleanup();
+            setState(stateFactory.createRetryState(level, snapshot));
+        }
+    }
+
     /**
      * Transitions to a win state.
      */
@@ -112,8 +137,10 @@ public class StateManager implements StateTransitioner, PropertyChangeListener {
     private void setState(GameState newState) {
         currentState = newState;
         if (currentState != null) {
+            StateTransitionEvent.emit(previousStateName, currentState.getClass().getSimpleName());
             if (newState instanceof LevelState) {
-                ((LevelState) newState).addPropertyChangeListener(this);
+                stateEvents.subscribe(LevelLostEvent.class, this::onLevelLost);
+                stateEvents.subscribe(LevelCompletedEvent.class, event -> goToLevel(event.getNextLevelNumber()));
             }
             currentState.initialize();
             setupInputHandlers();
@@ -125,38 +152,42 @@ public class StateManager implements StateTransitioner, PropertyChangeListener {
      */
     public void cleanup() {
         if (currentState != null) {
+            previousStateName = currentState.getClass().getSimpleName();
             currentState.cleanup();
-
-            if (currentState instanceof LevelState) {
-                ((LevelState) currentState).removePropertyChangeListener(this);
-            }
+            stateEvents.close();
             currentState = null;
         }
     }
 
     /**
-     * Responds to property changes from LevelStates, such as "win", "lose", or "level" transitions.
+     * Responds to a lost level by keeping it for a retry and going to the lose state.
      *
-     * @param evt The PropertyChangeEvent triggered by a LevelState.
+     * @param event The LevelLostEvent published by the LevelState.
      */
-    @Override
-    public void propertyChange(PropertyChangeEvent evt) {
-        switch (evt.getPropertyName()) {
-            case "win":
-                goToWinState();
-                break;
-            case "lose":
-                goToLoseState();
-                break;
-            case "level":
-                int nextLevelNumber = (int) evt.getNewValue();
-                goToLevel(nextLevelNumber);
-                break;
-            default:
-                break;
+    private void onLevelLost(LevelLostEvent event) {
+        rememberLostLevel();
+        goToLoseState();
+    }
+
+    /**
+     * Keeps the level of the current LevelState and its latest checkpoint, so it can be retried.
+     */
+    private void rememberLostLevel() {
+        if (currentState instanceof LevelState) {
+            LevelState levelState = (LevelState) currentState;
+            lostLevel = levelState.getLevel();
+            lostCheckpoint = levelState.getCheckpoint();
         }
     }
 
+    /**
+     * Releases the lost level and its checkpoint once they can no longer be retried.
+     */
+    private void forgetLostLevel() {
+        lostLevel = null;
+        lostCheckpoint = null;
+    }
+
     /**
      * Retrieves the current game state.
      *
@@ -191,8 +222,22 @@ public class StateManager implements StateTransitioner, PropertyChangeListener {
     private void setupInputHandlers() {
         Scene scene = currentState.getScene();
         if (scene != null) {
-            scene.setOnKeyPressed(event -> currentState.handleInput(event));
+            scene.setOnKeyPressed(this::handleKeyPressed);
             scene.setOnKeyReleased(event -> currentState.handleInput(event));
         }
     }
+
+    /**
+     * Handles a key press on the current state's scene.
+     * The recording hotkey toggles a flight recording, all other keys are passed to the current state.
+     *
+     * @param event the KeyEvent for the pressed key
+     */
+    private void handleKeyPressed(KeyEvent event) {
+        if (event.getCode() == RECORDING_HOTKEY) {
+            RecordingManager.getInstance().toggleRecording();
+        } else if (currentState != null) {
+            currentState.handleInput(event);
+        }
+    }
 }
@@ -0,0 +1,216 @@
+package com.example.demo.manager;
+
+import com.example.demo.util.GameConstant;
+
+import java.util.Arrays;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntConsumer;
+
+
+/**
+ * The VoiceManager class decides which sound effect requests are actually played.
+ * Requests made during a frame are only counted. When the frame is flushed, every
+ * request for the same sound is merged into a single voice, so a volley of hits in one
+ * frame plays its explosion once instead of dozens of times.
+ *
+ * <p>A voice is considered to be playing for the voice duration of its sound after it starts.
+ * A sound that already has its maximum number of playing voices, or a request that
+ * would exceed the global voice limit, is dropped. The voices that pass are handed to
+ * the audio executor, so starting a clip never blocks the JavaFX Application Thread.</p>
+ *
+ * <p>Requests can be made from any thread. Flushing must be done from a single thread,
+ * normally once per frame by the GameLoopManager. Played, coalesced and dropped requests
+ * are counted for the metrics endpoint.</p>
+ *
+ * @see <a href="https://github.com/swyannnn/CW2024/blob/master/src/main/java/com/example/demo/manager/VoiceManager.java">Github Source Code</a>
+ * @see AudioManager
+ */
+public class VoiceManager {
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+    private static final long IDLE = Long.MIN_VALUE;
+    private final int maxVoices;
+    private final int[] maxVoicesPerSound;
+    private final long[] voiceNanos;
+    private final long[][] voiceEndTimes;
+    private final Runnable[] voiceTasks;
+    private final AtomicIntegerArray pendingRequests;
+    private final Executor audioExecutor;
+    private final AtomicLong played = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private long flushInterval;
+    private long lastFlushAt = IDLE;
+
+    /**
+     * Constructs a VoiceManager for the sound effects declared in GameConstant.SoundEffect.
+     *
+     * @param maxVoices the maximum number of voices playing at once across all sounds
+     * @param voicePlayer the action that starts the sound effect with the given index
+     * @param audioExecutor the executor that runs the voice player
+     */
+    public VoiceManager(int maxVoices, IntConsumer voicePlayer, Executor audioExecutor) {
+        if (maxVoices <= 0) {
+            throw new IllegalArgumentException("Maximum number of voices must be positive: " + maxVoices);
+        }
+        GameConstant.SoundEffect[] sounds = GameConstant.SoundEffect.values();
+        this.maxVoices = maxVoices;
+        this.maxVoicesPerSound = new int[sounds.length];
+        this.voiceNanos = new long[sounds.length];
+        this.voiceEndTimes = new long[sounds.length][];
+        this.voiceTasks = new Runnable[sounds.length];
+        this.pendingRequests = new AtomicIntegerArray(sounds.length);
+        this.audioExecutor = audioExecutor;
+        for (int i = 0; i < sounds.length; i++) {
+            int index = i;
+            maxVoicesPerSound[i] = sounds[i].getMaxVoices();
+            voiceNanos[i] = sounds[i].getVoiceMillis() * NANOS_PER_MILLI;
+            voiceEndTimes[i] = new long[maxVoicesPerSound[i]];
+            Arrays.fill(voiceEndTimes[i], IDLE);
+            voiceTasks[i] = () -> voicePlayer.accept(index);
+        }
+    }
+
+    /**
+     * Requests a sound effect to be played at the next flush.
+     *
+     * @param index the index of the sound effect in GameConstant.SoundEffect
+     * @throws IllegalArgumentException if the index does not name a sound effect
+     */
+    public void request(int index) {
+        if (index < 0 || index >= pendingRequests.length()) {
+            throw new IllegalArgumentException("Invalid sound effect index: " + index);
+        }
+        pendingRequests.incrementAndGet(index);
+    }
+
+    /**
+     * Plays at most one voice for every sound that was requested since the last flush,
+     * as long as the per-sound and global voice limits allow it.
+     * If a flush interval is set, flushes closer together than the interval are skipped,
+     * so the requests of several frames are merged.
+     *
+     * @param now the current time in nanoseconds
+     */
+    public void flush(long now) {
+        if (flushInterval > 0 && lastFlushAt != IDLE && now - lastFlushAt < flushInterval) {
+            return;
+        }
+        lastFlushAt = now;
+        int activeVoices = countActiveVoices(now);
+        for (int i = 0; i < maxVoicesPerSound.length; i++) {
+            int requests = pendingRequests.getAndSet(i, 0);
+            if (requests == 0) {
+                continue;
+            }
+            if (requests > 1) {
+                coalesced.addAndGet(requests - 1);
+            }
+            int slot = findFreeSlot(i, now);
+            if (slot < 0 || activeVoices >= maxVoices) {
+                dropped.incrementAndGet();
+                continue;
+            }
+            voiceEndTimes[i][slot] = now + voiceNanos[i];
+            activeVoices++;
+            played.incrementAndGet();
+            audioExecutor.execute(voiceTasks[i]);
+        }
+    }
+
+    /**
+     * Counts the voices of all sounds that are still playing.
+     *
+     * @param now the current time in nanoseconds
+     * @return the number of playing voices
+     */
+    private int countActiveVoices(long now) {
+        int count = 0;
+        for (long[] endTimes : voiceEndTimes) {
+            for (long endTime : endTimes) {
+                if (isPlaying(endTime, now)) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Finds a voice slot of the given sound that is not playing.
+     *
+     * @param index the index of the sound effect
+     * @param now the current time in nanoseconds
+     * @return the index of a free slot, or -1 if every voice of the sound is playing
+     */
+    private int findFreeSlot(int index, long now) {
+        long[] endTimes = voiceEndTimes[index];
+        for (int slot = 0; slot < endTimes.length; slot++) {
+            if (!isPlaying(endTimes[slot], now)) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Checks if a voice slot is still playing.
+     *
+     * @param endTime the time the voice in the slot stops playing
+     * @param now the current time in nanoseconds
+     * @return true if the slot holds a voice that is still playing, false otherwise
+     */
+    private static boolean isPlaying(long endTime, long now) {
+        return endTime != IDLE && endTime - now > 0;
+    }
+
+    /**
+     * Sets the shortest time between two flushes that play voices.
+     *
+     * @param intervalNanos the interval in nanoseconds, or 0 to play the requests of every flush
+     * @throws IllegalArgumentException if the interval is negative
+     */
+    public void setFlushInterval(long intervalNanos) {
+        if (intervalNanos < 0) {
+            throw new IllegalArgumentException("Flush interval must not be negative: " + intervalNanos);
+        }
+        this.flushInterval = intervalNanos;
+    }
+
+    /**
+     * Discards all requests that have not been flushed yet.
+     */
+    public void clearPending() {
+        for (int i = 0; i < pendingRequests.length(); i++) {
+            pendingRequests.set(i, 0);
+        }
+    }
+
+    /**
+     * Retrieves the number of voices that were played.
+     *
+     * @return the number of played voices
+     */
+    public long getPlayedCount() {
+        return played.get();
+    }
+
+    /**
+     * Retrieves the number of requests that were merged into another request for the same sound.
+     *
+     * @return the number of coalesced requests
+     */
+    public long getCoalescedCount() {
+        return coalesced.get();
+    }
+
+    /**
+     * Retrieves the number of voices that were dropped because a voice limit was reached.
+     *
+     * @return the number of dropped voices
+     */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+}
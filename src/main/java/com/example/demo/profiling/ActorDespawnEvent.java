@@ -0,0 +1,51 @@
+package com.example.demo.profiling;
+
+import com.example.demo.actor.ActiveActor;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The ActorDespawnEvent class is a JDK Flight Recorder event emitted when an actor is removed
+ * from the {@code ActorManager}, together with the reason it was removed.
+ *
+ * @see <a href="https://github.com/swyannnn/CW2024/blob/master/src/main/java/com/example/demo/profiling/ActorDespawnEvent.java">Github Source Code</a>
+ * @see ActorSpawnEvent
+ */
+@Name("com.example.demo.ActorDespawn")
+@Label("Actor Despawn")
+@Category({"Sky Battle", "Actors"})
+@Description("An actor was removed from the game")
+public class ActorDespawnEvent extends Event {
+    public static final String DESTROYED = "Destroyed";
+    public static final String REMOVED = "Removed";
+    public static final String CLEANUP = "Cleanup";
+
+    private static final EventType TYPE = EventType.getEventType(ActorDespawnEvent.class);
+
+    @Label("Actor Type")
+    String actorType;
+
+    @Label("Reason")
+    String reason;
+
+    /**
+     * Records the removal of an actor if the event is enabled.
+     *
+     * @param actor the actor that was removed
+     * @param reason why the actor was removed
+     */
+    public static void emit(ActiveActor actor, String reason) {
+        if (!TYPE.isEnabled()) {
+            return;
+        }
+        ActorDespawnEvent event = new ActorDespawnEvent();
+        event.actorType = actor.getTypeName();
+        event.reason = reason;
+        event.commit();
+    }
+}
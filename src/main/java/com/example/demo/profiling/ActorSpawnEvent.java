@@ -0,0 +1,43 @@
+package com.example.demo.profiling;
+
+import com.example.demo.actor.ActiveActor;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The ActorSpawnEvent class is a JDK Flight Recorder event emitted when an actor is added
+ * to the {@code ActorManager}. The actor type is the {@code PlaneType} or
+ * {@code ProjectileType} the actor was created from.
+ *
+ * @see <a href="https://github.com/swyannnn/CW2024/blob/master/src/main/java/com/example/demo/profiling/ActorSpawnEvent.java">Github Source Code</a>
+ * @see ActorDespawnEvent
+ */
+@Name("com.example.demo.ActorSpawn")
+@Label("Actor Spawn")
+@Category({"Sky Battle", "Actors"})
+@Description("An actor was added to the game")
+public class ActorSpawnEvent extends Event {
+    private static final EventType TYPE = EventType.getEventType(ActorSpawnEvent.class);
+
+    @Label("Actor Type")
+    String actorType;
+
+    /**
+     * Records the spawn of an actor if the event is enabled.
+     *
+     * @param actor the actor that was spawned
+     */
+    public static void emit(ActiveActor actor) {
+        if (!TYPE.isEnabled()) {
+            return;
+        }
+        ActorSpawnEvent event = new ActorSpawnEvent();
+        event.actorType = actor.getTypeName();
+        event.commit();
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.demo.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The AudioTriggerEvent class is a JDK Flight Recorder event emitted when the
+ * {@code AudioManager} starts a sound effect or background music.
+ *
+ * @see <a href="https://github.com/swyannnn/CW2024/blob/master/src/main/java/com/example/demo/profiling/AudioTriggerEvent.java">Github Source Code</a>
+ * @see com.example.demo.manager.AudioManager
+ */
+@Name("com.example.demo.AudioTrigger")
+@Label("Audio Trigger")
+@Category({"Sky Battle", "Audio"})
+@Description("A sound effect or background music was started")
+public class AudioTriggerEvent extends Event {
+    private static final EventType TYPE = EventType.getEventType(AudioTriggerEvent.class);
+
+    @Label("Sound")
+    String sound;
+
+    @Label("Music")
+    @Description("True for background music, false for sound effects")
+    boolean music;
+
+    /**
+     * Checks if the event is enabled, so callers can skip building the sound name.
+     *
+     * @return true if the event is enabled in a running recording, false otherwise
+     */
+    public static boolean isTypeEnabled() {
+        return TYPE.isEnabled();
+    }
+
+    /**
+     * Records an audio trigger if the event is enabled.
+     *
+     * @param sound the name of the sound that was started
+     * @param music true if the sound is background music, false for a sound effect
+     */
+    public static void emit(String sound, boolean music) {
+        if (!TYPE.isEnabled()) {
+            return;
+        }
+        AudioTriggerEvent event = new AudioTriggerEvent();
+        event.sound = sound;
+        event.music = music;
+        event.commit();
+    }
+}
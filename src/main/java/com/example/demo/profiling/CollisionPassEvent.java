@@ -0,0 +1,61 @@
+package com.example.demo.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The CollisionPassEvent class is a JDK Flight Recorder event that times one call to
+ * {@code CollisionManager.handleAllCollisions} and records how many actor pairs were
+ * checked and how many of them collided.
+ *
+ * @see <a href="https://github.com/swyannnn/CW2024/blob/master/src/main/java/com/example/demo/profiling/CollisionPassEvent.java">Github Source Code</a>
+ * @see com.example.demo.manager.CollisionManager
+ */
+@Name("com.example.demo.CollisionPass")
+@Label("Collision Pass")
+@Category({"Sky Battle", "Game Loop"})
+@Description("One collision detection pass over all actors")
+public class CollisionPassEvent extends Event {
+    private static final EventType TYPE = EventType.getEventType(CollisionPassEvent.class);
+
+    @Label("Candidates")
+    @Description("Number of actor pairs checked")
+    int candidates;
+
+    @Label("Hits")
+    @Description("Number of actor pairs that collided")
+    int hits;
+
+    /**
+     * Starts timing a collision pass if the event is enabled.
+     *
+     * @return the started event, or null if the event is not enabled
+     */
+    public static CollisionPassEvent start() {
+        if (!TYPE.isEnabled()) {
+            return null;
+        }
+        CollisionPassEvent event = new CollisionPassEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Stops timing a collision pass and commits the event with its counts.
+     *
+     * @param event the event returned by {@link #start()}, may be null
+     * @param candidates the number of actor pairs checked
+     * @param hits the number of actor pairs that collided
+     */
+    public static void finish(CollisionPassEvent event, int candidates, int hits) {
+        if (event != null) {
+            event.candidates = candidates;
+            event.hits = hits;
+            event.commit();
+        }
+    }
+}
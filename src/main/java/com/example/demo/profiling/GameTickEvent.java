@@ -0,0 +1,61 @@
+package com.example.demo.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * The GameTickEvent class is a JDK Flight Recorder event that times one fixed simulation
+ * tick run by the {@code GameLoopManager}. Long ticks can be lined up with GC and JIT
+ * events in a recording to find the cause of frame stalls.
+ *
+ * @see <a href="https://github.com/swyannnn/CW2024/blob/master/src/main/java/com/example/demo/profiling/GameTickEvent.java">Github Source Code</a>
+ * @see com.example.demo.manager.GameLoopManager
+ */
+@Name("com.example.demo.GameTick")
+@Label("Game Tick")
+@Category({"Sky Battle", "Game Loop"})
+@Description("Duration of one fixed simulation tick")
+public class GameTickEvent extends Event {
+    private static final EventType TYPE = EventType.getEventType(GameTickEvent.class);
+
+    @Label("Tick")
+    long tick;
+
+    @Label("Simulation Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long simulationTime;
+
+    /**
+     * Starts timing a tick if the event is enabled.
+     *
+     * @param tick the number of the tick
+     * @param simulationTime the simulation time of the tick in nanoseconds
+     * @return the started event, or null if the event is not enabled
+     */
+    public static GameTickEvent start(long tick, long simulationTime) {
+        if (!TYPE.isEnabled()) {
+            return null;
+        }
+        GameTickEvent event = new GameTickEvent();
+        event.tick = tick;
+        event.simulationTime = simulationTime;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Stops timing a tick and commits the event.
+     *
+     * @param event the event returned by {@link #start(long, long)}, may be null
+     */
+    public static void finish(GameTickEvent event) {
+        if (event != null) {
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.demo.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The LevelPhaseEvent class is a JDK Flight Recorder event that times one phase of a
+ * {@code LevelState} update, such as spawning, actor updates or collision detection.
+ *
+ * <p>Events are only created when the event type is enabled in a running recording,
+ * so the per-frame cost is a single check while no recording is active.</p>
+ *
+ * @see <a href="https://github.com/swyannnn/CW2024/blob/master/src/main/java/com/example/demo/profiling/LevelPhaseEvent.java">Github Source Code</a>
+ * @see com.example.demo.state.LevelState
+ */
+@Name("com.example.demo.LevelPhase")
+@Label("Level Phase")
+@Category({"Sky Battle", "Game Loop"})
+@Description("Duration of one phase of a level update")
+public class LevelPhaseEvent extends Event {
+    public static final String SPAWN = "Spawn Enemies";
+    public static final String UPDATE_ACTORS = "Update Actors";
+    public static final String REMOVE_DESTROYED = "Remove Destroyed Actors";
+    public static final String COLLISIONS = "Collisions";
+    public static final String UPDATE_VIEW = "Update Level View";
+    public static final String CHECK_COMPLETION = "Check Level Completion";
+
+    private static final EventType TYPE = EventType.getEventType(LevelPhaseEvent.class);
+
+    @Label("Level")
+    int level;
+
+    @Label("Phase")
+    String phase;
+
+    /**
+     * Starts timing a phase if the event is enabled.
+     *
+     * @param level the number of the level being updated
+     * @param phase the name of the phase
+     * @return the started event, or null if the event is not enabled
+     */
+    public static LevelPhaseEvent start(int level, String phase) {
+        if (!TYPE.isEnabled()) {
+            return null;
+        }
+        LevelPhaseEvent event = new LevelPhaseEvent();
+        event.level = level;
+        event.phase = phase;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Stops timing a phase and commits the event.
+     *
+     * @param event the event returned by {@link #start(int, String)}, may be null
+     */
+    public static void finish(LevelPhaseEvent event) {
+        if (event != null) {
+            event.commit();
+        }
+    }
+}
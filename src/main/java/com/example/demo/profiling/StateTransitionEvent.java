@@ -0,0 +1,45 @@
+package com.example.demo.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The StateTransitionEvent class is a JDK Flight Recorder event emitted when the
+ * {@code StateManager} moves from one game state to another.
+ *
+ * @see <a href="https://github.com/swyannnn/CW2024/blob/master/src/main/java/com/example/demo/profiling/StateTransitionEvent.java">Github Source Code</a>
+ * @see com.example.demo.manager.StateManager
+ */
+@Name("com.example.demo.StateTransition")
+@Label("State Transition")
+@Category({"Sky Battle", "States"})
+@Description("The game moved to a new state")
+public class StateTransitionEvent extends Event {
+    private static final EventType TYPE = EventType.getEventType(StateTransitionEvent.class);
+
+    @Label("From State")
+    String fromState;
+
+    @Label("To State")
+    String toState;
+
+    /**
+     * Records a state transition if the event is enabled.
+     *
+     * @param fromState the name of the previous state, or null if there was none
+     * @param toState the name of the new state
+     */
+    public static void emit(String fromState, String toState) {
+        if (!TYPE.isEnabled()) {
+            return;
+        }
+        StateTransitionEvent event = new StateTransitionEvent();
+        event.fromState = fromState;
+        event.toState = toState;
+        event.commit();
+    }
+}
@@ -6,13 +6,13 @@ import java.util.Map;
 import com.example.demo.actor.plane.UserPlane;
 import com.example.demo.actor.plane.component.HeartDisplay;
 import com.example.demo.handler.HealthChangeHandler;
-import com.example.demo.manager.ImageManager;
 import com.example.demo.util.GameConstant;
 
+import javafx.geometry.VPos;
 import javafx.scene.Group;
-import javafx.scene.image.ImageView;
 import javafx.scene.paint.Color;
 import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
 import javafx.scene.text.Text;
 
 /**
@@ -23,6 +23,10 @@ import javafx.scene.text.Text;
  * <p>This class provides methods to initialize the background, show level instructions,
  * update the background for a scrolling effect, and manage heart displays for players.</p>
  *
+ * <p>The heads-up display is retained: each heart display and the timer are created once,
+ * when a player joins the level or the timer is shown, and afterwards only change when the
+ * value they display changes. Nothing in the HUD is rebuilt from frame to frame.</p>
+ *
  * @see <a href="https://github.com/swyannnn/CW2024/blob/master/src/main/java/com/example/demo/screen/LevelScreen.java">Github Source Code</a>
  * @see HealthChangeHandler
  * @see UserPlane
@@ -32,10 +36,11 @@ public class LevelScreen implements HealthChangeHandler {
 	private final Map<UserPlane, HeartDisplay> heartDisplays = new HashMap<>();
 	private static final double HEART_DISPLAY_X_POSITION = 5;
 	private static final double HEART_DISPLAY_Y_POSITION = 10;
-    private final double scrollSpeed = 1.0; 
 	private final Group root;
-    protected ImageView[] backgrounds;
+    private ParallaxBackground background;
     private final int currentLevelNumber;
+    private Text timeLeftText;
+    private int timeLeftShown = -1;
 	
     /**
      * Constructs a new LevelView instance.
@@ -51,31 +56,25 @@ public class LevelScreen implements HealthChangeHandler {
 	}
 
     /**
-     * Initializes the background for the level view by creating two ImageView objects
-     * with the background image for the current level. The images are positioned side
-     * by side to create a seamless scrolling effect. The images are set to the screen
-     * height and width, and their opacity is set to 0.7. The images are then added to
-     * the UI layer.
+     * Initializes the background for the level view as a ParallaxBackground.
+     * The background image of the current level is the base layer, baked at the screen size
+     * with its opacity blended over the white scene fill, so scrolling it costs a single copy per frame.
+     * Further depth layers can be added through {@link #getBackground()}.
      */
     public void initializeBackground() {
         String backgroundImageName = GameConstant.LevelBackground.getBackgroundImageForLevel(currentLevelNumber);
-        ImageView img1 = new ImageView(ImageManager.getImage(backgroundImageName));
-        ImageView img2 = new ImageView(ImageManager.getImage(backgroundImageName));
-
-        img1.setFitHeight(GameConstant.GameSettings.SCREEN_HEIGHT);
-        img1.setFitWidth(GameConstant.GameSettings.SCREEN_WIDTH);
-        img1.setOpacity(0.7);
-        img2.setFitHeight(GameConstant.GameSettings.SCREEN_HEIGHT);
-        img2.setFitWidth(GameConstant.GameSettings.SCREEN_WIDTH);
-        img2.setOpacity(0.7);
-        // Position the second image right after the first
-        img1.setTranslateX(0);
-        img2.setTranslateX(GameConstant.GameSettings.SCREEN_WIDTH);
-
-        backgrounds = new ImageView[] { img1, img2 };
+        background = new ParallaxBackground(Color.WHITE)
+            .addLayer(backgroundImageName, GameConstant.Background.BASE_SCROLL_SPEED, GameConstant.Background.BASE_OPACITY);
+        root.getChildren().add(background.getNode());
+    }
 
-        // Add both images to the UI layer
-        root.getChildren().addAll(backgrounds);
+    /**
+     * Retrieves the scrolling background of the level.
+     *
+     * @return the background
+     */
+    public ParallaxBackground getBackground() {
+        return background;
     }
 
     /**
@@ -116,18 +115,10 @@ public class LevelScreen implements HealthChangeHandler {
     }
 
     /**
-     * Updates the background images by moving them to the left based on the scroll speed.
-     * If an image moves completely out of view, it resets its position to the right edge of the screen.
+     * Scrolls the background layers to the left, each at its own speed.
      */
     public void updateBackground() {
-        for (ImageView img : backgrounds) {
-            img.setTranslateX(img.getTranslateX() - scrollSpeed);
-
-            // If the image has moved completely out of view, reset its position
-            if (img.getTranslateX() + img.getFitWidth() <= 0) {
-                img.setTranslateX(GameConstant.GameSettings.SCREEN_WIDTH - scrollSpeed);
-            }
-        }
+        background.update();
     }
 	
     /**
@@ -150,7 +141,7 @@ public class LevelScreen implements HealthChangeHandler {
      * @param player The UserPlane object representing the player.
      * @param playerIndex The index of the player.
      */
-	public void showHeartDisplay(UserPlane player, int playerIndex) {
+    public void showHeartDisplay(UserPlane player, int playerIndex) {
         if (!heartDisplays.containsKey(player)) {
             double xPosition = HEART_DISPLAY_X_POSITION;
             double yPosition = calculateYPosition(playerIndex);; 
@@ -160,6 +151,39 @@ public class LevelScreen implements HealthChangeHandler {
         }
     }
     
+    /**
+     * Removes the heart displays of all players from the root.
+     * Used before a level snapshot is restored, as the restored players are new planes.
+     */
+    public void clearHeartDisplays() {
+        for (HeartDisplay hd : heartDisplays.values()) {
+            root.getChildren().remove(hd.getContainer());
+        }
+        heartDisplays.clear();
+    }
+
+    /**
+     * Shows the remaining time of the level in the top-right corner of the screen.
+     * The text is created on the first call and only updated when the whole number of seconds changes.
+     *
+     * @param secondsLeft the remaining time in whole seconds
+     */
+    public void showTimeLeft(int secondsLeft) {
+        if (timeLeftText == null) {
+            timeLeftText = new Text();
+            timeLeftText.setFill(Color.WHITE);
+            timeLeftText.setFont(Font.font("Arial", FontWeight.BOLD, 24));
+            timeLeftText.setTextOrigin(VPos.TOP);
+            timeLeftText.setLayoutX(GameConstant.GameSettings.SCREEN_WIDTH - 180);
+            timeLeftText.setLayoutY(8);
+            root.getChildren().add(timeLeftText);
+        }
+        if (secondsLeft != timeLeftShown) {
+            timeLeftShown = secondsLeft;
+            timeLeftText.setText("Time Left: " + secondsLeft + "s");
+        }
+    }
+
     /**
      * Calculates the Y position for a player based on their index.
      *
@@ -0,0 +1,64 @@
+package com.example.demo.screen;
+
+import com.example.demo.util.GameConstant;
+
+import javafx.geometry.Pos;
+import javafx.scene.Scene;
+import javafx.scene.control.ProgressBar;
+import javafx.scene.layout.VBox;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+
+/**
+ * The LoadingScreen class represents the splash screen shown while the game's assets are loading.
+ * It shows the game title and a progress bar that follows the AssetLoader's progress.
+ *
+ * @see <a href="https://github.com/swyannnn/CW2024/blob/master/src/main/java/com/example/demo/screen/LoadingScreen.java">Github Source Code</a>
+ * @see com.example.demo.manager.AssetLoader
+ */
+public class LoadingScreen {
+    private final ProgressBar progressBar;
+    private final Scene scene;
+
+    /**
+     * Constructs a LoadingScreen with an empty progress bar.
+     */
+    public LoadingScreen() {
+        VBox layout = new VBox(30);
+        layout.setAlignment(Pos.CENTER);
+        layout.setStyle("-fx-background-color: #1E1E1E;");
+
+        Text title = new Text(GameConstant.GameSettings.TITLE);
+        title.setFont(Font.font("Arial", 60));
+        title.setFill(Color.WHITE);
+
+        Text loadingLabel = new Text("Loading...");
+        loadingLabel.setFont(Font.font("Arial", 20));
+        loadingLabel.setFill(Color.WHITE);
+
+        progressBar = new ProgressBar(0);
+        progressBar.setPrefWidth(400);
+
+        layout.getChildren().addAll(title, progressBar, loadingLabel);
+        scene = new Scene(layout, GameConstant.GameSettings.SCREEN_WIDTH, GameConstant.GameSettings.SCREEN_HEIGHT);
+    }
+
+    /**
+     * Updates the progress bar. Must be called on the JavaFX Application Thread.
+     *
+     * @param progress the fraction of assets loaded, between 0 and 1
+     */
+    public void setProgress(double progress) {
+        progressBar.setProgress(progress);
+    }
+
+    /**
+     * Returns the scene of the loading screen.
+     *
+     * @return the loading screen scene
+     */
+    public Scene getScene() {
+        return scene;
+    }
+}
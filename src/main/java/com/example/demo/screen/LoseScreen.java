@@ -13,7 +13,7 @@ import javafx.stage.Stage;
 
 /**
  * The LoseScreen class represents the screen displayed when the player loses the game.
- * It provides options to restart the game, go back to the main menu, or exit the application.
+ * It provides options to retry the level from its last checkpoint, restart the game, go back to the main menu, or exit the application.
  * 
  * @see <a href="https://github.com/swyannnn/CW2024/blob/master/src/main/java/com/example/demo/screen/LoseScreen.java">Github Source Code</a>
  */
@@ -37,8 +37,8 @@ public class LoseScreen {
 
     /**
      * Creates and returns the scene for the lose screen.
-     * The lose screen displays a game over image, and provides buttons to restart the game,
-     * go back to the main menu, or exit the game.
+     * The lose screen displays a game over image, and provides buttons to retry from the last
+     * checkpoint, restart the game, go back to the main menu, or exit the game.
      *
      * @return the constructed Scene object for the lose screen
      */
@@ -52,6 +52,10 @@ public class LoseScreen {
         loseLayout.setAlignment(Pos.CENTER);
         loseLayout.setStyle("-fx-background-color: #8B0000;"); // Background color for the lose screen
 
+        // Retry Button
+        Button retryButton = ButtonManager.createButton("Retry From Checkpoint", 250, 50, 20);
+        retryButton.setOnAction(e -> stateTransitioner.retryLevel());
+
         // Restart Button
         Button restartButton = ButtonManager.createButton("Restart Game", 250, 50, 20);
         restartButton.setOnAction(e -> stateTransitioner.goToLevel(1));
@@ -64,7 +68,7 @@ public class LoseScreen {
         exitButton.setOnAction(e -> exitGame());
 
         // Add elements to the layout
-        loseLayout.getChildren().addAll(gameoverImage, restartButton, backToMenuButton, exitButton);
+        loseLayout.getChildren().addAll(gameoverImage, retryButton, restartButton, backToMenuButton, exitButton);
 
         // Return the constructed scene
         return new Scene(loseLayout, GameConstant.GameSettings.SCREEN_WIDTH, GameConstant.GameSettings.SCREEN_HEIGHT);
@@ -0,0 +1,177 @@
+package com.example.demo.screen;
+
+import com.example.demo.manager.ImageManager;
+import com.example.demo.util.GameConstant;
+
+import javafx.scene.Group;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+import javafx.scene.image.WritablePixelFormat;
+import javafx.scene.paint.Color;
+
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The ParallaxBackground class scrolls one or more background layers from right to left,
+ * each at its own speed, so nearer layers can move faster than distant ones.
+ *
+ * <p>Each layer is pre-baked once when it is added: its image is decoded at the screen size,
+ * its opacity is applied to the pixels, and it is repeated twice side by side in a single tile.
+ * Scrolling then only moves that one ImageView, so drawing a layer is a single unscaled,
+ * unblended copy of the visible part of the tile. The base layer is blended over the scene
+ * fill and fully opaque; layers added above it keep their transparency. Baked tiles are cached
+ * by the ImageManager, so levels that are played again reuse them.</p>
+ *
+ * <p>Like the rest of a level's scaffold, a ParallaxBackground can be built on any thread
+ * until its node is attached to a scene.</p>
+ *
+ * @see <a href="https://github.com/swyannnn/CW2024/blob/master/src/main/java/com/example/demo/screen/ParallaxBackground.java">Github Source Code</a>
+ * @see LevelScreen
+ * @see ImageManager
+ */
+public class ParallaxBackground {
+    private static final int WIDTH = GameConstant.GameSettings.SCREEN_WIDTH;
+    private static final int HEIGHT = GameConstant.GameSettings.SCREEN_HEIGHT;
+    private final Group node = new Group();
+    private final List<ImageView> layers = new ArrayList<>();
+    private final List<Double> speeds = new ArrayList<>();
+    private final Color backdrop;
+
+    /**
+     * Constructs an empty ParallaxBackground.
+     *
+     * @param backdrop the fill of the scene behind the background, which the base layer is blended over
+     */
+    public ParallaxBackground(Color backdrop) {
+        this.backdrop = backdrop;
+    }
+
+    /**
+     * Adds a layer above the existing ones.
+     * The first layer added is the base layer and is baked fully opaque.
+     *
+     * @param imageName the name of the image file of the layer
+     * @param speed the distance the layer scrolls per frame, in pixels
+     * @param opacity the opacity of the layer, from 0 to 1
+     * @return this ParallaxBackground
+     */
+    public ParallaxBackground addLayer(String imageName, double speed, double opacity) {
+        Color layerBackdrop = layers.isEmpty() ? backdrop : null;
+        String key = imageName + "#tile:" + opacity + ":" + layerBackdrop;
+        Image tile = ImageManager.getDerivedImage(key, () -> bakeTile(imageName, opacity, layerBackdrop));
+        if (tile == null) {
+            return this;
+        }
+        ImageView layer = new ImageView(tile);
+        layers.add(layer);
+        speeds.add(speed);
+        node.getChildren().add(layer);
+        return this;
+    }
+
+    /**
+     * Scrolls every layer by its speed.
+     * Once a layer has moved by a whole screen width it jumps back, which looks seamless
+     * because its tile repeats the image.
+     */
+    public void update() {
+        for (int i = 0; i < layers.size(); i++) {
+            ImageView layer = layers.get(i);
+            double x = layer.getTranslateX() - speeds.get(i);
+            if (x <= -WIDTH) {
+                x += WIDTH;
+            }
+            layer.setTranslateX(x);
+        }
+    }
+
+    /**
+     * Shows or hides the layers above the base layer, which are the only ones blended with transparency.
+     * The QualityGovernor hides them on slow machines; the base layer is always shown.
+     *
+     * @param blended true to show the layers above the base layer, false to hide them
+     */
+    public void setBlendedLayersVisible(boolean blended) {
+        for (int i = 1; i < layers.size(); i++) {
+            layers.get(i).setVisible(blended);
+        }
+    }
+
+    /**
+     * Retrieves the node holding the layers, to be added to the root of a level.
+     *
+     * @return the group of layers
+     */
+    public Group getNode() {
+        return node;
+    }
+
+    /**
+     * Retrieves the number of layers.
+     *
+     * @return the number of layers
+     */
+    public int getLayerCount() {
+        return layers.size();
+    }
+
+    /**
+     * Decodes an image at the screen size and bakes it into a tile two screens wide.
+     *
+     * @param imageName the name of the image file
+     * @param opacity the opacity to apply to the pixels
+     * @param backdrop the color to blend the image over, or null to keep the transparency
+     * @return the baked tile, or null if the image file is not found
+     */
+    static Image bakeTile(String imageName, double opacity, Color backdrop) {
+        Image source = ImageManager.decodeImage(imageName, WIDTH, HEIGHT);
+        if (source == null || source.isError()) {
+            return null;
+        }
+        int[] pixels = new int[WIDTH * HEIGHT];
+        WritablePixelFormat<IntBuffer> format = PixelFormat.getIntArgbInstance();
+        source.getPixelReader().getPixels(0, 0, WIDTH, HEIGHT, format, pixels, 0, WIDTH);
+        for (int i = 0; i < pixels.length; i++) {
+            pixels[i] = bakePixel(pixels[i], opacity, backdrop);
+        }
+        WritableImage tile = new WritableImage(WIDTH * 2, HEIGHT);
+        tile.getPixelWriter().setPixels(0, 0, WIDTH, HEIGHT, format, pixels, 0, WIDTH);
+        tile.getPixelWriter().setPixels(WIDTH, 0, WIDTH, HEIGHT, format, pixels, 0, WIDTH);
+        return tile;
+    }
+
+    /**
+     * Applies an opacity to one ARGB pixel, blending it over a backdrop if there is one.
+     *
+     * @param argb the pixel
+     * @param opacity the opacity to apply
+     * @param backdrop the color to blend the pixel over, or null to keep the transparency
+     * @return the baked pixel
+     */
+    static int bakePixel(int argb, double opacity, Color backdrop) {
+        double alpha = ((argb >>> 24) / 255.0) * opacity;
+        if (backdrop == null) {
+            return ((int) Math.round(alpha * 255) << 24) | (argb & 0x00FFFFFF);
+        }
+        int red = blend((argb >> 16) & 0xFF, backdrop.getRed(), alpha);
+        int green = blend((argb >> 8) & 0xFF, backdrop.getGreen(), alpha);
+        int blue = blend(argb & 0xFF, backdrop.getBlue(), alpha);
+        return 0xFF000000 | (red << 16) | (green << 8) | blue;
+    }
+
+    /**
+     * Blends one color channel over the backdrop.
+     *
+     * @param channel the channel of the pixel, from 0 to 255
+     * @param backdrop the channel of the backdrop, from 0 to 1
+     * @param alpha the opacity of the pixel
+     * @return the blended channel, from 0 to 255
+     */
+    private static int blend(int channel, double backdrop, double alpha) {
+        return (int) Math.round(channel * alpha + backdrop * 255 * (1 - alpha));
+    }
+}
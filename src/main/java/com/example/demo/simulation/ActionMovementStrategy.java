@@ -0,0 +1,82 @@
+package com.example.demo.simulation;
+
+import com.example.demo.actor.plane.FighterPlane;
+import com.example.demo.strategy.movement.MovementStrategy;
+import com.example.demo.util.GameConstant;
+
+/**
+ * The ActionMovementStrategy class implements the MovementStrategy interface and moves a
+ * user plane by the discrete action chosen by an agent, in place of the keyboard.
+ *
+ * <p>There are nine actions: staying still, the four directions and the four diagonals,
+ * numbered as in {@link GameEnvironment}. A plane moves by its speed along each axis of the
+ * action, the same distance as with the keys held down, and is kept within the screen in
+ * the same way as with UserMovementStrategy.</p>
+ *
+ * @see <a href="https://github.com/swyannnn/CW2024/blob/master/src/main/java/com/example/demo/simulation/ActionMovementStrategy.java">Github Source Code</a>
+ * @see MovementStrategy
+ * @see GameEnvironment
+ */
+public class ActionMovementStrategy implements MovementStrategy {
+    private static final int[] DIRECTION_X = { 0, 0, 0, -1, 1, -1, 1, -1, 1 };
+    private static final int[] DIRECTION_Y = { 0, -1, 1, 0, 0, -1, -1, 1, 1 };
+
+    /**
+     * The number of actions an agent can choose from.
+     */
+    public static final int ACTION_COUNT = DIRECTION_X.length;
+
+    private final double speed;
+    private int action;
+
+    /**
+     * Constructs an ActionMovementStrategy with the given speed.
+     *
+     * @param speed the distance the plane moves along each axis per tick
+     */
+    public ActionMovementStrategy(double speed) {
+        this.speed = speed;
+    }
+
+    /**
+     * Sets the action to perform on the following ticks.
+     *
+     * @param action the action, from 0 to {@link #ACTION_COUNT} - 1
+     * @throws IllegalArgumentException if the action does not exist
+     */
+    public void setAction(int action) {
+        if (action < 0 || action >= ACTION_COUNT) {
+            throw new IllegalArgumentException("Invalid action: " + action);
+        }
+        this.action = action;
+    }
+
+    /**
+     * Moves the fighter plane in the direction of the current action.
+     * The movement is bounded within the screen dimensions defined in GameConstant.GameSettings.
+     *
+     * @param plane the fighter plane to be moved
+     * @param now the current timestamp
+     */
+    @Override
+    public void move(FighterPlane plane, long now) {
+        plane.moveHorizontally(DIRECTION_X[action] * speed);
+        plane.moveVertically(DIRECTION_Y[action] * speed);
+
+        // Bounds checking
+        double currentX = plane.getCurrentX();
+        double currentY = plane.getCurrentY();
+
+        if (currentX < 0) {
+            plane.setTranslateX(-plane.getLayoutX());
+        } else if (currentX + plane.getImageWidth() > GameConstant.GameSettings.SCREEN_WIDTH) {
+            plane.setTranslateX(GameConstant.GameSettings.SCREEN_WIDTH - plane.getLayoutX() - plane.getImageWidth());
+        }
+
+        if (currentY < 0) {
+            plane.setTranslateY(-plane.getLayoutY());
+        } else if (currentY + plane.getImageHeight() > GameConstant.GameSettings.SCREEN_HEIGHT) {
+            plane.setTranslateY(GameConstant.GameSettings.SCREEN_HEIGHT - plane.getLayoutY() - plane.getImageHeight());
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package com.example.demo.simulation;
+
+import com.example.demo.util.BalanceTuning;
+import com.example.demo.util.GameConstant;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * The BalanceRunner class is a command-line tool that sweeps balance parameters over many
+ * seeded LevelSimulations, running them in parallel on all cores without rendering.
+ *
+ * <p>For every level and every combination of the spawn rate, enemy fire rate and boss phase
+ * threshold scales, the runner plays the same range of seeds, so grid points are compared on
+ * identical random streams. It writes two CSV files to the output directory:</p>
+ * <ul>
+ *   <li>{@code runs.csv}, with one row per simulation, in a deterministic order.</li>
+ *   <li>{@code summary.csv}, with one row per level and grid point: the win, loss and timeout
+ *       rates, the mean and median survival time, the mean kills, the peak actor count and the
+ *       median and worst peak tick time.</li>
+ * </ul>
+ *
+ * <p>Options are given as {@code --name=value}, lists are comma separated:</p>
+ * <pre>
+ * --levels=1,2,3,4  --runs=100  --seed=1  --spawn=0.8,1,1.2  --fire=1  --phase=1
+ * --max-seconds=120  --threads=8  --out=balance
+ * </pre>
+ *
+ * @see <a href="https://github.com/swyannnn/CW2024/blob/master/src/main/java/com/example/demo/simulation/BalanceRunner.java">Github Source Code</a>
+ * @see LevelSimulation
+ * @see BalanceTuning
+ */
+public class BalanceRunner {
+    private static final String SUMMARY_HEADER = "level,spawn_scale,fire_scale,phase_scale,runs,win_rate,loss_rate,"
+        + "timeout_rate,mean_survival_seconds,median_survival_seconds,mean_kills,peak_actors,"
+        + "median_peak_tick_micros,max_peak_tick_micros";
+
+    private final int[] levels;
+    private final int runs;
+    private final long seed;
+    private final double[] spawnScales;
+    private final double[] fireScales;
+    private final double[] phaseScales;
+    private final int maxSeconds;
+    private final int threads;
+    private final Path outputDirectory;
+
+    /**
+     * Constructs a BalanceRunner from command-line options.
+     *
+     * @param args the options, each in the form {@code --name=value}
+     * @throws IllegalArgumentException if an option is unknown or has an invalid value
+     */
+    public BalanceRunner(String[] args) {
+        Map<String, String> options = parseOptions(args);
+        this.levels = parseInts(take(options, "levels", "1,2,3,4"));
+        this.runs = Integer.parseInt(take(options, "runs", String.valueOf(GameConstant.Balance.DEFAULT_RUNS)));
+        this.seed = Long.parseLong(take(options, "seed", String.valueOf(GameConstant.Balance.DEFAULT_SEED)));
+        this.spawnScales = parseDoubles(take(options, "spawn", String.valueOf(GameConstant.Balance.DEFAULT_SCALE)));
+        this.fireScales = parseDoubles(take(options, "fire", String.valueOf(GameConstant.Balance.DEFAULT_SCALE)));
+        this.phaseScales = parseDoubles(take(options, "phase", String.valueOf(GameConstant.Balance.DEFAULT_SCALE)));
+        this.maxSeconds = Integer.parseInt(take(options, "max-seconds", String.valueOf(GameConstant.Balance.DEFAULT_MAX_SECONDS)));
+        this.threads = Integer.parseInt(take(options, "threads", String.valueOf(Runtime.getRuntime().availableProcessors())));
+        this.outputDirectory = Paths.get(take(options, "out", GameConstant.Balance.DEFAULT_OUTPUT_DIRECTORY));
+        if (runs <= 0 || maxSeconds <= 0 || threads <= 0) {
+            throw new IllegalArgumentException("runs, max-seconds and threads must be positive.");
+        }
+        if (!options.isEmpty()) {
+            throw new IllegalArgumentException("Unknown options: " + options.keySet());
+        }
+    }
+
+    /**
+     * Runs the balance sweep described by the command-line options.
+     *
+     * @param args the options, each in the form {@code --name=value}
+     */
+    public static void main(String[] args) {
+        try {
+            new BalanceRunner(args).run();
+        } catch (IllegalArgumentException e) {
+            System.err.println("Invalid balance options: " + e.getMessage());
+            System.exit(2);
+        } catch (IOException e) {
+            System.err.println("Failed to write balance results: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Runs every simulation of the sweep on a fixed thread pool and writes the CSV files.
+     *
+     * @return the results of all simulations, in the order they were submitted
+     * @throws IOException if the output files cannot be written
+     */
+    public List<SimulationResult> run() throws IOException {
+        List<BalanceTuning> tunings = new ArrayList<>();
+        for (double spawnScale : spawnScales) {
+            for (double fireScale : fireScales) {
+                for (double phaseScale : phaseScales) {
+                    tunings.add(new BalanceTuning(spawnScale, fireScale, phaseScale));
+                }
+            }
+        }
+
+        long started = System.nanoTime();
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        List<Future<SimulationResult>> futures = new ArrayList<>();
+        try {
+            for (int level : levels) {
+                for (BalanceTuning tuning : tunings) {
+                    for (int i = 0; i < runs; i++) {
+                        long runSeed = seed + i;
+                        futures.add(pool.submit(() -> new LevelSimulation(level, runSeed, tuning, maxSeconds).run()));
+                    }
+                }
+            }
+            List<SimulationResult> results = new ArrayList<>(futures.size());
+            for (Future<SimulationResult> future : futures) {
+                results.add(future.get());
+            }
+            writeResults(results);
+            System.out.println("Ran " + results.size() + " simulations on " + threads + " threads in "
+                + (System.nanoTime() - started) / 1_000_000 + " ms, results in " + outputDirectory.toAbsolutePath());
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Balance run interrupted.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Simulation failed: " + e.getCause(), e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Writes the per-run and summary CSV files.
+     *
+     * @param results the results of all simulations
+     * @throws IOException if a file cannot be written
+     */
+    private void writeResults(List<SimulationResult> results) throws IOException {
+        Files.createDirectories(outputDirectory);
+        try (BufferedWriter writer = Files.newBufferedWriter(outputDirectory.resolve(GameConstant.Balance.RUNS_FILE))) {
+            writer.write(SimulationResult.CSV_HEADER);
+            writer.newLine();
+            for (SimulationResult result : results) {
+                writer.write(result.toCsvRow());
+                writer.newLine();
+            }
+        }
+
+        // Results of a grid point are contiguous, as they were submitted together
+        try (BufferedWriter writer = Files.newBufferedWriter(outputDirectory.resolve(GameConstant.Balance.SUMMARY_FILE))) {
+            writer.write(SUMMARY_HEADER);
+            writer.newLine();
+            for (int start = 0; start < results.size(); start += runs) {
+                writer.write(summarize(results.subList(start, Math.min(start + runs, results.size()))));
+                writer.newLine();
+            }
+        }
+    }
+
+    /**
+     * Summarizes the runs of one level and grid point as a CSV row matching the summary header.
+     *
+     * @param group the results of the runs, all of the same level and tuning
+     * @return the summary row, without a line separator
+     */
+    static String summarize(List<SimulationResult> group) {
+        int count = group.size();
+        int won = 0;
+        int lost = 0;
+        int peakActors = 0;
+        double totalSurvival = 0;
+        double totalKills = 0;
+        double[] survival = new double[count];
+        long[] peakTicks = new long[count];
+        for (int i = 0; i < count; i++) {
+            SimulationResult result = group.get(i);
+            if (result.getOutcome() == LevelSimulation.Outcome.WON) {
+                won++;
+            } else if (result.getOutcome() == LevelSimulation.Outcome.LOST) {
+                lost++;
+            }
+            totalSurvival += result.getSurvivalSeconds();
+            totalKills += result.getKills();
+            peakActors = Math.max(peakActors, result.getPeakActorCount());
+            survival[i] = result.getSurvivalSeconds();
+            peakTicks[i] = result.getPeakTickNanos();
+        }
+        Arrays.sort(survival);
+        Arrays.sort(peakTicks);
+
+        SimulationResult first = group.get(0);
+        BalanceTuning tuning = first.getTuning();
+        return String.format(Locale.ROOT, "%d,%s,%s,%s,%d,%.4f,%.4f,%.4f,%.3f,%.3f,%.3f,%d,%d,%d",
+            first.getLevelNumber(), tuning.getSpawnRateScale(), tuning.getEnemyFireRateScale(),
+            tuning.getBossPhaseThresholdScale(), count, won / (double) count, lost / (double) count,
+            (count - won - lost) / (double) count, totalSurvival / count, survival[count / 2],
+            totalKills / count, peakActors, peakTicks[count / 2] / 1_000, peakTicks[count - 1] / 1_000);
+    }
+
+    /**
+     * Parses options of the form {@code --name=value} into a mutable map.
+     * Options are removed from the map as they are read, so any left over are unknown.
+     *
+     * @param args the command-line arguments
+     * @return the options by name
+     * @throws IllegalArgumentException if an argument is not of the form {@code --name=value}
+     */
+    static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (String arg : args) {
+            int equals = arg.indexOf('=');
+            if (!arg.startsWith("--") || equals < 0) {
+                throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+            }
+            options.put(arg.substring(2, equals), arg.substring(equals + 1));
+        }
+        return options;
+    }
+
+    /**
+     * Removes an option from the map and returns its value.
+     *
+     * @param options the remaining options
+     * @param name the name of the option
+     * @param defaultValue the value to use if the option is not given
+     * @return the value of the option
+     */
+    static String take(Map<String, String> options, String name, String defaultValue) {
+        String value = options.remove(name);
+        return value != null ? value : defaultValue;
+    }
+
+    /**
+     * Parses a comma-separated list of integers.
+     *
+     * @param list the list to parse
+     * @return the parsed integers
+     */
+    static int[] parseInts(String list) {
+        return Arrays.stream(list.split(",")).map(String::trim).mapToInt(Integer::parseInt).toArray();
+    }
+
+    /**
+     * Parses a comma-separated list of numbers.
+     *
+     * @param list the list to parse
+     * @return the parsed numbers
+     */
+    private static double[] parseDoubles(String list) {
+        return Arrays.stream(list.split(",")).map(String::trim).mapToDouble(Double::parseDouble).toArray();
+    }
+}
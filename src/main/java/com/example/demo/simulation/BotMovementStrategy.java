@@ -0,0 +1,139 @@
+package com.example.demo.simulation;
+
+import com.example.demo.actor.ActiveActor;
+import com.example.demo.actor.plane.FighterPlane;
+import com.example.demo.manager.ActorManager;
+import com.example.demo.strategy.movement.MovementStrategy;
+import com.example.demo.util.GameConstant;
+
+import java.util.List;
+
+/**
+ * The BotMovementStrategy class implements the MovementStrategy interface and plays a
+ * user plane in the balance simulations in place of a keyboard.
+ *
+ * <p>The bot only moves vertically, like a cautious player holding the left of the screen.
+ * Each tick it looks for the closest enemy or boss projectile that is about to reach it,
+ * and moves away from it. If nothing is about to hit it, it lines up with the nearest enemy,
+ * as the plane fires on its own. The bot uses no randomness, so a simulation is reproduced
+ * exactly by its seed.</p>
+ *
+ * <p>The decision is also available on its own through {@link #decideVerticalMove(FighterPlane)},
+ * which the soak test Autopilot turns into key presses.</p>
+ *
+ * @see <a href="https://github.com/swyannnn/CW2024/blob/master/src/main/java/com/example/demo/simulation/BotMovementStrategy.java">Github Source Code</a>
+ * @see MovementStrategy
+ * @see LevelSimulation
+ */
+public class BotMovementStrategy implements MovementStrategy {
+    private static final double DODGE_DISTANCE = GameConstant.Balance.BOT_DODGE_DISTANCE;
+    private static final double DODGE_HEIGHT = GameConstant.Balance.BOT_DODGE_HEIGHT;
+    private static final double SCREEN_HEIGHT = GameConstant.GameSettings.SCREEN_HEIGHT;
+    private final ActorManager actorManager;
+    private final double speed;
+
+    /**
+     * Constructs a BotMovementStrategy that reads the actors of the given ActorManager.
+     *
+     * @param actorManager the ActorManager holding the enemies and projectiles to react to
+     * @param speed the vertical speed of the plane per tick
+     */
+    public BotMovementStrategy(ActorManager actorManager, double speed) {
+        this.actorManager = actorManager;
+        this.speed = speed;
+    }
+
+    /**
+     * Moves the plane away from the most urgent threat, or towards the nearest enemy.
+     * The movement is bounded within the screen height defined in GameConstant.GameSettings.
+     *
+     * @param plane the fighter plane to be moved
+     * @param now the current timestamp in nanoseconds
+     */
+    @Override
+    public void move(FighterPlane plane, long now) {
+        plane.moveVertically(decideVerticalMove(plane));
+
+        // Bounds checking
+        double currentY = plane.getCurrentY();
+        if (currentY < 0) {
+            plane.setTranslateY(-plane.getLayoutY());
+        } else if (currentY + plane.getImageHeight() > SCREEN_HEIGHT) {
+            plane.setTranslateY(SCREEN_HEIGHT - plane.getLayoutY() - plane.getImageHeight());
+        }
+    }
+
+    /**
+     * Decides how far the plane should move vertically in this tick.
+     *
+     * @param plane the fighter plane flown by the bot
+     * @return the vertical movement, between minus and plus the speed
+     */
+    public double decideVerticalMove(FighterPlane plane) {
+        double centerY = plane.getCurrentY() + plane.getImageHeight() / 2.0;
+        double planeX = plane.getCurrentX();
+
+        ActiveActor threat = findThreat(actorManager.getEnemyProjectiles(), planeX, centerY, null);
+        threat = findThreat(actorManager.getBossProjectiles(), planeX, centerY, threat);
+
+        double deltaY;
+        if (threat != null) {
+            double threatY = threat.getCurrentY() + threat.getImageHeight() / 2.0;
+            deltaY = threatY > centerY ? -speed : speed;
+            // Turn around instead of getting pinned against the edge of the screen
+            if (plane.getCurrentY() + deltaY < 0 || plane.getCurrentY() + plane.getImageHeight() + deltaY > SCREEN_HEIGHT) {
+                deltaY = -deltaY;
+            }
+        } else {
+            ActiveActor target = findNearest(actorManager.getEnemyUnits(), planeX);
+            double targetY = target != null ? target.getCurrentY() + target.getImageHeight() / 2.0 : centerY;
+            deltaY = Math.max(-speed, Math.min(speed, targetY - centerY));
+        }
+        return deltaY;
+    }
+
+    /**
+     * Finds the closest projectile in front of the plane that is within dodging range.
+     *
+     * @param projectiles the projectiles to search
+     * @param planeX the current X position of the plane
+     * @param centerY the vertical center of the plane
+     * @param closest the closest threat found so far, or null
+     * @return the closest threat, or null if there is none
+     */
+    private static ActiveActor findThreat(List<ActiveActor> projectiles, double planeX, double centerY, ActiveActor closest) {
+        double closestDistance = closest != null ? closest.getCurrentX() - planeX : DODGE_DISTANCE;
+        for (int i = 0; i < projectiles.size(); i++) {
+            ActiveActor projectile = projectiles.get(i);
+            double distance = projectile.getCurrentX() - planeX;
+            double projectileY = projectile.getCurrentY() + projectile.getImageHeight() / 2.0;
+            if (!projectile.isDestroyed() && distance >= 0 && distance < closestDistance
+                    && Math.abs(projectileY - centerY) < DODGE_HEIGHT) {
+                closest = projectile;
+                closestDistance = distance;
+            }
+        }
+        return closest;
+    }
+
+    /**
+     * Finds the enemy closest to the plane horizontally.
+     *
+     * @param enemies the enemies to search
+     * @param planeX the current X position of the plane
+     * @return the nearest enemy, or null if there is none
+     */
+    private static ActiveActor findNearest(List<ActiveActor> enemies, double planeX) {
+        ActiveActor nearest = null;
+        double nearestDistance = Double.MAX_VALUE;
+        for (int i = 0; i < enemies.size(); i++) {
+            ActiveActor enemy = enemies.get(i);
+            double distance = Math.abs(enemy.getCurrentX() - planeX);
+            if (!enemy.isDestroyed() && distance < nearestDistance) {
+                nearest = enemy;
+                nearestDistance = distance;
+            }
+        }
+        return nearest;
+    }
+}
@@ -0,0 +1,289 @@
+package com.example.demo.simulation;
+
+import com.example.demo.actor.ActiveActor;
+import com.example.demo.actor.plane.UserPlane;
+import com.example.demo.util.BalanceTuning;
+import com.example.demo.util.GameConstant;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The GameEnvironment class exposes a level as a step, reset and observe environment for
+ * training automated players, in the style of reinforcement learning environments.
+ *
+ * <p>{@link #reset(long, int)} starts a level in a new headless LevelSimulation,
+ * {@link #step(int)} applies an action for one fixed tick and returns its reward, and
+ * {@link #observe()} describes the game as an array of floats. The player plane still fires
+ * on its own, so an action only chooses the direction the plane moves in.</p>
+ *
+ * <p>The observation is laid out as follows, with positions divided by the screen size:</p>
+ * <ul>
+ *   <li>The player's X and vertical center, and its health as a fraction of the initial health.</li>
+ *   <li>The nearest {@code GameConstant.Environment.OBSERVED_ENEMIES} enemy planes, nearest first.</li>
+ *   <li>The nearest {@code GameConstant.Environment.OBSERVED_PROJECTILES} enemy and boss projectiles, nearest first.</li>
+ * </ul>
+ * <p>Each enemy or projectile is three values: 1 if the slot is used, and its offset from the
+ * player along X and Y. Unused slots are all zero.</p>
+ *
+ * <p>The reward of a step is the sum of {@code KILL_REWARD} per enemy destroyed,
+ * {@code DAMAGE_REWARD} per health point lost, and {@code WIN_REWARD} or {@code LOSS_REWARD}
+ * when the level ends. Stepping and observing do not allocate, so an environment runs tens of
+ * thousands of steps per second on one core. An environment is not thread-safe; use one
+ * environment, or one VectorEnvironment, per thread.</p>
+ *
+ * @see <a href="https://github.com/swyannnn/CW2024/blob/master/src/main/java/com/example/demo/simulation/GameEnvironment.java">Github Source Code</a>
+ * @see LevelSimulation
+ * @see VectorEnvironment
+ * @see ActionMovementStrategy
+ */
+public class GameEnvironment {
+    public static final int ACTION_NONE = 0;
+    public static final int ACTION_UP = 1;
+    public static final int ACTION_DOWN = 2;
+    public static final int ACTION_LEFT = 3;
+    public static final int ACTION_RIGHT = 4;
+    public static final int ACTION_UP_LEFT = 5;
+    public static final int ACTION_UP_RIGHT = 6;
+    public static final int ACTION_DOWN_LEFT = 7;
+    public static final int ACTION_DOWN_RIGHT = 8;
+
+    private static final int OBSERVED_ENEMIES = GameConstant.Environment.OBSERVED_ENEMIES;
+    private static final int OBSERVED_PROJECTILES = GameConstant.Environment.OBSERVED_PROJECTILES;
+    private static final int PLAYER_FEATURES = 3;
+    private static final int ENTITY_FEATURES = 3;
+    private static final float SCREEN_WIDTH = (float) GameConstant.GameSettings.SCREEN_WIDTH;
+    private static final float SCREEN_HEIGHT = (float) GameConstant.GameSettings.SCREEN_HEIGHT;
+
+    /**
+     * The number of floats in an observation.
+     */
+    public static final int OBSERVATION_SIZE = PLAYER_FEATURES + ENTITY_FEATURES * (OBSERVED_ENEMIES + OBSERVED_PROJECTILES);
+
+    private final BalanceTuning tuning;
+    private final int maxSeconds;
+    private final ActionMovementStrategy pilot = new ActionMovementStrategy(GameConstant.UserPlane.VELOCITY);
+    private final float[] observation = new float[OBSERVATION_SIZE];
+    private final double[] nearestDistances = new double[Math.max(OBSERVED_ENEMIES, OBSERVED_PROJECTILES)];
+    private final ActiveActor[] nearestActors = new ActiveActor[nearestDistances.length];
+    private LevelSimulation simulation;
+    private LevelSimulation.Outcome outcome;
+    private int lastKills;
+    private int lastHealth;
+
+    /**
+     * Constructs a GameEnvironment with the designed balance and the default time limit.
+     */
+    public GameEnvironment() {
+        this(BalanceTuning.DEFAULT, GameConstant.Environment.MAX_SECONDS);
+    }
+
+    /**
+     * Constructs a GameEnvironment with the given balance tuning and time limit.
+     *
+     * @param tuning the balance tuning the levels are played with
+     * @param maxSeconds the simulation time after which an episode ends as a timeout
+     */
+    public GameEnvironment(BalanceTuning tuning, int maxSeconds) {
+        this.tuning = tuning;
+        this.maxSeconds = maxSeconds;
+    }
+
+    /**
+     * Starts a new episode of a level, ending the current one if there is one.
+     *
+     * @param seed the seed of the episode
+     * @param levelNumber the number of the level to play
+     * @return the first observation of the episode, reused by later calls
+     * @throws IllegalArgumentException if the level does not exist
+     */
+    public float[] reset(long seed, int levelNumber) {
+        close();
+        simulation = new LevelSimulation(levelNumber, seed, tuning, maxSeconds);
+        simulation.setPilot(pilot);
+        pilot.setAction(ACTION_NONE);
+        outcome = null;
+        lastKills = 0;
+        lastHealth = getPlayerHealth();
+        return observe();
+    }
+
+    /**
+     * Applies an action for one fixed tick of the simulation.
+     *
+     * @param action the action, from {@link #ACTION_NONE} to {@link #ACTION_DOWN_RIGHT}
+     * @return the reward of the step
+     * @throws IllegalArgumentException if the action does not exist
+     * @throws IllegalStateException if there is no episode running
+     */
+    public float step(int action) {
+        if (simulation == null || outcome != null) {
+            throw new IllegalStateException("reset() must be called before step().");
+        }
+        pilot.setAction(action);
+        outcome = simulation.step();
+
+        int kills = simulation.getKills();
+        int health = getPlayerHealth();
+        float reward = GameConstant.Environment.KILL_REWARD * (kills - lastKills)
+            + GameConstant.Environment.DAMAGE_REWARD * Math.max(0, lastHealth - health);
+        lastKills = kills;
+        lastHealth = health;
+
+        if (outcome == LevelSimulation.Outcome.WON) {
+            reward += GameConstant.Environment.WIN_REWARD;
+        } else if (outcome == LevelSimulation.Outcome.LOST) {
+            reward += GameConstant.Environment.LOSS_REWARD;
+        }
+        return reward;
+    }
+
+    /**
+     * Describes the current state of the episode.
+     *
+     * @return the observation, in an array reused by every call
+     */
+    public float[] observe() {
+        observe(observation, 0);
+        return observation;
+    }
+
+    /**
+     * Writes the current observation into part of a larger array, as batched environments do.
+     *
+     * @param target the array to write to
+     * @param offset the index of the first float to write
+     */
+    public void observe(float[] target, int offset) {
+        Arrays.fill(target, offset, offset + OBSERVATION_SIZE, 0f);
+        if (simulation == null) {
+            return;
+        }
+        List<UserPlane> players = simulation.getActorManager().getPlayers();
+        if (players.isEmpty()) {
+            return;
+        }
+        UserPlane player = players.get(0);
+        double playerX = player.getCurrentX();
+        double playerY = player.getCurrentY() + player.getImageHeight() / 2.0;
+        target[offset] = (float) playerX / SCREEN_WIDTH;
+        target[offset + 1] = (float) playerY / SCREEN_HEIGHT;
+        target[offset + 2] = player.getHealth() / (float) GameConstant.UserPlane.INITIAL_HEALTH;
+
+        int index = offset + PLAYER_FEATURES;
+        index = writeNearest(target, index, OBSERVED_ENEMIES, playerX, playerY,
+            simulation.getActorManager().getEnemyUnits(), null);
+        writeNearest(target, index, OBSERVED_PROJECTILES, playerX, playerY,
+            simulation.getActorManager().getEnemyProjectiles(), simulation.getActorManager().getBossProjectiles());
+    }
+
+    /**
+     * Writes the actors nearest to the player, nearest first, into the observation.
+     *
+     * @param target the array to write to
+     * @param index the index of the first slot
+     * @param slots the number of slots to fill
+     * @param playerX the X position of the player
+     * @param playerY the vertical center of the player
+     * @param actors the actors to choose from
+     * @param moreActors more actors to choose from, or null
+     * @return the index after the last slot
+     */
+    private int writeNearest(float[] target, int index, int slots, double playerX, double playerY,
+                             List<ActiveActor> actors, List<ActiveActor> moreActors) {
+        int found = collectNearest(actors, slots, 0, playerX, playerY);
+        if (moreActors != null) {
+            found = collectNearest(moreActors, slots, found, playerX, playerY);
+        }
+        for (int i = 0; i < found; i++) {
+            ActiveActor actor = nearestActors[i];
+            int slot = index + i * ENTITY_FEATURES;
+            target[slot] = 1f;
+            target[slot + 1] = (float) (actor.getCurrentX() - playerX) / SCREEN_WIDTH;
+            target[slot + 2] = (float) (actor.getCurrentY() + actor.getImageHeight() / 2.0 - playerY) / SCREEN_HEIGHT;
+            nearestActors[i] = null;
+        }
+        return index + slots * ENTITY_FEATURES;
+    }
+
+    /**
+     * Inserts the live actors of a list into the sorted nearest actors, keeping at most the given number.
+     *
+     * @param actors the actors to consider
+     * @param slots the number of nearest actors to keep
+     * @param found the number of nearest actors found so far
+     * @param playerX the X position of the player
+     * @param playerY the vertical center of the player
+     * @return the number of nearest actors found
+     */
+    private int collectNearest(List<ActiveActor> actors, int slots, int found, double playerX, double playerY) {
+        for (int i = 0; i < actors.size(); i++) {
+            ActiveActor actor = actors.get(i);
+            if (actor.isDestroyed()) {
+                continue;
+            }
+            double dx = actor.getCurrentX() - playerX;
+            double dy = actor.getCurrentY() + actor.getImageHeight() / 2.0 - playerY;
+            double distance = dx * dx + dy * dy;
+            if (found == slots && distance >= nearestDistances[found - 1]) {
+                continue;
+            }
+            int position = found < slots ? found++ : found - 1;
+            while (position > 0 && nearestDistances[position - 1] > distance) {
+                nearestDistances[position] = nearestDistances[position - 1];
+                nearestActors[position] = nearestActors[position - 1];
+                position--;
+            }
+            nearestDistances[position] = distance;
+            nearestActors[position] = actor;
+        }
+        return found;
+    }
+
+    /**
+     * Retrieves the health of the player, or zero if the player has been removed.
+     *
+     * @return the health of the player
+     */
+    private int getPlayerHealth() {
+        List<UserPlane> players = simulation.getActorManager().getPlayers();
+        return players.isEmpty() ? 0 : Math.max(0, players.get(0).getHealth());
+    }
+
+    /**
+     * Checks if the current episode has ended.
+     *
+     * @return true if the episode has ended, false otherwise
+     */
+    public boolean isDone() {
+        return outcome != null;
+    }
+
+    /**
+     * Retrieves how the current episode ended.
+     *
+     * @return the outcome, or null if the episode is still running
+     */
+    public LevelSimulation.Outcome getOutcome() {
+        return outcome;
+    }
+
+    /**
+     * Retrieves the simulation time of the current episode.
+     *
+     * @return the simulation time in seconds, or zero if there is no episode
+     */
+    public double getElapsedSeconds() {
+        return simulation != null ? simulation.getElapsedSeconds() : 0;
+    }
+
+    /**
+     * Ends the current episode and releases its session.
+     */
+    public void close() {
+        if (simulation != null) {
+            simulation.close();
+            simulation = null;
+        }
+    }
+}
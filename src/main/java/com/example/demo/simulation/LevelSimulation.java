@@ -0,0 +1,235 @@
+package com.example.demo.simulation;
+
+import com.example.demo.GameSession;
+import com.example.demo.actor.ActiveActor;
+import com.example.demo.actor.plane.UserPlane;
+import com.example.demo.handler.CollisionHandler;
+import com.example.demo.level.LevelConfig;
+import com.example.demo.level.LevelFactory;
+import com.example.demo.level.LevelParent;
+import com.example.demo.manager.ActorManager;
+import com.example.demo.manager.CollisionManager;
+import com.example.demo.strategy.movement.MovementStrategy;
+import com.example.demo.util.BalanceTuning;
+import com.example.demo.util.GameClock;
+import com.example.demo.util.GameConstant;
+
+import java.util.List;
+
+/**
+ * The LevelSimulation class plays one level in a headless GameSession, with the user plane
+ * controlled by a BotMovementStrategy, as fast as the CPU allows. The pilot can be replaced
+ * with {@link #setPilot(MovementStrategy)}, as the GameEnvironment does for trained agents.
+ *
+ * <p>Each tick advances the session's clock by one fixed step and runs the same phases as
+ * LevelState.update: spawning, actor updates, removal of destroyed actors, collisions and
+ * the completion check. The level view is not updated, as there is nothing to show.
+ * A simulation ends when the player is destroyed, when the level's target is reached, or
+ * when the time limit passes.</p>
+ *
+ * <p>A simulation only touches its own session, so simulations can run on many threads at
+ * once. The same level, seed and tuning always play out the same way.</p>
+ *
+ * @see <a href="https://github.com/swyannnn/CW2024/blob/master/src/main/java/com/example/demo/simulation/LevelSimulation.java">Github Source Code</a>
+ * @see BalanceRunner
+ * @see GameEnvironment
+ * @see GameSession#headless(long, BalanceTuning)
+ */
+public class LevelSimulation implements CollisionHandler {
+    /**
+     * How a simulation ended.
+     */
+    public enum Outcome {
+        WON, LOST, TIMEOUT
+    }
+
+    private final int levelNumber;
+    private final long seed;
+    private final BalanceTuning tuning;
+    private final long maxTicks;
+    private final GameSession session;
+    private final LevelParent level;
+    private final ActorManager actorManager;
+    private final CollisionManager collisionManager;
+    private final GameClock clock;
+    private int kills;
+    private int peakActorCount;
+    private long peakTickNanos;
+
+    /**
+     * Constructs a simulation of a level for one player.
+     *
+     * @param levelNumber the number of the level to simulate
+     * @param seed the seed of the simulation
+     * @param tuning the balance tuning to play the level with
+     * @param maxSeconds the simulation time after which the run ends as a timeout
+     * @throws IllegalArgumentException if the level does not exist
+     */
+    public LevelSimulation(int levelNumber, long seed, BalanceTuning tuning, int maxSeconds) {
+        this(levelNumber, 1, seed, tuning, maxSeconds);
+    }
+
+    /**
+     * Constructs a simulation of a level for the given number of players.
+     *
+     * @param levelNumber the number of the level to simulate
+     * @param numberOfPlayers the number of players in the level
+     * @param seed the seed of the simulation
+     * @param tuning the balance tuning to play the level with
+     * @param maxSeconds the simulation time after which the run ends as a timeout
+     * @throws IllegalArgumentException if the level does not exist
+     */
+    public LevelSimulation(int levelNumber, int numberOfPlayers, long seed, BalanceTuning tuning, int maxSeconds) {
+        this.levelNumber = levelNumber;
+        this.seed = seed;
+        this.tuning = tuning;
+        this.maxTicks = maxSeconds * 1_000_000_000L / GameClock.FIXED_STEP_NANOS;
+        this.session = GameSession.headless(seed, tuning);
+        this.level = LevelFactory.createLevel(levelNumber, new LevelConfig(numberOfPlayers, session))
+            .orElseThrow(() -> new IllegalArgumentException("Unknown level: " + levelNumber));
+        this.actorManager = session.getActorManager();
+        this.collisionManager = session.getCollisionManager();
+        this.clock = session.getClock();
+        collisionManager.setCollisionHandler(this);
+
+        setPilot(new BotMovementStrategy(actorManager, GameConstant.UserPlane.VELOCITY));
+    }
+
+    /**
+     * Sets the movement strategy that flies every player plane.
+     *
+     * @param pilot the movement strategy of the players
+     */
+    public void setPilot(MovementStrategy pilot) {
+        List<UserPlane> players = actorManager.getPlayers();
+        for (int i = 0; i < players.size(); i++) {
+            players.get(i).setMovementStrategy(pilot);
+        }
+    }
+
+    /**
+     * Runs the simulation to the end and releases its session.
+     *
+     * @return the result of the simulation
+     */
+    public SimulationResult run() {
+        Outcome outcome = null;
+        while (outcome == null) {
+            outcome = step();
+        }
+        SimulationResult result = new SimulationResult(levelNumber, seed, tuning, outcome,
+            getElapsedSeconds(), kills, peakActorCount, peakTickNanos, clock.getTickCount());
+        close();
+        return result;
+    }
+
+    /**
+     * Advances the simulation by one fixed step.
+     * Must not be called again once a step has returned an outcome.
+     *
+     * @return the outcome if the simulation ended in this step, or null if it goes on
+     */
+    public Outcome step() {
+        long start = System.nanoTime();
+        clock.tick();
+        long now = clock.getSimulationTime();
+
+        level.spawnEnemyUnits();
+        actorManager.updateAllActors(now);
+        actorManager.removeDestroyedActors();
+        collisionManager.handleAllCollisions(actorManager);
+
+        peakTickNanos = Math.max(peakTickNanos, System.nanoTime() - start);
+        peakActorCount = Math.max(peakActorCount, actorManager.getActorCount());
+
+        if (playerIsDestroyed()) {
+            return Outcome.LOST;
+        } else if (level.userHasReachedTarget()) {
+            return Outcome.WON;
+        } else if (clock.getTickCount() >= maxTicks) {
+            return Outcome.TIMEOUT;
+        }
+        return null;
+    }
+
+    /**
+     * Releases the session of the simulation and removes all of its actors.
+     */
+    public void close() {
+        session.cleanup();
+    }
+
+    /**
+     * Retrieves the ActorManager holding the actors of the simulation.
+     *
+     * @return the ActorManager
+     */
+    public ActorManager getActorManager() {
+        return actorManager;
+    }
+
+    /**
+     * Retrieves the number of enemies destroyed by the player so far.
+     *
+     * @return the number of kills
+     */
+    public int getKills() {
+        return kills;
+    }
+
+    /**
+     * Retrieves the simulation time elapsed so far.
+     *
+     * @return the simulation time in seconds
+     */
+    public double getElapsedSeconds() {
+        return clock.getSimulationTime() / 1_000_000_000.0;
+    }
+
+    /**
+     * Checks if a player has been destroyed, in the same way as LevelState.
+     *
+     * @return true if a player has no health left or no player is left, false otherwise
+     */
+    private boolean playerIsDestroyed() {
+        List<UserPlane> players = actorManager.getPlayers();
+        if (players.isEmpty()) {
+            return true;
+        }
+        for (int i = 0; i < players.size(); i++) {
+            if (players.get(i).getHealth() <= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Does nothing, as headless sessions create no explosions.
+     */
+    @Override
+    public void onExplosionStarted() {
+    }
+
+    /**
+     * Does nothing, as headless sessions create no explosions.
+     */
+    @Override
+    public void onExplosionFinished() {
+    }
+
+    /**
+     * Credits the player with the hit, as LevelState does, and counts the enemy as a kill
+     * if the hit destroyed it.
+     *
+     * @param userPlane the user plane that fired the projectile
+     * @param enemy the enemy that was hit
+     */
+    @Override
+    public void onProjectileHitEnemy(UserPlane userPlane, ActiveActor enemy) {
+        userPlane.incrementKillCount();
+        if (enemy.isDestroyed()) {
+            kills++;
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.demo.simulation;
+
+import com.example.demo.level.StressScenario;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The ScenarioResult class holds the measurements of one StressScenario run by the ScenarioRunner:
+ * the duration of every measured tick, the memory allocated by the ticks and the garbage collections
+ * that ran meanwhile.
+ *
+ * <p>A result is written as a single line of JSON, and the fields compared against a baseline can
+ * be read back from such a line with {@link #readNumber(String, String)}.</p>
+ *
+ * @see <a href="https://github.com/swyannnn/CW2024/blob/master/src/main/java/com/example/demo/simulation/ScenarioResult.java">Github Source Code</a>
+ * @see ScenarioRunner
+ */
+public class ScenarioResult {
+    public static final String TICKS_PER_SECOND = "ticks_per_second";
+    public static final String P99_TICK_MICROS = "p99_tick_micros";
+
+    private final StressScenario scenario;
+    private final long[] sortedTickNanos;
+    private final long totalNanos;
+    private final long allocatedBytes;
+    private final long gcCount;
+    private final long gcTimeMillis;
+    private final int peakActors;
+    private final boolean complete;
+
+    /**
+     * Constructs a ScenarioResult.
+     *
+     * @param scenario the scenario that was run
+     * @param tickNanos the durations of the measured ticks in nanoseconds; only the first tickCount are used
+     * @param tickCount the number of measured ticks
+     * @param allocatedBytes the bytes allocated by the measured ticks, or a negative value if unknown
+     * @param gcCount the number of garbage collections during the measured ticks
+     * @param gcTimeMillis the collection time reported by all collectors meanwhile, in milliseconds;
+     *                     this includes concurrent cycles and so is not pause time
+     * @param peakActors the largest number of live actors seen while measuring
+     * @param complete true if every requested tick was measured, false if the level ended first
+     */
+    public ScenarioResult(StressScenario scenario, long[] tickNanos, int tickCount, long allocatedBytes,
+                          long gcCount, long gcTimeMillis, int peakActors, boolean complete) {
+        this.scenario = scenario;
+        this.sortedTickNanos = Arrays.copyOf(tickNanos, tickCount);
+        Arrays.sort(sortedTickNanos);
+        long total = 0;
+        for (long tick : sortedTickNanos) {
+            total += tick;
+        }
+        this.totalNanos = total;
+        this.allocatedBytes = allocatedBytes;
+        this.gcCount = gcCount;
+        this.gcTimeMillis = gcTimeMillis;
+        this.peakActors = peakActors;
+        this.complete = complete;
+    }
+
+    /**
+     * Retrieves a percentile of the tick durations, using the nearest rank.
+     *
+     * @param percentile the percentile, between 0 and 100
+     * @return the tick duration in microseconds, or 0 if no tick was measured
+     */
+    public double getPercentileMicros(double percentile) {
+        if (sortedTickNanos.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * sortedTickNanos.length);
+        return sortedTickNanos[Math.max(0, Math.min(rank, sortedTickNanos.length) - 1)] / 1e3;
+    }
+
+    /**
+     * Retrieves the number of ticks run per second of measured time.
+     *
+     * @return the ticks per second, or 0 if no tick was measured
+     */
+    public double getTicksPerSecond() {
+        return totalNanos == 0 ? 0 : sortedTickNanos.length * 1e9 / totalNanos;
+    }
+
+    /**
+     * Retrieves the mean number of bytes allocated by a tick.
+     *
+     * @return the bytes per tick, or -1 if the allocations could not be measured
+     */
+    public double getAllocatedBytesPerTick() {
+        if (allocatedBytes < 0) {
+            return -1;
+        }
+        return sortedTickNanos.length == 0 ? 0 : allocatedBytes / (double) sortedTickNanos.length;
+    }
+
+    /**
+     * Retrieves the rate at which the ticks allocated memory.
+     *
+     * @return the allocation rate in megabytes per second, or -1 if the allocations could not be measured
+     */
+    public double getAllocationMegabytesPerSecond() {
+        if (allocatedBytes < 0) {
+            return -1;
+        }
+        return totalNanos == 0 ? 0 : allocatedBytes / 1e6 / (totalNanos / 1e9);
+    }
+
+    public StressScenario getScenario() {
+        return scenario;
+    }
+
+    public int getTickCount() {
+        return sortedTickNanos.length;
+    }
+
+    public long getGcCount() {
+        return gcCount;
+    }
+
+    public boolean isComplete() {
+        return complete;
+    }
+
+    /**
+     * Formats the result as a JSON object.
+     *
+     * @return the JSON object, on a single line
+     */
+    public String toJson() {
+        return String.format(Locale.ROOT,
+            "{\"level\":%d,\"scenario\":\"%s\",\"ticks\":%d,\"complete\":%b,\"%s\":%.1f,\"p50_tick_micros\":%.1f,"
+                + "\"%s\":%.1f,\"max_tick_micros\":%.1f,\"allocated_bytes_per_tick\":%.1f,\"allocation_mb_per_second\":%.2f,"
+                + "\"gc_count\":%d,\"gc_time_ms\":%d,\"peak_actors\":%d}",
+            scenario.getLevelNumber(), scenario.getTitle(), getTickCount(), complete, TICKS_PER_SECOND, getTicksPerSecond(),
+            getPercentileMicros(50), P99_TICK_MICROS, getPercentileMicros(99), getPercentileMicros(100),
+            getAllocatedBytesPerTick(), getAllocationMegabytesPerSecond(), gcCount, gcTimeMillis, peakActors);
+    }
+
+    /**
+     * Reads a number from a JSON object written by {@link #toJson()}.
+     *
+     * @param json the JSON object
+     * @param field the name of the field
+     * @return the value of the field, or NaN if the object has no such field
+     */
+    public static double readNumber(String json, String field) {
+        Matcher matcher = Pattern.compile("\"" + Pattern.quote(field) + "\":(-?[0-9.]+)").matcher(json);
+        return matcher.find() ? Double.parseDouble(matcher.group(1)) : Double.NaN;
+    }
+}
@@ -0,0 +1,297 @@
+package com.example.demo.simulation;
+
+import com.example.demo.level.StressScenario;
+import com.example.demo.util.BalanceTuning;
+import com.example.demo.util.GameClock;
+import com.example.demo.util.GameConstant;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * The ScenarioRunner class is a command-line tool that runs the canned stress levels end to end
+ * in headless LevelSimulations, so a change to any phase of a tick shows up in one number, and
+ * saves the results as a JSON baseline that later runs are compared against.
+ *
+ * <p>Each StressScenario is registered with the LevelFactory and played for a number of warm-up
+ * ticks, so the JIT compiler and the actor pools settle, and then for the measured ticks. The
+ * scenarios run one after another on the calling thread, as the allocations are measured per
+ * thread and the garbage collections per JVM. For each scenario the runner reports the ticks
+ * per second, the median, 99th percentile and longest tick, the bytes allocated per tick and
+ * per second, and the number of garbage collections and the time the collectors reported.</p>
+ *
+ * <p>With {@code --baseline}, the results are compared against an earlier output file, and a
+ * scenario whose throughput dropped or whose 99th percentile tick grew by more than the tolerance
+ * is reported as a regression. The runner then exits with
+ * {@code GameConstant.Stress.REGRESSION_EXIT_CODE}, so it can fail a build.</p>
+ *
+ * <p>Options are given as {@code --name=value}:</p>
+ * <pre>
+ * --scenarios=101,102,103  --ticks=3000  --warmup=600  --seed=1
+ * --out=scenario-baseline.json  --baseline=previous.json  --tolerance=0.15
+ * </pre>
+ *
+ * @see <a href="https://github.com/swyannnn/CW2024/blob/master/src/main/java/com/example/demo/simulation/ScenarioRunner.java">Github Source Code</a>
+ * @see StressScenario
+ * @see ScenarioResult
+ * @see LevelSimulation
+ */
+public class ScenarioRunner {
+    private final int[] levels;
+    private final int ticks;
+    private final int warmupTicks;
+    private final long seed;
+    private final Path outputFile;
+    private final Path baselineFile;
+    private final double tolerance;
+    private final com.sun.management.ThreadMXBean threadBean =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    /**
+     * Constructs a ScenarioRunner from command-line options.
+     *
+     * @param args the options, each in the form {@code --name=value}
+     * @throws IllegalArgumentException if an option is unknown or has an invalid value
+     */
+    public ScenarioRunner(String[] args) {
+        Map<String, String> options = BalanceRunner.parseOptions(args);
+        this.levels = BalanceRunner.parseInts(BalanceRunner.take(options, "scenarios", GameConstant.Stress.DEFAULT_SCENARIOS));
+        this.ticks = Integer.parseInt(BalanceRunner.take(options, "ticks", String.valueOf(GameConstant.Stress.DEFAULT_TICKS)));
+        this.warmupTicks = Integer.parseInt(BalanceRunner.take(options, "warmup", String.valueOf(GameConstant.Stress.DEFAULT_WARMUP_TICKS)));
+        this.seed = Long.parseLong(BalanceRunner.take(options, "seed", String.valueOf(GameConstant.Stress.DEFAULT_SEED)));
+        this.outputFile = Paths.get(BalanceRunner.take(options, "out", GameConstant.Stress.DEFAULT_OUTPUT_FILE));
+        String baseline = BalanceRunner.take(options, "baseline", null);
+        this.baselineFile = baseline != null ? Paths.get(baseline) : null;
+        this.tolerance = Double.parseDouble(BalanceRunner.take(options, "tolerance", String.valueOf(GameConstant.Stress.DEFAULT_TOLERANCE)));
+        if (ticks <= 0 || warmupTicks < 0 || tolerance < 0) {
+            throw new IllegalArgumentException("ticks must be positive, warmup and tolerance must not be negative.");
+        }
+        for (int level : levels) {
+            StressScenario.forLevel(level);
+        }
+        if (!options.isEmpty()) {
+            throw new IllegalArgumentException("Unknown options: " + options.keySet());
+        }
+    }
+
+    /**
+     * Runs the scenarios described by the command-line options.
+     *
+     * @param args the options, each in the form {@code --name=value}
+     */
+    public static void main(String[] args) {
+        try {
+            ScenarioRunner runner = new ScenarioRunner(args);
+            List<ScenarioResult> results = runner.run();
+            if (runner.baselineFile != null && runner.compare(results) > 0) {
+                System.exit(GameConstant.Stress.REGRESSION_EXIT_CODE);
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println("Invalid scenario options: " + e.getMessage());
+            System.exit(2);
+        } catch (IOException e) {
+            System.err.println("Failed to read or write scenario results: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Runs every scenario and writes the results to the output file.
+     *
+     * @return the results of the scenarios, in the order they were run
+     * @throws IOException if the output file cannot be written
+     */
+    public List<ScenarioResult> run() throws IOException {
+        StressScenario.registerAll();
+        List<ScenarioResult> results = new ArrayList<>(levels.length);
+        for (int level : levels) {
+            ScenarioResult result = runScenario(StressScenario.forLevel(level));
+            System.out.println("Scenario: " + result.toJson());
+            results.add(result);
+        }
+        writeResults(results);
+        System.out.println("Scenario results in " + outputFile.toAbsolutePath());
+        return results;
+    }
+
+    /**
+     * Plays a scenario for the warm-up ticks and then measures it for the requested ticks.
+     *
+     * @param scenario the scenario to run
+     * @return the measurements of the scenario
+     */
+    ScenarioResult runScenario(StressScenario scenario) {
+        long totalTicks = (long) warmupTicks + ticks;
+        // The time limit lies past the last tick, so only a level that ends by itself stops the run early
+        int maxSeconds = (int) Math.ceil(totalTicks * GameClock.FIXED_STEP_SECONDS) + 1;
+        LevelSimulation simulation = new LevelSimulation(scenario.getLevelNumber(), scenario.getNumberOfPlayers(),
+            seed, BalanceTuning.DEFAULT, maxSeconds);
+        try {
+            for (int i = 0; i < warmupTicks; i++) {
+                if (simulation.step() != null) {
+                    return new ScenarioResult(scenario, new long[0], 0, 0, 0, 0, 0, false);
+                }
+            }
+
+            long[] tickNanos = new long[ticks];
+            int measured = 0;
+            int peakActors = 0;
+            boolean ended = false;
+            long gcCountBefore = gcCount();
+            long gcTimeBefore = gcTimeMillis();
+            long allocatedBefore = allocatedBytes();
+            while (measured < ticks && !ended) {
+                long start = System.nanoTime();
+                ended = simulation.step() != null;
+                tickNanos[measured++] = System.nanoTime() - start;
+                peakActors = Math.max(peakActors, simulation.getActorManager().getActorCount());
+            }
+            long allocatedAfter = allocatedBytes();
+            long allocated = allocatedBefore < 0 || allocatedAfter < 0 ? -1 : allocatedAfter - allocatedBefore;
+            return new ScenarioResult(scenario, tickNanos, measured, allocated,
+                gcCount() - gcCountBefore, gcTimeMillis() - gcTimeBefore, peakActors, !ended);
+        } finally {
+            simulation.close();
+        }
+    }
+
+    /**
+     * Retrieves the bytes allocated so far by the current thread.
+     *
+     * @return the allocated bytes, or -1 if the JVM does not measure them
+     */
+    private long allocatedBytes() {
+        if (!threadBean.isThreadAllocatedMemorySupported() || !threadBean.isThreadAllocatedMemoryEnabled()) {
+            return -1;
+        }
+        return threadBean.getCurrentThreadAllocatedBytes();
+    }
+
+    /**
+     * Retrieves the number of garbage collections run so far by all collectors.
+     *
+     * @return the number of collections
+     */
+    private static long gcCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(0, collector.getCollectionCount());
+        }
+        return count;
+    }
+
+    /**
+     * Retrieves the collection time reported so far by all collectors.
+     * This is not pause time: the beans of concurrent collectors, such as "G1 Concurrent GC",
+     * report the duration of cycles that mostly run alongside the game threads.
+     *
+     * @return the collection time in milliseconds
+     */
+    private static long gcTimeMillis() {
+        long millis = 0;
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            millis += Math.max(0, collector.getCollectionTime());
+        }
+        return millis;
+    }
+
+    /**
+     * Writes the settings of the run and the results of the scenarios to the output file.
+     *
+     * @param results the results of the scenarios
+     * @throws IOException if the file cannot be written
+     */
+    private void writeResults(List<ScenarioResult> results) throws IOException {
+        if (outputFile.toAbsolutePath().getParent() != null) {
+            Files.createDirectories(outputFile.toAbsolutePath().getParent());
+        }
+        try (BufferedWriter writer = Files.newBufferedWriter(outputFile)) {
+            writer.write("{");
+            writer.newLine();
+            writer.write("  \"java\": \"" + System.getProperty("java.version") + "\",");
+            writer.newLine();
+            writer.write("  \"ticks\": " + ticks + ",");
+            writer.newLine();
+            writer.write("  \"warmup_ticks\": " + warmupTicks + ",");
+            writer.newLine();
+            writer.write("  \"seed\": " + seed + ",");
+            writer.newLine();
+            writer.write("  \"scenarios\": [");
+            writer.newLine();
+            for (int i = 0; i < results.size(); i++) {
+                writer.write("    " + results.get(i).toJson() + (i < results.size() - 1 ? "," : ""));
+                writer.newLine();
+            }
+            writer.write("  ]");
+            writer.newLine();
+            writer.write("}");
+            writer.newLine();
+        }
+    }
+
+    /**
+     * Compares the results against the baseline file and prints the change of each scenario.
+     * Scenarios missing from the baseline are reported but not counted as regressions.
+     *
+     * @param results the results of this run
+     * @return the number of scenarios that regressed by more than the tolerance
+     * @throws IOException if the baseline file cannot be read
+     */
+    int compare(List<ScenarioResult> results) throws IOException {
+        List<String> baseline = Files.readAllLines(baselineFile);
+        int regressions = 0;
+        for (ScenarioResult result : results) {
+            String scenario = "Scenario " + result.getScenario().getLevelNumber() + " (" + result.getScenario().getTitle() + ")";
+            String previous = findScenario(baseline, result.getScenario().getLevelNumber());
+            if (previous == null) {
+                System.out.println(scenario + " is not in the baseline.");
+                continue;
+            }
+            double throughput = change(result.getTicksPerSecond(), ScenarioResult.readNumber(previous, ScenarioResult.TICKS_PER_SECOND));
+            double p99 = change(result.getPercentileMicros(99), ScenarioResult.readNumber(previous, ScenarioResult.P99_TICK_MICROS));
+            boolean regressed = throughput < -tolerance || p99 > tolerance;
+            if (regressed) {
+                regressions++;
+            }
+            System.out.println(String.format(Locale.ROOT, "%s: ticks per second %+.1f%%, p99 tick %+.1f%%%s",
+                scenario, throughput * 100, p99 * 100, regressed ? " REGRESSION" : ""));
+        }
+        return regressions;
+    }
+
+    /**
+     * Finds the line of the baseline holding a scenario.
+     *
+     * @param baseline the lines of the baseline file
+     * @param levelNumber the level number of the scenario
+     * @return the line, or null if the baseline has no result for the scenario
+     */
+    private static String findScenario(List<String> baseline, int levelNumber) {
+        for (String line : baseline) {
+            if (ScenarioResult.readNumber(line, "level") == levelNumber) {
+                return line;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Calculates the relative change of a value against its baseline.
+     *
+     * @param value the current value
+     * @param baseline the value in the baseline
+     * @return the change as a fraction of the baseline, or 0 if there is no usable baseline value
+     */
+    private static double change(double value, double baseline) {
+        return Double.isNaN(baseline) || baseline <= 0 ? 0 : (value - baseline) / baseline;
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.demo.simulation;
+
+import com.example.demo.util.BalanceTuning;
+
+import java.util.Locale;
+
+/**
+ * The SimulationResult class holds the outcome and statistics of one balance simulation.
+ * Results are immutable, so they can be handed from the worker threads to the BalanceRunner.
+ *
+ * @see <a href="https://github.com/swyannnn/CW2024/blob/master/src/main/java/com/example/demo/simulation/SimulationResult.java">Github Source Code</a>
+ * @see LevelSimulation
+ */
+public class SimulationResult {
+    /**
+     * The header of the CSV rows written by {@link #toCsvRow()}.
+     */
+    public static final String CSV_HEADER =
+        "level,seed,spawn_scale,fire_scale,phase_scale,outcome,survival_seconds,kills,peak_actors,peak_tick_micros,ticks";
+
+    private final int levelNumber;
+    private final long seed;
+    private final BalanceTuning tuning;
+    private final LevelSimulation.Outcome outcome;
+    private final double survivalSeconds;
+    private final int kills;
+    private final int peakActorCount;
+    private final long peakTickNanos;
+    private final long tickCount;
+
+    /**
+     * Constructs a SimulationResult.
+     *
+     * @param levelNumber the number of the simulated level
+     * @param seed the seed of the simulation
+     * @param tuning the balance tuning of the simulation
+     * @param outcome how the simulation ended
+     * @param survivalSeconds the simulation time the player survived, in seconds
+     * @param kills the number of enemies destroyed by the player
+     * @param peakActorCount the largest number of actors alive at the end of a tick
+     * @param peakTickNanos the longest wall-clock duration of a tick, in nanoseconds
+     * @param tickCount the number of ticks simulated
+     */
+    public SimulationResult(int levelNumber, long seed, BalanceTuning tuning, LevelSimulation.Outcome outcome,
+                            double survivalSeconds, int kills, int peakActorCount, long peakTickNanos, long tickCount) {
+        this.levelNumber = levelNumber;
+        this.seed = seed;
+        this.tuning = tuning;
+        this.outcome = outcome;
+        this.survivalSeconds = survivalSeconds;
+        this.kills = kills;
+        this.peakActorCount = peakActorCount;
+        this.peakTickNanos = peakTickNanos;
+        this.tickCount = tickCount;
+    }
+
+    /**
+     * Formats the result as a CSV row matching {@link #CSV_HEADER}.
+     *
+     * @return the CSV row, without a line separator
+     */
+    public String toCsvRow() {
+        return levelNumber + "," + seed + "," + tuning.getSpawnRateScale() + "," + tuning.getEnemyFireRateScale()
+            + "," + tuning.getBossPhaseThresholdScale() + "," + outcome + "," + String.format(Locale.ROOT, "%.3f", survivalSeconds)
+            + "," + kills + "," + peakActorCount + "," + peakTickNanos / 1_000 + "," + tickCount;
+    }
+
+    /**
+     * Retrieves the number of the simulated level.
+     *
+     * @return the level number
+     */
+    public int getLevelNumber() {
+        return levelNumber;
+    }
+
+    /**
+     * Retrieves the seed of the simulation.
+     *
+     * @return the seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Retrieves the balance tuning of the simulation.
+     *
+     * @return the BalanceTuning
+     */
+    public BalanceTuning getTuning() {
+        return tuning;
+    }
+
+    /**
+     * Retrieves how the simulation ended.
+     *
+     * @return the outcome
+     */
+    public LevelSimulation.Outcome getOutcome() {
+        return outcome;
+    }
+
+    /**
+     * Retrieves the simulation time the player survived.
+     *
+     * @return the survival time in seconds
+     */
+    public double getSurvivalSeconds() {
+        return survivalSeconds;
+    }
+
+    /**
+     * Retrieves the number of enemies destroyed by the player.
+     *
+     * @return the number of kills
+     */
+    public int getKills() {
+        return kills;
+    }
+
+    /**
+     * Retrieves the largest number of actors alive at the end of a tick.
+     *
+     * @return the peak actor count
+     */
+    public int getPeakActorCount() {
+        return peakActorCount;
+    }
+
+    /**
+     * Retrieves the longest wall-clock duration of a tick.
+     *
+     * @return the peak tick time in nanoseconds
+     */
+    public long getPeakTickNanos() {
+        return peakTickNanos;
+    }
+
+    /**
+     * Retrieves the number of ticks simulated.
+     *
+     * @return the tick count
+     */
+    public long getTickCount() {
+        return tickCount;
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.demo.simulation;
+
+import com.example.demo.util.BalanceTuning;
+
+/**
+ * The VectorEnvironment class steps a batch of GameEnvironments together, so an agent can
+ * choose the actions of the whole batch from one array of observations.
+ *
+ * <p>Observations are written into one flat array, {@code GameEnvironment.OBSERVATION_SIZE}
+ * floats per environment, and rewards and episode ends into arrays of the batch size.
+ * The arrays are reused by every step. When an episode ends, its environment is reset at
+ * once with the next seed, so the observation returned for it is the first of the new
+ * episode, while its reward and done flag are those of the step that ended the old one.</p>
+ *
+ * <p>The environments are stepped on the calling thread. To use every core, create one
+ * VectorEnvironment per thread with different seeds.</p>
+ *
+ * @see <a href="https://github.com/swyannnn/CW2024/blob/master/src/main/java/com/example/demo/simulation/VectorEnvironment.java">Github Source Code</a>
+ * @see GameEnvironment
+ */
+public class VectorEnvironment {
+    private final GameEnvironment[] environments;
+    private final float[] observations;
+    private final float[] rewards;
+    private final boolean[] dones;
+    private int levelNumber;
+    private long nextSeed;
+    private long episodeCount;
+
+    /**
+     * Constructs a batch of environments.
+     *
+     * @param size the number of environments
+     * @param tuning the balance tuning the levels are played with
+     * @param maxSeconds the simulation time after which an episode ends as a timeout
+     * @throws IllegalArgumentException if the size is not positive
+     */
+    public VectorEnvironment(int size, BalanceTuning tuning, int maxSeconds) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Size must be positive: " + size);
+        }
+        environments = new GameEnvironment[size];
+        for (int i = 0; i < size; i++) {
+            environments[i] = new GameEnvironment(tuning, maxSeconds);
+        }
+        observations = new float[size * GameEnvironment.OBSERVATION_SIZE];
+        rewards = new float[size];
+        dones = new boolean[size];
+    }
+
+    /**
+     * Starts a new episode of a level in every environment, with consecutive seeds.
+     *
+     * @param seed the seed of the first environment
+     * @param levelNumber the number of the level to play
+     * @return the observations of all environments
+     */
+    public float[] reset(long seed, int levelNumber) {
+        this.levelNumber = levelNumber;
+        this.nextSeed = seed;
+        for (int i = 0; i < environments.length; i++) {
+            environments[i].reset(nextSeed++, levelNumber);
+            environments[i].observe(observations, i * GameEnvironment.OBSERVATION_SIZE);
+            rewards[i] = 0;
+            dones[i] = false;
+        }
+        return observations;
+    }
+
+    /**
+     * Applies one action to each environment for one fixed tick.
+     * Environments whose episode ended are reset with the next seed.
+     *
+     * @param actions the action of each environment
+     * @return the observations of all environments
+     * @throws IllegalArgumentException if the number of actions does not match the batch size
+     */
+    public float[] step(int[] actions) {
+        if (actions.length != environments.length) {
+            throw new IllegalArgumentException("Expected " + environments.length + " actions but got " + actions.length);
+        }
+        for (int i = 0; i < environments.length; i++) {
+            GameEnvironment environment = environments[i];
+            rewards[i] = environment.step(actions[i]);
+            dones[i] = environment.isDone();
+            if (dones[i]) {
+                episodeCount++;
+                environment.reset(nextSeed++, levelNumber);
+            }
+            environment.observe(observations, i * GameEnvironment.OBSERVATION_SIZE);
+        }
+        return observations;
+    }
+
+    /**
+     * Retrieves the observations of all environments.
+     *
+     * @return the observations, {@code GameEnvironment.OBSERVATION_SIZE} floats per environment
+     */
+    public float[] getObservations() {
+        return observations;
+    }
+
+    /**
+     * Retrieves the rewards of the last step.
+     *
+     * @return the reward of each environment
+     */
+    public float[] getRewards() {
+        return rewards;
+    }
+
+    /**
+     * Retrieves which episodes ended in the last step.
+     *
+     * @return true for each environment whose episode ended
+     */
+    public boolean[] getDones() {
+        return dones;
+    }
+
+    /**
+     * Retrieves the number of episodes that have ended since the batch was created.
+     *
+     * @return the number of finished episodes
+     */
+    public long getEpisodeCount() {
+        return episodeCount;
+    }
+
+    /**
+     * Retrieves the number of environments in the batch.
+     *
+     * @return the batch size
+     */
+    public int size() {
+        return environments.length;
+    }
+
+    /**
+     * Ends every episode and releases the sessions of the environments.
+     */
+    public void close() {
+        for (GameEnvironment environment : environments) {
+            environment.close();
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package com.example.demo.snapshot;
+
+import com.example.demo.actor.ActiveActor;
+import com.example.demo.actor.plane.FighterPlane;
+import com.example.demo.actor.plane.PlaneFactory;
+import com.example.demo.actor.plane.PlaneType;
+import com.example.demo.actor.plane.UserPlane;
+import com.example.demo.actor.projectile.Projectile;
+import com.example.demo.actor.projectile.ProjectileFactory;
+import com.example.demo.actor.projectile.ProjectileType;
+import com.example.demo.actor.projectile.UserProjectile;
+import com.example.demo.level.LevelParent;
+import com.example.demo.manager.ActorManager;
+import com.example.demo.util.GameConstant;
+import com.example.demo.util.GameRandom;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * The LevelSnapshot class is a compact binary copy of the simulation state of a level.
+ * It is used for instant retries after a loss and for checkpoints in the middle of boss fights.
+ *
+ * <p>A snapshot records, in order:</p>
+ * <ul>
+ *   <li>A header with a magic number, the format version and the level number.</li>
+ *   <li>Every actor that is not destroyed: its kind and type, followed by the state it writes
+ *       as a {@link Snapshotable}, such as position, health, kill count and strategy state.</li>
+ *   <li>The state of the level itself, such as the survival timer of Level003.</li>
+ *   <li>The state of the GameRandom, so the game continues exactly as it would have.</li>
+ * </ul>
+ *
+ * <p>Scenes, images and music are not part of a snapshot. A snapshot is restored into the
+ * level it was taken from, which keeps its scene, so a retry does not rebuild anything
+ * but the actors.</p>
+ *
+ * @see <a href="https://github.com/swyannnn/CW2024/blob/master/src/main/java/com/example/demo/snapshot/LevelSnapshot.java">Github Source Code</a>
+ * @see Snapshotable
+ * @see GameRandom
+ */
+public class LevelSnapshot {
+    private static final byte PLANE = 0;
+    private static final byte PROJECTILE = 1;
+    private static final byte NO_PLAYER = 0;
+
+    private final int levelNumber;
+    private final byte[] data;
+
+    /**
+     * Constructs a LevelSnapshot from encoded data.
+     *
+     * @param levelNumber the number of the level the snapshot was taken from
+     * @param data the encoded snapshot
+     */
+    private LevelSnapshot(int levelNumber, byte[] data) {
+        this.levelNumber = levelNumber;
+        this.data = data;
+    }
+
+    /**
+     * Takes a snapshot of a level and all of its live actors.
+     *
+     * @param level the level to take a snapshot of
+     * @param actorManager the ActorManager holding the level's actors
+     * @param now the current simulation time in nanoseconds
+     * @return the snapshot of the level
+     */
+    public static LevelSnapshot capture(LevelParent level, ActorManager actorManager, long now) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(1024);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(GameConstant.Snapshot.MAGIC);
+            out.writeShort(GameConstant.Snapshot.VERSION);
+            out.writeInt(level.getCurrentLevelNumber());
+
+            // Players first, so user projectiles can refer to their owner when restored
+            List<UserPlane> players = actorManager.getPlayers();
+            List<ActiveActor> enemyUnits = actorManager.getEnemyUnits();
+            List<ActiveActor> userProjectiles = actorManager.getUserProjectiles();
+            List<ActiveActor> enemyProjectiles = actorManager.getEnemyProjectiles();
+            List<ActiveActor> bossProjectiles = actorManager.getBossProjectiles();
+            out.writeInt(countLive(players) + countLive(enemyUnits) + countLive(userProjectiles)
+                + countLive(enemyProjectiles) + countLive(bossProjectiles));
+            writeActors(out, players, now);
+            writeActors(out, enemyUnits, now);
+            writeActors(out, userProjectiles, now);
+            writeActors(out, enemyProjectiles, now);
+            writeActors(out, bossProjectiles, now);
+
+            level.writeState(out, now);
+            out.writeLong(actorManager.getRandom().getState());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write snapshot of level " + level.getCurrentLevelNumber(), e);
+        }
+        return new LevelSnapshot(level.getCurrentLevelNumber(), bytes.toByteArray());
+    }
+
+    /**
+     * Counts the actors of a list that are not destroyed.
+     *
+     * @param actors the actors to count
+     * @return the number of live actors
+     */
+    private static int countLive(List<? extends ActiveActor> actors) {
+        int count = 0;
+        for (int i = 0; i < actors.size(); i++) {
+            if (!actors.get(i).isDestroyed()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Writes the live actors of a list, each preceded by its kind, type and player ID.
+     *
+     * @param out the output to write to
+     * @param actors the actors to write
+     * @param now the current simulation time in nanoseconds
+     * @throws IOException if the actors cannot be written
+     */
+    private static void writeActors(DataOutputStream out, List<? extends ActiveActor> actors, long now) throws IOException {
+        for (int i = 0; i < actors.size(); i++) {
+            ActiveActor actor = actors.get(i);
+            if (actor.isDestroyed()) {
+                continue;
+            }
+            if (actor instanceof FighterPlane) {
+                out.writeByte(PLANE);
+                out.writeByte(((FighterPlane) actor).getPlaneType().ordinal());
+                out.writeByte(actor instanceof UserPlane ? ((UserPlane) actor).getPlayerId() : NO_PLAYER);
+            } else if (actor instanceof Projectile) {
+                out.writeByte(PROJECTILE);
+                out.writeByte(((Projectile) actor).getProjectileType().ordinal());
+                out.writeByte(actor instanceof UserProjectile ? ((UserProjectile) actor).getOwner().getPlayerId() : NO_PLAYER);
+            } else {
+                throw new IllegalArgumentException("Actor cannot be saved in a snapshot: " + actor.getTypeName());
+            }
+            actor.writeState(out, now);
+        }
+    }
+
+    /**
+     * Restores this snapshot into the level it was taken from.
+     * All current actors are removed, the actors of the snapshot are recreated and their
+     * state is read back, then the state of the level and of the GameRandom is restored.
+     *
+     * @param level the level to restore into, which must have the level number of the snapshot
+     * @param actorManager the ActorManager that will hold the restored actors
+     * @param now the current simulation time in nanoseconds
+     * @throws IllegalArgumentException if the snapshot was taken from another level
+     */
+    public void restore(LevelParent level, ActorManager actorManager, long now) {
+        if (level.getCurrentLevelNumber() != levelNumber) {
+            throw new IllegalArgumentException("Snapshot of level " + levelNumber
+                + " cannot be restored into level " + level.getCurrentLevelNumber());
+        }
+        actorManager.cleanup();
+        actorManager.updateRoot(level.getRoot());
+        level.prepareForRestore();
+
+        PlaneFactory planeFactory = new PlaneFactory(actorManager);
+        ProjectileFactory projectileFactory = new ProjectileFactory();
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            if (in.readInt() != GameConstant.Snapshot.MAGIC || in.readShort() != GameConstant.Snapshot.VERSION) {
+                throw new IllegalArgumentException("Unsupported snapshot format.");
+            }
+            in.readInt(); // level number, already known
+
+            int actorCount = in.readInt();
+            for (int i = 0; i < actorCount; i++) {
+                byte kind = in.readByte();
+                int type = in.readByte();
+                int playerId = in.readByte();
+                ActiveActor actor;
+                if (kind == PLANE) {
+                    PlaneType planeType = PlaneType.values()[type];
+                    if (planeType == PlaneType.USER_PLANE) {
+                        actor = level.restorePlayer(playerId);
+                    } else {
+                        actor = planeFactory.createPlane(planeType);
+                        actorManager.addActor(actor);
+                    }
+                } else {
+                    ProjectileType projectileType = ProjectileType.values()[type];
+                    actor = projectileType == ProjectileType.USER
+                        ? projectileFactory.createProjectile(projectileType, 0, 0, findPlayer(actorManager, playerId))
+                        : projectileFactory.createProjectile(projectileType, 0, 0);
+                    actorManager.addActor(actor);
+                }
+                actor.readState(in, now);
+            }
+
+            level.readState(in, now);
+            actorManager.getRandom().setState(in.readLong());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to restore snapshot of level " + levelNumber, e);
+        }
+    }
+
+    /**
+     * Finds the restored plane of a player.
+     *
+     * @param actorManager the ActorManager holding the restored players
+     * @param playerId the ID of the player
+     * @return the UserPlane of the player
+     * @throws IllegalArgumentException if the player has not been restored
+     */
+    private static UserPlane findPlayer(ActorManager actorManager, int playerId) {
+        List<UserPlane> players = actorManager.getPlayers();
+        for (int i = 0; i < players.size(); i++) {
+            if (players.get(i).getPlayerId() == playerId) {
+                return players.get(i);
+            }
+        }
+        throw new IllegalArgumentException("Snapshot refers to a missing player: " + playerId);
+    }
+
+    /**
+     * Retrieves the number of the level the snapshot was taken from.
+     *
+     * @return the level number
+     */
+    public int getLevelNumber() {
+        return levelNumber;
+    }
+
+    /**
+     * Retrieves the size of the encoded snapshot.
+     *
+     * @return the size of the snapshot in bytes
+     */
+    public int getSize() {
+        return data.length;
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.demo.snapshot;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Interface for game objects whose simulation state can be written to and read from a LevelSnapshot.
+ * 
+ * <p>Timestamps are written relative to the simulation time at which the snapshot is taken,
+ * and read back relative to the simulation time at which it is restored, so a snapshot can
+ * be restored at any later point of the game clock.</p>
+ * 
+ * @see <a href="https://github.com/swyannnn/CW2024/blob/master/src/main/java/com/example/demo/snapshot/Snapshotable.java">Github Source Code</a>
+ * @see LevelSnapshot
+ */
+public interface Snapshotable {
+    /**
+     * Writes the simulation state of this object.
+     *
+     * @param out the output to write the state to
+     * @param now the simulation time of the snapshot in nanoseconds
+     * @throws IOException if the state cannot be written
+     */
+    void writeState(DataOutput out, long now) throws IOException;
+
+    /**
+     * Reads the simulation state of this object, in the order it was written by {@link #writeState}.
+     *
+     * @param in the input to read the state from
+     * @param now the simulation time at which the snapshot is restored, in nanoseconds
+     * @throws IOException if the state cannot be read
+     */
+    void readState(DataInput in, long now) throws IOException;
+}
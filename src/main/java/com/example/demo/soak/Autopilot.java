@@ -0,0 +1,173 @@
+package com.example.demo.soak;
+
+import com.example.demo.GameSession;
+import com.example.demo.actor.plane.UserPlane;
+import com.example.demo.manager.ActorManager;
+import com.example.demo.manager.StateManager;
+import com.example.demo.simulation.BotMovementStrategy;
+import com.example.demo.state.GameState;
+import com.example.demo.state.LevelState;
+import com.example.demo.state.LoseState;
+import com.example.demo.state.MainMenuState;
+import com.example.demo.state.WinState;
+import com.example.demo.util.GameConstant;
+
+import javafx.event.EventType;
+import javafx.scene.Parent;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
+import javafx.stage.Stage;
+
+import java.util.List;
+
+/**
+ * The Autopilot class plays the game on its own for long soak tests, so that leaks which
+ * only show up after many levels and restarts can be found without a person at the keyboard.
+ *
+ * <p>The autopilot loops through the whole game: it starts level one from the main menu,
+ * flies the first player through the levels, and on the lose screen alternately retries the
+ * level or returns to the main menu, as the screen's buttons would. In a level it sends the
+ * same key events as the keyboard, so the player is moved by its usual UserMovementStrategy.
+ * The direction is decided by the BotMovementStrategy of the balance simulations, which dodges
+ * enemy and boss projectiles and otherwise lines up with the nearest enemy.</p>
+ *
+ * <p>Each time the main menu is reached a cycle ends and the SoakMonitor takes a sample.
+ * If a counter keeps growing the leak is reported and the application exits with
+ * {@code GameConstant.Soak.EXIT_CODE}, so a soak run can be checked by a script.</p>
+ *
+ * @see <a href="https://github.com/swyannnn/CW2024/blob/master/src/main/java/com/example/demo/soak/Autopilot.java">Github Source Code</a>
+ * @see SoakMonitor
+ * @see BotMovementStrategy
+ */
+public class Autopilot {
+    private static final double SPEED = GameConstant.UserPlane.VELOCITY;
+    private static final long SCREEN_DWELL_NANOS = GameConstant.Soak.SCREEN_DWELL_NANOS;
+
+    private final StateManager stateManager;
+    private final GameSession session;
+    private final Stage stage;
+    private final SoakMonitor monitor;
+    private final BotMovementStrategy bot;
+    private GameState currentState;
+    private long stateEnteredAt;
+    private KeyCode pressedKey;
+    private int cycle;
+    private boolean retryNext = true;
+
+    /**
+     * Constructs an Autopilot that plays the game of the given StateManager.
+     *
+     * @param stateManager the StateManager whose states are played
+     * @param session the GameSession holding the actors of the levels
+     * @param stage the primary stage of the application
+     * @param monitor the SoakMonitor checking each cycle for leaks
+     */
+    public Autopilot(StateManager stateManager, GameSession session, Stage stage, SoakMonitor monitor) {
+        this.stateManager = stateManager;
+        this.session = session;
+        this.stage = stage;
+        this.monitor = monitor;
+        this.bot = new BotMovementStrategy(session.getActorManager(), SPEED);
+    }
+
+    /**
+     * Checks if a soak test was requested on the command line or through the system property.
+     *
+     * @param args the raw launch arguments of the application
+     * @return true if the autopilot should be started, false otherwise
+     */
+    public static boolean isRequested(List<String> args) {
+        return args.contains(GameConstant.Soak.SOAK_FLAG) || Boolean.getBoolean(GameConstant.Soak.SOAK_PROPERTY);
+    }
+
+    /**
+     * Plays one frame of the current state. Called by the game loop after the state was updated.
+     *
+     * @param now the current timestamp in nanoseconds
+     */
+    public void update(long now) {
+        GameState state = stateManager.getCurrentState();
+        if (state == null) {
+            return;
+        }
+        if (state != currentState) {
+            currentState = state;
+            stateEnteredAt = now;
+            pressedKey = null;
+        }
+        boolean dwelled = now - stateEnteredAt >= SCREEN_DWELL_NANOS;
+
+        if (state instanceof LevelState) {
+            fly((LevelState) state);
+        } else if (state instanceof MainMenuState && dwelled) {
+            endCycle();
+            state.handleInput(keyEvent(KeyEvent.KEY_PRESSED, KeyCode.SPACE));
+        } else if (state instanceof LoseState && dwelled) {
+            if (retryNext) {
+                stateManager.retryLevel();
+            } else {
+                stateManager.goToMainMenu();
+            }
+            retryNext = !retryNext;
+        } else if (state instanceof WinState && dwelled) {
+            stateManager.goToMainMenu();
+        }
+    }
+
+    /**
+     * Presses the key moving the first player in the direction chosen by the bot,
+     * releasing the previous key when the direction changes.
+     *
+     * @param state the level being played
+     */
+    private void fly(LevelState state) {
+        List<UserPlane> players = session.getActorManager().getPlayers();
+        if (players.isEmpty()) {
+            return;
+        }
+        double move = bot.decideVerticalMove(players.get(0));
+        KeyCode key = null;
+        if (move < -SPEED / 2) {
+            key = KeyCode.UP;
+        } else if (move > SPEED / 2) {
+            key = KeyCode.DOWN;
+        }
+        if (key == pressedKey) {
+            return;
+        }
+        if (pressedKey != null) {
+            state.handleInput(keyEvent(KeyEvent.KEY_RELEASED, pressedKey));
+        }
+        if (key != null) {
+            state.handleInput(keyEvent(KeyEvent.KEY_PRESSED, key));
+        }
+        pressedKey = key;
+    }
+
+    /**
+     * Ends a cycle by sampling the resource counters.
+     * Exits the application if one of them keeps growing, after printing the last sample.
+     */
+    private void endCycle() {
+        ActorManager actorManager = session.getActorManager();
+        Parent sceneRoot = stage.getScene() != null ? stage.getScene().getRoot() : null;
+        SoakSample sample = SoakMonitor.sample(cycle++, new Parent[] { sceneRoot, actorManager.getRoot() }, session.getEventBus());
+        String leak = monitor.record(sample);
+        if (leak != null) {
+            System.err.println("Soak test failed: " + leak + " kept growing for " + GameConstant.Soak.GROWTH_WINDOW + " cycles.");
+            System.err.println("Last soak cycle: " + sample);
+            System.exit(GameConstant.Soak.EXIT_CODE);
+        }
+    }
+
+    /**
+     * Creates a key event like those sent by the keyboard.
+     *
+     * @param type the type of the event, pressed or released
+     * @param code the key
+     * @return the key event
+     */
+    private static KeyEvent keyEvent(EventType<KeyEvent> type, KeyCode code) {
+        return new KeyEvent(type, "", "", code, false, false, false, false);
+    }
+}
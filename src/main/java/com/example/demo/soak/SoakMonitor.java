@@ -0,0 +1,154 @@
+package com.example.demo.soak;
+
+import com.example.demo.event.EventBus;
+import com.example.demo.event.PauseChangedEvent;
+import com.example.demo.util.GameConstant;
+
+import javafx.scene.Node;
+import javafx.scene.Parent;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.function.ToLongFunction;
+
+/**
+ * The SoakMonitor class samples resource counters once per autopilot cycle and detects
+ * counters that keep growing, which is how leaks show up in a long soak run.
+ *
+ * <p>Each sample records the heap in use after a garbage collection, the number of live
+ * threads, the number of scene graph nodes still reachable from the game, and the number of
+ * handlers listening to the game loop's pause events. A counter is reported as leaking when
+ * it grew in every one of the last {@code GameConstant.Soak.GROWTH_WINDOW} cycles. The heap
+ * must grow by more than {@code GameConstant.Soak.HEAP_GROWTH_TOLERANCE_BYTES} each time to
+ * count, so normal noise between collections is ignored.</p>
+ *
+ * @see <a href="https://github.com/swyannnn/CW2024/blob/master/src/main/java/com/example/demo/soak/SoakMonitor.java">Github Source Code</a>
+ * @see Autopilot
+ * @see SoakSample
+ */
+public class SoakMonitor {
+    private final int growthWindow;
+    private final Deque<SoakSample> samples = new ArrayDeque<>();
+
+    /**
+     * Constructs a SoakMonitor with the growth window from GameConstant.Soak.
+     */
+    public SoakMonitor() {
+        this(GameConstant.Soak.GROWTH_WINDOW);
+    }
+
+    /**
+     * Constructs a SoakMonitor with the given growth window.
+     *
+     * @param growthWindow the number of cycles a counter must keep growing for to be reported
+     * @throws IllegalArgumentException if the window is not positive
+     */
+    public SoakMonitor(int growthWindow) {
+        if (growthWindow <= 0) {
+            throw new IllegalArgumentException("Growth window must be positive: " + growthWindow);
+        }
+        this.growthWindow = growthWindow;
+    }
+
+    /**
+     * Measures the resource counters of the running game.
+     * A garbage collection is requested first, so the heap is measured after it.
+     *
+     * @param cycle the number of the cycle that just ended
+     * @param roots the roots of the scene graphs still reachable from the game; null roots are skipped
+     * @param eventBus the event bus the game loop publishes its pause events on
+     * @return the sample
+     */
+    public static SoakSample sample(int cycle, Parent[] roots, EventBus eventBus) {
+        System.gc();
+        long heapBytes = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+        int threadCount = ManagementFactory.getThreadMXBean().getThreadCount();
+        int nodeCount = 0;
+        for (int i = 0; i < roots.length; i++) {
+            if (roots[i] != null && !isSameRoot(roots, i)) {
+                nodeCount += countNodes(roots[i]);
+            }
+        }
+        return new SoakSample(cycle, heapBytes, threadCount, nodeCount, eventBus.getSubscriberCount(PauseChangedEvent.class));
+    }
+
+    /**
+     * Checks if a root appears earlier in the array, so it is not counted twice.
+     *
+     * @param roots the roots
+     * @param index the index of the root to check
+     * @return true if the root was already counted, false otherwise
+     */
+    private static boolean isSameRoot(Parent[] roots, int index) {
+        for (int i = 0; i < index; i++) {
+            if (roots[i] == roots[index]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Counts a node and all of its descendants.
+     *
+     * @param node the node to count from
+     * @return the number of nodes in the subtree
+     */
+    public static int countNodes(Node node) {
+        int count = 1;
+        if (node instanceof Parent) {
+            for (Node child : ((Parent) node).getChildrenUnmodifiable()) {
+                count += countNodes(child);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Records a sample and checks whether any counter keeps growing.
+     *
+     * @param sample the sample taken at the end of a cycle
+     * @return the name of the first counter that grew in every cycle of the window, or null if none did
+     */
+    public String record(SoakSample sample) {
+        samples.addLast(sample);
+        if (samples.size() > growthWindow + 1) {
+            samples.removeFirst();
+        }
+        if (samples.size() <= growthWindow) {
+            return null;
+        }
+        if (keepsGrowing(SoakSample::getHeapBytes, GameConstant.Soak.HEAP_GROWTH_TOLERANCE_BYTES)) {
+            return "heap";
+        } else if (keepsGrowing(SoakSample::getThreadCount, 0)) {
+            return "threads";
+        } else if (keepsGrowing(SoakSample::getNodeCount, 0)) {
+            return "scene graph nodes";
+        } else if (keepsGrowing(SoakSample::getPauseListenerCount, 0)) {
+            return "pause listeners";
+        }
+        return null;
+    }
+
+    /**
+     * Checks if a counter grew by more than the tolerance between every pair of consecutive samples.
+     *
+     * @param counter the counter to check
+     * @param tolerance the growth that is still considered noise
+     * @return true if the counter kept growing, false otherwise
+     */
+    private boolean keepsGrowing(ToLongFunction<SoakSample> counter, long tolerance) {
+        Iterator<SoakSample> iterator = samples.iterator();
+        long previous = counter.applyAsLong(iterator.next());
+        while (iterator.hasNext()) {
+            long current = counter.applyAsLong(iterator.next());
+            if (current - previous <= tolerance) {
+                return false;
+            }
+            previous = current;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.demo.soak;
+
+/**
+ * The SoakSample class holds the resource counters measured by the SoakMonitor at the
+ * end of one autopilot cycle.
+ *
+ * @see <a href="https://github.com/swyannnn/CW2024/blob/master/src/main/java/com/example/demo/soak/SoakSample.java">Github Source Code</a>
+ * @see SoakMonitor
+ */
+public class SoakSample {
+    private final int cycle;
+    private final long heapBytes;
+    private final int threadCount;
+    private final int nodeCount;
+    private final int pauseListenerCount;
+
+    /**
+     * Constructs a SoakSample.
+     *
+     * @param cycle the number of the cycle the sample was taken after
+     * @param heapBytes the heap in use after a garbage collection, in bytes
+     * @param threadCount the number of live threads
+     * @param nodeCount the number of nodes in the scene graphs still reachable from the game
+     * @param pauseListenerCount the number of handlers listening to the game loop's pause events
+     */
+    public SoakSample(int cycle, long heapBytes, int threadCount, int nodeCount, int pauseListenerCount) {
+        this.cycle = cycle;
+        this.heapBytes = heapBytes;
+        this.threadCount = threadCount;
+        this.nodeCount = nodeCount;
+        this.pauseListenerCount = pauseListenerCount;
+    }
+
+    /**
+     * Retrieves the number of the cycle the sample was taken after.
+     *
+     * @return the cycle number
+     */
+    public int getCycle() {
+        return cycle;
+    }
+
+    /**
+     * Retrieves the heap in use after a garbage collection.
+     *
+     * @return the heap in use, in bytes
+     */
+    public long getHeapBytes() {
+        return heapBytes;
+    }
+
+    /**
+     * Retrieves the number of live threads.
+     *
+     * @return the thread count
+     */
+    public int getThreadCount() {
+        return threadCount;
+    }
+
+    /**
+     * Retrieves the number of nodes in the scene graphs still reachable from the game.
+     *
+     * @return the node count
+     */
+    public int getNodeCount() {
+        return nodeCount;
+    }
+
+    /**
+     * Retrieves the number of handlers listening to the game loop's pause events.
+     *
+     * @return the pause listener count
+     */
+    public int getPauseListenerCount() {
+        return pauseListenerCount;
+    }
+
+    /**
+     * Formats the sample for the soak log.
+     *
+     * @return a readable form of the sample
+     */
+    @Override
+    public String toString() {
+        return "cycle=" + cycle + " heap=" + heapBytes / 1024 + "KiB threads=" + threadCount
+            + " nodes=" + nodeCount + " pauseListeners=" + pauseListenerCount;
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.demo.state;
 
+import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
@@ -7,29 +8,37 @@ import java.util.Map;
 import java.util.Set;
 
 import com.example.demo.actor.ActiveActor;
+import com.example.demo.GameSession;
 import com.example.demo.actor.plane.UserPlane;
+import com.example.demo.event.EventScope;
+import com.example.demo.event.LevelCompletedEvent;
+import com.example.demo.event.LevelLostEvent;
+import com.example.demo.event.PauseChangedEvent;
 import com.example.demo.handler.CollisionHandler;
 import com.example.demo.level.LevelParent;
+import com.example.demo.level.LevelPreparer;
 import com.example.demo.manager.ActorManager;
 import com.example.demo.manager.ButtonManager;
 import com.example.demo.manager.CollisionManager;
 import com.example.demo.manager.GameLoopManager;
+import com.example.demo.manager.MetricsManager;
+import com.example.demo.profiling.LevelPhaseEvent;
 import com.example.demo.screen.PauseScreen;
+import com.example.demo.snapshot.LevelSnapshot;
 import com.example.demo.strategy.movement.UserMovementStrategy;
 import com.example.demo.util.GameConstant;
 import com.example.demo.util.PlayerKeyBindings;
 
 import javafx.application.Platform;
+import javafx.scene.Node;
 import javafx.scene.Scene;
 import javafx.scene.control.Button;
+import javafx.scene.image.ImageView;
+import javafx.scene.image.WritableImage;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
 import javafx.stage.Stage;
 
-import java.beans.PropertyChangeEvent;
-import java.beans.PropertyChangeListener;
-import java.beans.PropertyChangeSupport;
-
 
 
 /**
@@ -47,9 +56,12 @@ import java.beans.PropertyChangeSupport;
  * - Displaying and hiding the pause overlay.
  * - Cleaning up resources and listeners when the level is completed or reset.
  * - Assigning key bindings to players and setting up their movement and firing strategies.
+ * - Taking a LevelSnapshot at the start of the level and at each checkpoint, for retries.
  * 
- * The class also provides methods for adding and removing PropertyChangeListeners, handling projectile
- * collisions with enemies, and checking if the level is completed.
+ * The class also handles projectile collisions with enemies and checks if the level is completed.
+ * The end of the level is published on the EventBus as a LevelLostEvent or a LevelCompletedEvent.
+ * The state subscribes to PauseChangedEvents through an EventScope that is closed in cleanup(),
+ * so a finished level no longer receives events.
  * 
  * @see <a href="https://github.com/swyannnn/CW2024/blob/master/src/main/java/com/example/demo/state/LevelState.java">Github Source Code</a>
  * @see GameState
@@ -67,7 +79,7 @@ public class LevelState implements GameState, CollisionHandler {
     private final int buttonXPosition = GameConstant.PauseButton.X_POSITION;
     private final int buttonYPosition = GameConstant.PauseButton.Y_POSITION;
     
-    private final PropertyChangeSupport pcs = new PropertyChangeSupport(this);
+    private final EventScope events;
     private final LevelParent level;
     private final Stage stage;
     private final ActorManager actorManager;
@@ -75,7 +87,13 @@ public class LevelState implements GameState, CollisionHandler {
     private final GameLoopManager gameLoopManager;
     private final StateTransitioner stateTransitioner;
     private boolean levelCompleted;
+    private boolean nextLevelRequested;
+    private LevelSnapshot checkpoint;
+    private int checkpointNumber = -1;
+    private Button pauseButton;
     private PauseScreen pauseOverlay;
+    private ImageView freezeFrame;
+    private final List<Node> hiddenWhilePaused = new ArrayList<>();
     private Scene scene;
     private boolean isExplosionActive = false;
     // Map to hold each player's key bindings
@@ -88,33 +106,33 @@ public class LevelState implements GameState, CollisionHandler {
      * 
      * @param stage The stage where the level is rendered.
      * @param level The parent level object.
-     * @param actorManager Manages the actors within the level.
-     * @param collisionManager Manages collision detection and handling.
-     * @param gameLoopManager Manages the game loop.
+     * @param session The GameSession providing the actors, collisions, game loop and event bus of the level.
      * @param stateTransitioner Handles transitions between different states.
      */
-    public LevelState(Stage stage, LevelParent level, ActorManager actorManager, CollisionManager collisionManager, GameLoopManager gameLoopManager, StateTransitioner stateTransitioner) {
+    public LevelState(Stage stage, LevelParent level, GameSession session, StateTransitioner stateTransitioner) {
         this.level = level;
         this.stage = stage;
-        this.actorManager = actorManager;
-        this.collisionManager = collisionManager;
+        this.actorManager = session.getActorManager();
+        this.collisionManager = session.getCollisionManager();
         collisionManager.setCollisionHandler(this);
-        this.gameLoopManager = gameLoopManager;
+        this.gameLoopManager = session.getGameLoopManager();
+        this.events = new EventScope(session.getEventBus());
         this.stateTransitioner = stateTransitioner;
         this.levelCompleted = false;
         // Assign key bindings to each player
         assignPlayerKeyBindings();
-        this.gameLoopManager.addPropertyChangeListener(this::onGameLoopChange);
     }
 
     /**
      * Initializes the level state by setting up the scene and displaying the stage.
      * If the scene is null, an error message is printed and the method returns early.
      * Otherwise, the scene is set up, the stage is shown, and a message indicating
-     * successful initialization is printed. Additionally, a pause overlay is created.
+     * successful initialization is printed. Additionally, a pause overlay is created
+     * and the state subscribes to pause changes until it is cleaned up.
      */
     @Override
     public void initialize() {
+        events.subscribe(PauseChangedEvent.class, this::onPauseChanged);
         this.scene = level.getScene();
         if (this.scene == null) {
             System.err.println("LevelState: Failed to initialize scene for level " + level.getCurrentLevelNumber());
@@ -131,21 +149,49 @@ public class LevelState implements GameState, CollisionHandler {
      * @param now The current time in nanoseconds.
      * 
      * If the level is not completed, this method performs the following actions:
+     * - Takes a snapshot of the level if it has reached a new checkpoint.
      * - Spawns enemy units in the level.
      * - Updates all actors managed by the actor manager.
      * - Removes destroyed actors from the actor manager.
      * - Handles all collisions between actors.
      * - Updates the level view.
      * - Checks if the level is completed.
+     * - Prepares the next level in the background once the level is close to completion.
+     * 
+     * Each phase is timed with a LevelPhaseEvent while a flight recording is running.
      */
     public void update(long now) {
         if (!levelCompleted) {
+            int levelNumber = level.getCurrentLevelNumber();
+            updateCheckpoint(now);
+
+            LevelPhaseEvent phase = LevelPhaseEvent.start(levelNumber, LevelPhaseEvent.SPAWN);
             level.spawnEnemyUnits();
+            LevelPhaseEvent.finish(phase);
+
+            phase = LevelPhaseEvent.start(levelNumber, LevelPhaseEvent.UPDATE_ACTORS);
             actorManager.updateAllActors(now);
+            LevelPhaseEvent.finish(phase);
+
+            phase = LevelPhaseEvent.start(levelNumber, LevelPhaseEvent.REMOVE_DESTROYED);
             actorManager.removeDestroyedActors(); // Move this before collision detection
+            LevelPhaseEvent.finish(phase);
+
+            phase = LevelPhaseEvent.start(levelNumber, LevelPhaseEvent.COLLISIONS);
             collisionManager.handleAllCollisions(actorManager);
+            LevelPhaseEvent.finish(phase);
+
+            phase = LevelPhaseEvent.start(levelNumber, LevelPhaseEvent.UPDATE_VIEW);
             level.updateLevelView();
+            LevelPhaseEvent.finish(phase);
+
+            MetricsManager.getInstance().recordActorCounts(actorManager);
+
+            phase = LevelPhaseEvent.start(levelNumber, LevelPhaseEvent.CHECK_COMPLETION);
             checkLevelCompletion();
+            LevelPhaseEvent.finish(phase);
+
+            prepareNextLevel();
         }
     }
 
@@ -196,6 +242,11 @@ public class LevelState implements GameState, CollisionHandler {
     public void cleanup() {
         // remove health handlers from all players
         actorManager.cleanup();
+        events.close();
+        // the root is reused when the level is retried, so it must not keep this state's button
+        if (pauseButton != null) {
+            level.getRoot().getChildren().remove(pauseButton);
+        }
     }
 
     /**
@@ -236,42 +287,18 @@ public class LevelState implements GameState, CollisionHandler {
     }
 
     /**
-     * Handles changes in the game loop state.
-     * This method is triggered when a property change event occurs, specifically when the "paused" property changes.
+     * Handles changes in the paused state of the game loop.
      *
-     * @param evt the property change event containing the new state of the game loop.
+     * @param event the PauseChangedEvent published by the GameLoopManager
      */
-    private void onGameLoopChange(PropertyChangeEvent evt) {
-        if ("paused".equals(evt.getPropertyName())) {
-            boolean isPaused = (boolean) evt.getNewValue();
-            if (isPaused) {
-                handlePause();
-            } else {
-                handleResume();
-            }
+    private void onPauseChanged(PauseChangedEvent event) {
+        if (event.isPaused()) {
+            handlePause();
+        } else {
+            handleResume();
         }
     }
 
-    /**
-     * Adds a PropertyChangeListener to the listener list.
-     * The listener is registered for all properties.
-     *
-     * @param listener the PropertyChangeListener to be added
-     */
-    public void addPropertyChangeListener(PropertyChangeListener listener) {
-        pcs.addPropertyChangeListener(listener);
-    }
-    
-    /**
-     * Removes a PropertyChangeListener from the listener list.
-     * This method should be called to unregister a listener that was previously added.
-     *
-     * @param listener the PropertyChangeListener to be removed
-     */
-    public void removePropertyChangeListener(PropertyChangeListener listener) {
-        pcs.removePropertyChangeListener(listener);
-    }
-
     /**
      * Handles projectile collisions with enemies.
      *
@@ -290,7 +317,7 @@ public class LevelState implements GameState, CollisionHandler {
      */
     private void addPauseButton(Scene scene) {
         // Create the pause button with an icon
-        Button pauseButton = ButtonManager.createImageButton(buttonImageName, buttonImageWidth, buttonImageHeight);
+        pauseButton = ButtonManager.createImageButton(buttonImageName, buttonImageWidth, buttonImageHeight);
 
         // Set the action for the pause button
         pauseButton.setOnAction(e -> gameLoopManager.pauseGame());
@@ -314,15 +341,16 @@ public class LevelState implements GameState, CollisionHandler {
 
 
     /**
-     * Handles the pause action by displaying the pause overlay on the screen.
-     * This method ensures that the pause overlay is added to the level's root
-     * children if it is not already present. It also requests focus for the
-     * pause overlay to ensure it is interactive.
+     * Handles the pause action by freezing the level behind the pause overlay.
+     * The current frame is captured into a WritableImage and shown as a static
+     * ImageView, the live level nodes are hidden so they are no longer rendered,
+     * and the pause overlay is added on top and given focus.
      * The method runs on the JavaFX Application Thread using Platform.runLater.
      */
     public void handlePause() {
         Platform.runLater(() -> {
             if (!level.getRoot().getChildren().contains(pauseOverlay.getOverlay())) {
+                showFreezeFrame();
                 level.getRoot().getChildren().add(pauseOverlay.getOverlay());
                 pauseOverlay.getOverlay().requestFocus();
             }
@@ -332,38 +360,128 @@ public class LevelState implements GameState, CollisionHandler {
 
     /**
      * Handles the resumption of the game from a paused state.
-     * This method removes the pause overlay from the game's root node
-     * and requests focus back to the game level.
+     * This method removes the pause overlay and the freeze frame from the game's
+     * root node, shows the live level nodes again and requests focus back to the game level.
      */
     public void handleResume() {
         Platform.runLater(() -> {
             level.getRoot().getChildren().remove(pauseOverlay.getOverlay());
+            hideFreezeFrame();
             level.getRoot().requestFocus();
         });
     }
 
+    /**
+     * Captures the current level scene into a WritableImage and displays it in place
+     * of the live level nodes. Only nodes that were visible are hidden, so they can be
+     * restored exactly by {@link #hideFreezeFrame()}.
+     */
+    private void showFreezeFrame() {
+        WritableImage frame = level.getScene().snapshot(null);
+        freezeFrame = new ImageView(frame);
+        for (Node node : level.getRoot().getChildren()) {
+            if (node.isVisible()) {
+                node.setVisible(false);
+                hiddenWhilePaused.add(node);
+            }
+        }
+        level.getRoot().getChildren().add(freezeFrame);
+    }
+
+    /**
+     * Removes the freeze frame and shows the level nodes that were hidden while paused.
+     */
+    private void hideFreezeFrame() {
+        if (freezeFrame == null) {
+            return;
+        }
+        level.getRoot().getChildren().remove(freezeFrame);
+        freezeFrame = null;
+        for (Node node : hiddenWhilePaused) {
+            node.setVisible(true);
+        }
+        hiddenWhilePaused.clear();
+    }
+
     /**
      * Checks the completion status of the current level.
      * <p>
      * This method performs the following checks:
      * <ul>
-     *   <li>If all users are destroyed, it cleans up the actor manager and fires a property change event indicating a loss.</li>
+     *   <li>If all users are destroyed, it cleans up the actor manager and publishes a LevelLostEvent.</li>
      *   <li>If the user has reached the target, it cleans up the actor manager, marks the level as completed, 
-     *       calculates the next level number, and fires a property change event indicating the level change.</li>
+     *       calculates the next level number, and publishes a LevelCompletedEvent.</li>
      * </ul>
      */
     private void checkLevelCompletion() {
         if (allUsersAreDestroyed()) {
             actorManager.cleanup();
-            pcs.firePropertyChange("lose", false, true);
+            events.publish(new LevelLostEvent(level.getCurrentLevelNumber()));
         } else if (level.userHasReachedTarget()) {
             actorManager.cleanup();
             levelCompleted = true;
             int nextLevelNumber = level.getCurrentLevelNumber() + 1;
-            pcs.firePropertyChange("level", level.getCurrentLevelNumber(), nextLevelNumber);
+            events.publish(new LevelCompletedEvent(level.getCurrentLevelNumber(), nextLevelNumber));
+        }
+    }
+
+    /**
+     * Starts preparing the next level in the background once the completion progress
+     * of the current level passes GameConstant.LevelPreparation.PREPARE_AT_PROGRESS.
+     * The preparation is only requested once per level.
+     */
+    private void prepareNextLevel() {
+        if (!nextLevelRequested && !levelCompleted
+                && level.getCompletionProgress() >= GameConstant.LevelPreparation.PREPARE_AT_PROGRESS) {
+            nextLevelRequested = true;
+            LevelPreparer.getInstance().prepare(level.getCurrentLevelNumber() + 1);
         }
     }
 
+    /**
+     * Takes a snapshot of the level when it is first updated, and again each time
+     * it reaches a new checkpoint. The snapshot is taken before the actors are updated,
+     * so it holds a consistent state between two ticks.
+     *
+     * @param now the current simulation time in nanoseconds
+     */
+    private void updateCheckpoint(long now) {
+        int levelCheckpoint = level.getCheckpoint();
+        if (levelCheckpoint > checkpointNumber) {
+            checkpointNumber = levelCheckpoint;
+            checkpoint = LevelSnapshot.capture(level, actorManager, now);
+        }
+    }
+
+    /**
+     * Uses a restored snapshot as the current checkpoint, so it is not taken again
+     * on the first update after a retry.
+     *
+     * @param snapshot the snapshot the level was restored from
+     */
+    public void useCheckpoint(LevelSnapshot snapshot) {
+        checkpoint = snapshot;
+        checkpointNumber = level.getCheckpoint();
+    }
+
+    /**
+     * Retrieves the latest checkpoint snapshot of the level.
+     *
+     * @return the latest snapshot, or null if the level has not been updated yet
+     */
+    public LevelSnapshot getCheckpoint() {
+        return checkpoint;
+    }
+
+    /**
+     * Retrieves the level managed by this state.
+     *
+     * @return the level
+     */
+    public LevelParent getLevel() {
+        return level;
+    }
+
     /**
      * Checks if all users (players) are destroyed.
      * A user is considered destroyed if their health is less than or equal to 0.
@@ -371,8 +489,13 @@ public class LevelState implements GameState, CollisionHandler {
      * @return true if any of the users are destroyed, false otherwise.
      */
     public boolean allUsersAreDestroyed() {
-        return actorManager.getPlayers().stream()
-                .anyMatch(player -> player.getHealth() <= 0);
+        List<UserPlane> players = actorManager.getPlayers();
+        for (int i = 0; i < players.size(); i++) {
+            if (players.get(i).getHealth() <= 0) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -2,52 +2,35 @@ package com.example.demo.state;
 
 import java.util.Optional;
 
+import com.example.demo.GameSession;
 import com.example.demo.level.LevelConfig;
 import com.example.demo.level.LevelFactory;
 import com.example.demo.level.LevelParent;
-import com.example.demo.manager.ActorManager;
-import com.example.demo.manager.CollisionManager;
-import com.example.demo.manager.GameLoopManager;
-import com.example.demo.manager.AudioManager;
+import com.example.demo.snapshot.LevelSnapshot;
 import javafx.stage.Stage;
 
 /**
  * GameStateFactory is responsible for creating instances of game states.
+ * Every state it creates belongs to the same GameSession.
  * 
  * @see <a href="https://github.com/swyannnn/CW2024/blob/master/src/main/java/com/example/demo/state/StateFactory.java">Github Source Code</a>
  */
 public class StateFactory {
     private final Stage stage;
-    private final ActorManager actorManager;
-    private final CollisionManager collisionManager;
-    private final GameLoopManager gameLoopManager;
+    private final GameSession session;
     private final StateTransitioner stateTransitioner;
-    private final AudioManager audioManager;
 
     /**
-     * Constructs a new StateFactory with the specified managers and stage.
+     * Constructs a new StateFactory with the specified session and stage.
      *
      * @param stage the stage where the game is rendered
-     * @param actorManager the manager responsible for handling game actors
-     * @param collisionManager the manager responsible for handling collisions
-     * @param gameLoopManager the manager responsible for handling the game loop
+     * @param session the GameSession the states belong to
      * @param stateTransitioner the manager responsible for handling state transitions
-     * @param audioManager the manager responsible for handling audio
      */
-    public StateFactory(
-        Stage stage,
-        ActorManager actorManager,
-        CollisionManager collisionManager,
-        GameLoopManager gameLoopManager,
-        StateTransitioner stateTransitioner,
-        AudioManager audioManager
-    ) {
+    public StateFactory(Stage stage, GameSession session, StateTransitioner stateTransitioner) {
         this.stage = stage;
-        this.actorManager = actorManager;
-        this.collisionManager = collisionManager;
-        this.gameLoopManager = gameLoopManager;
+        this.session = session;
         this.stateTransitioner = stateTransitioner;
-        this.audioManager = audioManager;
     }
 
     /**
@@ -56,8 +39,8 @@ public class StateFactory {
      * @return A new MainMenuState.
      */
     public GameState createMainMenuState() {
-        gameLoopManager.resumeGame();
-        return new MainMenuState(stage, stateTransitioner, audioManager);
+        session.getGameLoopManager().resumeGame();
+        return new MainMenuState(stage, stateTransitioner, session.getAudioManager());
     }
 
     /**
@@ -67,28 +50,32 @@ public class StateFactory {
      * @return A new LevelState, WinState if the level does not exist.
      */
     public GameState createLevelState(int levelNumber) {
-        LevelConfig config = new LevelConfig(
-            stateTransitioner.getNumberOfPlayers(),
-            actorManager,
-            audioManager,
-            gameLoopManager
-        );
+        LevelConfig config = new LevelConfig(stateTransitioner.getNumberOfPlayers(), session);
         Optional<LevelParent> optionalLevel = LevelFactory.createLevel(levelNumber, config);
         if (optionalLevel.isPresent()) {
             LevelParent level = optionalLevel.get();
-            return new LevelState(
-                    stage,
-                    level,
-                    actorManager,
-                    collisionManager,
-                    gameLoopManager,
-                    stateTransitioner
-            );
+            return new LevelState(stage, level, session, stateTransitioner);
         } else {
             return createWinState();
         }
     }
 
+    /**
+     * Creates an instance of LevelState that continues a level from a snapshot.
+     * The level is reused with its scene, and only its actors are rebuilt from the snapshot.
+     *
+     * @param level The level the snapshot was taken from.
+     * @param snapshot The snapshot to restore.
+     * @return A new LevelState for the restored level.
+     */
+    public GameState createRetryState(LevelParent level, LevelSnapshot snapshot) {
+        session.getGameLoopManager().resumeGame();
+        snapshot.restore(level, session.getActorManager(), session.getClock().getSimulationTime());
+        LevelState levelState = new LevelState(stage, level, session, stateTransitioner);
+        levelState.useCheckpoint(snapshot);
+        return levelState;
+    }
+
     /**
      * Creates an instance of WinState.
      *
@@ -30,6 +30,12 @@ public interface StateTransitioner {
      */
     void goToLevel(int levelNumber);
 
+    /**
+     * Restarts the last lost level from its latest checkpoint.
+     * Starts the level from the beginning if it has no checkpoint.
+     */
+    void retryLevel();
+
     /**
      * Transitions the application to the main menu state.
      */
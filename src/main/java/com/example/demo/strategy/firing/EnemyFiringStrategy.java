@@ -1,6 +1,7 @@
 package com.example.demo.strategy.firing;
 
 import com.example.demo.actor.ActorSpawner;
+import com.example.demo.actor.SpawnCategory;
 import com.example.demo.actor.plane.FighterPlane;
 import com.example.demo.actor.projectile.Projectile;
 import com.example.demo.actor.projectile.EnemyProjectile;
@@ -44,13 +45,14 @@ public class EnemyFiringStrategy implements FiringStrategy {
 
     /**
      * Fires a projectile from the given fighter plane if the random condition meets the fire rate.
+     * The shot is skipped if the actor budget has no room for another projectile.
      * 
      * @param plane The fighter plane from which the projectile is fired.
      * @param now The current time in nanoseconds.
      */
     @Override
     public void fire(FighterPlane plane, long now) {
-        if (Math.random() < fireRate) {
+        if (actorSpawner.getRandom().nextDouble() < fireRate && actorSpawner.requestSpawn(SpawnCategory.ENEMY_PROJECTILE)) {
             double projectileX = plane.getProjectileXPosition(offsetX);
             double projectileY = plane.getProjectileYPosition(offsetY);
 
@@ -1,6 +1,7 @@
 package com.example.demo.strategy.firing;
 
 import com.example.demo.actor.ActorSpawner;
+import com.example.demo.actor.SpawnCategory;
 import com.example.demo.actor.plane.FighterPlane;
 import com.example.demo.actor.projectile.BossProjectile;
 import com.example.demo.actor.projectile.ProjectileFactory;
@@ -41,14 +42,14 @@ public class MultiPhaseBossFiringStrategy implements FiringStrategy {
     /**
      * Fires a projectile from the given fighter plane if the random condition based on fireRate is met.
      * The projectile's initial position is determined by the plane's projectile position offsets.
-     * The projectile is then spawned using the actorSpawner.
+     * The projectile is then spawned using the actorSpawner, unless the actor budget has no room for it.
      *
      * @param plane the fighter plane from which the projectile is fired
      * @param now the current time in milliseconds
      */
     @Override
     public void fire(FighterPlane plane, long now) {
-        if (Math.random() < fireRate) {
+        if (actorSpawner.getRandom().nextDouble() < fireRate && actorSpawner.requestSpawn(SpawnCategory.BOSS_PROJECTILE)) {
             double projectileX = plane.getProjectileXPosition(offsetX);
             double projectileY = plane.getProjectileYPosition(offsetY);
 
@@ -7,9 +7,14 @@ import com.example.demo.actor.projectile.ProjectileFactory;
 import com.example.demo.actor.projectile.ProjectileType;
 import com.example.demo.actor.projectile.UserProjectile;
 import com.example.demo.manager.AudioManager;
+import com.example.demo.snapshot.Snapshotable;
 import com.example.demo.util.GameConstant;
 import com.example.demo.actor.plane.UserPlane;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
 /**
  * The UserFiringStrategy class implements the FiringStrategy interface and defines the firing behavior for user planes.
  * It uses an ActorSpawner to spawn projectiles at a specified fire rate.
@@ -22,13 +27,13 @@ import com.example.demo.actor.plane.UserPlane;
  * @see ActorSpawner
  * @see UserProjectile
  */
-public class UserFiringStrategy implements FiringStrategy {
+public class UserFiringStrategy implements FiringStrategy, Snapshotable {
     private final ProjectileFactory projectileFactory = new ProjectileFactory();
     private final ActorSpawner actorSpawner;
     private final long fireIntervalNanoseconds;
     private final AudioManager audioManager;
     private long lastFireTime;
-    private static long lastSoundPlayedTime = 0; // Static to track across instances
+    private long lastSoundPlayedTime;
     private final double offsetX;
     private final double offsetY;
     private static final long soundCooldown = GameConstant.UserProjectile.SOUND_COOL_DOWN;
@@ -44,7 +49,7 @@ public class UserFiringStrategy implements FiringStrategy {
     public UserFiringStrategy(ActorSpawner actorSpawner, long fireIntervalNanoseconds, double offsetX, double offsetY) {
         this.actorSpawner = actorSpawner;
         this.fireIntervalNanoseconds = fireIntervalNanoseconds;
-        this.audioManager = AudioManager.getInstance();
+        this.audioManager = actorSpawner.getAudioManager();
         this.offsetX = offsetX;
         this.offsetY = offsetY;
     }
@@ -79,5 +84,28 @@ public class UserFiringStrategy implements FiringStrategy {
             lastFireTime = now; // Update the last fire time
         }
     }
-}
 
+    /**
+     * Writes the time of the last shot to a snapshot.
+     *
+     * @param out the output to write the state to
+     * @param now the simulation time of the snapshot in nanoseconds
+     * @throws IOException if the state cannot be written
+     */
+    @Override
+    public void writeState(DataOutput out, long now) throws IOException {
+        out.writeLong(lastFireTime - now);
+    }
+
+    /**
+     * Reads the time of the last shot from a snapshot.
+     *
+     * @param in the input to read the state from
+     * @param now the simulation time at which the snapshot is restored, in nanoseconds
+     * @throws IOException if the state cannot be read
+     */
+    @Override
+    public void readState(DataInput in, long now) throws IOException {
+        lastFireTime = now + in.readLong();
+    }
+}
@@ -1,9 +1,13 @@
 package com.example.demo.strategy.movement;
 
 import com.example.demo.actor.plane.FighterPlane;
+import com.example.demo.snapshot.Snapshotable;
 import com.example.demo.util.GameConstant;
+import com.example.demo.util.GameRandom;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
 /**
@@ -24,7 +28,7 @@ import java.util.List;
  * @see MovementStrategy
  * @see FighterPlane
  */
-public class BossMovementStrategy implements MovementStrategy {
+public class BossMovementStrategy implements MovementStrategy, Snapshotable {
     private final double yUpperBound;
     private final double yLowerBound;
 
@@ -34,6 +38,7 @@ public class BossMovementStrategy implements MovementStrategy {
     private int currentMoveIndex;
     private final int maxFramesWithSameMove;
     private final int verticalVelocity;
+    private final GameRandom random;
 
     /**
      * Constructs a BossMovementStrategy object and initializes its movement boundaries,
@@ -42,9 +47,11 @@ public class BossMovementStrategy implements MovementStrategy {
      * The movement pattern is initialized by calling the initializeMovePattern method.
      *
      * @param verticalVelocity the vertical velocity for the boss plane's movement
+     * @param random the random number generator used to shuffle the movement pattern
      */
-    public BossMovementStrategy(int verticalVelocity) {
+    public BossMovementStrategy(int verticalVelocity, GameRandom random) {
         this.verticalVelocity = verticalVelocity;
+        this.random = random;
         this.yUpperBound = GameConstant.BossPlane.Y_POSITION_UPPER_BOUND;
         this.yLowerBound = GameConstant.BossPlane.Y_POSITION_LOWER_BOUND;
         this.maxFramesWithSameMove = GameConstant.BossPlane.MAX_FRAMES_WITH_SAME_MOVE;
@@ -68,7 +75,7 @@ public class BossMovementStrategy implements MovementStrategy {
             movePattern.add(-verticalVelocity);
             movePattern.add(GameConstant.BossPlane.ZERO);
         }
-        Collections.shuffle(movePattern);
+        random.shuffle(movePattern);
     }
 
 
@@ -89,7 +96,7 @@ public class BossMovementStrategy implements MovementStrategy {
         consecutiveMovesInSameDirection++;
 
         if (consecutiveMovesInSameDirection >= maxFramesWithSameMove) {
-            Collections.shuffle(movePattern);
+            random.shuffle(movePattern);
             consecutiveMovesInSameDirection = 0;
             currentMoveIndex++;
             if (currentMoveIndex >= movePattern.size()) {
@@ -123,4 +130,39 @@ public class BossMovementStrategy implements MovementStrategy {
 
         plane.setLayoutY(newY);
     }
+
+    /**
+     * Writes the movement pattern and the position in it to a snapshot.
+     *
+     * @param out the output to write the state to
+     * @param now the simulation time of the snapshot in nanoseconds
+     * @throws IOException if the state cannot be written
+     */
+    @Override
+    public void writeState(DataOutput out, long now) throws IOException {
+        out.writeInt(movePattern.size());
+        for (int i = 0; i < movePattern.size(); i++) {
+            out.writeInt(movePattern.get(i));
+        }
+        out.writeInt(currentMoveIndex);
+        out.writeInt(consecutiveMovesInSameDirection);
+    }
+
+    /**
+     * Reads the movement pattern and the position in it from a snapshot.
+     *
+     * @param in the input to read the state from
+     * @param now the simulation time at which the snapshot is restored, in nanoseconds
+     * @throws IOException if the state cannot be read
+     */
+    @Override
+    public void readState(DataInput in, long now) throws IOException {
+        int size = in.readInt();
+        movePattern.clear();
+        for (int i = 0; i < size; i++) {
+            movePattern.add(in.readInt());
+        }
+        currentMoveIndex = in.readInt();
+        consecutiveMovesInSameDirection = in.readInt();
+    }
 }
@@ -43,7 +43,7 @@ public class EnemyMovementStrategy implements MovementStrategy {
         double newX = plane.getLayoutX() + horizontalVelocity;
 
         // Destroy the plane if it goes out of bounds
-        if (newX + plane.getBoundsInParent().getWidth() < 0) {
+        if (newX + plane.getImageWidth() < 0) {
             plane.destroy();
             return;
         }
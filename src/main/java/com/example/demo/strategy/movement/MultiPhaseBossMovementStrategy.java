@@ -1,8 +1,14 @@
 package com.example.demo.strategy.movement;
 
 import com.example.demo.actor.plane.FighterPlane;
+import com.example.demo.snapshot.Snapshotable;
+import com.example.demo.util.GameClock;
 import com.example.demo.util.GameConstant;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
 /**
  * The MultiPhaseBossMovementStrategy class implements the MovementStrategy interface
  * and defines the movement behavior for a multi-phase boss in a game. The boss has
@@ -22,7 +28,7 @@ import com.example.demo.util.GameConstant;
  * @see MovementStrategy
  * @see FighterPlane
  */
-public class MultiPhaseBossMovementStrategy implements MovementStrategy {
+public class MultiPhaseBossMovementStrategy implements MovementStrategy, Snapshotable {
     private double horizontalVelocity;
     private double verticalVelocity;
     private int currentPhase;
@@ -48,10 +54,13 @@ public class MultiPhaseBossMovementStrategy implements MovementStrategy {
      * Sets the initial phase to 1, records the spawn time, and sets the initial movement state to horizontal.
      * Also initializes the movement frame count and sets the horizontal and vertical velocities for phase 1.
      * The sine wave base X position is also initialized.
+     *
+     * @param speed the speed of the boss plane
+     * @param clock the clock the spawn time is read from
      */
-    public MultiPhaseBossMovementStrategy(int speed) {
+    public MultiPhaseBossMovementStrategy(int speed, GameClock clock) {
         this.currentPhase = 1;
-        this.phaseStartTime = System.nanoTime();
+        this.phaseStartTime = clock.getSimulationTime();
         this.movementState = MovementType.HORIZONTAL;
         this.movementFrameCount = 0;
         this.horizontalVelocity = GameConstant.MultiPhaseBossPlane.HORIZONTAL_VELOCITY;
@@ -76,7 +85,7 @@ public class MultiPhaseBossMovementStrategy implements MovementStrategy {
     public void move(FighterPlane plane, long now) {
         // Check for phase transition
         if (currentPhase != previousPhase) {
-            handlePhaseTransition(plane);
+            handlePhaseTransition(plane, now);
             previousPhase = currentPhase;
         }
 
@@ -104,15 +113,16 @@ public class MultiPhaseBossMovementStrategy implements MovementStrategy {
      * Handles phase transitions by adjusting the plane's position if necessary.
      *
      * @param plane the FighterPlane instance to adjust
+     * @param now the current simulation time in nanoseconds
      */
-    private void handlePhaseTransition(FighterPlane plane) {
+    private void handlePhaseTransition(FighterPlane plane, long now) {
         if (currentPhase == 2) {
             // Before transitioning to Phase 2, ensure the plane is at a safe X position
             adjustPlanePositionForSineWave(plane);
             // Initialize sineWaveBaseX based on current position
             sineWaveBaseX = plane.getTranslateX();
             // Reset phase start time for accurate sine wave calculations
-            phaseStartTime = System.nanoTime();
+            phaseStartTime = now;
         } else if (currentPhase == 3) {
             // Reset movement state and frame count when entering Phase 3
             movementState = MovementType.HORIZONTAL;
@@ -148,7 +158,7 @@ public class MultiPhaseBossMovementStrategy implements MovementStrategy {
         double sineValue = Math.sin(2 * Math.PI * frequency * timeInSeconds);
         double newX = sineWaveBaseX + amplitude * sineValue;
 
-        double deltaTime = 1.0 / 60.0; // Assuming ~60 FPS
+        double deltaTime = GameClock.FIXED_STEP_SECONDS; // One fixed simulation tick
         double newY = plane.getTranslateY() + verticalVelocity * deltaTime;
         plane.setTranslateX(newX);
         plane.setTranslateY(newY);
@@ -303,4 +313,44 @@ public class MultiPhaseBossMovementStrategy implements MovementStrategy {
             plane.setTranslateX(maxX - plane.getLayoutX());
         }
     }    
+
+    /**
+     * Writes the phase, velocities and movement state to a snapshot.
+     *
+     * @param out the output to write the state to
+     * @param now the simulation time of the snapshot in nanoseconds
+     * @throws IOException if the state cannot be written
+     */
+    @Override
+    public void writeState(DataOutput out, long now) throws IOException {
+        out.writeInt(currentPhase);
+        out.writeInt(previousPhase);
+        out.writeDouble(horizontalVelocity);
+        out.writeDouble(verticalVelocity);
+        out.writeLong(phaseStartTime - now);
+        out.writeDouble(sineWaveBaseX);
+        out.writeInt(movementFrameCount);
+        out.writeInt(movementState.ordinal());
+        out.writeBoolean(switchedDueToBounds);
+    }
+
+    /**
+     * Reads the phase, velocities and movement state from a snapshot.
+     *
+     * @param in the input to read the state from
+     * @param now the simulation time at which the snapshot is restored, in nanoseconds
+     * @throws IOException if the state cannot be read
+     */
+    @Override
+    public void readState(DataInput in, long now) throws IOException {
+        currentPhase = in.readInt();
+        previousPhase = in.readInt();
+        horizontalVelocity = in.readDouble();
+        verticalVelocity = in.readDouble();
+        phaseStartTime = now + in.readLong();
+        sineWaveBaseX = in.readDouble();
+        movementFrameCount = in.readInt();
+        movementState = MovementType.values()[in.readInt()];
+        switchedDueToBounds = in.readBoolean();
+    }
 }
@@ -73,14 +73,14 @@ public class UserMovementStrategy implements MovementStrategy {
 
         if (currentX < 0) {
             plane.setTranslateX(-plane.getLayoutX());
-        } else if (currentX + plane.getBoundsInParent().getWidth() > GameConstant.GameSettings.SCREEN_WIDTH) {
-            plane.setTranslateX(GameConstant.GameSettings.SCREEN_WIDTH - plane.getLayoutX() - plane.getBoundsInParent().getWidth());
+        } else if (currentX + plane.getImageWidth() > GameConstant.GameSettings.SCREEN_WIDTH) {
+            plane.setTranslateX(GameConstant.GameSettings.SCREEN_WIDTH - plane.getLayoutX() - plane.getImageWidth());
         }
 
         if (currentY < 0) {
             plane.setTranslateY(-plane.getLayoutY());
-        } else if (currentY + plane.getBoundsInParent().getHeight() > GameConstant.GameSettings.SCREEN_HEIGHT) {
-            plane.setTranslateY(GameConstant.GameSettings.SCREEN_HEIGHT - plane.getLayoutY() - plane.getBoundsInParent().getHeight());
+        } else if (currentY + plane.getImageHeight() > GameConstant.GameSettings.SCREEN_HEIGHT) {
+            plane.setTranslateY(GameConstant.GameSettings.SCREEN_HEIGHT - plane.getLayoutY() - plane.getImageHeight());
         }
     }
 }
@@ -0,0 +1,128 @@
+package com.example.demo.util;
+
+/**
+ * The BalanceTuning class holds the balance parameters a GameSession is played with.
+ * Each parameter is a scale applied to the value in GameConstant, so the default tuning
+ * of 1.0 everywhere plays the game exactly as designed.
+ *
+ * <ul>
+ *   <li>The spawn rate scale multiplies the enemy spawn probabilities of Level001 and Level003.</li>
+ *   <li>The enemy fire rate scale multiplies the fire rate of every enemy and boss plane,
+ *       capped at a probability of 1.</li>
+ *   <li>The boss phase threshold scale multiplies the remaining health at which the
+ *       MultiPhaseBossPlane enters phase 2 and phase 3.</li>
+ * </ul>
+ *
+ * <p>Tunings are immutable, so one tuning can be shared by many sessions running in parallel.</p>
+ *
+ * @see <a href="https://github.com/swyannnn/CW2024/blob/master/src/main/java/com/example/demo/util/BalanceTuning.java">Github Source Code</a>
+ * @see com.example.demo.simulation.BalanceRunner
+ */
+public class BalanceTuning {
+    /**
+     * The tuning the game is designed with.
+     */
+    public static final BalanceTuning DEFAULT = new BalanceTuning(
+        GameConstant.Balance.DEFAULT_SCALE, GameConstant.Balance.DEFAULT_SCALE, GameConstant.Balance.DEFAULT_SCALE);
+
+    private final double spawnRateScale;
+    private final double enemyFireRateScale;
+    private final double bossPhaseThresholdScale;
+
+    /**
+     * Constructs a BalanceTuning with the given scales.
+     *
+     * @param spawnRateScale the scale of the enemy spawn probabilities
+     * @param enemyFireRateScale the scale of the enemy fire rates
+     * @param bossPhaseThresholdScale the scale of the boss phase health thresholds
+     * @throws IllegalArgumentException if a scale is negative or not a number
+     */
+    public BalanceTuning(double spawnRateScale, double enemyFireRateScale, double bossPhaseThresholdScale) {
+        this.spawnRateScale = requireScale("spawn rate", spawnRateScale);
+        this.enemyFireRateScale = requireScale("enemy fire rate", enemyFireRateScale);
+        this.bossPhaseThresholdScale = requireScale("boss phase threshold", bossPhaseThresholdScale);
+    }
+
+    /**
+     * Checks that a scale is a non-negative number.
+     *
+     * @param name the name of the scale, used in the error message
+     * @param scale the scale to check
+     * @return the scale
+     * @throws IllegalArgumentException if the scale is negative or not a number
+     */
+    private static double requireScale(String name, double scale) {
+        if (!(scale >= 0) || Double.isInfinite(scale)) {
+            throw new IllegalArgumentException("Invalid " + name + " scale: " + scale);
+        }
+        return scale;
+    }
+
+    /**
+     * Scales an enemy spawn probability.
+     *
+     * @param probability the designed spawn probability
+     * @return the tuned spawn probability
+     */
+    public double scaleSpawnProbability(double probability) {
+        return probability * spawnRateScale;
+    }
+
+    /**
+     * Scales the fire rate of an enemy or boss plane.
+     *
+     * @param fireRate the designed fire rate
+     * @return the tuned fire rate, never more than 1
+     */
+    public double scaleFireRate(double fireRate) {
+        return Math.min(1.0, fireRate * enemyFireRateScale);
+    }
+
+    /**
+     * Scales the remaining health at which a boss enters a phase.
+     *
+     * @param remainingHealth the designed health threshold
+     * @return the tuned health threshold, rounded to the nearest whole health point
+     */
+    public int scalePhaseThreshold(int remainingHealth) {
+        return (int) Math.round(remainingHealth * bossPhaseThresholdScale);
+    }
+
+    /**
+     * Retrieves the scale of the enemy spawn probabilities.
+     *
+     * @return the spawn rate scale
+     */
+    public double getSpawnRateScale() {
+        return spawnRateScale;
+    }
+
+    /**
+     * Retrieves the scale of the enemy fire rates.
+     *
+     * @return the enemy fire rate scale
+     */
+    public double getEnemyFireRateScale() {
+        return enemyFireRateScale;
+    }
+
+    /**
+     * Retrieves the scale of the boss phase health thresholds.
+     *
+     * @return the boss phase threshold scale
+     */
+    public double getBossPhaseThresholdScale() {
+        return bossPhaseThresholdScale;
+    }
+
+    /**
+     * Returns the scales of the tuning, for log and error messages.
+     *
+     * @return a readable form of the tuning
+     */
+    @Override
+    public String toString() {
+        return "BalanceTuning[spawn=" + spawnRateScale + ", fire=" + enemyFireRateScale
+            + ", phase=" + bossPhaseThresholdScale + "]";
+    }
+}
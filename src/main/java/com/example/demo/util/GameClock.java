@@ -0,0 +1,165 @@
+package com.example.demo.util;
+
+/**
+ * The GameClock class is the single source of time for the game simulation.
+ * It is owned by the GameLoopManager and advanced once per frame with the
+ * AnimationTimer timestamp, turning real frame time into fixed simulation ticks.
+ *
+ * <p>The clock provides:</p>
+ * <ul>
+ *   <li>Simulation time, which advances by a fixed step per tick and is scaled by the time scale.</li>
+ *   <li>Real time, the unscaled running time of the clock.</li>
+ *   <li>The number of simulation ticks performed so far.</li>
+ *   <li>A time scale, where values below 1 give slow motion and values above 1 speed the game up.</li>
+ * </ul>
+ *
+ * <p>Both simulation time and real time stop while the clock is paused, so timers
+ * that read the clock never count time spent in the pause menu.</p>
+ *
+ * @see <a href="https://github.com/swyannnn/CW2024/blob/master/src/main/java/com/example/demo/util/GameClock.java">Github Source Code</a>
+ * @see com.example.demo.manager.GameLoopManager
+ */
+public class GameClock {
+    /**
+     * The duration of one simulation tick in nanoseconds (60 ticks per second).
+     */
+    public static final long FIXED_STEP_NANOS = 1_000_000_000L / 60;
+
+    /**
+     * The duration of one simulation tick in seconds.
+     */
+    public static final double FIXED_STEP_SECONDS = FIXED_STEP_NANOS / 1_000_000_000.0;
+
+    private static final int MAX_STEPS_PER_FRAME = 5;
+    private static final long VSYNC_SNAP_NANOS = FIXED_STEP_NANOS / 8;
+
+    private long simulationTime;
+    private long realTime;
+    private long tickCount;
+    private double timeScale = 1.0;
+    private double accumulator;
+    private long lastFrameTime = -1;
+    private boolean paused;
+
+    /**
+     * Advances the clock to the given frame timestamp and returns how many
+     * simulation ticks should be run for this frame.
+     * Frame durations close to one tick are snapped to exactly one tick to avoid
+     * jitter from vsync timing, and the number of ticks is capped so a long stall
+     * does not cause a burst of catch-up ticks.
+     *
+     * @param now the frame timestamp in nanoseconds
+     * @return the number of ticks to run, or 0 if the clock is paused
+     */
+    public int advance(long now) {
+        if (paused) {
+            return 0;
+        }
+        if (lastFrameTime < 0) {
+            lastFrameTime = now;
+            accumulator += FIXED_STEP_NANOS * timeScale; // Run one tick on the very first frame
+        } else {
+            long frameDuration = now - lastFrameTime;
+            lastFrameTime = now;
+            if (Math.abs(frameDuration - FIXED_STEP_NANOS) < VSYNC_SNAP_NANOS) {
+                frameDuration = FIXED_STEP_NANOS;
+            }
+            realTime += frameDuration;
+            accumulator += frameDuration * timeScale;
+        }
+
+        int steps = (int) (accumulator / FIXED_STEP_NANOS);
+        if (steps > MAX_STEPS_PER_FRAME) {
+            steps = MAX_STEPS_PER_FRAME;
+            accumulator = 0;
+        } else {
+            accumulator -= steps * (double) FIXED_STEP_NANOS;
+        }
+        return steps;
+    }
+
+    /**
+     * Performs one simulation tick, moving the simulation time forward by one fixed step.
+     */
+    public void tick() {
+        simulationTime += FIXED_STEP_NANOS;
+        tickCount++;
+    }
+
+    /**
+     * Pauses the clock. Neither simulation time nor real time advances until the clock is resumed.
+     */
+    public void pause() {
+        paused = true;
+    }
+
+    /**
+     * Resumes the clock. The first frame after resuming starts a new frame interval,
+     * so the time spent paused is never added to the clock.
+     */
+    public void resume() {
+        if (paused) {
+            paused = false;
+            lastFrameTime = -1;
+            accumulator = 0;
+        }
+    }
+
+    /**
+     * Checks if the clock is paused.
+     *
+     * @return true if the clock is paused, false otherwise.
+     */
+    public boolean isPaused() {
+        return paused;
+    }
+
+    /**
+     * Retrieves the simulation time.
+     *
+     * @return the simulation time in nanoseconds.
+     */
+    public long getSimulationTime() {
+        return simulationTime;
+    }
+
+    /**
+     * Retrieves the unscaled running time of the clock, excluding pauses.
+     *
+     * @return the real time in nanoseconds.
+     */
+    public long getRealTime() {
+        return realTime;
+    }
+
+    /**
+     * Retrieves the number of simulation ticks performed so far.
+     *
+     * @return the tick count.
+     */
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    /**
+     * Retrieves the current time scale.
+     *
+     * @return the time scale, where 1.0 is normal speed.
+     */
+    public double getTimeScale() {
+        return timeScale;
+    }
+
+    /**
+     * Sets the time scale. Values below 1 slow the simulation down and values above 1 speed it up.
+     *
+     * @param timeScale the new time scale, must be zero or positive
+     * @throws IllegalArgumentException if the time scale is negative
+     */
+    public void setTimeScale(double timeScale) {
+        if (timeScale < 0) {
+            throw new IllegalArgumentException("Time scale cannot be negative: " + timeScale);
+        }
+        this.timeScale = timeScale;
+    }
+}
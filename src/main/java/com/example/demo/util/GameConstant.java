@@ -284,6 +284,181 @@ public class GameConstant {
         public static final int IMAGE_HEIGHT = 35;
     }
 
+    /**
+     * Particle system settings.
+     */
+    public static class Particles {
+        public static final int CAPACITY = 32_768; // particles alive at once; further emissions are dropped
+        public static final int ALPHA_LEVELS = 16; // fade steps of each particle color
+    }
+
+    /**
+     * Enum representing the particle effects, with the number of particles each emission spawns,
+     * their speed in pixels per second, lifetime in seconds, size in pixels, ARGB color and gravity.
+     */
+    public enum ParticleStyle {
+        ENGINE(2, 90, 0.25f, 3, 0xFFFFB347, 0, 180, 25),
+        SPARK(14, 260, 0.35f, 3, 0xFFFFF07A, 200, 0, 180),
+        DEBRIS(70, 190, 1.1f, 4, 0xFFFF6A2B, 160, 0, 180),
+        PHASE_BURST(600, 360, 1.6f, 5, 0xFF9D7BFF, 0, 0, 180);
+
+        private final int count;
+        private final float speed;
+        private final float lifeSeconds;
+        private final float size;
+        private final int argb;
+        private final float gravity;
+        private final float direction;
+        private final float spread;
+
+        ParticleStyle(int count, float speed, float lifeSeconds, float size, int argb, float gravity,
+                      float direction, float spread) {
+            this.count = count;
+            this.speed = speed;
+            this.lifeSeconds = lifeSeconds;
+            this.size = size;
+            this.argb = argb;
+            this.gravity = gravity;
+            this.direction = direction;
+            this.spread = spread;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public float getSpeed() {
+            return speed;
+        }
+
+        public float getLifeSeconds() {
+            return lifeSeconds;
+        }
+
+        public float getSize() {
+            return size;
+        }
+
+        public int getArgb() {
+            return argb;
+        }
+
+        public float getGravity() {
+            return gravity;
+        }
+
+        /**
+         * Retrieves the direction particles are emitted in, in degrees, where 0 points right and 90 down.
+         * @return the direction in degrees
+         */
+        public float getDirection() {
+            return direction;
+        }
+
+        /**
+         * Retrieves how far particles may deviate from the direction, in degrees on either side.
+         * @return the spread in degrees
+         */
+        public float getSpread() {
+            return spread;
+        }
+    }
+
+    /**
+     * Quality governor settings. Frame costs are averaged over a window of frames and compared
+     * with the budget of one frame at 60 frames per second.
+     */
+    public static class Quality {
+        public static final long FRAME_BUDGET_NANOS = 1_000_000_000L / 60;
+        public static final int WINDOW_FRAMES = 60;
+        public static final double DOWNGRADE_LOAD = 0.75;
+        public static final double UPGRADE_LOAD = 0.4;
+        public static final double SLOW_FRAME_RATIO = 1.25;
+        public static final double STEADY_FRAME_RATIO = 1.1;
+        public static final int UPGRADE_HOLD_FRAMES = 300;
+        public static final int MAX_SAMPLE_FRAMES = 3;
+        public static final int EXPLOSION_STRIDE = 2;
+        public static final double REDUCED_PARTICLE_DENSITY = 0.25;
+        public static final long SOUND_COALESCE_NANOS = 100_000_000L;
+        public static final double REDUCED_RENDER_SCALE = 0.75;
+        public static final double LOW_RENDER_SCALE = 0.5;
+    }
+
+    /**
+     * Render scale settings. The render scale property takes either "auto", to let the
+     * QualityGovernor choose the scale, or a fixed scale between the minimum and 1.
+     */
+    public static class RenderScale {
+        public static final String PROPERTY = "game.render.scale";
+        public static final String AUTO = "auto";
+        public static final double MIN_SCALE = 0.25;
+    }
+
+    /**
+     * Enum representing the quality levels the QualityGovernor steps through, from full quality down.
+     * Each level keeps the reductions of the levels above it and adds one of its own.
+     */
+    public enum QualityLevel {
+        FULL,
+        FEWER_EXPLOSIONS,
+        FEWER_PARTICLES,
+        NO_BACKGROUND_BLENDING,
+        NO_SPRITE_SMOOTHING,
+        NO_FLICKER,
+        COALESCED_SOUND,
+        REDUCED_RESOLUTION,
+        LOW_RESOLUTION;
+
+        /**
+         * Checks if the reduction of a level is applied at this level.
+         *
+         * @param step the level that introduces the reduction
+         * @return true if this level is the given level or a lower one, false otherwise
+         */
+        public boolean reduces(QualityLevel step) {
+            return ordinal() >= step.ordinal();
+        }
+
+        public int getExplosionStride() {
+            return reduces(FEWER_EXPLOSIONS) ? Quality.EXPLOSION_STRIDE : 1;
+        }
+
+        public double getParticleDensity() {
+            return reduces(FEWER_PARTICLES) ? Quality.REDUCED_PARTICLE_DENSITY : 1.0;
+        }
+
+        public boolean isBackgroundBlended() {
+            return !reduces(NO_BACKGROUND_BLENDING);
+        }
+
+        public boolean isSpriteSmoothing() {
+            return !reduces(NO_SPRITE_SMOOTHING);
+        }
+
+        public boolean isFlickerEnabled() {
+            return !reduces(NO_FLICKER);
+        }
+
+        public boolean isSoundCoalesced() {
+            return reduces(COALESCED_SOUND);
+        }
+
+        public double getRenderScale() {
+            if (reduces(LOW_RESOLUTION)) {
+                return Quality.LOW_RENDER_SCALE;
+            }
+            return reduces(REDUCED_RESOLUTION) ? Quality.REDUCED_RENDER_SCALE : 1.0;
+        }
+    }
+
+    /**
+     * Level background settings.
+     */
+    public static class Background {
+        public static final double BASE_OPACITY = 0.7; // baked into the base layer over the scene fill
+        public static final double BASE_SCROLL_SPEED = 1.0; // pixels per frame
+    }
+
     /**
      * Level 001 settings.
      */
@@ -301,14 +476,184 @@ public class GameConstant {
         public static final int ENEMY_SPAWN_INTERVAL = 1000;
     }
 
+    /**
+     * Level snapshot and checkpoint settings.
+     */
+    public static class Snapshot {
+        public static final String SEED_PROPERTY = "game.seed";
+        public static final int MAGIC = 0x534B5942; // "SKYB"
+        public static final short VERSION = 1;
+    }
+
+    /**
+     * Background preparation of the next level.
+     */
+    public static class LevelPreparation {
+        public static final double PREPARE_AT_PROGRESS = 0.6;
+        public static final String THREAD_NAME = "level-preparer";
+    }
+
+    /**
+     * Viewport settings. Low-priority actors further than the despawn margin outside of the screen are destroyed.
+     */
+    public static class Viewport {
+        public static final double DESPAWN_MARGIN = 200;
+    }
+
+    /**
+     * Default caps of the actor budget. Categories without a cap here are never throttled.
+     */
+    public static class ActorBudget {
+        public static final int MAX_ACTORS = 400;
+        public static final int MAX_ENEMY_UNITS = 40;
+        public static final int MAX_MINIONS = 10;
+        public static final int MAX_ENEMY_PROJECTILES = 160;
+        public static final int MAX_BOSS_PROJECTILES = 80;
+    }
+
+    /**
+     * Headless balance simulation settings.
+     */
+    public static class Balance {
+        public static final double DEFAULT_SCALE = 1.0;
+        public static final int DEFAULT_RUNS = 100;
+        public static final long DEFAULT_SEED = 1L;
+        public static final int DEFAULT_MAX_SECONDS = 120;
+        public static final String DEFAULT_OUTPUT_DIRECTORY = "balance";
+        public static final String RUNS_FILE = "runs.csv";
+        public static final String SUMMARY_FILE = "summary.csv";
+        public static final double BOT_DODGE_DISTANCE = 250;
+        public static final double BOT_DODGE_HEIGHT = 90;
+    }
+
+    /**
+     * Rendering benchmark settings.
+     */
+    public static class Benchmark {
+        public static final String BENCHMARK_FLAG = "--benchmark";
+        public static final String BENCHMARK_PROPERTY = "game.benchmark";
+        public static final String LEVELS_PROPERTY = "game.benchmark.levels";
+        public static final String ENEMIES_PROPERTY = "game.benchmark.enemies";
+        public static final String PROJECTILES_PROPERTY = "game.benchmark.projectiles";
+        public static final String WARMUP_FRAMES_PROPERTY = "game.benchmark.warmup";
+        public static final String FRAMES_PROPERTY = "game.benchmark.frames";
+        public static final String ADAPTIVE_PROPERTY = "game.benchmark.adaptive";
+        public static final String OUTPUT_PROPERTY = "game.benchmark.out";
+        public static final String DEFAULT_LEVELS = "1,2,3,4";
+        public static final int DEFAULT_ENEMIES = 20;
+        public static final int DEFAULT_PROJECTILES = 100;
+        public static final int DEFAULT_WARMUP_FRAMES = 120;
+        public static final int DEFAULT_FRAMES = 600;
+        public static final String DEFAULT_OUTPUT_FILE = "render-benchmark.json";
+        public static final long LOAD_SEED = 1L; // seed of the positions of the scripted projectiles
+        public static final int EXIT_CODE = 4;
+    }
+
+    /**
+     * Stress level and scenario benchmark settings.
+     */
+    public static class Stress {
+        public static final int BULLET_WALL_PROJECTILES = 1000;
+        public static final int BOSS_SWARM_MINIONS = 50;
+        public static final int BULLET_STORM_ENEMIES = 20;
+        public static final int BULLET_STORM_PROJECTILES = 400;
+        public static final String DEFAULT_SCENARIOS = "101,102,103";
+        public static final int DEFAULT_TICKS = 3000;
+        public static final int DEFAULT_WARMUP_TICKS = 600;
+        public static final long DEFAULT_SEED = 1L;
+        public static final String DEFAULT_OUTPUT_FILE = "scenario-baseline.json";
+        public static final double DEFAULT_TOLERANCE = 0.15; // slowdown against the baseline reported as a regression
+        public static final int REGRESSION_EXIT_CODE = 5;
+    }
+
+    /**
+     * Agent training environment settings.
+     */
+    public static class Environment {
+        public static final int OBSERVED_ENEMIES = 5;
+        public static final int OBSERVED_PROJECTILES = 8;
+        public static final int MAX_SECONDS = 180;
+        public static final float KILL_REWARD = 1f;
+        public static final float DAMAGE_REWARD = -1f;
+        public static final float WIN_REWARD = 10f;
+        public static final float LOSS_REWARD = -10f;
+    }
+
+    /**
+     * Autopilot soak test settings.
+     */
+    public static class Soak {
+        public static final String SOAK_FLAG = "--soak";
+        public static final String SOAK_PROPERTY = "game.soak";
+        public static final long SCREEN_DWELL_NANOS = 1_500_000_000L; // time spent on each menu screen
+        public static final int GROWTH_WINDOW = 6; // cycles a metric must keep growing for to fail
+        public static final long HEAP_GROWTH_TOLERANCE_BYTES = 512 * 1024;
+        public static final int EXIT_CODE = 3;
+    }
+
+    /**
+     * Flight recording settings.
+     */
+    public static class Profiling {
+        public static final String RECORD_FLAG = "--record";
+        public static final String RECORD_PROPERTY = "game.jfr";
+        public static final String RECORDING_DIRECTORY_PROPERTY = "game.jfr.dir";
+        public static final String RECORDING_CONFIGURATION = "profile";
+        public static final String RECORDING_FILE_PREFIX = "skybattle-";
+    }
+
+    /**
+     * Background music settings.
+     */
+    public static class Music {
+        public static final double VOLUME = 0.5;
+        public static final double CROSSFADE_MILLIS = 1200;
+        public static final int MAX_CACHED_PLAYERS = 3;
+    }
+
+    /**
+     * Sound effect voice settings.
+     */
+    public static class SoundVoices {
+        public static final int MAX_VOICES = 8;
+        public static final String AUDIO_THREAD_NAME = "audio-voices";
+    }
+
+    /**
+     * Metrics endpoint settings.
+     */
+    public static class Metrics {
+        public static final String PORT_PROPERTY = "game.metrics.port";
+        public static final String PATH = "/metrics";
+        public static final String PREFIX = "skybattle_";
+    }
+
     /**
      * Enum representing sound effects.
+     * Each sound effect limits how many of its voices may play at once, and how long
+     * a voice is considered to be playing after it was started.
      */
     public enum SoundEffect {
-        PLAYER_HIT,
-        EXPLOSION,
-        SCREEN_TRANSITION,
-        PLAYER_SHOOT
+        PLAYER_HIT(2, 600),
+        EXPLOSION(4, 900),
+        SCREEN_TRANSITION(1, 1500),
+        PLAYER_SHOOT(3, 250);
+
+        private final int maxVoices;
+        private final long voiceMillis;
+
+        SoundEffect(int maxVoices, long voiceMillis) {
+            this.maxVoices = maxVoices;
+            this.voiceMillis = voiceMillis;
+        }
+
+        public int getMaxVoices() {
+            return maxVoices;
+        }
+
+        public long getVoiceMillis() {
+            return voiceMillis;
+        }
     }
 
     /**
@@ -318,7 +663,10 @@ public class GameConstant {
         LEVEL_1(1, "background001.jpg"),
         LEVEL_2(2, "background002.jpeg"),
         LEVEL_3(3, "background003.jpg"),
-        LEVEL_4(4, "background004.jpg");
+        LEVEL_4(4, "background004.jpg"),
+        STRESS_BULLET_WALL(101, "background001.jpg"),
+        STRESS_BOSS_SWARM(102, "background004.jpg"),
+        STRESS_BULLET_STORM(103, "background003.jpg");
 
         private final int levelNumber;
         private final String backgroundImage;
@@ -358,7 +706,10 @@ public class GameConstant {
         LEVEL_1(1, "bgm001.wav"),
         LEVEL_2(2, "bgm002.mp3"),
         LEVEL_3(3, "bgm003.mp3"),
-        LEVEL_4(4, "bgm004.mp3");
+        LEVEL_4(4, "bgm004.mp3"),
+        STRESS_BULLET_WALL(101, "bgm001.wav"),
+        STRESS_BOSS_SWARM(102, "bgm004.mp3"),
+        STRESS_BULLET_STORM(103, "bgm003.mp3");
 
         private final int levelNumber;
         private final String bgm;
@@ -459,6 +810,13 @@ public class GameConstant {
             }
         }
 
+        /**
+         * Background music needed by the main menu, loaded before the menu is shown.
+         */
+        public static final String[] MENU_MUSIC = {
+            MainMenu.BACKGROUND_MUSIC
+        };
+
         /**
          * Array of image file names.
          */
@@ -468,14 +826,29 @@ public class GameConstant {
             "background003.jpg",
             "background004.jpg",
             "bossplane.png",
+            "enemy0.png",
+            "enemy1.png",
+            "enemy2.png",
+            "enemy3.png",
             "enemyFire.png",
             "enemyplane.png",
+            "explosion0.png",
+            "explosion1.png",
+            "explosion2.png",
+            "explosion3.png",
+            "explosion4.png",
+            "explosion5.png",
+            "explosion6.png",
             "fireball.png",
             "gameover.png",
             "heart.png",
             "shield.png",
             "userfire.png",
             "userplane.png",
+            "userplane1.png",
+            "userplane1_icon.png",
+            "userplane2.png",
+            "userplane2_icon.png",
             "youwin.png",
             "setting.png"
             // Add more image filenames here as needed
@@ -0,0 +1,100 @@
+package com.example.demo.util;
+
+import java.util.List;
+
+/**
+ * The GameRandom class is the single source of randomness for the simulation.
+ * It replaces {@code Math.random()} so that a run can be reproduced from its seed, and
+ * so that the exact random state can be saved in a level snapshot and restored later.
+ *
+ * <p>The generator is SplitMix64, whose whole state is one {@code long}. Each GameSession owns
+ * its own generator, seeded from the {@code game.seed} system property if it is set and from the
+ * system clock otherwise. The generator is not synchronized, as it is only used by the
+ * simulation of its session.</p>
+ *
+ * @see <a href="https://github.com/swyannnn/CW2024/blob/master/src/main/java/com/example/demo/util/GameRandom.java">Github Source Code</a>
+ * @see com.example.demo.snapshot.LevelSnapshot
+ * @see com.example.demo.GameSession
+ */
+public class GameRandom {
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final double DOUBLE_UNIT = 0x1.0p-53;
+    private long state;
+
+    /**
+     * Constructs a GameRandom with the given seed.
+     *
+     * @param seed the initial state of the generator
+     */
+    public GameRandom(long seed) {
+        this.state = seed;
+    }
+
+    /**
+     * Returns the next pseudorandom long value.
+     *
+     * @return the next long value
+     */
+    public long nextLong() {
+        long z = (state += GOLDEN_GAMMA);
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Returns the next pseudorandom double value between 0 (inclusive) and 1 (exclusive).
+     *
+     * @return the next double value
+     */
+    public double nextDouble() {
+        return (nextLong() >>> 11) * DOUBLE_UNIT;
+    }
+
+    /**
+     * Returns the next pseudorandom int value between 0 (inclusive) and the bound (exclusive).
+     *
+     * @param bound the upper bound, must be positive
+     * @return the next int value
+     * @throws IllegalArgumentException if the bound is not positive
+     */
+    public int nextInt(int bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("Bound must be positive: " + bound);
+        }
+        return (int) ((nextLong() >>> 1) % bound);
+    }
+
+    /**
+     * Shuffles a list in place using this generator, in the same way as {@code Collections.shuffle}.
+     *
+     * @param list the list to shuffle
+     * @param <T> the type of the list elements
+     */
+    public <T> void shuffle(List<T> list) {
+        for (int i = list.size() - 1; i > 0; i--) {
+            int j = nextInt(i + 1);
+            T element = list.get(i);
+            list.set(i, list.get(j));
+            list.set(j, element);
+        }
+    }
+
+    /**
+     * Retrieves the current state of the generator.
+     *
+     * @return the state of the generator
+     */
+    public long getState() {
+        return state;
+    }
+
+    /**
+     * Sets the state of the generator, for example to a state saved in a snapshot.
+     *
+     * @param state the new state of the generator
+     */
+    public void setState(long state) {
+        this.state = state;
+    }
+}
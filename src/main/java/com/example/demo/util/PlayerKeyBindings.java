@@ -1,6 +1,5 @@
 package com.example.demo.util;
 
-import java.util.Collections;
 import java.util.Set;
 import javafx.scene.input.KeyCode;
 
@@ -8,14 +7,15 @@ import javafx.scene.input.KeyCode;
 /**
  * The PlayerKeyBindings class manages key bindings for player movement in four directions: up, down, left, and right.
  * It provides methods to check if any of the active keys correspond to the movement directions.
+ * The bound keys are stored as arrays so the checks performed every frame do not allocate iterators.
  *
  * @see <a href="https://github.com/swyannnn/CW2024/blob/master/src/main/java/com/example/demo/util/PlayerKeyBindings.java">Github Source Code</a>
  */
 public class PlayerKeyBindings {
-    private final Set<KeyCode> upKeys;
-    private final Set<KeyCode> downKeys;
-    private final Set<KeyCode> leftKeys;
-    private final Set<KeyCode> rightKeys;
+    private final KeyCode[] upKeys;
+    private final KeyCode[] downKeys;
+    private final KeyCode[] leftKeys;
+    private final KeyCode[] rightKeys;
 
     /**
      * Constructs a PlayerKeyBindings object with the specified key sets for movement directions.
@@ -26,10 +26,10 @@ public class PlayerKeyBindings {
      * @param rightKeys the set of key codes that represent the "right" movement
      */
     public PlayerKeyBindings(Set<KeyCode> upKeys, Set<KeyCode> downKeys, Set<KeyCode> leftKeys, Set<KeyCode> rightKeys) {
-        this.upKeys = upKeys;
-        this.downKeys = downKeys;
-        this.leftKeys = leftKeys;
-        this.rightKeys = rightKeys;
+        this.upKeys = upKeys.toArray(new KeyCode[0]);
+        this.downKeys = downKeys.toArray(new KeyCode[0]);
+        this.leftKeys = leftKeys.toArray(new KeyCode[0]);
+        this.rightKeys = rightKeys.toArray(new KeyCode[0]);
     }
 
     /**
@@ -39,7 +39,7 @@ public class PlayerKeyBindings {
      * @return true if any of the active keys are mapped to the "move up" action, false otherwise
      */
     public boolean isMovingUp(Set<KeyCode> activeKeys) {
-        return !Collections.disjoint(upKeys, activeKeys);
+        return isAnyKeyActive(upKeys, activeKeys);
     }
 
     /**
@@ -49,7 +49,7 @@ public class PlayerKeyBindings {
      * @return true if any of the active keys are associated with moving down, {@code false} otherwise
      */
     public boolean isMovingDown(Set<KeyCode> activeKeys) {
-        return !Collections.disjoint(downKeys, activeKeys);
+        return isAnyKeyActive(downKeys, activeKeys);
     }
 
     /**
@@ -59,7 +59,7 @@ public class PlayerKeyBindings {
      * @return true if any of the keys in the leftKeys set are active, false otherwise
      */
     public boolean isMovingLeft(Set<KeyCode> activeKeys) {
-        return !Collections.disjoint(leftKeys, activeKeys);
+        return isAnyKeyActive(leftKeys, activeKeys);
     }
 
     /**
@@ -69,6 +69,22 @@ public class PlayerKeyBindings {
      * @return true if any of the keys in the rightKeys set are present in the activeKeys set, false otherwise
      */
     public boolean isMovingRight(Set<KeyCode> activeKeys) {
-        return !Collections.disjoint(rightKeys, activeKeys);
+        return isAnyKeyActive(rightKeys, activeKeys);
+    }
+
+    /**
+     * Checks if any of the given keys is contained in the set of active keys.
+     *
+     * @param keys       the keys bound to a movement direction
+     * @param activeKeys the set of currently active keys
+     * @return true if at least one of the keys is active, false otherwise
+     */
+    private static boolean isAnyKeyActive(KeyCode[] keys, Set<KeyCode> activeKeys) {
+        for (int i = 0; i < keys.length; i++) {
+            if (activeKeys.contains(keys[i])) {
+                return true;
+            }
+        }
+        return false;
     }
 }
@@ -0,0 +1,157 @@
+package com.example.demo.util;
+
+import com.example.demo.util.GameConstant.QualityLevel;
+
+/**
+ * The QualityGovernor class lowers the visual quality of the game when frames take too long,
+ * and raises it again once there is headroom, so slower machines keep a steady frame rate.
+ *
+ * <p>The game loop reports every frame: the time spent running the simulation ticks, the time
+ * spent drawing, and the interval since the previous frame. These are averaged over the last
+ * {@code GameConstant.Quality.WINDOW_FRAMES} frames. The quality steps down one level when the
+ * average work exceeds {@code DOWNGRADE_LOAD} of the frame budget or the frames arrive too far
+ * apart, and steps up one level only after {@code UPGRADE_HOLD_FRAMES} consecutive frames below
+ * {@code UPGRADE_LOAD}. The gap between the two thresholds and the long hold before stepping up
+ * keep the quality from flapping between two levels. After each change the window starts over,
+ * so the new level is judged on its own frames.</p>
+ *
+ * <p>A single sample is capped at {@code MAX_SAMPLE_FRAMES} frame budgets, so one stall, such as
+ * loading the next level, cannot lower the quality on its own. The levels and the reductions
+ * they apply are listed by {@link QualityLevel}; the components reading the current level apply them.</p>
+ *
+ * <p>The governor is updated from the thread that runs the game loop. The level and the number of
+ * transitions can be read from any thread, so they can be exported as metrics.</p>
+ *
+ * @see <a href="https://github.com/swyannnn/CW2024/blob/master/src/main/java/com/example/demo/util/QualityGovernor.java">Github Source Code</a>
+ * @see QualityLevel
+ * @see com.example.demo.manager.GameLoopManager
+ */
+public class QualityGovernor {
+    private static final QualityLevel[] LEVELS = QualityLevel.values();
+    private static final long BUDGET = GameConstant.Quality.FRAME_BUDGET_NANOS;
+    private static final int WINDOW = GameConstant.Quality.WINDOW_FRAMES;
+    private static final long MAX_SAMPLE = BUDGET * GameConstant.Quality.MAX_SAMPLE_FRAMES;
+
+    private final long[] workSamples = new long[WINDOW];
+    private final long[] intervalSamples = new long[WINDOW];
+    private long workSum;
+    private long intervalSum;
+    private int sampleCount;
+    private int nextSample;
+    private int headroomFrames;
+    private long lastFrameAt = -1;
+    private boolean adaptive = true;
+    private volatile QualityLevel level = QualityLevel.FULL;
+    private volatile long transitionCount;
+
+    /**
+     * Records the costs of one frame and steps the quality level if needed.
+     *
+     * @param now the frame timestamp in nanoseconds
+     * @param tickNanos the time spent running the simulation ticks of the frame
+     * @param renderNanos the time spent drawing the frame
+     * @return true if the quality level changed, false otherwise
+     */
+    public boolean recordFrame(long now, long tickNanos, long renderNanos) {
+        if (lastFrameAt < 0) {
+            lastFrameAt = now;
+            return false;
+        }
+        long interval = now - lastFrameAt;
+        lastFrameAt = now;
+        addSample(Math.min(tickNanos + renderNanos, MAX_SAMPLE), Math.min(interval, MAX_SAMPLE));
+        if (!adaptive || sampleCount < WINDOW) {
+            return false;
+        }
+
+        double load = workSum / (double) (WINDOW * BUDGET);
+        double frameRatio = intervalSum / (double) (WINDOW * BUDGET);
+        if (load > GameConstant.Quality.DOWNGRADE_LOAD || frameRatio > GameConstant.Quality.SLOW_FRAME_RATIO) {
+            headroomFrames = 0;
+            return level.ordinal() < LEVELS.length - 1 && changeLevel(LEVELS[level.ordinal() + 1]);
+        }
+        if (load < GameConstant.Quality.UPGRADE_LOAD && frameRatio < GameConstant.Quality.STEADY_FRAME_RATIO) {
+            headroomFrames++;
+            if (headroomFrames >= GameConstant.Quality.UPGRADE_HOLD_FRAMES && level != QualityLevel.FULL) {
+                return changeLevel(LEVELS[level.ordinal() - 1]);
+            }
+        } else {
+            headroomFrames = 0;
+        }
+        return false;
+    }
+
+    /**
+     * Adds the costs of a frame to the window, replacing the oldest frame once it is full.
+     *
+     * @param work the time spent ticking and drawing
+     * @param interval the time since the previous frame
+     */
+    private void addSample(long work, long interval) {
+        if (sampleCount == WINDOW) {
+            workSum -= workSamples[nextSample];
+            intervalSum -= intervalSamples[nextSample];
+        } else {
+            sampleCount++;
+        }
+        workSamples[nextSample] = work;
+        intervalSamples[nextSample] = interval;
+        workSum += work;
+        intervalSum += interval;
+        nextSample = (nextSample + 1) % WINDOW;
+    }
+
+    /**
+     * Moves to another quality level and starts a new window.
+     *
+     * @param newLevel the level to move to
+     * @return always true
+     */
+    private boolean changeLevel(QualityLevel newLevel) {
+        level = newLevel;
+        transitionCount++;
+        sampleCount = 0;
+        nextSample = 0;
+        workSum = 0;
+        intervalSum = 0;
+        headroomFrames = 0;
+        return true;
+    }
+
+    /**
+     * Forgets the time of the last frame, so the gap of a pause or a stopped loop is not measured.
+     */
+    public void resetTiming() {
+        lastFrameAt = -1;
+    }
+
+    /**
+     * Sets whether the quality level follows the measured frame times.
+     * A governor that is not adaptive keeps its current level, so a benchmark measures the same
+     * work on every run however slow the machine is.
+     *
+     * @param adaptive true to step the quality level, false to hold it
+     */
+    public void setAdaptive(boolean adaptive) {
+        this.adaptive = adaptive;
+        headroomFrames = 0;
+    }
+
+    /**
+     * Retrieves the current quality level.
+     *
+     * @return the quality level
+     */
+    public QualityLevel getLevel() {
+        return level;
+    }
+
+    /**
+     * Retrieves the number of times the quality level changed.
+     *
+     * @return the number of transitions
+     */
+    public long getTransitionCount() {
+        return transitionCount;
+    }
+}
@@ -5,6 +5,9 @@ module com.example.demo {
     requires javafx.media;
     requires java.desktop;
     requires javafx.swing;
+    requires jdk.management;
+    requires jdk.jfr;
+    requires jdk.httpserver;
 
     // Export your packages so other modules can access them
     exports com.example.demo;
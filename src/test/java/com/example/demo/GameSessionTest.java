@@ -0,0 +1,68 @@
+package com.example.demo;
+
+import com.example.demo.actor.plane.PlaneConfig;
+import com.example.demo.actor.plane.UserPlane;
+import com.example.demo.event.PauseChangedEvent;
+import com.example.demo.manager.AudioManager;
+import javafx.scene.Group;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameSessionTest {
+
+    private AudioManager audioManager;
+
+    @BeforeEach
+    void setUp() {
+        audioManager = new AudioManager();
+    }
+
+    @Test
+    void testSessionsWithSameSeedHaveSameRandomSequence() {
+        GameSession first = new GameSession(new Group(), audioManager, 99L);
+        GameSession second = new GameSession(new Group(), audioManager, 99L);
+
+        first.getRandom().nextDouble();
+        first.getRandom().nextDouble();
+        second.getRandom().nextDouble();
+        second.getRandom().nextDouble();
+
+        assertEquals(first.getRandom().getState(), second.getRandom().getState());
+        assertNotSame(first.getRandom(), second.getRandom());
+    }
+
+    @Test
+    void testSessionsDoNotShareActors() {
+        GameSession first = new GameSession(new Group(), audioManager, 1L);
+        GameSession second = new GameSession(new Group(), audioManager, 1L);
+        PlaneConfig config = new PlaneConfig();
+        config.health = 5;
+
+        first.getActorManager().addActor(new UserPlane(config, 1));
+
+        assertEquals(1, first.getActorManager().getPlayers().size());
+        assertTrue(second.getActorManager().getPlayers().isEmpty());
+        assertSame(first.getClock(), first.getActorManager().getClock());
+        assertNotSame(first.getClock(), second.getClock());
+    }
+
+    @Test
+    void testPauseIsPublishedOnlyOnOwnEventBus() {
+        GameSession first = new GameSession(new Group(), audioManager, 1L);
+        GameSession second = new GameSession(new Group(), audioManager, 1L);
+        List<String> received = new ArrayList<>();
+        first.getEventBus().subscribe(PauseChangedEvent.class, event -> received.add("first"));
+        second.getEventBus().subscribe(PauseChangedEvent.class, event -> received.add("second"));
+
+        first.getGameLoopManager().pauseGame();
+
+        assertEquals(List.of("first"), received);
+        assertTrue(first.getClock().isPaused());
+        assertFalse(second.getClock().isPaused());
+    }
+}
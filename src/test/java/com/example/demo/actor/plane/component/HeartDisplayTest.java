@@ -9,6 +9,7 @@ import org.junit.jupiter.api.BeforeEach;
 import javafx.application.Application;
 import javafx.application.Platform;
 import javafx.embed.swing.JFXPanel;
+import javafx.scene.Node;
 import javafx.stage.Stage;
 
 
@@ -30,7 +31,8 @@ public class HeartDisplayTest {
     void testGetContainer() {
         HeartDisplay heartDisplay = new HeartDisplay(0, 100, 100, 5);
         assertNotNull(heartDisplay.getContainer());
-        assertEquals(1, heartDisplay.getContainer().getChildren().size());
+        // The plane icon followed by the pre-allocated hearts
+        assertEquals(1 + GameConstant.UserPlane.INITIAL_HEALTH, heartDisplay.getContainer().getChildren().size());
     }
 
     @Test
@@ -44,11 +46,13 @@ public class HeartDisplayTest {
     @Test
     void testSetHearts() {
         HeartDisplay heartDisplay = new HeartDisplay(0, 100, 100, 3);
-        Platform.runLater(() -> {
-            heartDisplay.setHearts(2);
-            // (1 container for plane icon + 1 container of hearts) * 2 players
-            assertEquals(4, heartDisplay.getContainer().getChildren().size());
-        });
+        int children = heartDisplay.getContainer().getChildren().size();
+        heartDisplay.setHearts(2);
+
+        // Hearts are hidden rather than removed
+        assertEquals(children, heartDisplay.getContainer().getChildren().size());
+        assertEquals(2, heartDisplay.getHeartsShown());
+        assertEquals(2, heartDisplay.getContainer().getChildren().stream().skip(1).filter(Node::isVisible).count());
     }
 }
 
@@ -1,6 +1,8 @@
 package com.example.demo.actor.plane.component;
 
 import static org.junit.jupiter.api.Assertions.*;
+
+import com.example.demo.util.GameRandom;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -11,7 +13,7 @@ public class ShieldTest {
 
     @BeforeEach
     public void setUp() {
-        shield = new Shield(ACTIVATION_PROBABILITY);
+        shield = new Shield(ACTIVATION_PROBABILITY, new GameRandom(1));
     }
 
     @Test
@@ -0,0 +1,60 @@
+package com.example.demo.benchmark;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BenchmarkResultTest {
+
+    private static long[] millis(long... values) {
+        long[] nanos = new long[values.length];
+        for (int i = 0; i < values.length; i++) {
+            nanos[i] = values[i] * 1_000_000L;
+        }
+        return nanos;
+    }
+
+    @Test
+    void testStatisticsOfMeasuredPulses() {
+        BenchmarkResult result = new BenchmarkResult(1, millis(40, 10, 20, 30), 4, 12, "FULL", true);
+
+        assertEquals(4, result.getFrameCount());
+        assertEquals(25.0, result.getMeanMillis(), 1e-9);
+        assertEquals(20.0, result.getPercentileMillis(50), 1e-9);
+        assertEquals(40.0, result.getPercentileMillis(100), 1e-9);
+        assertEquals(40.0, result.getFramesPerSecond(), 1e-9);
+    }
+
+    @Test
+    void testOnlyMeasuredFramesAreCounted() {
+        BenchmarkResult result = new BenchmarkResult(2, millis(10, 10, 0, 0), 2, 0, "FULL", false);
+
+        assertEquals(2, result.getFrameCount());
+        assertEquals(10.0, result.getPercentileMillis(0), 1e-9);
+        assertFalse(result.isComplete());
+    }
+
+    @Test
+    void testLevelWithoutFramesReportsZero() {
+        BenchmarkResult result = new BenchmarkResult(9, new long[0], 0, 0, "FULL", false);
+
+        assertEquals(0, result.getMeanMillis());
+        assertEquals(0, result.getPercentileMillis(99));
+        assertEquals(0, result.getFramesPerSecond());
+    }
+
+    @Test
+    void testJsonHoldsTheStatistics() {
+        String json = new BenchmarkResult(3, millis(16), 1, 7, "FEWER_PARTICLES", true).toJson();
+
+        assertTrue(json.startsWith("{\"level\":3,\"frames\":1,\"complete\":true,"));
+        assertTrue(json.contains("\"p95_ms\":16.000"));
+        assertTrue(json.endsWith("\"peak_actors\":7,\"quality\":\"FEWER_PARTICLES\"}"));
+    }
+
+    @Test
+    void testLevelsAreParsed() {
+        assertArrayEquals(new int[] { 1, 3 }, RenderBenchmark.parseLevels("1, 3"));
+        assertThrows(IllegalArgumentException.class, () -> RenderBenchmark.parseLevels("1,boss"));
+    }
+}
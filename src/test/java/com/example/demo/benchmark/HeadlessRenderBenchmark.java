@@ -0,0 +1,45 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.Controller;
+import com.example.demo.util.GameConstant;
+import javafx.application.Platform;
+import javafx.stage.Stage;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the RenderBenchmark in the test JVM. It is not matched by the default test includes;
+ * the render-benchmark Maven profile runs it on the Monocle headless platform with the
+ * software pipeline, so it needs no display.
+ */
+class HeadlessRenderBenchmark {
+
+    @Test
+    void benchmarkEveryLevel() throws Exception {
+        CompletableFuture<RenderBenchmark> started = new CompletableFuture<>();
+        Platform.startup(() -> {
+            Controller controller = new Controller(new Stage(), true);
+            started.complete(controller.startBenchmark());
+        });
+        RenderBenchmark benchmark = started.get(1, TimeUnit.MINUTES);
+        List<BenchmarkResult> results = benchmark.getFinished().get(30, TimeUnit.MINUTES);
+
+        Path report = Paths.get(System.getProperty(GameConstant.Benchmark.OUTPUT_PROPERTY, GameConstant.Benchmark.DEFAULT_OUTPUT_FILE));
+        benchmark.writeReport(report);
+        Platform.exit();
+
+        assertFalse(results.isEmpty());
+        for (BenchmarkResult result : results) {
+            assertTrue(result.getFrameCount() > 0, "No pulses measured in level " + result.getLevel());
+        }
+        assertTrue(Files.size(report) > 0);
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.demo.effect;
+
+import com.example.demo.util.GameConstant.ParticleStyle;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParticleSystemTest {
+
+    private static final double STEP = 1.0 / 60;
+
+    private ParticleSystem particles;
+
+    @BeforeEach
+    void setUp() {
+        particles = new ParticleSystem(100);
+    }
+
+    @Test
+    void testEmitAddsTheStyleCount() {
+        particles.emit(ParticleStyle.SPARK, 10, 20);
+        assertEquals(ParticleStyle.SPARK.getCount(), particles.getCount());
+        assertEquals(10f, particles.getX(0));
+        assertEquals(20f, particles.getY(0));
+    }
+
+    @Test
+    void testEmitStopsAtCapacity() {
+        particles.emit(ParticleStyle.DEBRIS, 0, 0, 70);
+        particles.emit(ParticleStyle.DEBRIS, 0, 0, 70);
+        assertEquals(100, particles.getCount());
+        assertEquals(100, particles.getCapacity());
+    }
+
+    @Test
+    void testParticlesExpireAfterTheirLife() {
+        particles.emit(ParticleStyle.SPARK, 0, 0);
+        double elapsed = 0;
+        while (elapsed < ParticleStyle.SPARK.getLifeSeconds() * 0.5) {
+            particles.update(STEP);
+            elapsed += STEP;
+        }
+        assertEquals(ParticleStyle.SPARK.getCount(), particles.getCount());
+
+        particles.update(ParticleStyle.SPARK.getLifeSeconds());
+        assertEquals(0, particles.getCount());
+    }
+
+    @Test
+    void testParticlesMoveAndFall() {
+        particles.emit(ParticleStyle.DEBRIS, 0, 0, 50);
+        double startY = 0;
+        particles.update(0.5);
+        double sumY = 0;
+        boolean moved = false;
+        for (int i = 0; i < particles.getCount(); i++) {
+            sumY += particles.getY(i);
+            moved |= particles.getX(i) != 0;
+        }
+        assertTrue(moved);
+        // Debris spreads in every direction, so on average only gravity pulls it down
+        assertTrue(sumY / particles.getCount() > startY);
+    }
+
+    @Test
+    void testClearRemovesEveryParticle() {
+        particles.emit(ParticleStyle.ENGINE, 0, 0);
+        particles.clear();
+        assertEquals(0, particles.getCount());
+    }
+
+    @Test
+    void testInvalidCapacityThrows() {
+        assertThrows(IllegalArgumentException.class, () -> new ParticleSystem(0));
+    }
+
+    @Test
+    void testUpdatingManyParticlesAllocatesNothing() {
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        ParticleSystem many = new ParticleSystem();
+        for (int warmup = 0; warmup < 200; warmup++) {
+            many.emit(ParticleStyle.PHASE_BURST, 400, 300, 20_000 - many.getCount());
+            many.update(STEP);
+        }
+        int fewest = Integer.MAX_VALUE;
+        long before = threadBean.getCurrentThreadAllocatedBytes();
+        for (int tick = 0; tick < 200; tick++) {
+            many.emit(ParticleStyle.PHASE_BURST, 400, 300, 20_000 - many.getCount());
+            fewest = Math.min(fewest, many.getCount());
+            many.update(STEP);
+        }
+        long allocated = threadBean.getCurrentThreadAllocatedBytes() - before;
+        assertEquals(20_000, fewest);
+        assertTrue(allocated < 1024, "Updating 20k particles allocated " + allocated + " bytes");
+    }
+}
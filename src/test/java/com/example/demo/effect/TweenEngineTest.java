@@ -0,0 +1,139 @@
+package com.example.demo.effect;
+
+import javafx.scene.Group;
+import javafx.scene.Node;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TweenEngineTest {
+
+    private static final long MILLIS = 1_000_000L;
+
+    private TweenEngine engine;
+    private Group node;
+
+    @BeforeEach
+    void setUp() {
+        engine = new TweenEngine();
+        node = new Group();
+    }
+
+    @Test
+    void testTweenInterpolatesAndFinishes() {
+        List<Node> finished = new ArrayList<>();
+        engine.start(node, TweenProperty.TRANSLATE_X, 0, 100, 100 * MILLIS).setOnFinished(finished::add);
+        assertEquals(0.0, node.getTranslateX());
+
+        engine.update(25 * MILLIS);
+        assertEquals(25.0, node.getTranslateX(), 1e-9);
+        assertTrue(finished.isEmpty());
+
+        engine.update(150 * MILLIS);
+        assertEquals(100.0, node.getTranslateX(), 1e-9);
+        assertEquals(List.of(node), finished);
+        assertEquals(0, engine.getActiveCount());
+        assertEquals(1, engine.getPooledCount());
+    }
+
+    @Test
+    void testYoyoCyclesEndWhereTheyStarted() {
+        engine.start(node, TweenProperty.OPACITY, 1.0, 0.0, 100 * MILLIS).setCycles(4).setYoyo(true);
+
+        engine.update(100 * MILLIS + 50 * MILLIS);
+        assertEquals(0.5, node.getOpacity(), 1e-9); // fading back in
+        engine.update(200 * MILLIS);
+        assertEquals(1.0, node.getOpacity(), 1e-9);
+        assertEquals(1, engine.getActiveCount());
+
+        engine.update(400 * MILLIS);
+        assertEquals(1.0, node.getOpacity(), 1e-9);
+        assertEquals(0, engine.getActiveCount());
+    }
+
+    @Test
+    void testEasingShapesProgress() {
+        engine.start(node, TweenProperty.TRANSLATE_Y, 0, 100, 100 * MILLIS).setEasing(Easing.EASE_IN);
+        engine.update(50 * MILLIS);
+        assertEquals(25.0, node.getTranslateY(), 1e-9);
+    }
+
+    @Test
+    void testTweenStartsAtCurrentGameTime() {
+        engine.update(1_000 * MILLIS);
+        engine.start(node, TweenProperty.TRANSLATE_X, 0, 100, 100 * MILLIS);
+        engine.update(1_050 * MILLIS);
+        assertEquals(50.0, node.getTranslateX(), 1e-9);
+    }
+
+    @Test
+    void testCancelStopsWithoutNotifying() {
+        List<Node> finished = new ArrayList<>();
+        Group other = new Group();
+        engine.start(node, TweenProperty.SCALE, 1, 2, 100 * MILLIS).setOnFinished(finished::add);
+        engine.start(other, TweenProperty.SCALE, 1, 2, 100 * MILLIS);
+
+        engine.cancel(node);
+        engine.update(200 * MILLIS);
+
+        assertTrue(finished.isEmpty());
+        assertEquals(1.0, node.getScaleX());
+        assertEquals(2.0, other.getScaleX());
+    }
+
+    @Test
+    void testClearFinishesTweensAndNotifies() {
+        List<Node> finished = new ArrayList<>();
+        engine.start(node, TweenProperty.OPACITY, 1.0, 0.0, 100 * MILLIS).setOnFinished(n -> {
+            finished.add(n);
+            engine.start(n, TweenProperty.OPACITY, 0.0, 1.0, 100 * MILLIS);
+        });
+        engine.update(30 * MILLIS);
+
+        engine.clear();
+
+        assertEquals(List.of(node), finished);
+        assertEquals(0.0, node.getOpacity(), 1e-9);
+        assertEquals(0, engine.getActiveCount(), "Tweens started by a listener during clear should be cancelled");
+        FlickerEffect flicker = new FlickerEffect(engine, node, 3, 100);
+        flicker.trigger();
+        engine.clear();
+        assertFalse(flicker.isFlickering());
+    }
+
+    @Test
+    void testListenerMayStartNextTween() {
+        engine.start(node, TweenProperty.TRANSLATE_X, 0, 10, 10 * MILLIS)
+            .setOnFinished(n -> engine.start(n, TweenProperty.TRANSLATE_X, 10, 20, 10 * MILLIS));
+        engine.update(10 * MILLIS);
+        assertEquals(1, engine.getActiveCount());
+        engine.update(20 * MILLIS);
+        assertEquals(20.0, node.getTranslateX(), 1e-9);
+    }
+
+    @Test
+    void testFlickerAllocatesNothingOnceWarm() {
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        FlickerEffect flicker = new FlickerEffect(engine, node, 3, 100);
+        long now = 0;
+        for (int warmup = 0; warmup < 2_000; warmup++) {
+            flicker.trigger();
+            now += 700 * MILLIS;
+            engine.update(now);
+        }
+        long before = threadBean.getCurrentThreadAllocatedBytes();
+        for (int hit = 0; hit < 1_000; hit++) {
+            flicker.trigger();
+            now += 700 * MILLIS;
+            engine.update(now);
+        }
+        long allocated = threadBean.getCurrentThreadAllocatedBytes() - before;
+        assertTrue(allocated < 1024, "Flickers allocated " + allocated + " bytes once the tween pool was warm");
+        assertFalse(flicker.isFlickering());
+    }
+}
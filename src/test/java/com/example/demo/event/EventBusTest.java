@@ -0,0 +1,91 @@
+package com.example.demo.event;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventBusTest {
+
+    private EventBus eventBus;
+
+    @BeforeEach
+    void setUp() {
+        eventBus = new EventBus();
+    }
+
+    @Test
+    void testPublishReachesHandlersOfSameType() {
+        List<Integer> lost = new ArrayList<>();
+        eventBus.subscribe(LevelLostEvent.class, event -> lost.add(event.getLevelNumber()));
+        eventBus.subscribe(PauseChangedEvent.class, event -> fail("Wrong event type delivered"));
+
+        eventBus.publish(new LevelLostEvent(3));
+
+        assertEquals(List.of(3), lost);
+    }
+
+    @Test
+    void testCancelledSubscriptionReceivesNothing() {
+        List<Boolean> pauses = new ArrayList<>();
+        Subscription subscription = eventBus.subscribe(PauseChangedEvent.class, event -> pauses.add(event.isPaused()));
+        subscription.cancel();
+        subscription.cancel();
+
+        eventBus.publish(PauseChangedEvent.PAUSED);
+
+        assertTrue(pauses.isEmpty());
+        assertEquals(0, eventBus.getSubscriberCount(PauseChangedEvent.class));
+    }
+
+    @Test
+    void testScopeCloseRemovesAllSubscriptions() {
+        EventScope scope = new EventScope(eventBus);
+        scope.subscribe(PauseChangedEvent.class, event -> { });
+        scope.subscribe(LevelLostEvent.class, event -> { });
+        scope.subscribe(LevelCompletedEvent.class, event -> { });
+        assertEquals(3, scope.size());
+
+        scope.close();
+
+        assertEquals(0, scope.size());
+        assertEquals(Map.of("LevelCompletedEvent", 0, "LevelLostEvent", 0, "PauseChangedEvent", 0),
+            eventBus.getSubscriberCounts());
+    }
+
+    @Test
+    void testRepeatedScopesDoNotLeakSubscribers() {
+        for (int level = 0; level < 10; level++) {
+            EventScope scope = new EventScope(eventBus);
+            scope.subscribe(PauseChangedEvent.class, event -> { });
+            scope.close();
+        }
+        assertEquals(0, eventBus.getSubscriberCount(PauseChangedEvent.class));
+    }
+
+    @Test
+    void testScopeClosedDuringPublishFinishesCurrentDispatch() {
+        EventScope scope = new EventScope(eventBus);
+        List<String> calls = new ArrayList<>();
+        scope.subscribe(LevelCompletedEvent.class, event -> {
+            calls.add("first");
+            scope.close();
+        });
+        scope.subscribe(LevelCompletedEvent.class, event -> calls.add("second"));
+
+        eventBus.publish(new LevelCompletedEvent(1, 2));
+        eventBus.publish(new LevelCompletedEvent(1, 2));
+
+        assertEquals(List.of("first", "second"), calls);
+    }
+
+    @Test
+    void testMetricName() {
+        assertEquals("pause_changed", EventBus.toMetricName("PauseChangedEvent"));
+        assertEquals("level_lost", EventBus.toMetricName("LevelLostEvent"));
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.demo.level;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the handover between preparing and taking a level scaffold.
+ * The scene is created on the JavaFX Application Thread, so these tests stop at the scaffold.
+ */
+class LevelPreparerTest {
+
+    private LevelPreparer preparer;
+
+    @BeforeEach
+    void setUp() {
+        preparer = LevelPreparer.getInstance();
+        preparer.discard();
+    }
+
+    @AfterEach
+    void tearDown() {
+        preparer.discard();
+    }
+
+    @Test
+    void testTakeUsesPreparedScaffold() {
+        preparer.prepare(2);
+        CompletableFuture<LevelScaffold> prepared = preparer.getPrepared(2);
+        assertNotNull(prepared);
+
+        LevelScaffold scaffold = preparer.takeScaffold(2);
+
+        assertSame(prepared.join(), scaffold);
+        assertEquals(2, scaffold.getLevelNumber());
+        assertNull(preparer.getPrepared(2), "A taken scaffold should not be handed out again");
+    }
+
+    @Test
+    void testRepeatedPrepareIsNoOp() {
+        preparer.prepare(3);
+        CompletableFuture<LevelScaffold> prepared = preparer.getPrepared(3);
+
+        preparer.prepare(3);
+
+        assertSame(prepared, preparer.getPrepared(3));
+        assertSame(prepared.join(), preparer.takeScaffold(3));
+    }
+
+    @Test
+    void testUnknownLevelIsNotPrepared() {
+        preparer.prepare(2);
+        CompletableFuture<LevelScaffold> prepared = preparer.getPrepared(2);
+
+        preparer.prepare(99);
+
+        assertNull(preparer.getPrepared(99));
+        assertSame(prepared, preparer.getPrepared(2), "Preparing an unknown level should keep the current preparation");
+    }
+
+    @Test
+    void testTakeWithoutPreparationBuildsScaffold() {
+        preparer.prepare(2);
+
+        LevelScaffold scaffold = preparer.takeScaffold(4);
+
+        assertEquals(4, scaffold.getLevelNumber());
+        assertNull(preparer.getPrepared(2), "Taking another level should discard the preparation");
+    }
+}
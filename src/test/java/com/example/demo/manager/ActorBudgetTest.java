@@ -0,0 +1,107 @@
+package com.example.demo.manager;
+
+import com.example.demo.GameSession;
+import com.example.demo.actor.ActiveActor;
+import com.example.demo.actor.SpawnCategory;
+import com.example.demo.actor.plane.PlaneConfig;
+import com.example.demo.actor.plane.UserPlane;
+import com.example.demo.actor.projectile.ProjectileFactory;
+import com.example.demo.actor.projectile.ProjectileType;
+import com.example.demo.util.BalanceTuning;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ActorBudgetTest {
+
+    private final ProjectileFactory projectileFactory = new ProjectileFactory();
+    private ActorManager actorManager;
+
+    @BeforeEach
+    void setUp() {
+        actorManager = GameSession.headless(1L, BalanceTuning.DEFAULT).getActorManager();
+    }
+
+    private ActiveActor addEnemyProjectile(double x, double y) {
+        ActiveActor projectile = projectileFactory.createProjectile(ProjectileType.ENEMY, x, y);
+        actorManager.addActor(projectile);
+        return projectile;
+    }
+
+    @Test
+    void testRequestsAreGrantedBelowTheCap() {
+        actorManager.getBudget().setCap(SpawnCategory.ENEMY_PROJECTILE, 2);
+        addEnemyProjectile(500, 300);
+
+        assertTrue(actorManager.requestSpawn(SpawnCategory.ENEMY_PROJECTILE));
+        assertEquals(0, actorManager.getThrottledCount());
+    }
+
+    @Test
+    void testRequestsAreThrottledAtTheCap() {
+        actorManager.getBudget().setCap(SpawnCategory.ENEMY_PROJECTILE, 2);
+        addEnemyProjectile(500, 300);
+        addEnemyProjectile(600, 300);
+
+        assertFalse(actorManager.requestSpawn(SpawnCategory.ENEMY_PROJECTILE));
+        assertEquals(1, actorManager.getThrottledCount());
+        assertEquals(0, actorManager.getEvictedCount());
+    }
+
+    @Test
+    void testOldestOffScreenProjectileIsEvicted() {
+        actorManager.getBudget().setCap(SpawnCategory.ENEMY_PROJECTILE, 3);
+        ActiveActor onScreen = addEnemyProjectile(500, 300);
+        ActiveActor oldestOffScreen = addEnemyProjectile(500, -400);
+        ActiveActor newerOffScreen = addEnemyProjectile(500, -400);
+
+        assertTrue(actorManager.requestSpawn(SpawnCategory.ENEMY_PROJECTILE));
+        assertTrue(oldestOffScreen.isDestroyed());
+        assertFalse(onScreen.isDestroyed());
+        assertFalse(newerOffScreen.isDestroyed());
+        assertEquals(1, actorManager.getEvictedCount());
+
+        actorManager.removeDestroyedActors();
+        assertEquals(2, actorManager.getEnemyProjectiles().size());
+    }
+
+    @Test
+    void testTotalCapThrottlesEveryLowPriorityCategory() {
+        actorManager.getBudget().setTotalCap(2);
+        addEnemyProjectile(500, 300);
+        addEnemyProjectile(600, 300);
+
+        assertFalse(actorManager.requestSpawn(SpawnCategory.ENEMY_UNIT));
+        assertFalse(actorManager.requestSpawn(SpawnCategory.MINION));
+        assertTrue(actorManager.requestSpawn(SpawnCategory.USER_PROJECTILE));
+        assertTrue(actorManager.requestSpawn(SpawnCategory.BOSS_UNIT));
+    }
+
+    @Test
+    void testCleanupResetsTheCounts() {
+        actorManager.getBudget().setCap(SpawnCategory.ENEMY_PROJECTILE, 1);
+        addEnemyProjectile(500, 300);
+        actorManager.cleanup();
+
+        assertTrue(actorManager.requestSpawn(SpawnCategory.ENEMY_PROJECTILE));
+    }
+
+    @Test
+    void testActorsAreSortedIntoCategories() {
+        PlaneConfig config = new PlaneConfig();
+        config.health = 5;
+        UserPlane player = new UserPlane(config, 1);
+        assertEquals(SpawnCategory.PLAYER, SpawnCategory.of(player));
+        assertEquals(SpawnCategory.USER_PROJECTILE, SpawnCategory.of(projectileFactory.createProjectile(ProjectileType.USER, 0, 0, player)));
+        assertEquals(SpawnCategory.ENEMY_PROJECTILE, SpawnCategory.of(projectileFactory.createProjectile(ProjectileType.ENEMY, 0, 0)));
+        assertEquals(SpawnCategory.BOSS_PROJECTILE, SpawnCategory.of(projectileFactory.createProjectile(ProjectileType.BOSS, 0, 0)));
+    }
+
+    @Test
+    void testNegativeCapThrows() {
+        ActorBudget budget = new ActorBudget();
+        assertThrows(IllegalArgumentException.class, () -> budget.setCap(SpawnCategory.MINION, -1));
+        assertThrows(IllegalArgumentException.class, () -> budget.setTotalCap(-1));
+    }
+}
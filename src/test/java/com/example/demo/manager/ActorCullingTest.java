@@ -0,0 +1,125 @@
+package com.example.demo.manager;
+
+import com.example.demo.GameSession;
+import com.example.demo.actor.ActiveActor;
+import com.example.demo.actor.plane.UserPlane;
+import com.example.demo.actor.plane.PlaneFactory;
+import com.example.demo.actor.plane.PlaneType;
+import com.example.demo.actor.projectile.ProjectileFactory;
+import com.example.demo.actor.projectile.ProjectileType;
+import com.example.demo.handler.CollisionHandler;
+import com.example.demo.util.BalanceTuning;
+import com.example.demo.util.GameConstant;
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.image.ImageView;
+import javafx.scene.shape.Rectangle;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ActorCullingTest {
+
+    private final ProjectileFactory projectileFactory = new ProjectileFactory();
+
+    private ActiveActor addEnemyProjectile(ActorManager actorManager, double x, double y) {
+        ActiveActor projectile = projectileFactory.createProjectile(ProjectileType.ENEMY, x, y);
+        actorManager.addActor(projectile);
+        return projectile;
+    }
+
+    @Test
+    void testActorsBeyondTheMarginAreDespawned() {
+        ActorManager actorManager = GameSession.headless(1L, BalanceTuning.DEFAULT).getActorManager();
+        ActiveActor far = addEnemyProjectile(actorManager, 500, -GameConstant.Viewport.DESPAWN_MARGIN - 100);
+        ActiveActor near = addEnemyProjectile(actorManager, 500, -60);
+
+        actorManager.updateAllActors(0);
+
+        assertTrue(far.isDestroyed());
+        assertFalse(near.isDestroyed());
+    }
+
+    @Test
+    void testActorsOutsideTheScreenAreHidden() {
+        ActorManager actorManager = new GameSession(new Group(), new AudioManager(true), 1L).getActorManager();
+        ActiveActor projectile = addEnemyProjectile(actorManager, 500, -60);
+        ActiveActor onScreen = addEnemyProjectile(actorManager, 500, 300);
+
+        actorManager.updateAllActors(0);
+        assertFalse(projectile.isVisible());
+        assertTrue(onScreen.isVisible());
+
+        projectile.setTranslateY(300);
+        actorManager.updateAllActors(0);
+        assertTrue(projectile.isVisible());
+    }
+
+    @Test
+    void testUIElementLeftBehindByItsOwnerIsReported() {
+        ActorManager actorManager = GameSession.headless(1L, BalanceTuning.DEFAULT).getActorManager();
+        ActiveActor owner = addEnemyProjectile(actorManager, 500, 300);
+        Node element = new Rectangle(10, 10);
+        actorManager.addUIElement(element, owner);
+
+        owner.destroy();
+        actorManager.removeDestroyedActors();
+
+        assertFalse(actorManager.getRoot().getChildren().contains(element));
+        assertEquals(1, actorManager.getLeakedUIElementCount());
+    }
+
+    @Test
+    void testBossShieldIsRemovedWithTheBoss() {
+        ActorManager actorManager = GameSession.headless(1L, BalanceTuning.DEFAULT).getActorManager();
+        ActiveActor boss = new PlaneFactory(actorManager).createPlane(PlaneType.BOSS_PLANE);
+        actorManager.addActor(boss);
+        assertEquals(1, actorManager.getRoot().getChildren().size(), "A headless session only shows the shield of the boss");
+
+        boss.destroy();
+        actorManager.removeDestroyedActors();
+
+        assertTrue(actorManager.getRoot().getChildren().isEmpty());
+        assertEquals(0, actorManager.getLeakedUIElementCount());
+    }
+
+    @Test
+    void testCleanupRemovesRunningExplosion() {
+        GameSession session = new GameSession(new Group(), new AudioManager(true), 1L);
+        ActorManager actorManager = session.getActorManager();
+        int[] explosions = new int[2];
+        session.getCollisionManager().setCollisionHandler(new CollisionHandler() {
+            @Override
+            public void onExplosionStarted() {
+                explosions[0]++;
+            }
+
+            @Override
+            public void onExplosionFinished() {
+                explosions[1]++;
+            }
+
+            @Override
+            public void onProjectileHitEnemy(UserPlane userPlane, ActiveActor enemy) {
+            }
+        });
+        PlaneFactory planeFactory = new PlaneFactory(actorManager);
+        ActiveActor player = planeFactory.createPlane(PlaneType.USER_PLANE, 1);
+        ActiveActor enemy = planeFactory.createPlane(PlaneType.ENEMY_PLANE);
+        actorManager.addActor(player);
+        actorManager.addActor(enemy);
+        enemy.setTranslateX(player.getCurrentX() - enemy.getLayoutX());
+        enemy.setTranslateY(player.getCurrentY() - enemy.getLayoutY());
+
+        session.getCollisionManager().handleAllCollisions(actorManager);
+        assertEquals(1, explosions[0]);
+        assertTrue(actorManager.getRoot().getChildren().stream().anyMatch(ImageView.class::isInstance));
+
+        actorManager.cleanup();
+
+        assertEquals(1, explosions[1], "The collision handler should hear that the explosion finished");
+        assertFalse(actorManager.getRoot().getChildren().stream().anyMatch(ImageView.class::isInstance),
+            "The explosion view should not stay frozen in the root");
+        assertEquals(0, actorManager.getTweenEngine().getActiveCount());
+    }
+}
@@ -0,0 +1,296 @@
+package com.example.demo.manager;
+
+import com.example.demo.GameSession;
+import com.example.demo.actor.ActiveActor;
+import com.example.demo.actor.plane.EnemyPlane;
+import com.example.demo.actor.plane.PlaneConfig;
+import com.example.demo.actor.plane.UserPlane;
+import com.example.demo.actor.projectile.EnemyProjectile;
+import com.example.demo.actor.projectile.ProjectileConfig;
+import com.example.demo.actor.projectile.ProjectileType;
+import com.example.demo.actor.projectile.UserProjectile;
+import com.example.demo.handler.CollisionHandler;
+import com.example.demo.level.LevelConfig;
+import com.example.demo.level.LevelFactory;
+import com.example.demo.level.LevelParent;
+import com.example.demo.strategy.movement.EnemyMovementStrategy;
+import com.example.demo.strategy.movement.UserMovementStrategy;
+import com.example.demo.util.BalanceTuning;
+import com.example.demo.util.GameClock;
+import com.example.demo.util.GameConstant;
+import com.example.demo.util.PlayerKeyBindings;
+import javafx.scene.Group;
+import javafx.scene.input.KeyCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that a steady-state simulation tick stays within its allocation budget.
+ * The scenarios run the same per-tick path as LevelState (actor updates, removal of
+ * destroyed actors and collision detection) and measure the bytes allocated by the
+ * current thread with {@link com.sun.management.ThreadMXBean}.
+ *
+ * <p>The scenarios with hits and with a real level run in a headless session, like a
+ * LevelSimulation, so the explosions and sparks shown for hits are not measured.</p>
+ */
+class FrameAllocationTest {
+
+    private static final int WARMUP_WINDOWS = 200;
+    private static final int TICKS_PER_WINDOW = 100;
+    private static final long BYTES_PER_TICK_BUDGET = 0;
+
+    private final com.sun.management.ThreadMXBean threadBean =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private ActorManager actorManager;
+    private CollisionManager collisionManager;
+    private long now;
+    private int hits;
+
+    @BeforeEach
+    void setUp() {
+        Group root = new Group();
+        GameSession session = new GameSession(root, new AudioManager(), 1L);
+        actorManager = session.getActorManager();
+        collisionManager = session.getCollisionManager();
+        now = 0;
+    }
+
+    @AfterEach
+    void tearDown() {
+        actorManager.cleanup();
+    }
+
+    /**
+     * Replaces the session of the test with a headless one that counts the hits of user projectiles.
+     */
+    private GameSession useHeadlessSession(BalanceTuning tuning) {
+        actorManager.cleanup();
+        GameSession session = GameSession.headless(1L, tuning);
+        actorManager = session.getActorManager();
+        collisionManager = session.getCollisionManager();
+        collisionManager.setCollisionHandler(new CollisionHandler() {
+            @Override
+            public void onExplosionStarted() {
+            }
+
+            @Override
+            public void onExplosionFinished() {
+            }
+
+            @Override
+            public void onProjectileHitEnemy(UserPlane userPlane, ActiveActor enemy) {
+                userPlane.incrementKillCount();
+                hits++;
+            }
+        });
+        return session;
+    }
+
+    private UserPlane createPlayer(int playerId, Set<KeyCode> activeKeys) {
+        PlaneConfig config = new PlaneConfig();
+        config.imageName = GameConstant.UserPlane.ID1_IMAGE_NAME;
+        config.imageHeight = GameConstant.UserPlane.IMAGE_HEIGHT;
+        config.initialXPos = 5;
+        config.initialYPos = 300;
+        config.health = 5;
+        config.speed = 5;
+        config.movementStrategy = new UserMovementStrategy(activeKeys, new PlayerKeyBindings(
+            EnumSet.of(KeyCode.UP), EnumSet.of(KeyCode.DOWN), EnumSet.of(KeyCode.LEFT), EnumSet.of(KeyCode.RIGHT)), config.speed);
+        return new UserPlane(config, playerId);
+    }
+
+    private EnemyPlane createEnemy(double x, double y) {
+        PlaneConfig config = new PlaneConfig();
+        config.imageName = GameConstant.EnemyPlane.IMAGE_NAME;
+        config.imageHeight = GameConstant.EnemyPlane.IMAGE_HEIGHT;
+        config.initialXPos = x;
+        config.initialYPos = y;
+        config.health = 1;
+        config.movementStrategy = new EnemyMovementStrategy(-1);
+        return new EnemyPlane(config);
+    }
+
+    private void populateScenario() {
+        Set<KeyCode> activeKeys = EnumSet.of(KeyCode.UP, KeyCode.RIGHT);
+        actorManager.addActor(createPlayer(1, activeKeys));
+        actorManager.addActor(createPlayer(2, activeKeys));
+        for (int i = 0; i < 20; i++) {
+            actorManager.addActor(createEnemy(900 + (i % 5) * 40, 350 + (i / 5) * 60));
+        }
+        for (int i = 0; i < 20; i++) {
+            actorManager.addActor(new EnemyProjectile(new ProjectileConfig(ProjectileType.ENEMY, 1100, 350 + i * 15)));
+        }
+    }
+
+    /**
+     * Moves every actor back to its layout position so each window replays the same frames.
+     */
+    private void resetPositions() {
+        List<UserPlane> players = actorManager.getPlayers();
+        for (int i = 0; i < players.size(); i++) {
+            players.get(i).setTranslateY(0);
+        }
+        List<ActiveActor> enemies = actorManager.getEnemyUnits();
+        for (int i = 0; i < enemies.size(); i++) {
+            enemies.get(i).setLayoutX(900 + (i % 5) * 40);
+        }
+        List<ActiveActor> projectiles = actorManager.getEnemyProjectiles();
+        for (int i = 0; i < projectiles.size(); i++) {
+            projectiles.get(i).setTranslateX(0);
+        }
+    }
+
+    private void runTicks(int ticks) {
+        for (int i = 0; i < ticks; i++) {
+            now += GameClock.FIXED_STEP_NANOS;
+            actorManager.updateAllActors(now);
+            actorManager.removeDestroyedActors();
+            collisionManager.handleAllCollisions(actorManager);
+        }
+    }
+
+    private long measureWindow() {
+        resetPositions();
+        long before = threadBean.getCurrentThreadAllocatedBytes();
+        runTicks(TICKS_PER_WINDOW);
+        return threadBean.getCurrentThreadAllocatedBytes() - before;
+    }
+
+    /**
+     * Sets up a volley of user projectiles, each fired a short way in front of an enemy.
+     * The enemies and projectiles destroyed by the previous volley were removed by the ticks,
+     * so every window starts with the same actors and plays out the same hits.
+     */
+    private void populateVolley(UserPlane owner) {
+        for (int i = 0; i < 10; i++) {
+            double x = 150 + (i % 5) * 250;
+            double y = 50 + (i / 5) * 400;
+            actorManager.addActor(createEnemy(x, y));
+            actorManager.addActor(new UserProjectile(new ProjectileConfig(x - 100, y + 10, owner)));
+        }
+    }
+
+    private long measureVolleyWindow(UserPlane owner) {
+        populateVolley(owner);
+        // A new actor creates its position properties the first time it moves, which belongs to spawning it
+        runTicks(1);
+        hits = 0;
+        long before = threadBean.getCurrentThreadAllocatedBytes();
+        runTicks(TICKS_PER_WINDOW);
+        return threadBean.getCurrentThreadAllocatedBytes() - before;
+    }
+
+    /**
+     * Runs one tick of a level in the same order as a LevelSimulation step.
+     *
+     * @return true if an actor was spawned during the tick
+     */
+    private boolean runLevelTick(GameClock clock, LevelParent level) {
+        int actorsBefore = actorManager.getActorCount();
+        clock.tick();
+        long tickTime = clock.getSimulationTime();
+        level.spawnEnemyUnits();
+        actorManager.updateAllActors(tickTime);
+        boolean spawned = actorManager.getActorCount() > actorsBefore;
+        actorManager.removeDestroyedActors();
+        collisionManager.handleAllCollisions(actorManager);
+        level.userHasReachedTarget();
+        return spawned;
+    }
+
+    @Test
+    void testSteadyStateTickStaysWithinAllocationBudget() {
+        assumeAllocationTracking();
+        populateScenario();
+        int actorCount = actorManager.getPlayers().size() + actorManager.getEnemyUnits().size()
+            + actorManager.getEnemyProjectiles().size();
+
+        for (int i = 0; i < WARMUP_WINDOWS; i++) {
+            measureWindow();
+        }
+        long allocated = measureWindow();
+
+        assertEquals(actorCount, actorManager.getPlayers().size() + actorManager.getEnemyUnits().size()
+            + actorManager.getEnemyProjectiles().size(), "Scenario should not spawn or remove actors");
+        assertTrue(allocated <= BYTES_PER_TICK_BUDGET * TICKS_PER_WINDOW,
+            "Steady-state ticks allocated " + allocated + " bytes over " + TICKS_PER_WINDOW + " ticks");
+    }
+
+    @Test
+    void testProjectileHitsStayWithinAllocationBudget() {
+        assumeAllocationTracking();
+        useHeadlessSession(BalanceTuning.DEFAULT);
+        UserPlane owner = createPlayer(1, EnumSet.noneOf(KeyCode.class));
+        actorManager.addActor(owner);
+
+        for (int i = 0; i < WARMUP_WINDOWS; i++) {
+            measureVolleyWindow(owner);
+        }
+        long allocated = measureVolleyWindow(owner);
+
+        assertEquals(10, hits, "Every projectile of the volley should hit its enemy");
+        assertTrue(actorManager.getEnemyUnits().isEmpty(), "Destroyed enemies should be removed");
+        assertTrue(actorManager.getUserProjectiles().isEmpty(), "Projectiles that hit should be removed");
+        assertTrue(allocated <= BYTES_PER_TICK_BUDGET * TICKS_PER_WINDOW,
+            "Ticks with hits allocated " + allocated + " bytes over " + TICKS_PER_WINDOW + " ticks");
+    }
+
+    /**
+     * Plays a real Level001, whose player fires and whose enemies are shot down and replaced.
+     * Creating a projectile or a plane allocates the new actor, and the actor creates its position
+     * properties the first time it moves, so only the ticks in which nothing was spawned in that
+     * tick or the one before are held to the budget.
+     */
+    @Test
+    void testLevelTickStaysWithinAllocationBudget() {
+        assumeAllocationTracking();
+        GameSession session = useHeadlessSession(BalanceTuning.DEFAULT);
+        LevelParent level = LevelFactory.createLevel(1, new LevelConfig(1, session)).orElseThrow();
+        GameClock clock = session.getClock();
+        for (int i = 0; i < WARMUP_WINDOWS * TICKS_PER_WINDOW; i++) {
+            runLevelTick(clock, level);
+        }
+
+        long allocated = 0;
+        int steadyTicks = 0;
+        boolean spawnedBefore = true;
+        for (int i = 0; i < TICKS_PER_WINDOW * 10; i++) {
+            long before = threadBean.getCurrentThreadAllocatedBytes();
+            boolean spawned = runLevelTick(clock, level);
+            long after = threadBean.getCurrentThreadAllocatedBytes();
+            if (!spawned && !spawnedBefore) {
+                allocated += after - before;
+                steadyTicks++;
+            }
+            spawnedBefore = spawned;
+        }
+
+        assertTrue(steadyTicks > 0, "Level001 should have ticks in which nothing is spawned");
+        assertTrue(hits > 0, "The player should have shot down enemies");
+        assertTrue(allocated <= BYTES_PER_TICK_BUDGET * steadyTicks,
+            "Level001 ticks allocated " + allocated + " bytes over " + steadyTicks + " ticks without spawns");
+    }
+
+    @Test
+    void testCategoryListsAreNotCopiedPerCall() {
+        populateScenario();
+        assertSame(actorManager.getPlayers(), actorManager.getPlayers());
+        assertSame(actorManager.getEnemyUnits(), actorManager.getEnemyUnits());
+        assertEquals(2, actorManager.getPlayers().size());
+        assertEquals(20, actorManager.getEnemyUnits().size());
+        assertEquals(20, actorManager.getEnemyProjectiles().size());
+    }
+
+    private void assumeAllocationTracking() {
+        org.junit.jupiter.api.Assumptions.assumeTrue(threadBean.isThreadAllocatedMemorySupported());
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+    }
+}
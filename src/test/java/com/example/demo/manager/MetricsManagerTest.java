@@ -0,0 +1,190 @@
+package com.example.demo.manager;
+
+import com.example.demo.GameSession;
+import com.example.demo.actor.plane.PlaneFactory;
+import com.example.demo.actor.plane.PlaneType;
+import com.example.demo.actor.projectile.ProjectileFactory;
+import com.example.demo.actor.projectile.ProjectileType;
+import com.example.demo.util.BalanceTuning;
+import com.example.demo.util.GameConstant;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class MetricsManagerTest {
+
+    private static final String PREFIX = GameConstant.Metrics.PREFIX;
+
+    private final List<MetricsManager> managers = new ArrayList<>();
+    private GameSession session;
+
+    @AfterEach
+    void tearDown() {
+        for (MetricsManager manager : managers) {
+            manager.stopServer();
+        }
+        if (session != null) {
+            session.cleanup();
+        }
+    }
+
+    private MetricsManager createManager(int port) {
+        MetricsManager manager = new MetricsManager(port);
+        managers.add(manager);
+        return manager;
+    }
+
+    private static List<String> lines(String metrics) {
+        return List.of(metrics.split("\n"));
+    }
+
+    @Test
+    void testRecordedValuesAreRendered() {
+        MetricsManager metrics = createManager(0);
+        session = GameSession.headless(1L, BalanceTuning.DEFAULT);
+        ActorManager actorManager = session.getActorManager();
+        actorManager.addActor(new PlaneFactory(actorManager).createPlane(PlaneType.USER_PLANE, 1));
+        actorManager.addActor(new PlaneFactory(actorManager).createPlane(PlaneType.ENEMY_PLANE));
+        ProjectileFactory projectileFactory = new ProjectileFactory();
+        for (int i = 0; i < 3; i++) {
+            actorManager.addActor(projectileFactory.createProjectile(ProjectileType.ENEMY, 600, 100 + i * 50));
+        }
+
+        metrics.recordFrame(0);
+        metrics.recordFrame(500_000_000L);
+        metrics.recordFrame(1_000_000_000L);
+        for (int i = 1; i <= 10; i++) {
+            metrics.recordTick(i * 1_000_000L);
+        }
+        metrics.recordActorCounts(actorManager);
+        metrics.recordCollisionPass(12, 2);
+        metrics.recordSoundTrigger();
+
+        List<String> lines = lines(metrics.renderMetrics());
+        assertTrue(lines.contains(PREFIX + "fps 3"));
+        assertTrue(lines.contains(PREFIX + "frames_total 3"));
+        assertTrue(lines.contains(PREFIX + "tick_duration_seconds_count 10"));
+        assertTrue(lines.contains(PREFIX + "tick_duration_seconds_sum 0.055"));
+        assertTrue(lines.contains(PREFIX + "actors{category=\"player\"} 1"));
+        assertTrue(lines.contains(PREFIX + "actors{category=\"enemy_unit\"} 1"));
+        assertTrue(lines.contains(PREFIX + "actors{category=\"enemy_projectile\"} 3"));
+        assertTrue(lines.contains(PREFIX + "actors{category=\"boss_unit\"} 0"));
+        assertTrue(lines.contains(PREFIX + "collision_candidates 12"));
+        assertTrue(lines.contains(PREFIX + "collision_hits 2"));
+        assertTrue(lines.contains(PREFIX + "sound_triggers_total 1"));
+    }
+
+    @Test
+    void testTickQuantilesAreLabelled() {
+        MetricsManager metrics = createManager(0);
+        for (int i = 1; i <= 100; i++) {
+            metrics.recordTick(i * 1_000_000L);
+        }
+
+        List<String> lines = lines(metrics.renderMetrics());
+        assertTrue(lines.contains("# TYPE " + PREFIX + "tick_duration_seconds summary"));
+        assertTrue(lines.contains(PREFIX + "tick_duration_seconds{quantile=\"0.5\"} 0.05"));
+        assertTrue(lines.contains(PREFIX + "tick_duration_seconds{quantile=\"0.9\"} 0.09"));
+        assertTrue(lines.contains(PREFIX + "tick_duration_seconds{quantile=\"0.99\"} 0.099"));
+    }
+
+    @Test
+    void testEveryMetricHasHelpAndType() {
+        MetricsManager metrics = createManager(0);
+        metrics.registerGauge("pool_free", "Free objects in the pool.", () -> 7);
+
+        List<String> lines = lines(metrics.renderMetrics());
+        assertTrue(lines.contains("# HELP " + PREFIX + "pool_free Free objects in the pool."));
+        assertTrue(lines.contains("# TYPE " + PREFIX + "pool_free gauge"));
+        assertTrue(lines.contains(PREFIX + "pool_free 7"));
+        assertTrue(lines.contains("# TYPE " + PREFIX + "frames_total counter"));
+        assertTrue(lines.contains("# TYPE " + PREFIX + "actors gauge"));
+        for (String line : lines) {
+            if (line.startsWith("# TYPE ")) {
+                String name = line.split(" ")[2];
+                assertTrue(lines.stream().anyMatch(help -> help.startsWith("# HELP " + name + " ")), "Missing HELP for " + name);
+            } else if (!line.startsWith("#")) {
+                assertTrue(line.startsWith(PREFIX), "Sample without the game prefix: " + line);
+            }
+        }
+
+        metrics.unregisterGauge("pool_free");
+        assertFalse(metrics.renderMetrics().contains(PREFIX + "pool_free"));
+    }
+
+    @Test
+    void testRegisteredCounterIsPublishedWithTotalSuffix() {
+        MetricsManager metrics = createManager(0);
+        metrics.registerCounter("pool_misses", "Objects created because the pool was empty.", () -> 4);
+
+        List<String> lines = lines(metrics.renderMetrics());
+        assertTrue(lines.contains("# HELP " + PREFIX + "pool_misses_total Objects created because the pool was empty."));
+        assertTrue(lines.contains("# TYPE " + PREFIX + "pool_misses_total counter"));
+        assertTrue(lines.contains(PREFIX + "pool_misses_total 4"));
+
+        metrics.unregisterCounter("pool_misses");
+        assertFalse(metrics.renderMetrics().contains(PREFIX + "pool_misses"));
+    }
+
+    @Test
+    void testDisabledMetricsIgnoreRecordsAndDoNotServe() {
+        MetricsManager metrics = createManager(-1);
+        metrics.recordFrame(0);
+        metrics.recordTick(1_000_000L);
+        metrics.recordCollisionPass(4, 1);
+        metrics.recordSoundTrigger();
+        metrics.startServer();
+
+        assertFalse(metrics.isEnabled());
+        assertEquals(-1, metrics.getBoundPort());
+        List<String> lines = lines(metrics.renderMetrics());
+        assertTrue(lines.contains(PREFIX + "frames_total 0"));
+        assertTrue(lines.contains(PREFIX + "tick_duration_seconds_count 0"));
+        assertTrue(lines.contains(PREFIX + "collision_candidates 0"));
+        assertTrue(lines.contains(PREFIX + "sound_triggers_total 0"));
+    }
+
+    @Test
+    void testServerIsNotStartedWithoutPortProperty() {
+        assumeTrue(System.getProperty(GameConstant.Metrics.PORT_PROPERTY) == null);
+        MetricsManager metrics = MetricsManager.getInstance();
+
+        metrics.startServer();
+
+        assertFalse(metrics.isEnabled());
+        assertEquals(-1, metrics.getBoundPort());
+    }
+
+    @Test
+    void testEnabledServerServesMetricsOnLoopback() throws IOException {
+        MetricsManager metrics = createManager(0);
+        metrics.recordFrame(0);
+        metrics.startServer();
+        int port = metrics.getBoundPort();
+        assertTrue(port > 0);
+
+        HttpURLConnection connection = (HttpURLConnection) new URL("http://127.0.0.1:" + port + GameConstant.Metrics.PATH).openConnection();
+        String body;
+        try (InputStream input = connection.getInputStream()) {
+            body = new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        } finally {
+            connection.disconnect();
+        }
+
+        assertEquals(200, connection.getResponseCode());
+        assertTrue(connection.getContentType().startsWith("text/plain; version=0.0.4"));
+        assertTrue(lines(body).contains(PREFIX + "frames_total 1"));
+        metrics.stopServer();
+        assertEquals(-1, metrics.getBoundPort());
+    }
+}
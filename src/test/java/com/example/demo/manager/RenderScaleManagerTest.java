@@ -0,0 +1,36 @@
+package com.example.demo.manager;
+
+import com.example.demo.util.GameConstant;
+import com.example.demo.util.QualityGovernor;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RenderScaleManagerTest {
+
+    @Test
+    void testAutoIsTheDefault() {
+        assertTrue(Double.isNaN(RenderScaleManager.parseScale(null)));
+        assertTrue(Double.isNaN(RenderScaleManager.parseScale(GameConstant.RenderScale.AUTO)));
+    }
+
+    @Test
+    void testFixedScaleIsParsed() {
+        assertEquals(0.5, RenderScaleManager.parseScale("0.5"));
+        assertEquals(1.0, RenderScaleManager.parseScale(" 1 "));
+    }
+
+    @Test
+    void testInvalidScaleFallsBackToAuto() {
+        assertTrue(Double.isNaN(RenderScaleManager.parseScale("fast")));
+        assertTrue(Double.isNaN(RenderScaleManager.parseScale("0.1")));
+        assertTrue(Double.isNaN(RenderScaleManager.parseScale("2")));
+    }
+
+    @Test
+    void testScaleFollowsTheQualityLevelUnlessFixed() {
+        QualityGovernor governor = new QualityGovernor();
+        assertEquals(1.0, new RenderScaleManager(null, governor, Double.NaN).getScale());
+        assertEquals(0.5, new RenderScaleManager(null, governor, 0.5).getScale());
+    }
+}
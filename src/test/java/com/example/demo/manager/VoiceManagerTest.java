@@ -0,0 +1,105 @@
+package com.example.demo.manager;
+
+import com.example.demo.util.GameConstant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VoiceManagerTest {
+
+    private static final int EXPLOSION = GameConstant.SoundEffect.EXPLOSION.ordinal();
+    private static final int PLAYER_HIT = GameConstant.SoundEffect.PLAYER_HIT.ordinal();
+    private static final long MILLI = 1_000_000L;
+
+    private List<Integer> playedSounds;
+    private VoiceManager voiceManager;
+
+    @BeforeEach
+    void setUp() {
+        playedSounds = new ArrayList<>();
+        voiceManager = new VoiceManager(GameConstant.SoundVoices.MAX_VOICES, playedSounds::add, Runnable::run);
+    }
+
+    @Test
+    void testRequestsForSameSoundInOneFrameAreCoalesced() {
+        for (int i = 0; i < 30; i++) {
+            voiceManager.request(EXPLOSION);
+        }
+        voiceManager.request(PLAYER_HIT);
+        voiceManager.flush(0);
+
+        assertEquals(List.of(PLAYER_HIT, EXPLOSION), playedSounds);
+        assertEquals(2, voiceManager.getPlayedCount());
+        assertEquals(29, voiceManager.getCoalescedCount());
+        assertEquals(0, voiceManager.getDroppedCount());
+    }
+
+    @Test
+    void testFlushIntervalMergesRequestsOfSeveralFrames() {
+        voiceManager.setFlushInterval(100 * MILLI);
+        for (int frame = 0; frame < 6; frame++) {
+            voiceManager.request(PLAYER_HIT);
+            voiceManager.flush(frame * 16 * MILLI);
+        }
+        assertEquals(List.of(PLAYER_HIT), playedSounds);
+
+        voiceManager.flush(100 * MILLI);
+        assertEquals(List.of(PLAYER_HIT, PLAYER_HIT), playedSounds);
+        assertEquals(4, voiceManager.getCoalescedCount());
+        assertThrows(IllegalArgumentException.class, () -> voiceManager.setFlushInterval(-1));
+    }
+
+    @Test
+    void testPerSoundVoiceLimitDropsExtraVoices() {
+        int maxVoices = GameConstant.SoundEffect.EXPLOSION.getMaxVoices();
+        for (int frame = 0; frame < maxVoices + 2; frame++) {
+            voiceManager.request(EXPLOSION);
+            voiceManager.flush(frame * MILLI);
+        }
+
+        assertEquals(maxVoices, voiceManager.getPlayedCount());
+        assertEquals(2, voiceManager.getDroppedCount());
+    }
+
+    @Test
+    void testVoiceSlotIsFreedAfterVoiceDuration() {
+        GameConstant.SoundEffect sound = GameConstant.SoundEffect.EXPLOSION;
+        for (int i = 0; i < sound.getMaxVoices(); i++) {
+            voiceManager.request(EXPLOSION);
+            voiceManager.flush(0);
+        }
+        voiceManager.request(EXPLOSION);
+        voiceManager.flush(sound.getVoiceMillis() * MILLI);
+
+        assertEquals(sound.getMaxVoices() + 1, voiceManager.getPlayedCount());
+        assertEquals(0, voiceManager.getDroppedCount());
+    }
+
+    @Test
+    void testGlobalVoiceLimit() {
+        VoiceManager limited = new VoiceManager(1, playedSounds::add, Runnable::run);
+        limited.request(EXPLOSION);
+        limited.request(PLAYER_HIT);
+        limited.flush(0);
+
+        assertEquals(1, limited.getPlayedCount());
+        assertEquals(1, limited.getDroppedCount());
+        assertEquals(1, playedSounds.size());
+    }
+
+    @Test
+    void testNothingPlaysWithoutRequests() {
+        voiceManager.flush(0);
+        assertTrue(playedSounds.isEmpty());
+    }
+
+    @Test
+    void testInvalidSoundIndexThrows() {
+        assertThrows(IllegalArgumentException.class, () -> voiceManager.request(-1));
+        assertThrows(IllegalArgumentException.class, () -> voiceManager.request(GameConstant.SoundEffect.values().length));
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.demo.screen;
+
+import com.example.demo.util.GameConstant;
+
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.paint.Color;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallaxBackgroundTest {
+
+    private static final int WIDTH = GameConstant.GameSettings.SCREEN_WIDTH;
+    private static final String IMAGE = GameConstant.LevelBackground.LEVEL_1.getBackgroundImage();
+
+    @Test
+    void testBasePixelIsBlendedOverBackdrop() {
+        // Black at 0.5 opacity over white is mid grey, fully opaque
+        int baked = ParallaxBackground.bakePixel(0xFF000000, 0.5, Color.WHITE);
+        assertEquals(0xFF808080, baked);
+    }
+
+    @Test
+    void testOverlayPixelKeepsColorAndScalesAlpha() {
+        int baked = ParallaxBackground.bakePixel(0xFF336699, 0.5, null);
+        assertEquals(0x80336699, baked);
+    }
+
+    @Test
+    void testTileRepeatsImageAtScreenSize() {
+        Image tile = ParallaxBackground.bakeTile(IMAGE, 0.7, Color.WHITE);
+        assertNotNull(tile);
+        assertEquals(WIDTH * 2, tile.getWidth());
+        assertEquals(GameConstant.GameSettings.SCREEN_HEIGHT, tile.getHeight());
+        assertEquals(tile.getPixelReader().getArgb(10, 20), tile.getPixelReader().getArgb(WIDTH + 10, 20));
+        assertEquals(0xFF, tile.getPixelReader().getArgb(10, 20) >>> 24);
+    }
+
+    @Test
+    void testLayersScrollAtTheirOwnSpeedAndWrap() {
+        ParallaxBackground background = new ParallaxBackground(Color.WHITE)
+            .addLayer(IMAGE, 1.0, 0.7)
+            .addLayer(IMAGE, 3.0, 0.5);
+        assertEquals(2, background.getLayerCount());
+        ImageView far = (ImageView) background.getNode().getChildren().get(0);
+        ImageView near = (ImageView) background.getNode().getChildren().get(1);
+
+        for (int i = 0; i < 10; i++) {
+            background.update();
+        }
+        assertEquals(-10.0, far.getTranslateX());
+        assertEquals(-30.0, near.getTranslateX());
+
+        for (int i = 0; i < WIDTH; i++) {
+            background.update();
+        }
+        assertTrue(far.getTranslateX() > -WIDTH && far.getTranslateX() <= 0);
+        assertTrue(near.getTranslateX() > -WIDTH && near.getTranslateX() <= 0);
+    }
+
+    @Test
+    void testMissingImageAddsNoLayer() {
+        ParallaxBackground background = new ParallaxBackground(Color.WHITE).addLayer("missing.png", 1.0, 1.0);
+        assertEquals(0, background.getLayerCount());
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.demo.simulation;
+
+import com.example.demo.util.BalanceTuning;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameEnvironmentTest {
+
+    private GameEnvironment environment;
+
+    @BeforeEach
+    void setUp() {
+        environment = new GameEnvironment(BalanceTuning.DEFAULT, 30);
+    }
+
+    @AfterEach
+    void tearDown() {
+        environment.close();
+    }
+
+    @Test
+    void testResetObservesPlayerAtFullHealth() {
+        float[] observation = environment.reset(1L, 1);
+
+        assertEquals(GameEnvironment.OBSERVATION_SIZE, observation.length);
+        assertEquals(1f, observation[2]);
+        assertFalse(environment.isDone());
+    }
+
+    @Test
+    void testSameSeedAndActionsGiveSameObservations() {
+        GameEnvironment other = new GameEnvironment(BalanceTuning.DEFAULT, 30);
+        environment.reset(5L, 3);
+        other.reset(5L, 3);
+        for (int i = 0; i < 300 && !environment.isDone(); i++) {
+            int action = i % ActionMovementStrategy.ACTION_COUNT;
+            assertEquals(environment.step(action), other.step(action));
+        }
+        assertArrayEquals(environment.observe(), other.observe());
+        other.close();
+    }
+
+    @Test
+    void testMovingUpMovesPlayerUp() {
+        float startY = environment.reset(1L, 1)[1];
+        for (int i = 0; i < 10; i++) {
+            environment.step(GameEnvironment.ACTION_UP);
+        }
+        assertTrue(environment.observe()[1] < startY);
+    }
+
+    @Test
+    void testInvalidUseThrows() {
+        assertThrows(IllegalStateException.class, () -> environment.step(GameEnvironment.ACTION_NONE));
+        environment.reset(1L, 1);
+        assertThrows(IllegalArgumentException.class, () -> environment.step(ActionMovementStrategy.ACTION_COUNT));
+    }
+
+    @Test
+    void testVectorEnvironmentResetsFinishedEpisodes() {
+        VectorEnvironment batch = new VectorEnvironment(2, BalanceTuning.DEFAULT, 1);
+        batch.reset(1L, 3);
+        int[] actions = new int[batch.size()];
+        boolean anyDone = false;
+        for (int i = 0; i < 61; i++) {
+            batch.step(actions);
+            anyDone |= batch.getDones()[0] || batch.getDones()[1];
+        }
+
+        assertTrue(anyDone, "Episodes should time out after one second");
+        assertEquals(2, batch.getEpisodeCount());
+        assertEquals(2 * GameEnvironment.OBSERVATION_SIZE, batch.getObservations().length);
+        batch.close();
+    }
+}
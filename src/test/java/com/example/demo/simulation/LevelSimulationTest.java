@@ -0,0 +1,55 @@
+package com.example.demo.simulation;
+
+import com.example.demo.util.BalanceTuning;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LevelSimulationTest {
+
+    private static final int MAX_SECONDS = 60;
+
+    @Test
+    void testSameSeedPlaysOutTheSameWay() {
+        SimulationResult first = new LevelSimulation(1, 7L, BalanceTuning.DEFAULT, MAX_SECONDS).run();
+        SimulationResult second = new LevelSimulation(1, 7L, BalanceTuning.DEFAULT, MAX_SECONDS).run();
+
+        assertEquals(first.getOutcome(), second.getOutcome());
+        assertEquals(first.getTickCount(), second.getTickCount());
+        assertEquals(first.getKills(), second.getKills());
+        assertEquals(first.getPeakActorCount(), second.getPeakActorCount());
+    }
+
+    @Test
+    void testSimulationEndsWithinTimeLimit() {
+        SimulationResult result = new LevelSimulation(3, 3L, new BalanceTuning(0, 0, 1), MAX_SECONDS).run();
+
+        assertEquals(LevelSimulation.Outcome.WON, result.getOutcome(), "Level003 without enemies is won by surviving");
+        assertTrue(result.getSurvivalSeconds() <= MAX_SECONDS);
+        assertEquals(0, result.getKills());
+    }
+
+    @Test
+    void testUnknownLevelThrows() {
+        assertThrows(IllegalArgumentException.class, () -> new LevelSimulation(99, 1L, BalanceTuning.DEFAULT, MAX_SECONDS));
+    }
+
+    @Test
+    void testSummaryAggregatesOutcomes() {
+        BalanceTuning tuning = new BalanceTuning(1, 2, 0.5);
+        List<SimulationResult> group = List.of(
+            new SimulationResult(2, 1L, tuning, LevelSimulation.Outcome.WON, 10, 1, 12, 2_000, 600),
+            new SimulationResult(2, 2L, tuning, LevelSimulation.Outcome.LOST, 20, 0, 16, 4_000, 1200));
+
+        assertEquals("2,1.0,2.0,0.5,2,0.5000,0.5000,0.0000,15.000,20.000,0.500,16,4,4", BalanceRunner.summarize(group));
+    }
+
+    @Test
+    void testInvalidOptionsThrow() {
+        assertThrows(IllegalArgumentException.class, () -> new BalanceRunner(new String[]{"--unknown=1"}));
+        assertThrows(IllegalArgumentException.class, () -> new BalanceRunner(new String[]{"runs"}));
+        assertThrows(IllegalArgumentException.class, () -> new BalanceTuning(-1, 1, 1));
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.demo.simulation;
+
+import com.example.demo.GameSession;
+import com.example.demo.actor.ActiveActor;
+import com.example.demo.actor.SpawnCategory;
+import com.example.demo.actor.plane.MultiPhaseBossPlane;
+import com.example.demo.level.LevelConfig;
+import com.example.demo.level.LevelFactory;
+import com.example.demo.level.LevelParent;
+import com.example.demo.level.StressScenario;
+import com.example.demo.manager.ActorManager;
+import com.example.demo.util.BalanceTuning;
+import com.example.demo.util.GameConstant;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScenarioRunnerTest {
+
+    @BeforeAll
+    static void registerStressLevels() {
+        StressScenario.registerAll();
+    }
+
+    private static LevelParent startLevel(StressScenario scenario, GameSession session) {
+        return LevelFactory.createLevel(scenario.getLevelNumber(), new LevelConfig(scenario.getNumberOfPlayers(), session)).orElseThrow();
+    }
+
+    @Test
+    void testBulletWallKeepsItsProjectilesAlive() {
+        GameSession session = GameSession.headless(1L, BalanceTuning.DEFAULT);
+        LevelParent level = startLevel(StressScenario.BULLET_WALL, session);
+        ActorManager actorManager = session.getActorManager();
+
+        level.spawnEnemyUnits();
+        actorManager.updateAllActors(0);
+        actorManager.removeDestroyedActors();
+
+        assertEquals(GameConstant.Stress.BULLET_WALL_PROJECTILES, actorManager.getEnemyProjectiles().size());
+        assertFalse(level.userHasReachedTarget());
+    }
+
+    @Test
+    void testBossSwarmHoldsTheBossInItsThirdPhase() {
+        GameSession session = GameSession.headless(1L, BalanceTuning.DEFAULT);
+        LevelParent level = startLevel(StressScenario.BOSS_SWARM, session);
+        ActorManager actorManager = session.getActorManager();
+        for (int tick = 0; tick < 3; tick++) {
+            session.getClock().tick();
+            level.spawnEnemyUnits();
+            actorManager.updateAllActors(session.getClock().getSimulationTime());
+        }
+
+        int minions = 0;
+        MultiPhaseBossPlane boss = null;
+        for (ActiveActor unit : actorManager.getEnemyUnits()) {
+            if (unit instanceof MultiPhaseBossPlane) {
+                boss = (MultiPhaseBossPlane) unit;
+            } else if (SpawnCategory.of(unit) == SpawnCategory.MINION) {
+                minions++;
+            }
+        }
+        assertNotNull(boss);
+        assertEquals(3, boss.getCurrentPhase());
+        assertTrue(minions >= GameConstant.Stress.BOSS_SWARM_MINIONS);
+    }
+
+    @Test
+    void testBulletStormHasTwoPlayers() {
+        GameSession session = GameSession.headless(1L, BalanceTuning.DEFAULT);
+        startLevel(StressScenario.BULLET_STORM, session);
+
+        assertEquals(2, session.getActorManager().getPlayers().size());
+    }
+
+    @Test
+    void testRunnerMeasuresEveryScenario(@TempDir Path directory) throws Exception {
+        Path output = directory.resolve("baseline.json");
+        ScenarioRunner runner = new ScenarioRunner(new String[] { "--ticks=20", "--warmup=5", "--out=" + output, "--baseline=" + output });
+        List<ScenarioResult> results = runner.run();
+
+        assertEquals(StressScenario.values().length, results.size());
+        for (ScenarioResult result : results) {
+            assertTrue(result.isComplete());
+            assertEquals(20, result.getTickCount());
+            assertTrue(result.getTicksPerSecond() > 0);
+        }
+        String json = Files.readString(output);
+        assertTrue(json.contains("\"scenario\":\"1 000 enemy bullets\""));
+        assertEquals(0, runner.compare(results), "A run should not regress against its own output");
+    }
+
+    @Test
+    void testSlowerScenariosAreCountedAsRegressions(@TempDir Path directory) throws Exception {
+        Path baseline = directory.resolve("baseline.json");
+        Files.write(baseline, List.of(
+            "{\"level\":101,\"ticks_per_second\":1100.0,\"p99_tick_micros\":1000.0}",
+            "{\"level\":102,\"ticks_per_second\":1000.0,\"p99_tick_micros\":800.0}",
+            "{\"level\":103,\"ticks_per_second\":1300.0,\"p99_tick_micros\":1000.0}"));
+        // Every result runs at 1 000 ticks per second with a 99th percentile tick of 1 000 microseconds
+        List<ScenarioResult> results = List.of(
+            new ScenarioResult(StressScenario.BULLET_WALL, new long[] { 1_000_000, 1_000_000 }, 2, 0, 0, 0, 10, true),
+            new ScenarioResult(StressScenario.BOSS_SWARM, new long[] { 1_000_000, 1_000_000 }, 2, 0, 0, 0, 10, true),
+            new ScenarioResult(StressScenario.BULLET_STORM, new long[] { 1_000_000, 1_000_000 }, 2, 0, 0, 0, 10, true));
+
+        // Scenario 101 lost 9% of its throughput, 102 has a 25% longer p99 tick and 103 lost 23% of its throughput
+        assertEquals(2, new ScenarioRunner(new String[] { "--baseline=" + baseline, "--tolerance=0.15" }).compare(results));
+        assertEquals(3, new ScenarioRunner(new String[] { "--baseline=" + baseline, "--tolerance=0.05" }).compare(results));
+        assertEquals(0, new ScenarioRunner(new String[] { "--baseline=" + baseline, "--tolerance=0.3" }).compare(results));
+    }
+
+    @Test
+    void testScenarioMissingFromBaselineIsNotARegression(@TempDir Path directory) throws Exception {
+        Path baseline = directory.resolve("baseline.json");
+        Files.write(baseline, List.of("{\"level\":102,\"ticks_per_second\":5000.0,\"p99_tick_micros\":100.0}"));
+        List<ScenarioResult> results = List.of(
+            new ScenarioResult(StressScenario.BULLET_WALL, new long[] { 1_000_000 }, 1, 0, 0, 0, 10, true));
+
+        assertEquals(0, new ScenarioRunner(new String[] { "--baseline=" + baseline }).compare(results));
+    }
+
+    @Test
+    void testNumbersAreReadBackFromJson() {
+        ScenarioResult result = new ScenarioResult(StressScenario.BULLET_WALL, new long[] { 1_500_000, 500_000 }, 2, 4096, 0, 0, 10, true);
+        String json = result.toJson();
+
+        assertEquals(101, ScenarioResult.readNumber(json, "level"));
+        assertEquals(1000.0, ScenarioResult.readNumber(json, ScenarioResult.TICKS_PER_SECOND), 1e-9);
+        assertEquals(1500.0, ScenarioResult.readNumber(json, ScenarioResult.P99_TICK_MICROS), 1e-9);
+        assertEquals(2048.0, ScenarioResult.readNumber(json, "allocated_bytes_per_tick"), 1e-9);
+        assertTrue(Double.isNaN(ScenarioResult.readNumber(json, "missing")));
+    }
+
+    @Test
+    void testUnknownScenarioIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new ScenarioRunner(new String[] { "--scenarios=1" }));
+    }
+}
@@ -0,0 +1,204 @@
+package com.example.demo.snapshot;
+
+import com.example.demo.GameSession;
+import com.example.demo.actor.ActiveActor;
+import com.example.demo.actor.plane.FighterPlane;
+import com.example.demo.actor.plane.MultiPhaseBossPlane;
+import com.example.demo.actor.plane.UserPlane;
+import com.example.demo.handler.CollisionHandler;
+import com.example.demo.level.LevelConfig;
+import com.example.demo.level.LevelFactory;
+import com.example.demo.level.LevelParent;
+import com.example.demo.manager.ActorManager;
+import com.example.demo.util.BalanceTuning;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LevelSnapshotTest {
+
+    private static final long SEED = 5L;
+    private static final int TICKS_BEFORE_CAPTURE = 180;
+    private static final int TICKS_AFTER_CAPTURE = 120;
+
+    private final List<GameSession> sessions = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        for (GameSession session : sessions) {
+            session.cleanup();
+        }
+    }
+
+    @Test
+    void testBossFightIsRestoredIntoSameLevel() throws IOException {
+        GameSession session = createSession();
+        LevelParent level = createLevel(4, 2, session);
+        ActorManager actorManager = session.getActorManager();
+        tick(session, level, TICKS_BEFORE_CAPTURE);
+
+        MultiPhaseBossPlane boss = findBoss(actorManager);
+        boss.onDamage(boss.getHealth() / 2);
+        actorManager.getPlayers().get(0).incrementKillCount();
+        actorManager.getPlayers().get(1).incrementKillCount();
+        actorManager.getPlayers().get(1).incrementKillCount();
+        tick(session, level, 1);
+        assertTrue(boss.getCurrentPhase() > 1, "The boss should be past its first phase");
+
+        long capturedAt = session.getClock().getSimulationTime();
+        List<String> actorsBefore = describeActors(actorManager, capturedAt);
+        byte[] levelBefore = writeLevel(level, capturedAt);
+        long randomBefore = actorManager.getRandom().getState();
+        int phaseBefore = boss.getCurrentPhase();
+        int bossHealthBefore = boss.getHealth();
+        double completionBefore = level.getCompletionProgress();
+        LevelSnapshot snapshot = LevelSnapshot.capture(level, actorManager, capturedAt);
+
+        tick(session, level, TICKS_AFTER_CAPTURE);
+        long restoredAt = session.getClock().getSimulationTime();
+        snapshot.restore(level, actorManager, restoredAt);
+
+        // Writing the restored state relative to the restore time also covers every timestamp,
+        // the boss's movement pattern index and the state of the firing strategies
+        assertEquals(actorsBefore, describeActors(actorManager, restoredAt));
+        assertArrayEquals(levelBefore, writeLevel(level, restoredAt));
+        assertEquals(randomBefore, actorManager.getRandom().getState());
+
+        MultiPhaseBossPlane restoredBoss = findBoss(actorManager);
+        assertNotSame(boss, restoredBoss);
+        assertEquals(phaseBefore, restoredBoss.getCurrentPhase());
+        assertEquals(bossHealthBefore, restoredBoss.getHealth());
+        assertEquals(completionBefore, level.getCompletionProgress());
+        assertEquals(1, actorManager.getPlayers().get(0).getNumberOfKills());
+        assertEquals(2, actorManager.getPlayers().get(1).getNumberOfKills());
+    }
+
+    @Test
+    void testSurvivalTimerIsRestoredIntoSameLevel() throws IOException {
+        GameSession session = createSession();
+        LevelParent level = createLevel(3, 1, session);
+        ActorManager actorManager = session.getActorManager();
+        tick(session, level, TICKS_BEFORE_CAPTURE);
+
+        long capturedAt = session.getClock().getSimulationTime();
+        List<String> actorsBefore = describeActors(actorManager, capturedAt);
+        byte[] levelBefore = writeLevel(level, capturedAt);
+        long randomBefore = actorManager.getRandom().getState();
+        double completionBefore = level.getCompletionProgress();
+        LevelSnapshot snapshot = LevelSnapshot.capture(level, actorManager, capturedAt);
+
+        tick(session, level, TICKS_AFTER_CAPTURE);
+        assertNotEquals(completionBefore, level.getCompletionProgress(), "The survival timer should have moved on");
+        long restoredAt = session.getClock().getSimulationTime();
+        snapshot.restore(level, actorManager, restoredAt);
+
+        assertEquals(actorsBefore, describeActors(actorManager, restoredAt));
+        assertArrayEquals(levelBefore, writeLevel(level, restoredAt));
+        assertEquals(randomBefore, actorManager.getRandom().getState());
+        assertEquals(completionBefore, level.getCompletionProgress());
+        assertFalse(level.userHasReachedTarget());
+    }
+
+    @Test
+    void testSnapshotIsRejectedByAnotherLevel() {
+        GameSession session = createSession();
+        LevelParent level = createLevel(2, 1, session);
+        tick(session, level, 1);
+        LevelSnapshot snapshot = LevelSnapshot.capture(level, session.getActorManager(), session.getClock().getSimulationTime());
+
+        GameSession otherSession = createSession();
+        LevelParent otherLevel = createLevel(4, 1, otherSession);
+        int actorsBefore = otherSession.getActorManager().getActorCount();
+
+        assertEquals(2, snapshot.getLevelNumber());
+        assertThrows(IllegalArgumentException.class,
+            () -> snapshot.restore(otherLevel, otherSession.getActorManager(), otherSession.getClock().getSimulationTime()));
+        assertEquals(actorsBefore, otherSession.getActorManager().getActorCount(), "A rejected snapshot must not touch the actors");
+    }
+
+    private GameSession createSession() {
+        GameSession session = GameSession.headless(SEED, BalanceTuning.DEFAULT);
+        session.getCollisionManager().setCollisionHandler(new CollisionHandler() {
+            @Override
+            public void onExplosionStarted() {
+            }
+
+            @Override
+            public void onExplosionFinished() {
+            }
+
+            @Override
+            public void onProjectileHitEnemy(UserPlane userPlane, ActiveActor enemy) {
+                userPlane.incrementKillCount();
+            }
+        });
+        sessions.add(session);
+        return session;
+    }
+
+    private static LevelParent createLevel(int levelNumber, int numberOfPlayers, GameSession session) {
+        return LevelFactory.createLevel(levelNumber, new LevelConfig(numberOfPlayers, session)).orElseThrow();
+    }
+
+    /**
+     * Advances a headless level in the same order as a LevelSimulation step.
+     */
+    private static void tick(GameSession session, LevelParent level, int ticks) {
+        ActorManager actorManager = session.getActorManager();
+        for (int i = 0; i < ticks; i++) {
+            session.getClock().tick();
+            long now = session.getClock().getSimulationTime();
+            level.spawnEnemyUnits();
+            actorManager.updateAllActors(now);
+            actorManager.removeDestroyedActors();
+            session.getCollisionManager().handleAllCollisions(actorManager);
+        }
+    }
+
+    private static MultiPhaseBossPlane findBoss(ActorManager actorManager) {
+        for (ActiveActor unit : actorManager.getEnemyUnits()) {
+            if (unit instanceof MultiPhaseBossPlane) {
+                return (MultiPhaseBossPlane) unit;
+            }
+        }
+        return fail("Level004 should have spawned its boss");
+    }
+
+    /**
+     * Describes every live actor by its kind, position, health and the full state it writes to a snapshot.
+     */
+    private static List<String> describeActors(ActorManager actorManager, long now) throws IOException {
+        List<ActiveActor> actors = new ArrayList<>(actorManager.getPlayers());
+        actors.addAll(actorManager.getEnemyUnits());
+        actors.addAll(actorManager.getUserProjectiles());
+        actors.addAll(actorManager.getEnemyProjectiles());
+        actors.addAll(actorManager.getBossProjectiles());
+
+        List<String> descriptions = new ArrayList<>();
+        for (ActiveActor actor : actors) {
+            if (actor.isDestroyed()) {
+                continue;
+            }
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            actor.writeState(new DataOutputStream(bytes), now);
+            String health = actor instanceof FighterPlane ? String.valueOf(((FighterPlane) actor).getHealth()) : "-";
+            descriptions.add(actor.getTypeName() + " at " + (actor.getLayoutX() + actor.getTranslateX()) + ","
+                + (actor.getLayoutY() + actor.getTranslateY()) + " health " + health + " state " + Arrays.toString(bytes.toByteArray()));
+        }
+        return descriptions;
+    }
+
+    private static byte[] writeLevel(LevelParent level, long now) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        level.writeState(new DataOutputStream(bytes), now);
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.demo.soak;
+
+import com.example.demo.util.GameConstant;
+
+import javafx.scene.Group;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SoakMonitorTest {
+
+    private static final long HEAP = 64L * 1024 * 1024;
+    private static final long HEAP_STEP = GameConstant.Soak.HEAP_GROWTH_TOLERANCE_BYTES * 2;
+
+    @Test
+    void testSteadyCountersAreNotReported() {
+        SoakMonitor monitor = new SoakMonitor(3);
+        for (int cycle = 0; cycle < 10; cycle++) {
+            // Counters that go up and down again are not leaks
+            assertNull(monitor.record(new SoakSample(cycle, HEAP + (cycle % 2) * HEAP_STEP, 20 + cycle % 2, 100, 1)));
+        }
+    }
+
+    @Test
+    void testGrowingNodeCountIsReportedAfterWindow() {
+        SoakMonitor monitor = new SoakMonitor(3);
+        for (int cycle = 0; cycle < 3; cycle++) {
+            assertNull(monitor.record(new SoakSample(cycle, HEAP, 20, 100 + cycle, 1)));
+        }
+        assertEquals("scene graph nodes", monitor.record(new SoakSample(3, HEAP, 20, 103, 1)));
+    }
+
+    @Test
+    void testHeapGrowthWithinToleranceIsIgnored() {
+        SoakMonitor monitor = new SoakMonitor(3);
+        String leak = null;
+        for (int cycle = 0; cycle < 6; cycle++) {
+            leak = monitor.record(new SoakSample(cycle, HEAP + cycle * 1024L, 20, 100, 1));
+        }
+        assertNull(leak);
+
+        for (int cycle = 6; cycle < 10; cycle++) {
+            leak = monitor.record(new SoakSample(cycle, HEAP + cycle * HEAP_STEP, 20, 100, 1));
+        }
+        assertEquals("heap", leak);
+    }
+
+    @Test
+    void testGrowingPauseListenersAreReported() {
+        SoakMonitor monitor = new SoakMonitor(2);
+        monitor.record(new SoakSample(0, HEAP, 20, 100, 1));
+        monitor.record(new SoakSample(1, HEAP, 20, 100, 2));
+        assertEquals("pause listeners", monitor.record(new SoakSample(2, HEAP, 20, 100, 3)));
+    }
+
+    @Test
+    void testCountNodesIncludesDescendants() {
+        Group child = new Group(new Group(), new Group());
+        Group root = new Group(child, new Group());
+        assertEquals(5, SoakMonitor.countNodes(root));
+    }
+
+    @Test
+    void testInvalidWindowIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new SoakMonitor(0));
+    }
+}
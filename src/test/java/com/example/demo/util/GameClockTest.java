@@ -0,0 +1,76 @@
+package com.example.demo.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameClockTest {
+
+    private static final long STEP = GameClock.FIXED_STEP_NANOS;
+
+    private GameClock clock;
+
+    @BeforeEach
+    void setUp() {
+        clock = new GameClock();
+    }
+
+    private void runFrame(long now) {
+        int steps = clock.advance(now);
+        for (int i = 0; i < steps; i++) {
+            clock.tick();
+        }
+    }
+
+    @Test
+    void testFirstFrameRunsOneTick() {
+        assertEquals(1, clock.advance(5_000_000_000L));
+    }
+
+    @Test
+    void testOneTickPerFrameAtSixtyFps() {
+        long now = 0;
+        for (int i = 0; i < 60; i++) {
+            runFrame(now);
+            now += STEP;
+        }
+        assertEquals(60, clock.getTickCount());
+        assertEquals(60 * STEP, clock.getSimulationTime());
+    }
+
+    @Test
+    void testPauseExcludesPausedTime() {
+        runFrame(0);
+        runFrame(STEP);
+        long before = clock.getSimulationTime();
+
+        clock.pause();
+        assertEquals(0, clock.advance(10_000_000_000L));
+        clock.resume();
+
+        runFrame(20_000_000_000L);
+        assertEquals(before + STEP, clock.getSimulationTime());
+    }
+
+    @Test
+    void testSlowMotionRunsFewerTicks() {
+        clock.setTimeScale(0.5);
+        long now = 0;
+        for (int i = 0; i < 60; i++) {
+            runFrame(now);
+            now += STEP;
+        }
+        assertEquals(30, clock.getTickCount(), 1);
+    }
+
+    @Test
+    void testLongStallIsCapped() {
+        runFrame(0);
+        assertTrue(clock.advance(1_000_000_000L) <= 5);
+    }
+
+    @Test
+    void testNegativeTimeScaleThrows() {
+        assertThrows(IllegalArgumentException.class, () -> clock.setTimeScale(-1));
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.demo.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameRandomTest {
+
+    @Test
+    void testSameSeedGivesSameSequence() {
+        GameRandom first = new GameRandom(42);
+        GameRandom second = new GameRandom(42);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(first.nextLong(), second.nextLong());
+        }
+    }
+
+    @Test
+    void testRestoredStateContinuesSequence() {
+        GameRandom random = new GameRandom(7);
+        random.nextDouble();
+        long state = random.getState();
+        double expected = random.nextDouble();
+
+        random.nextDouble();
+        random.setState(state);
+        assertEquals(expected, random.nextDouble());
+    }
+
+    @Test
+    void testNextDoubleIsInUnitRange() {
+        GameRandom random = new GameRandom(1);
+        for (int i = 0; i < 1000; i++) {
+            double value = random.nextDouble();
+            assertTrue(value >= 0 && value < 1);
+        }
+    }
+
+    @Test
+    void testShuffleIsDeterministic() {
+        List<Integer> first = new ArrayList<>(List.of(1, 2, 3, 4, 5, 6));
+        List<Integer> second = new ArrayList<>(first);
+        new GameRandom(3).shuffle(first);
+        new GameRandom(3).shuffle(second);
+        assertEquals(first, second);
+        assertEquals(6, first.size());
+    }
+
+    @Test
+    void testNextIntRejectsInvalidBound() {
+        assertThrows(IllegalArgumentException.class, () -> new GameRandom(0).nextInt(0));
+    }
+}
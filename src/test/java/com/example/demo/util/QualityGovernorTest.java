@@ -0,0 +1,122 @@
+package com.example.demo.util;
+
+import com.example.demo.util.GameConstant.QualityLevel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QualityGovernorTest {
+
+    private static final long BUDGET = GameConstant.Quality.FRAME_BUDGET_NANOS;
+    private static final int WINDOW = GameConstant.Quality.WINDOW_FRAMES;
+
+    private QualityGovernor governor;
+    private long now;
+
+    @BeforeEach
+    void setUp() {
+        governor = new QualityGovernor();
+        now = 0;
+    }
+
+    /**
+     * Feeds frames arriving every budget, each spending the given share of the budget on work.
+     */
+    private int runFrames(int frames, double load) {
+        int changes = 0;
+        for (int i = 0; i < frames; i++) {
+            now += BUDGET;
+            if (governor.recordFrame(now, (long) (BUDGET * load), 0)) {
+                changes++;
+            }
+        }
+        return changes;
+    }
+
+    @Test
+    void testFastFramesKeepFullQuality() {
+        runFrames(WINDOW * 10, 0.2);
+        assertEquals(QualityLevel.FULL, governor.getLevel());
+        assertEquals(0, governor.getTransitionCount());
+    }
+
+    @Test
+    void testHeavyFramesStepDownOneLevelPerWindow() {
+        assertEquals(1, runFrames(WINDOW + 1, 0.9));
+        assertEquals(QualityLevel.FEWER_EXPLOSIONS, governor.getLevel());
+
+        runFrames(WINDOW, 0.9);
+        assertEquals(QualityLevel.FEWER_PARTICLES, governor.getLevel());
+        assertEquals(2, governor.getTransitionCount());
+    }
+
+    @Test
+    void testSlowFrameIntervalsStepDown() {
+        governor.recordFrame(now, 0, 0);
+        for (int i = 0; i < WINDOW; i++) {
+            now += BUDGET * 2;
+            governor.recordFrame(now, BUDGET / 10, 0);
+        }
+        assertEquals(QualityLevel.FEWER_EXPLOSIONS, governor.getLevel());
+    }
+
+    @Test
+    void testQualityStopsAtLowestLevel() {
+        runFrames(WINDOW * (QualityLevel.values().length + 3), 1.0);
+        assertEquals(QualityLevel.LOW_RESOLUTION, governor.getLevel());
+        assertEquals(QualityLevel.values().length - 1, governor.getTransitionCount());
+    }
+
+    @Test
+    void testQualityStepsUpOnlyAfterHoldingHeadroom() {
+        runFrames(WINDOW + 1, 0.9);
+        assertEquals(QualityLevel.FEWER_EXPLOSIONS, governor.getLevel());
+
+        runFrames(WINDOW + GameConstant.Quality.UPGRADE_HOLD_FRAMES - 2, 0.1);
+        assertEquals(QualityLevel.FEWER_EXPLOSIONS, governor.getLevel());
+        runFrames(1, 0.1);
+        assertEquals(QualityLevel.FULL, governor.getLevel());
+    }
+
+    @Test
+    void testLoadBetweenThresholdsKeepsLevel() {
+        runFrames(WINDOW + 1, 0.9);
+        assertEquals(0, runFrames(GameConstant.Quality.UPGRADE_HOLD_FRAMES * 3, 0.6));
+        assertEquals(QualityLevel.FEWER_EXPLOSIONS, governor.getLevel());
+    }
+
+    @Test
+    void testGovernorThatIsNotAdaptiveHoldsItsLevel() {
+        governor.setAdaptive(false);
+        assertEquals(0, runFrames(WINDOW * 5, 1.0));
+        assertEquals(QualityLevel.FULL, governor.getLevel());
+
+        governor.setAdaptive(true);
+        assertEquals(1, runFrames(1, 0.9));
+        assertEquals(QualityLevel.FEWER_EXPLOSIONS, governor.getLevel());
+    }
+
+    @Test
+    void testSingleStallDoesNotLowerQuality() {
+        runFrames(WINDOW, 0.2);
+        now += 2_000_000_000L; // loading the next level
+        governor.recordFrame(now, 2_000_000_000L, 0);
+        runFrames(WINDOW, 0.2);
+        assertEquals(QualityLevel.FULL, governor.getLevel());
+    }
+
+    @Test
+    void testLevelsAccumulateReductions() {
+        QualityLevel lowest = QualityLevel.COALESCED_SOUND;
+        assertTrue(lowest.reduces(QualityLevel.FEWER_EXPLOSIONS));
+        assertEquals(GameConstant.Quality.EXPLOSION_STRIDE, lowest.getExplosionStride());
+        assertFalse(lowest.isFlickerEnabled());
+        assertFalse(QualityLevel.FEWER_PARTICLES.isSoundCoalesced());
+        assertTrue(QualityLevel.FEWER_PARTICLES.isSpriteSmoothing());
+        assertEquals(1, QualityLevel.FULL.getExplosionStride());
+        assertEquals(1.0, QualityLevel.COALESCED_SOUND.getRenderScale());
+        assertEquals(GameConstant.Quality.REDUCED_RENDER_SCALE, QualityLevel.REDUCED_RESOLUTION.getRenderScale());
+        assertEquals(GameConstant.Quality.LOW_RENDER_SCALE, QualityLevel.LOW_RESOLUTION.getRenderScale());
+    }
+}